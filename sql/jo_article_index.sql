@@ -0,0 +1,28 @@
+-- ============================================
+-- 조문 단위 조회를 위한 jo 컬럼/인덱스 추가 및 기존 데이터 채우기
+-- 이후 수집되는 법령은 저장 시 Open API 의 조문번호/조문가지번호로 채워집니다
+-- ============================================
+
+-- 1단계: 컬럼 추가 (ddl-auto 가 update 면 생략 가능)
+ALTER TABLE jo
+  ADD COLUMN law_id BIGINT NULL,
+  ADD COLUMN article_number INT NULL,
+  ADD COLUMN article_branch INT NULL;
+
+-- 2단계: 법령 id 채우기
+UPDATE jo
+JOIN jang ON jo.jang_id = jang.id
+SET jo.law_id = jang.law_id
+WHERE jo.law_id IS NULL;
+
+-- 3단계: 조 내용("제12조의2(목적) ...")에서 조문번호/조문가지번호 추출 (MySQL 8 정규식)
+UPDATE jo
+SET article_number = CAST(REGEXP_REPLACE(REGEXP_SUBSTR(TRIM(content), '^제[0-9]+조'), '[^0-9]', '') AS UNSIGNED),
+    article_branch = COALESCE(
+        CAST(REGEXP_REPLACE(REGEXP_SUBSTR(TRIM(content), '^제[0-9]+조의[0-9]+'), '^제[0-9]+조의', '') AS UNSIGNED),
+        0)
+WHERE article_number IS NULL
+  AND REGEXP_LIKE(TRIM(content), '^제[0-9]+조');
+
+-- 4단계: 인덱스
+CREATE INDEX idx_jo_law_article ON jo (law_id, article_number, article_branch);
@@ -0,0 +1,8 @@
+-- 법령 상세 문서 (ddl-auto 가 update 면 생략 가능)
+CREATE TABLE IF NOT EXISTS law_document (
+  law_id BIGINT NOT NULL,
+  document LONGTEXT NOT NULL,
+  etag VARCHAR(64) NOT NULL,
+  updated_at DATETIME(6) NULL,
+  PRIMARY KEY (law_id)
+);
@@ -0,0 +1,25 @@
+-- ============================================
+-- 법령 검색 목록 미리보기용 첫 번째 조 컬럼 추가 및 기존 데이터 채우기
+-- 이후 수집되는 법령은 저장 시 자동으로 채워집니다
+-- ============================================
+
+-- 1단계: 컬럼 추가 (ddl-auto 가 update 면 생략 가능)
+ALTER TABLE law ADD COLUMN first_jo_content TEXT NULL;
+
+-- 2단계: 법령별 첫 번째 장의 첫 번째 조로 채우기 (MySQL 8 윈도우 함수)
+UPDATE law l
+JOIN (
+    SELECT law_id, content
+    FROM (
+        SELECT j.law_id, jo.content,
+               ROW_NUMBER() OVER (PARTITION BY j.law_id ORDER BY j.id, jo.id) AS rn
+        FROM jo
+        JOIN jang j ON jo.jang_id = j.id
+    ) ranked
+    WHERE rn = 1
+) first_jo ON first_jo.law_id = l.id
+SET l.first_jo_content = first_jo.content
+WHERE l.first_jo_content IS NULL;
+
+-- 3단계: 결과 확인
+SELECT COUNT(*) AS total, SUM(first_jo_content IS NULL) AS without_preview FROM law;
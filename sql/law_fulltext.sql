@@ -0,0 +1,11 @@
+-- 법령 전문 검색용 ngram FULLTEXT 인덱스 (MySQL 8, 한국어 대응)
+-- ngram_token_size 기본값 2 기준이므로 1글자 검색어는 LawQueryMode.LIKE 로 검색
+-- 법령명 검색 기본값은 LIKE 이며, 이 스크립트 적용 후 요청에서 queryMode=FULLTEXT 를 지정하면 인덱스 사용
+ALTER TABLE law
+  ADD FULLTEXT idx_law_name_fulltext (law_name) WITH PARSER ngram;
+
+ALTER TABLE jo
+  ADD FULLTEXT idx_jo_content_fulltext (content) WITH PARSER ngram;
+
+ALTER TABLE hang
+  ADD FULLTEXT idx_hang_content_fulltext (content) WITH PARSER ngram;
@@ -0,0 +1,22 @@
+-- ============================================
+-- 법령 수집 잠금 및 수집 중(staging) 표시 컬럼 추가
+-- ============================================
+-- 실행 전 주의사항:
+-- 1. 반드시 데이터베이스 백업을 먼저 수행하세요!
+-- 2. 기존 법령은 모두 staging = FALSE 로 채워지며, 이후 수집 중인 법령만 TRUE 로 저장됩니다
+-- ============================================
+
+-- 1단계: 수집 중 표시 컬럼 추가 (ddl-auto 가 update 면 생략 가능)
+ALTER TABLE law
+  ADD COLUMN staging BOOLEAN NOT NULL DEFAULT FALSE;
+
+-- 2단계: 법령ID 별 수집 잠금 테이블 (ddl-auto 가 update 면 생략 가능)
+CREATE TABLE IF NOT EXISTS law_import_lock (
+  law_api_id VARCHAR(20) NOT NULL,
+  locked_until DATETIME(6) NULL,
+  PRIMARY KEY (law_api_id)
+);
+
+-- 3단계: 비정상 종료로 남은 수집 중 법령 확인 (수집이 실행 중이지 않을 때 LawBulkRepository.deleteLawTree 와 같은 순서로 삭제)
+SELECT '=== 수집 중으로 남은 법령 ===' as info;
+SELECT id, law_name, promulgation_number FROM law WHERE staging = TRUE;
@@ -0,0 +1,11 @@
+-- 법령 개정 동기화 상태 (ddl-auto 가 update 면 생략 가능)
+CREATE TABLE IF NOT EXISTS law_sync_state (
+  name VARCHAR(30) NOT NULL,
+  last_synced_date DATE NULL,
+  locked_until DATETIME(6) NULL,
+  last_run_at DATETIME(6) NULL,
+  last_changed_count INT NOT NULL DEFAULT 0,
+  last_updated_count INT NOT NULL DEFAULT 0,
+  last_failed_count INT NOT NULL DEFAULT 0,
+  PRIMARY KEY (name)
+);
@@ -0,0 +1,70 @@
+-- ============================================
+-- 법령 재수집 upsert 를 위한 컬럼 추가 및 기존 중복 정리
+-- ============================================
+-- 실행 전 주의사항:
+-- 1. 반드시 데이터베이스 백업을 먼저 수행하세요!
+-- 2. 4단계는 같은 법령(법령명 + 공포번호 + 시행일자)이 여러 번 저장된 경우 가장 먼저 저장된 것만 남깁니다
+--    삭제된 법령을 참조하는 벡터가 있으면 재벡터화가 필요합니다
+-- ============================================
+
+-- 1단계: 컬럼 추가 (ddl-auto 가 update 면 생략 가능)
+ALTER TABLE law
+  ADD COLUMN law_api_id VARCHAR(20) NULL,
+  ADD COLUMN content_hash VARCHAR(64) NULL;
+
+ALTER TABLE law
+  ADD CONSTRAINT uk_law_api_id UNIQUE (law_api_id);
+
+-- 2단계: 중복 현황 확인
+SELECT '=== 중복 저장된 법령 ===' as info;
+SELECT law_name, promulgation_number, enforcement_date, COUNT(*) as count, MIN(id) as keep_id
+FROM law
+GROUP BY law_name, promulgation_number, enforcement_date
+HAVING COUNT(*) > 1;
+
+-- 3단계: 삭제 대상 법령 id
+CREATE TEMPORARY TABLE IF NOT EXISTS law_duplicate (
+    id BIGINT,
+    PRIMARY KEY (id)
+);
+
+INSERT INTO law_duplicate (id)
+SELECT l.id
+FROM law l
+JOIN (
+    SELECT law_name, promulgation_number, enforcement_date, MIN(id) as keep_id
+    FROM law
+    GROUP BY law_name, promulgation_number, enforcement_date
+    HAVING COUNT(*) > 1
+) d ON l.law_name = d.law_name
+   AND l.promulgation_number <=> d.promulgation_number
+   AND l.enforcement_date <=> d.enforcement_date
+WHERE l.id <> d.keep_id;
+
+-- 4단계: 하위 트리부터 삭제
+DELETE ho FROM ho
+JOIN hang ON ho.hang_id = hang.id
+JOIN jo ON hang.jo_id = jo.id
+JOIN jang ON jo.jang_id = jang.id
+JOIN law_duplicate d ON jang.law_id = d.id;
+
+DELETE hang FROM hang
+JOIN jo ON hang.jo_id = jo.id
+JOIN jang ON jo.jang_id = jang.id
+JOIN law_duplicate d ON jang.law_id = d.id;
+
+DELETE jo FROM jo
+JOIN jang ON jo.jang_id = jang.id
+JOIN law_duplicate d ON jang.law_id = d.id;
+
+DELETE jang FROM jang
+JOIN law_duplicate d ON jang.law_id = d.id;
+
+DELETE law FROM law
+JOIN law_duplicate d ON law.id = d.id;
+
+DROP TEMPORARY TABLE IF EXISTS law_duplicate;
+
+-- 5단계: 결과 확인
+SELECT '=== 정리 후 법령 수 ===' as info;
+SELECT COUNT(*) as count FROM law;
@@ -0,0 +1,76 @@
+-- ============================================
+-- 판례 본문 분리: 압축 본문(precedent_body) + FULLTEXT 검색 원문(precedent_search_text)
+-- precedent 에는 목록/패싯용 짧은 컬럼만 남겨 검색/목록 쿼리가 읽는 페이지를 줄입니다
+-- 압축 형식은 MySQL COMPRESS() 와 같으므로 기존 데이터는 SQL 로 옮기고, DB 에서 UNCOMPRESS(컬럼) 로 바로 볼 수 있습니다
+-- ============================================
+-- 저장 공간:
+-- InnoDB FULLTEXT 는 압축 컬럼이나 다른 테이블 컬럼을 색인할 수 없으므로, 검색 대상 본문(판시사항, 판결요지, 판례내용)은
+-- precedent_search_text 에 압축하지 않고 한 번 더 저장합니다 (참조조문/참조판례는 검색 대상이 아니라 압축본만 저장)
+-- 따라서 전체 크기는 줄지 않고 압축 본문만큼(보통 원문의 3분의 1 안팎) 늘어납니다
+-- 대신 목록/검색/패싯 쿼리가 읽는 precedent 는 짧은 컬럼만 남아 버퍼 풀에 올라가고,
+-- 상세 조회/벡터화/인용 추출은 id 한 건씩 압축 본문만 읽습니다 (이 분리가 목적이며 디스크 절감은 목적이 아님)
+-- 5단계의 테이블 크기 조회로 실제 증가분을 확인하세요
+-- ============================================
+-- 실행 전 주의사항:
+-- 1. 반드시 데이터베이스 백업을 먼저 수행하세요!
+-- 2. 새 버전 배포 전에 1~3단계를, 배포 후 4단계를 실행하세요 (4단계 전까지는 이전 버전도 동작)
+-- 3. 한 번에 많은 행을 옮기면 잠금/언두가 커지므로 필요하면 id 범위를 나눠 실행하세요 (WHERE p.id BETWEEN ? AND ?)
+-- ============================================
+
+-- 1단계: 테이블 생성 (ddl-auto 가 update 면 테이블은 생략 가능, FULLTEXT 인덱스는 생성 필요)
+CREATE TABLE IF NOT EXISTS precedent_body (
+  precedent_id BIGINT NOT NULL,
+  notice LONGBLOB NULL,
+  summary_of_the_judgment LONGBLOB NULL,
+  reference_article LONGBLOB NULL,
+  reference_precedent LONGBLOB NULL,
+  precedent_content LONGBLOB NULL,
+  PRIMARY KEY (precedent_id)
+);
+
+CREATE TABLE IF NOT EXISTS precedent_search_text (
+  precedent_id BIGINT NOT NULL,
+  case_name TEXT NULL,
+  case_number TEXT NULL,
+  notice LONGTEXT NULL,
+  summary_of_the_judgment LONGTEXT NULL,
+  precedent_content LONGTEXT NULL,
+  PRIMARY KEY (precedent_id)
+);
+
+-- 2단계: 기존 본문 옮기기
+INSERT INTO precedent_body (precedent_id, notice, summary_of_the_judgment, reference_article, reference_precedent, precedent_content)
+SELECT p.id, COMPRESS(p.notice), COMPRESS(p.summary_of_the_judgment), COMPRESS(p.reference_article),
+       COMPRESS(p.reference_precedent), COMPRESS(p.precedent_content)
+FROM precedent p
+LEFT JOIN precedent_body b ON b.precedent_id = p.id
+WHERE b.precedent_id IS NULL;
+
+INSERT INTO precedent_search_text (precedent_id, case_name, case_number, notice, summary_of_the_judgment, precedent_content)
+SELECT p.id, p.case_name, p.case_number, p.notice, p.summary_of_the_judgment, p.precedent_content
+FROM precedent p
+LEFT JOIN precedent_search_text t ON t.precedent_id = p.id
+WHERE t.precedent_id IS NULL;
+
+-- 3단계: FULLTEXT 인덱스 (데이터를 옮긴 뒤 만드는 편이 빠름, 기존 precedent_fulltext.sql 의 인덱스를 대신함)
+ALTER TABLE precedent_search_text
+  ADD FULLTEXT idx_precedent_search_text_fulltext (notice, summary_of_the_judgment, precedent_content, case_name, case_number);
+
+-- 4단계: precedent 에서 본문 컬럼과 이전 FULLTEXT 인덱스 제거 (테이블 재구성)
+ALTER TABLE precedent
+  DROP INDEX idx_precedent_fulltext,
+  DROP COLUMN notice,
+  DROP COLUMN summary_of_the_judgment,
+  DROP COLUMN reference_article,
+  DROP COLUMN reference_precedent,
+  DROP COLUMN precedent_content;
+
+-- 5단계: 결과 확인
+SELECT '=== 본문이 없는 판례 ===' as info;
+SELECT COUNT(*) as count FROM precedent p LEFT JOIN precedent_body b ON b.precedent_id = p.id WHERE b.precedent_id IS NULL;
+SELECT COUNT(*) as count FROM precedent p LEFT JOIN precedent_search_text t ON t.precedent_id = p.id WHERE t.precedent_id IS NULL;
+
+SELECT '=== 테이블 크기 (MB) ===' as info;
+SELECT table_name, ROUND((data_length + index_length) / 1024 / 1024, 1) as size_mb
+FROM information_schema.tables
+WHERE table_schema = DATABASE() AND table_name IN ('precedent', 'precedent_body', 'precedent_search_text');
@@ -0,0 +1,43 @@
+-- ============================================
+-- 판례 인용 관계 테이블 (참조판례 -> 사건번호, 참조조문 -> 법령명 + 조문)
+-- 이후 수집되는 판례는 저장 커밋 시 자동으로 추출됩니다 (PrecedentCitationService.ingest)
+-- ============================================
+
+-- 1단계: 테이블 생성 (ddl-auto 가 update 면 생략 가능)
+CREATE TABLE IF NOT EXISTS precedent_case_number (
+  id BIGINT NOT NULL AUTO_INCREMENT,
+  precedent_id BIGINT NOT NULL,
+  case_number VARCHAR(40) NOT NULL,
+  PRIMARY KEY (id),
+  KEY idx_precedent_case_number (case_number),
+  KEY idx_precedent_case_number_precedent (precedent_id)
+);
+
+CREATE TABLE IF NOT EXISTS precedent_citation (
+  id BIGINT NOT NULL AUTO_INCREMENT,
+  citing_precedent_id BIGINT NOT NULL,
+  cited_case_number VARCHAR(40) NOT NULL,
+  PRIMARY KEY (id),
+  KEY idx_precedent_citation_citing (citing_precedent_id),
+  KEY idx_precedent_citation_cited (cited_case_number)
+);
+
+CREATE TABLE IF NOT EXISTS precedent_article_reference (
+  id BIGINT NOT NULL AUTO_INCREMENT,
+  precedent_id BIGINT NOT NULL,
+  law_name VARCHAR(100) NOT NULL,
+  article_number INT NOT NULL,
+  article_branch INT NOT NULL,
+  PRIMARY KEY (id),
+  KEY idx_precedent_article_reference_article (law_name, article_number, article_branch),
+  KEY idx_precedent_article_reference_precedent (precedent_id)
+);
+
+-- 2단계: 기존 판례 추출 (정규식 추출은 애플리케이션에서 하므로 관리자 API 호출)
+--        POST /api/admin/precedent/citations/rebuild
+
+-- 3단계: 결과 확인
+SELECT '=== 인용 관계 ===' as info;
+SELECT (SELECT COUNT(*) FROM precedent_case_number) as case_numbers,
+       (SELECT COUNT(*) FROM precedent_citation) as citations,
+       (SELECT COUNT(*) FROM precedent_article_reference) as article_references;
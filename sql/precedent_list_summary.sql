@@ -0,0 +1,29 @@
+-- ============================================
+-- 판례 검색 목록용 요약 컬럼 추가 및 기존 데이터 채우기
+-- 이후 수집되는 판례는 저장 시 자동으로 채워집니다 (PrecedentSummaryExtractor 와 같은 규칙)
+-- ============================================
+
+-- 1단계: 컬럼 추가 (ddl-auto 가 update 면 생략 가능)
+ALTER TABLE precedent ADD COLUMN list_summary VARCHAR(500) NULL;
+
+-- 2단계: 판결요지 -> 판시사항 -> 판례내용 중 처음 비어 있지 않은 본문에서 【주    문】~【이    유】 전까지 발췌, 최대 500자
+--        (한 번에 많은 행을 갱신하면 잠금이 길어지므로 필요하면 id 범위를 나눠 실행)
+UPDATE precedent p
+JOIN (
+    SELECT id,
+           COALESCE(NULLIF(summary_of_the_judgment, ''), NULLIF(notice, ''), NULLIF(precedent_content, ''), '') AS c
+    FROM precedent
+    WHERE list_summary IS NULL
+) src ON src.id = p.id
+SET p.list_summary = LEFT(TRIM(
+    CASE
+        WHEN LOCATE('【주    문】', src.c) = 0 THEN src.c
+        WHEN LOCATE('【이    유】', src.c, LOCATE('【주    문】', src.c)) = 0
+            THEN SUBSTRING(src.c, LOCATE('【주    문】', src.c))
+        ELSE SUBSTRING(src.c, LOCATE('【주    문】', src.c),
+                       LOCATE('【이    유】', src.c, LOCATE('【주    문】', src.c)) - LOCATE('【주    문】', src.c))
+    END), 500);
+
+-- 3단계: 결과 확인
+SELECT '=== 요약이 비어 있는 판례 ===' as info;
+SELECT COUNT(*) as count FROM precedent WHERE list_summary IS NULL OR list_summary = '';
@@ -0,0 +1,23 @@
+-- ============================================
+-- 판례 검색 스니펫 원문 컬럼 추가 및 기존 데이터 채우기
+-- 이후 수집되는 판례는 저장 시 자동으로 채워집니다 (PrecedentSummaryExtractor.snippetSource 와 같은 규칙)
+-- ============================================
+
+-- 1단계: 컬럼 추가 (ddl-auto 가 update 면 생략 가능)
+ALTER TABLE precedent ADD COLUMN snippet_source VARCHAR(2000) NULL;
+
+-- 2단계: 판시사항 + 판결요지 (둘 다 없으면 판례내용 앞부분), 연속 공백 정리 후 최대 2000자
+--        (한 번에 많은 행을 갱신하면 잠금이 길어지므로 필요하면 id 범위를 나눠 실행)
+UPDATE precedent
+SET snippet_source = LEFT(TRIM(REGEXP_REPLACE(REGEXP_REPLACE(
+        COALESCE(
+            NULLIF(CONCAT_WS('\n', NULLIF(TRIM(notice), ''), NULLIF(TRIM(summary_of_the_judgment), '')), ''),
+            LEFT(precedent_content, 4000),
+            ''),
+        '[ \t\r\f]+', ' '),
+        ' ?\n\\s*', '\n')), 2000)
+WHERE snippet_source IS NULL;
+
+-- 3단계: 결과 확인
+SELECT '=== 스니펫 원문이 비어 있는 판례 ===' as info;
+SELECT COUNT(*) as count FROM precedent WHERE snippet_source IS NULL OR snippet_source = '';
@@ -0,0 +1,41 @@
+-- ============================================
+-- 판례일련번호 기준 upsert 를 위한 중복 정리 및 유니크 인덱스
+-- ============================================
+-- 실행 전 주의사항:
+-- 1. 반드시 데이터베이스 백업을 먼저 수행하세요!
+-- 2. 3단계는 같은 판례일련번호로 여러 번 저장된 판례 중 가장 먼저 저장된 것만 남깁니다
+--    삭제된 판례의 벡터 청크(precedentId 기준)는 벡터 저장소에 남으므로 판례 재벡터화가 필요합니다
+-- ============================================
+
+-- 1단계: 중복 현황 확인
+SELECT '=== 중복 저장된 판례 ===' as info;
+SELECT precedent_number, COUNT(*) as count, MIN(id) as keep_id
+FROM precedent
+GROUP BY precedent_number
+HAVING COUNT(*) > 1;
+
+-- 2단계: 판례일련번호가 비어 있는 판례 확인 (upsert 키가 없어 수집 시 다시 저장되지 않음)
+SELECT '=== 판례일련번호 없는 판례 ===' as info;
+SELECT COUNT(*) as count FROM precedent WHERE precedent_number IS NULL OR precedent_number = '';
+
+-- 3단계: 중복 삭제 (가장 작은 id 유지)
+DELETE p FROM precedent p
+JOIN (
+    SELECT precedent_number, MIN(id) as keep_id
+    FROM precedent
+    GROUP BY precedent_number
+    HAVING COUNT(*) > 1
+) d ON p.precedent_number = d.precedent_number
+WHERE p.id <> d.keep_id;
+
+-- 4단계: 빈 판례일련번호는 NULL 로 (유니크 인덱스에서 NULL 은 중복 허용)
+UPDATE precedent SET precedent_number = NULL WHERE precedent_number = '';
+
+-- 5단계: 유니크 인덱스 (ddl-auto 가 update 면 생략 가능)
+ALTER TABLE precedent
+  MODIFY COLUMN precedent_number VARCHAR(20) NULL,
+  ADD CONSTRAINT uk_precedent_number UNIQUE (precedent_number);
+
+-- 6단계: 결과 확인
+SELECT '=== 정리 후 판례 수 ===' as info;
+SELECT COUNT(*) as count FROM precedent;
@@ -1,8 +1,10 @@
 package com.ai.lawyer.domain.law.controller;
 
+import com.ai.lawyer.domain.law.dto.LawArticleDto;
 import com.ai.lawyer.domain.law.dto.LawSearchRequestDto;
 import com.ai.lawyer.domain.law.dto.LawsDto;
-import com.ai.lawyer.domain.law.entity.Law;
+import com.ai.lawyer.domain.law.entity.LawDocument;
+import com.ai.lawyer.domain.law.service.LawDocumentService;
 import com.ai.lawyer.domain.law.service.LawService;
 import com.ai.lawyer.global.dto.PageResponseDto;
 import io.swagger.v3.oas.annotations.Operation;
@@ -10,9 +12,15 @@ import io.swagger.v3.oas.annotations.tags.Tag;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.data.domain.Page;
+import org.springframework.http.CacheControl;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
 
+import java.util.List;
+
 @Slf4j
 @RestController
 @RequiredArgsConstructor
@@ -21,23 +29,7 @@ import org.springframework.web.bind.annotation.*;
 public class LawController {
 
     private final LawService lawService;
-
-
-    @GetMapping(value = "/list/save")
-    @Operation(summary = "키워드 관련 법령 데이터 저장(벡엔드 전용 API)", description = "벡엔드 데이터 저장용 API입니다")
-    public ResponseEntity<?> getStatisticsCard(
-            @RequestParam String query
-    ) throws Exception {
-        long startTime = System.currentTimeMillis();
-
-        lawService.saveLaw(query);
-
-        long endTime = System.currentTimeMillis();
-        long elapsedTime = endTime - startTime;
-        System.out.println("saveLaw 실행 시간: " + elapsedTime + "ms");
-
-        return ResponseEntity.ok().body("Success");
-    }
+    private final LawDocumentService lawDocumentService;
 
     @PostMapping("/search")
     @Operation(summary = "볍령 목록 검색 기능", description = "조건에 맞는 법령 목록을 가져옵니다")
@@ -51,19 +43,62 @@ public class LawController {
         }
     }
 
+    @GetMapping("/{id}/articles/{articleNumber}")
+    @Operation(summary = "조문 조회 기능", description = "법령의 조문 하나(항/호 포함)를 조회합니다 \n" +
+            "예시: /api/law/1/articles/12 (제12조), /api/law/1/articles/12?branch=2 (제12조의2)")
+    public ResponseEntity<?> getArticle(
+            @PathVariable Long id,
+            @PathVariable int articleNumber,
+            @RequestParam(defaultValue = "0") int branch
+    ) {
+        try {
+            LawArticleDto article = lawService.getArticle(id, articleNumber, branch);
+            return ResponseEntity.ok(article);
+        }catch (Exception e){
+            log.error("조문 조회 에러 : " + e.getMessage());
+            return ResponseEntity.badRequest().body("조문 조회 에러 : " + e.getMessage());
+        }
+    }
+
+    @GetMapping("/{id}/articles")
+    @Operation(summary = "조문 범위 조회 기능", description = "법령의 조문번호 범위(양 끝 포함, 최대 50개)를 조회합니다 \n" +
+            "예시: /api/law/1/articles?from=1&to=10")
+    public ResponseEntity<?> getArticles(
+            @PathVariable Long id,
+            @RequestParam int from,
+            @RequestParam int to
+    ) {
+        try {
+            List<LawArticleDto> articles = lawService.getArticles(id, from, to);
+            return ResponseEntity.ok(articles);
+        }catch (Exception e){
+            log.error("조문 범위 조회 에러 : " + e.getMessage());
+            return ResponseEntity.badRequest().body("조문 범위 조회 에러 : " + e.getMessage());
+        }
+    }
+
     @GetMapping("/{id}")
     @Operation(summary = "볍령 상세 조회 기능", description = "법령 상세 데이터를 조회합니다 \n" +
-            "예시: /api/law/1")
-    public ResponseEntity<?> getFullLaw(@PathVariable Long id) {
+            "예시: /api/law/1 (If-None-Match 에 이전 ETag 를 보내면 변경이 없을 때 304)")
+    public ResponseEntity<?> getFullLaw(
+            @PathVariable Long id,
+            @RequestHeader(value = HttpHeaders.IF_NONE_MATCH, required = false) String ifNoneMatch
+    ) {
         try {
-            Law law = lawService.getLawWithAllChildren(id);
-            return ResponseEntity.ok(law);
+            LawDocument document = lawDocumentService.getDocument(id);
+            String etag = "\"" + document.getEtag() + "\"";
+
+            if (ifNoneMatch != null && ifNoneMatch.contains(etag)) {
+                return ResponseEntity.status(HttpStatus.NOT_MODIFIED).eTag(etag).build();
+            }
+            return ResponseEntity.ok()
+                    .eTag(etag)
+                    .cacheControl(CacheControl.noCache())
+                    .contentType(MediaType.APPLICATION_JSON)
+                    .body(document.getDocument());
         }catch (Exception e){
             log.error("법령 상세 조회 에러 : " + e.getMessage());
             return ResponseEntity.badRequest().body("법령 상세 조회 에러 : " + e.getMessage());
         }
-
-
-
     }
 }
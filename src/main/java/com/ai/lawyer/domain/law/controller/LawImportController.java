@@ -0,0 +1,48 @@
+package com.ai.lawyer.domain.law.controller;
+
+import com.ai.lawyer.domain.law.service.LawService;
+import com.ai.lawyer.global.batch.VectorizationTarget;
+import com.ai.lawyer.global.batch.service.VectorizationJobService;
+import io.swagger.v3.oas.annotations.Operation;
+import io.swagger.v3.oas.annotations.tags.Tag;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.*;
+
+import java.util.List;
+
+@Slf4j
+@RestController
+@RequiredArgsConstructor
+@Tag(name = "법령 수집", description = "키워드 법령 수집 API (관리자 전용)")
+@RequestMapping("/api/admin/law/import")
+public class LawImportController {
+
+    private final LawService lawService;
+    private final VectorizationJobService vectorizationJobService;
+
+    @PostMapping
+    @Operation(summary = "키워드 관련 법령 데이터 저장", description = "키워드로 검색한 법령을 수집해 저장하고 저장(변경)된 법령 id 를 반환합니다. " +
+            "vectorize=true이면 저장된 법령의 벡터화 잡을 바로 실행합니다 (기본값 false)")
+    public ResponseEntity<?> importLaws(
+            @RequestParam String query,
+            @RequestParam(defaultValue = "false") boolean vectorize
+    ) {
+        try {
+            long startTime = System.currentTimeMillis();
+
+            List<Long> savedIds = lawService.saveLaw(query);
+            if (vectorize && !savedIds.isEmpty()) {
+                vectorizationJobService.launchForIds(VectorizationTarget.LAW, savedIds);
+            }
+
+            log.info("법령 수집 완료. 키워드: {}, 저장(변경)된 법령 수: {}, 실행 시간: {}ms",
+                    query, savedIds.size(), System.currentTimeMillis() - startTime);
+            return ResponseEntity.ok(savedIds);
+        } catch (Exception e) {
+            log.error("법령 수집 에러 : " + e.getMessage());
+            return ResponseEntity.badRequest().body("법령 수집 에러 : " + e.getMessage());
+        }
+    }
+}
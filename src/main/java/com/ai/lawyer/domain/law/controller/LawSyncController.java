@@ -0,0 +1,58 @@
+package com.ai.lawyer.domain.law.controller;
+
+import com.ai.lawyer.domain.law.service.LawSyncService;
+import io.swagger.v3.oas.annotations.Operation;
+import io.swagger.v3.oas.annotations.tags.Tag;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.*;
+
+import java.util.NoSuchElementException;
+
+@Slf4j
+@RestController
+@RequiredArgsConstructor
+@Tag(name = "법령 동기화", description = "법령 개정 동기화 API (관리자 전용)")
+@RequestMapping("/api/admin/law/sync")
+public class LawSyncController {
+
+    private final LawSyncService lawSyncService;
+
+    @PostMapping
+    @Operation(summary = "법령 개정 동기화 실행",
+            description = "마지막 동기화 일자 이후 변경된 법령 중 보유 법령만 다시 수집하고, 바뀐 법령은 다시 벡터화합니다")
+    public ResponseEntity<?> sync() {
+        try {
+            return ResponseEntity.ok(lawSyncService.sync());
+        } catch (Exception e) {
+            log.error("법령 동기화 에러 : " + e.getMessage());
+            return ResponseEntity.badRequest().body("법령 동기화 에러 : " + e.getMessage());
+        }
+    }
+
+    @PostMapping("/backfill")
+    @Operation(summary = "기존 법령 법령ID 채우기",
+            description = "법령ID 없이 저장된 기존 법령을 법령명으로 검색해 법령ID 를 채웁니다. 채워진 법령부터 동기화 대상이 됩니다")
+    public ResponseEntity<?> backfill() {
+        try {
+            return ResponseEntity.ok(lawSyncService.backfillLawApiIds());
+        } catch (Exception e) {
+            log.error("법령ID 채우기 에러 : " + e.getMessage());
+            return ResponseEntity.badRequest().body("법령ID 채우기 에러 : " + e.getMessage());
+        }
+    }
+
+    @GetMapping
+    @Operation(summary = "법령 동기화 상태 조회", description = "마지막 동기화 일자와 최근 실행 결과를 조회합니다")
+    public ResponseEntity<?> getState() {
+        try {
+            return ResponseEntity.ok(lawSyncService.getState());
+        } catch (NoSuchElementException e) {
+            return ResponseEntity.notFound().build();
+        } catch (Exception e) {
+            log.error("법령 동기화 상태 조회 에러 : " + e.getMessage());
+            return ResponseEntity.badRequest().body("법령 동기화 상태 조회 에러 : " + e.getMessage());
+        }
+    }
+}
@@ -0,0 +1,35 @@
+package com.ai.lawyer.domain.law.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * 조문(조) 하나와 그 항/호
+ */
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class LawArticleDto {
+
+    private Long lawId;
+
+    private Integer articleNumber; // 조문번호
+
+    private Integer articleBranch; // 조문가지번호 (없으면 0)
+
+    private String content; // 조 내용
+
+    private List<HangDto> hangs = new ArrayList<>();
+
+    @Data
+    @NoArgsConstructor
+    @AllArgsConstructor
+    public static class HangDto {
+        private String content;
+        private List<String> hos = new ArrayList<>(); // 호 내용
+    }
+}
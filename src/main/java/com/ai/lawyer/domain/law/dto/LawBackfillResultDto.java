@@ -0,0 +1,24 @@
+package com.ai.lawyer.domain.law.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Getter;
+
+import java.util.List;
+
+/**
+ * 기존 법령 법령ID 채우기 결과
+ */
+@Getter
+@Builder
+@AllArgsConstructor
+public class LawBackfillResultDto {
+
+    private int scannedCount; // 법령ID 가 비어 있던 법령 수
+
+    private int assignedCount; // 법령ID 를 채운 법령 수
+
+    private List<Long> unmatchedIds; // 법령명이 정확히 일치하는 법령이 없거나 여러 개라 남겨 둔 법령 id
+
+    private int failedCount; // API 오류 또는 이미 다른 법령이 쓰는 법령ID
+}
@@ -0,0 +1,80 @@
+package com.ai.lawyer.domain.law.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Open API 법령 상세 응답을 파싱한 결과 (DB 저장 전 단계)
+ */
+@Data
+@Builder
+@AllArgsConstructor
+@NoArgsConstructor
+public class LawImportDto {
+
+    private String lawName; // 법령명
+
+    private String lawField; // 법령분야
+
+    private String ministry; // 소관부처
+
+    private String promulgationNumber; // 공포번호
+
+    private LocalDate promulgationDate; // 공포일자
+
+    private LocalDate enforcementDate; // 시행일자
+
+    @Builder.Default
+    private List<JangImport> jangs = new ArrayList<>();
+
+    @Data
+    @NoArgsConstructor
+    @AllArgsConstructor
+    public static class JangImport {
+        private String content; // 장 제목 (장 없이 시작하는 조문은 content 가 null 인 장에 속함)
+        private List<JoImport> jos = new ArrayList<>();
+        private boolean continued; // 스트리밍 저장 시 이전 묶음의 마지막 장에 이어지는 조문들 (장 행은 이미 저장됨)
+
+        public JangImport(String content) {
+            this.content = content;
+        }
+
+        public static JangImport continuation() {
+            JangImport jang = new JangImport(null);
+            jang.setContinued(true);
+            return jang;
+        }
+    }
+
+    @Data
+    @NoArgsConstructor
+    @AllArgsConstructor
+    public static class JoImport {
+        private String content;
+        private List<HangImport> hangs = new ArrayList<>();
+        private Integer articleNumber; // 조문번호
+        private int articleBranch;     // 조문가지번호 (없으면 0)
+
+        public JoImport(String content) {
+            this.content = content;
+        }
+    }
+
+    @Data
+    @NoArgsConstructor
+    @AllArgsConstructor
+    public static class HangImport {
+        private String content;
+        private List<String> hos = new ArrayList<>(); // 호 내용
+
+        public HangImport(String content) {
+            this.content = content;
+        }
+    }
+}
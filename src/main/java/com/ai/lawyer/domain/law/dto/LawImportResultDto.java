@@ -0,0 +1,30 @@
+package com.ai.lawyer.domain.law.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+/**
+ * 법령 하나를 수집한 결과
+ */
+@Getter
+@AllArgsConstructor
+public class LawImportResultDto {
+
+    private Long lawId; // 저장(또는 기존) 법령 id
+
+    private Status status;
+
+    public enum Status {
+        CREATED,   // 새 법령 저장
+        UPDATED,   // 기존 법령의 하위 트리를 새 내용으로 교체
+        UNCHANGED, // 내용 해시가 같아 기존 법령 유지
+        SKIPPED    // 다른 요청에서 같은 법령을 수집 중이라 건너뜀 (lawId 없음)
+    }
+
+    /**
+     * 하위 트리가 새로 쓰였는지 (벡터화 대상 여부)
+     */
+    public boolean isChanged() {
+        return status == Status.CREATED || status == Status.UPDATED;
+    }
+}
@@ -0,0 +1,9 @@
+package com.ai.lawyer.domain.law.dto;
+
+/**
+ * 법령명 검색 방식
+ */
+public enum LawQueryMode {
+    FULLTEXT, // ngram FULLTEXT 인덱스 (sql/law_fulltext.sql 적용 필요, 연산자를 뺀 검색어가 2글자 미만이면 자동으로 LIKE)
+    LIKE      // 부분 문자열 일치 (기본값)
+}
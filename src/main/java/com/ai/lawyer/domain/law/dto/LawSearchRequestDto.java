@@ -17,6 +17,13 @@ public class LawSearchRequestDto {
     @Schema(description = "법령명", example = "형사")
     private String lawName;        // 법령명
 
+    @Schema(description = "법령명 검색 방식 (LIKE: 부분 일치(기본값), FULLTEXT: 전문 검색 인덱스, sql/law_fulltext.sql 적용 후 사용). 2글자 미만 검색어는 FULLTEXT 여도 LIKE 로 검색", example = "LIKE")
+    @Builder.Default
+    private LawQueryMode queryMode = LawQueryMode.LIKE; // 법령명 검색 방식
+
+    @Schema(description = "조문 내용 검색어 (조/항 본문 전문 검색, sql/law_fulltext.sql 적용 필요)", example = "정당방위")
+    private String articleKeyword; // 조문 내용 검색어
+
     @Schema(description = "법령분야", example = "법률")
     private String lawField;       // 법령분야
 
@@ -40,4 +47,7 @@ public class LawSearchRequestDto {
 
     @Schema(description = "페이지 크기", example = "10")
     private int pageSize;               // 페이지 크기
+
+    @Schema(description = "다음 페이지 커서 (이전 응답의 nextCursor, 있으면 pageNumber 대신 사용)", example = "")
+    private String cursor;              // 키셋 페이지네이션 커서
 }
@@ -0,0 +1,35 @@
+package com.ai.lawyer.domain.law.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Getter;
+
+import java.time.LocalDate;
+import java.util.List;
+
+/**
+ * 법령 개정 동기화 실행 결과
+ */
+@Getter
+@Builder
+@AllArgsConstructor
+public class LawSyncResultDto {
+
+    private boolean skipped; // 다른 인스턴스가 실행 중이라 건너뜀
+
+    private LocalDate fromDate; // 조회한 변경일자 범위
+
+    private LocalDate toDate;
+
+    private LocalDate lastSyncedDate; // 실행 후 반영 완료 일자 (실패한 날이 있으면 그 전날)
+
+    private int changedCount; // 변경 이력에 나온 법령 중 보유 법령 수
+
+    private List<Long> updatedIds; // 내용이 바뀌어 교체된 법령 id
+
+    private int failedCount;
+
+    public static LawSyncResultDto skipped() {
+        return LawSyncResultDto.builder().skipped(true).updatedIds(List.of()).build();
+    }
+}
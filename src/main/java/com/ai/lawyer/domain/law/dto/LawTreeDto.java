@@ -0,0 +1,73 @@
+package com.ai.lawyer.domain.law.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Getter;
+
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * 법령 상세 읽기 모델
+ * 엔티티 그래프 대신 계층별로 정렬된 평면 목록(장/조/항/호)을 그대로 담고, 직렬화 시 부모 id 로 묶음
+ */
+@Getter
+@Builder
+@AllArgsConstructor
+public class LawTreeDto {
+
+    private Long lawId;
+
+    private String lawApiId; // Open API 법령ID
+
+    private String lawName; // 법령명
+
+    private String lawField; // 법령분야
+
+    private String ministry; // 소관부처
+
+    private String promulgationNumber; // 공포번호
+
+    private LocalDate promulgationDate; // 공포일자
+
+    private LocalDate enforcementDate; // 시행일자
+
+    @Builder.Default
+    private List<Node> jangs = new ArrayList<>(); // 법령 id 를 부모로 하는 장 (id 순)
+
+    @Builder.Default
+    private List<Node> jos = new ArrayList<>(); // 장 id 를 부모로 하는 조 (id 순)
+
+    @Builder.Default
+    private List<Node> hangs = new ArrayList<>(); // 조 id 를 부모로 하는 항 (id 순)
+
+    @Builder.Default
+    private List<Node> hos = new ArrayList<>(); // 항 id 를 부모로 하는 호 (id 순)
+
+    /**
+     * 부모 id 별 자식 목록 (입력 순서 유지, 한 번 순회)
+     */
+    public static Map<Long, List<Node>> groupByParent(List<Node> nodes) {
+        Map<Long, List<Node>> grouped = new LinkedHashMap<>();
+        for (Node node : nodes) {
+            grouped.computeIfAbsent(node.getParentId(), key -> new ArrayList<>()).add(node);
+        }
+        return grouped;
+    }
+
+    /**
+     * 장/조/항/호 한 행
+     */
+    @Getter
+    @AllArgsConstructor
+    public static class Node {
+        private Long id;
+        private Long parentId;
+        private String content;
+        private Integer articleNumber; // 조에만 있음
+        private Integer articleBranch; // 조에만 있음
+    }
+}
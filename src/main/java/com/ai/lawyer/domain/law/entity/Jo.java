@@ -4,14 +4,16 @@ import com.fasterxml.jackson.annotation.JsonBackReference;
 import com.fasterxml.jackson.annotation.JsonIgnore;
 import com.fasterxml.jackson.annotation.JsonManagedReference;
 import jakarta.persistence.*;
-import lombok.Data;
+import lombok.Getter;
+import lombok.Setter;
 
 import java.util.ArrayList;
 import java.util.List;
 
 @Entity
-@Data
-@Table(name = "jo")
+@Getter
+@Setter
+@Table(name = "jo", indexes = @Index(name = "idx_jo_law_article", columnList = "law_id, article_number, article_branch"))
 public class Jo {
     @Id
     @GeneratedValue(strategy = GenerationType.IDENTITY)
@@ -21,6 +23,16 @@ public class Jo {
     @Column(nullable = true, columnDefinition = "TEXT")
     String content;
 
+    @Column(name = "law_id")
+    @JsonIgnore
+    private Long lawId; // 조문 단위 조회용 (장을 거치지 않고 법령으로 바로 찾음)
+
+    @Column(name = "article_number")
+    private Integer articleNumber; // 조문번호 (제12조의2 -> 12)
+
+    @Column(name = "article_branch")
+    private Integer articleBranch; // 조문가지번호 (제12조의2 -> 2, 없으면 0)
+
     @ManyToOne
     @JoinColumn(name = "jang_id")
     @JsonBackReference
@@ -4,21 +4,34 @@ package com.ai.lawyer.domain.law.entity;
 import com.fasterxml.jackson.annotation.JsonIgnore;
 import com.fasterxml.jackson.annotation.JsonManagedReference;
 import jakarta.persistence.*;
-import lombok.Data;
+import lombok.Getter;
+import lombok.Setter;
 
 import java.time.LocalDate;
 import java.util.ArrayList;
 import java.util.List;
 
 @Entity
-@Data
-@Table(name = "law")
+@Getter
+@Setter
+@Table(name = "law", uniqueConstraints = @UniqueConstraint(name = "uk_law_api_id", columnNames = "law_api_id"))
 public class Law {
     @Id
     @GeneratedValue(strategy = GenerationType.IDENTITY)
     @JsonIgnore
     private Long id;
 
+    @Column(name = "law_api_id", length = 20)
+    private String lawApiId; // Open API 법령ID (재수집 시 같은 법령을 찾는 키)
+
+    @Column(length = 64)
+    @JsonIgnore
+    private String contentHash; // 기본정보 + 조문 원문의 SHA-256 (변경 감지용)
+
+    @Column(columnDefinition = "BOOLEAN NOT NULL DEFAULT FALSE")
+    @JsonIgnore
+    private boolean staging; // 수집 중인 법령 (하위 트리 저장이 끝나 기존 법령과 합쳐지기 전까지 검색/조회에서 제외)
+
     private String lawName; // 법령명
 
     private String lawField; // 법령분야
@@ -31,6 +44,10 @@ public class Law {
 
     private LocalDate enforcementDate; // 시행일자
 
+    @Column(columnDefinition = "TEXT")
+    @JsonIgnore
+    private String firstJoContent; // 첫 번째 조 내용 (검색 목록 미리보기용, 수집 시 채움)
+
     @OneToMany(mappedBy = "law")
     @JsonManagedReference
     private List<Jang> jangList = new ArrayList<>();
@@ -0,0 +1,26 @@
+package com.ai.lawyer.domain.law.entity;
+
+import jakarta.persistence.*;
+import lombok.Data;
+
+import java.time.LocalDateTime;
+
+/**
+ * 법령 상세(법령/장/조/항/호 전체 트리)를 직렬화한 JSON
+ * 수집/갱신 시 한 번 만들어 두고 상세 조회는 이 한 행만 읽음
+ */
+@Entity
+@Data
+@Table(name = "law_document")
+public class LawDocument {
+    @Id
+    private Long lawId;
+
+    @Column(nullable = false, columnDefinition = "LONGTEXT")
+    private String document; // 직렬화된 법령 트리 JSON
+
+    @Column(nullable = false, length = 64)
+    private String etag; // document 의 SHA-256
+
+    private LocalDateTime updatedAt;
+}
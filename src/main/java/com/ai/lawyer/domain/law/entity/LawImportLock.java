@@ -0,0 +1,27 @@
+package com.ai.lawyer.domain.law.entity;
+
+import jakarta.persistence.*;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDateTime;
+
+/**
+ * 법령ID 별 수집 잠금
+ * 같은 법령을 여러 요청(관리자 법령 수집, 개정 동기화)이나 인스턴스가 동시에 수집하지 않도록 잠금 만료 시각을 저장
+ */
+@Entity
+@Getter
+@NoArgsConstructor
+@Table(name = "law_import_lock")
+public class LawImportLock {
+    @Id
+    @Column(name = "law_api_id", length = 20)
+    private String lawApiId; // Open API 법령ID
+
+    private LocalDateTime lockedUntil; // 수집 중인 요청의 잠금 만료 시각 (비정상 종료 시 이후 다른 요청이 수집)
+
+    public LawImportLock(String lawApiId) {
+        this.lawApiId = lawApiId;
+    }
+}
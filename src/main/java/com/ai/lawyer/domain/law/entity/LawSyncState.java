@@ -0,0 +1,40 @@
+package com.ai.lawyer.domain.law.entity;
+
+import jakarta.persistence.*;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.Setter;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+
+/**
+ * 법령 개정 동기화 상태
+ * 마지막으로 반영을 마친 변경일자와, 여러 인스턴스 중 하나만 동기화하도록 잠금 만료 시각을 저장
+ */
+@Entity
+@Getter
+@Setter
+@NoArgsConstructor
+@Table(name = "law_sync_state")
+public class LawSyncState {
+    @Id
+    @Column(length = 30)
+    private String name; // 동기화 종류 (법령: law)
+
+    private LocalDate lastSyncedDate; // 이 날짜까지의 변경은 모두 반영됨
+
+    private LocalDateTime lockedUntil; // 실행 중인 인스턴스의 잠금 만료 시각 (비정상 종료 시 이후 다른 인스턴스가 실행)
+
+    private LocalDateTime lastRunAt;
+
+    private int lastChangedCount; // 마지막 실행에서 API 가 알려준 변경 법령 수 (보유 법령만)
+
+    private int lastUpdatedCount; // 마지막 실행에서 내용이 바뀌어 교체된 법령 수
+
+    private int lastFailedCount;
+
+    public LawSyncState(String name) {
+        this.name = name;
+    }
+}
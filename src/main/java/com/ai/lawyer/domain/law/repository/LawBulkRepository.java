@@ -0,0 +1,308 @@
+package com.ai.lawyer.domain.law.repository;
+
+import com.ai.lawyer.domain.law.dto.LawImportDto;
+import com.ai.lawyer.domain.law.dto.LawImportDto.HangImport;
+import com.ai.lawyer.domain.law.dto.LawImportDto.JangImport;
+import com.ai.lawyer.domain.law.dto.LawImportDto.JoImport;
+import com.ai.lawyer.domain.law.dto.LawImportResultDto;
+import lombok.RequiredArgsConstructor;
+import org.springframework.jdbc.core.BatchPreparedStatementSetter;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.support.GeneratedKeyHolder;
+import org.springframework.jdbc.support.KeyHolder;
+import org.springframework.stereotype.Repository;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.sql.Date;
+import java.sql.PreparedStatement;
+import java.sql.SQLException;
+import java.sql.Types;
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+
+/**
+ * 법령 트리(법령/장/조/항/호) 일괄 저장
+ * 엔티티별 save() 대신 계층마다 JDBC 배치 insert 한 번으로 저장하고, 생성된 id 로 다음 계층의 FK 를 채움
+ * 스트리밍 저장 시에는 insertLaw 후 장 묶음마다 insertJangs 를 호출
+ */
+@Repository
+@RequiredArgsConstructor
+public class LawBulkRepository {
+
+    private static final String INSERT_LAW = "INSERT INTO law (law_name, law_field, ministry, promulgation_number, "
+            + "promulgation_date, enforcement_date, staging) VALUES (?, ?, ?, ?, ?, ?, ?)";
+    private static final String INSERT_JANG = "INSERT INTO jang (content, law_id) VALUES (?, ?)";
+    private static final String INSERT_JO = "INSERT INTO jo (content, jang_id, law_id, article_number, article_branch) "
+            + "VALUES (?, ?, ?, ?, ?)";
+    private static final String INSERT_HANG = "INSERT INTO hang (content, jo_id) VALUES (?, ?)";
+    private static final String INSERT_HO = "INSERT INTO ho (content, hang_id) VALUES (?, ?)";
+
+    private static final String DELETE_HO = "DELETE FROM ho WHERE hang_id IN (SELECT h.id FROM hang h "
+            + "JOIN jo ON h.jo_id = jo.id JOIN jang j ON jo.jang_id = j.id WHERE j.law_id = ?)";
+    private static final String DELETE_HANG = "DELETE FROM hang WHERE jo_id IN (SELECT jo.id FROM jo "
+            + "JOIN jang j ON jo.jang_id = j.id WHERE j.law_id = ?)";
+    private static final String DELETE_JO = "DELETE FROM jo WHERE jang_id IN (SELECT j.id FROM jang j WHERE j.law_id = ?)";
+    private static final String DELETE_JANG = "DELETE FROM jang WHERE law_id = ?";
+    private static final String DELETE_LAW = "DELETE FROM law WHERE id = ?";
+
+    private static final String SELECT_BY_API_ID = "SELECT id, content_hash FROM law WHERE law_api_id = ? FOR UPDATE";
+    // 수집 중인(staging) 행은 법령ID 가 아직 없으므로 제외해야 다른 요청이 저장 중인 트리를 가져가지 않음
+    private static final String SELECT_LEGACY = "SELECT id, content_hash FROM law WHERE law_api_id IS NULL "
+            + "AND staging = FALSE AND law_name = ? AND promulgation_number = ? ORDER BY id LIMIT 1 FOR UPDATE";
+    private static final String SELECT_UNCHANGED = "SELECT id FROM law WHERE law_api_id = ? AND content_hash = ?";
+    private static final String MARK_IMPORTED = "UPDATE law SET law_api_id = ?, content_hash = ?, staging = FALSE WHERE id = ?";
+    private static final String MOVE_JANGS = "UPDATE jang SET law_id = ? WHERE law_id = ?";
+    private static final String MOVE_JOS = "UPDATE jo SET law_id = ? WHERE law_id = ?";
+    private static final String UPDATE_LAW = "UPDATE law SET law_api_id = ?, content_hash = ?, law_name = ?, law_field = ?, "
+            + "ministry = ?, promulgation_number = ?, promulgation_date = ?, enforcement_date = ?, first_jo_content = ? "
+            + "WHERE id = ?";
+    private static final String SET_FIRST_JO = "UPDATE law SET first_jo_content = ? WHERE id = ? AND first_jo_content IS NULL";
+    private static final String SELECT_FIRST_JO = "SELECT first_jo_content FROM law WHERE id = ?";
+
+    private final JdbcTemplate jdbcTemplate;
+
+    /**
+     * 법령 하나를 하위 트리와 함께 저장 (법령 단위 트랜잭션)
+     *
+     * @param law 파싱된 법령
+     * @return 저장된 법령 id
+     */
+    @Transactional
+    public Long insertLawTree(LawImportDto law) {
+        Long lawId = insertLaw(law, false);
+        insertJangs(lawId, law.getJangs(), null);
+        return lawId;
+    }
+
+    /**
+     * 법령 행만 저장 (하위 트리는 insertJangs 로 나눠 저장)
+     *
+     * @param law 파싱된 법령 기본정보
+     * @param staging true 면 mergeImportedLaw 전까지 검색/조회에서 제외되는 수집 중 행으로 저장
+     * @return 저장된 법령 id
+     */
+    @Transactional
+    public Long insertLaw(LawImportDto law, boolean staging) {
+        KeyHolder keyHolder = new GeneratedKeyHolder();
+        jdbcTemplate.update(connection -> {
+            PreparedStatement ps = connection.prepareStatement(INSERT_LAW, new String[]{"id"});
+            ps.setString(1, law.getLawName());
+            ps.setString(2, law.getLawField());
+            ps.setString(3, law.getMinistry());
+            ps.setString(4, law.getPromulgationNumber());
+            ps.setDate(5, toDate(law.getPromulgationDate()));
+            ps.setDate(6, toDate(law.getEnforcementDate()));
+            ps.setBoolean(7, staging);
+            return ps;
+        }, keyHolder);
+        return toId(keyHolder.getKeyList().get(0));
+    }
+
+    /**
+     * 장 묶음을 하위 트리와 함께 저장 (묶음 단위 트랜잭션)
+     * continued 장은 새로 insert 하지 않고 lastJangId 장에 조를 이어 붙임
+     *
+     * @param lawId 법령 id
+     * @param jangs 저장할 장 목록
+     * @param lastJangId 이전 묶음에서 마지막으로 저장한 장 id (없으면 null)
+     * @return 이번 묶음까지 저장된 마지막 장 id
+     */
+    @Transactional
+    public Long insertJangs(Long lawId, List<JangImport> jangs, Long lastJangId) {
+        List<JangImport> newJangs = jangs.stream().filter(jang -> !jang.isContinued()).toList();
+        List<Long> newJangIds = batchInsert(INSERT_JANG, newJangs.size(),
+                (ps, i) -> setContentAndParent(ps, newJangs.get(i).getContent(), lawId));
+
+        List<Long> jangIds = new ArrayList<>();
+        int newIndex = 0;
+        for (JangImport jang : jangs) {
+            if (jang.isContinued()) {
+                if (lastJangId == null) {
+                    throw new IllegalStateException("이어 붙일 장이 없습니다. 법령 id: " + lawId);
+                }
+                jangIds.add(lastJangId);
+            } else {
+                jangIds.add(newJangIds.get(newIndex++));
+            }
+        }
+
+        List<JoImport> jos = new ArrayList<>();
+        List<Long> joParentIds = new ArrayList<>();
+        for (int i = 0; i < jangs.size(); i++) {
+            for (JoImport jo : jangs.get(i).getJos()) {
+                jos.add(jo);
+                joParentIds.add(jangIds.get(i));
+            }
+        }
+        List<Long> joIds = batchInsert(INSERT_JO, jos.size(), (ps, i) -> {
+            JoImport jo = jos.get(i);
+            setContentAndParent(ps, jo.getContent(), joParentIds.get(i));
+            ps.setLong(3, lawId);
+            ps.setObject(4, jo.getArticleNumber(), Types.INTEGER);
+            ps.setInt(5, jo.getArticleBranch());
+        });
+
+        // 검색 목록 미리보기용 첫 번째 조 (이미 채워져 있으면 변경 없음)
+        if (!jos.isEmpty()) {
+            jdbcTemplate.update(SET_FIRST_JO, jos.get(0).getContent(), lawId);
+        }
+
+        List<HangImport> hangs = new ArrayList<>();
+        List<Long> hangParentIds = new ArrayList<>();
+        for (int i = 0; i < jos.size(); i++) {
+            for (HangImport hang : jos.get(i).getHangs()) {
+                hangs.add(hang);
+                hangParentIds.add(joIds.get(i));
+            }
+        }
+        List<Long> hangIds = batchInsert(INSERT_HANG, hangs.size(),
+                (ps, i) -> setContentAndParent(ps, hangs.get(i).getContent(), hangParentIds.get(i)));
+
+        List<String> hos = new ArrayList<>();
+        List<Long> hoParentIds = new ArrayList<>();
+        for (int i = 0; i < hangs.size(); i++) {
+            for (String ho : hangs.get(i).getHos()) {
+                hos.add(ho);
+                hoParentIds.add(hangIds.get(i));
+            }
+        }
+        batchInsert(INSERT_HO, hos.size(), (ps, i) -> setContentAndParent(ps, hos.get(i), hoParentIds.get(i)));
+
+        return jangIds.isEmpty() ? lastJangId : jangIds.get(jangIds.size() - 1);
+    }
+
+    /**
+     * 법령과 하위 트리 전체 삭제
+     * 묶음 단위로 저장하다 중간에 실패한 법령을 되돌리는 보상 삭제로 사용
+     *
+     * @param lawId 법령 id
+     */
+    @Transactional
+    public void deleteLawTree(Long lawId) {
+        jdbcTemplate.update(DELETE_HO, lawId);
+        jdbcTemplate.update(DELETE_HANG, lawId);
+        jdbcTemplate.update(DELETE_JO, lawId);
+        jdbcTemplate.update(DELETE_JANG, lawId);
+        jdbcTemplate.update(DELETE_LAW, lawId);
+    }
+
+    /**
+     * 같은 법령ID 로 같은 내용(해시)이 이미 저장된 법령 id
+     * 수집 전에 확인해 내용이 바뀌지 않은 법령은 트리를 쓰지 않고 건너뜀
+     *
+     * @param lawApiId Open API 법령ID
+     * @param contentHash 새로 받은 내용의 해시
+     * @return 기존 법령 id (없거나 내용이 다르면 empty)
+     */
+    public Optional<Long> findUnchangedLawId(String lawApiId, String contentHash) {
+        return jdbcTemplate.queryForList(SELECT_UNCHANGED, Long.class, lawApiId, contentHash).stream().findFirst();
+    }
+
+    /**
+     * 새로 저장한 법령 트리를 같은 법령ID 의 기존 법령과 합침 (upsert)
+     * - 기존 법령이 없으면 새 법령에 법령ID/해시를 기록 (CREATED)
+     * - 해시가 같으면 새 트리를 지우고 기존 법령 유지 (UNCHANGED)
+     * - 해시가 다르면 기존 하위 트리를 지우고 새 장들을 기존 법령 밑으로 옮김 -> 법령 id 유지 (UPDATED)
+     * 법령ID 가 기록되기 전에 저장된 법령은 법령명 + 공포번호가 같으면 같은 법령으로 보고 교체함 (수집 중인 행 제외)
+     *
+     * @param stagedLawId 방금 저장한 법령 id
+     * @param lawApiId Open API 법령ID
+     * @param contentHash 새 내용의 해시
+     * @param law 새 법령 기본정보
+     * @return 합친 결과
+     */
+    @Transactional
+    public LawImportResultDto mergeImportedLaw(Long stagedLawId, String lawApiId, String contentHash, LawImportDto law) {
+        Optional<StoredLaw> existing = findStored(SELECT_BY_API_ID, lawApiId)
+                .or(() -> findStored(SELECT_LEGACY, law.getLawName(), law.getPromulgationNumber()));
+
+        if (existing.isEmpty()) {
+            jdbcTemplate.update(MARK_IMPORTED, lawApiId, contentHash, stagedLawId);
+            return new LawImportResultDto(stagedLawId, LawImportResultDto.Status.CREATED);
+        }
+
+        StoredLaw stored = existing.get();
+        if (contentHash.equals(stored.contentHash())) {
+            deleteLawTree(stagedLawId);
+            return new LawImportResultDto(stored.id(), LawImportResultDto.Status.UNCHANGED);
+        }
+
+        String firstJoContent = jdbcTemplate.queryForObject(SELECT_FIRST_JO, String.class, stagedLawId);
+        jdbcTemplate.update(DELETE_HO, stored.id());
+        jdbcTemplate.update(DELETE_HANG, stored.id());
+        jdbcTemplate.update(DELETE_JO, stored.id());
+        jdbcTemplate.update(DELETE_JANG, stored.id());
+        jdbcTemplate.update(MOVE_JANGS, stored.id(), stagedLawId);
+        jdbcTemplate.update(MOVE_JOS, stored.id(), stagedLawId);
+        jdbcTemplate.update(DELETE_LAW, stagedLawId);
+        jdbcTemplate.update(UPDATE_LAW, lawApiId, contentHash, law.getLawName(), law.getLawField(), law.getMinistry(),
+                law.getPromulgationNumber(), toDate(law.getPromulgationDate()), toDate(law.getEnforcementDate()),
+                firstJoContent, stored.id());
+        return new LawImportResultDto(stored.id(), LawImportResultDto.Status.UPDATED);
+    }
+
+    // ==================== Private Helper Methods ====================
+
+    /**
+     * 배치 insert 후 생성된 id 를 입력 순서대로 반환
+     */
+    private List<Long> batchInsert(String sql, int size, RowSetter rowSetter) {
+        if (size == 0) {
+            return List.of();
+        }
+
+        KeyHolder keyHolder = new GeneratedKeyHolder();
+        jdbcTemplate.batchUpdate(
+                connection -> connection.prepareStatement(sql, new String[]{"id"}),
+                new BatchPreparedStatementSetter() {
+                    @Override
+                    public void setValues(PreparedStatement ps, int i) throws SQLException {
+                        rowSetter.setValues(ps, i);
+                    }
+
+                    @Override
+                    public int getBatchSize() {
+                        return size;
+                    }
+                },
+                keyHolder);
+
+        List<Map<String, Object>> keys = keyHolder.getKeyList();
+        if (keys.size() != size) {
+            throw new IllegalStateException("생성된 id 수가 저장한 행 수와 다릅니다. 행: " + size + ", id: " + keys.size());
+        }
+        return keys.stream().map(this::toId).toList();
+    }
+
+    private Optional<StoredLaw> findStored(String sql, Object... args) {
+        return jdbcTemplate.query(sql,
+                (rs, rowNum) -> new StoredLaw(rs.getLong("id"), rs.getString("content_hash")), args)
+                .stream()
+                .findFirst();
+    }
+
+    private Date toDate(LocalDate date) {
+        return date != null ? Date.valueOf(date) : null;
+    }
+
+    private void setContentAndParent(PreparedStatement ps, String content, Long parentId) throws SQLException {
+        ps.setString(1, content);
+        ps.setLong(2, parentId);
+    }
+
+    private Long toId(Map<String, Object> key) {
+        // MySQL 은 GENERATED_KEY, H2 는 ID 로 반환되므로 첫 번째 값을 사용
+        return ((Number) key.values().iterator().next()).longValue();
+    }
+
+    private record StoredLaw(Long id, String contentHash) {
+    }
+
+    @FunctionalInterface
+    private interface RowSetter {
+        void setValues(PreparedStatement ps, int index) throws SQLException;
+    }
+}
@@ -0,0 +1,9 @@
+package com.ai.lawyer.domain.law.repository;
+
+import com.ai.lawyer.domain.law.entity.LawDocument;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.stereotype.Repository;
+
+@Repository
+public interface LawDocumentRepository extends JpaRepository<LawDocument, Long> {
+}
@@ -0,0 +1,29 @@
+package com.ai.lawyer.domain.law.repository;
+
+import com.ai.lawyer.domain.law.entity.LawImportLock;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.LocalDateTime;
+
+@Repository
+public interface LawImportLockRepository extends JpaRepository<LawImportLock, String> {
+
+    /**
+     * 잠금이 없거나 만료된 경우에만 잠금 획득 (조건부 UPDATE 이므로 동시에 호출해도 한 요청만 1을 받음)
+     */
+    @Modifying(clearAutomatically = true)
+    @Transactional
+    @Query("UPDATE LawImportLock l SET l.lockedUntil = :until "
+            + "WHERE l.lawApiId = :lawApiId AND (l.lockedUntil IS NULL OR l.lockedUntil < :now)")
+    int tryLock(@Param("lawApiId") String lawApiId, @Param("now") LocalDateTime now, @Param("until") LocalDateTime until);
+
+    @Modifying(clearAutomatically = true)
+    @Transactional
+    @Query("UPDATE LawImportLock l SET l.lockedUntil = NULL WHERE l.lawApiId = :lawApiId")
+    void unlock(@Param("lawApiId") String lawApiId);
+}
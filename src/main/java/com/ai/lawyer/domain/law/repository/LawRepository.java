@@ -3,8 +3,14 @@ package com.ai.lawyer.domain.law.repository;
 import com.ai.lawyer.domain.law.entity.Law;
 import org.springframework.data.jpa.repository.EntityGraph;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
+import org.springframework.transaction.annotation.Transactional;
 
+import java.util.Collection;
+import java.util.List;
 import java.util.Optional;
 
 @Repository
@@ -13,4 +19,19 @@ public interface LawRepository extends JpaRepository<Law, Long>, LawRepositoryCu
     // Law + Jang만 페치
     @EntityGraph(attributePaths = "jangList")
     Optional<Law> findWithJangById(Long id);
+
+    long countByIdBetween(Long fromId, Long toId);
+
+    List<Law> findByLawApiIdIn(Collection<String> lawApiIds);
+
+    // 법령ID 없이 저장된 기존 법령 (id 순 키셋 페이지)
+    List<Law> findTop100ByLawApiIdIsNullAndStagingFalseAndIdGreaterThanOrderByIdAsc(Long afterId);
+
+    /**
+     * 법령ID 가 비어 있는 경우에만 채움
+     */
+    @Modifying(clearAutomatically = true)
+    @Transactional
+    @Query("UPDATE Law l SET l.lawApiId = :lawApiId WHERE l.id = :id AND l.lawApiId IS NULL")
+    int assignLawApiId(@Param("id") Long id, @Param("lawApiId") String lawApiId);
 }
@@ -1,49 +1,77 @@
 package com.ai.lawyer.domain.law.repository;
 
+import com.ai.lawyer.domain.law.dto.LawQueryMode;
 import com.ai.lawyer.domain.law.dto.LawSearchRequestDto;
 import com.ai.lawyer.domain.law.dto.LawsDto;
-import com.ai.lawyer.domain.law.entity.QJang;
+import com.ai.lawyer.domain.law.entity.QHang;
 import com.ai.lawyer.domain.law.entity.QJo;
 import com.ai.lawyer.domain.law.entity.QLaw;
+import com.ai.lawyer.global.dto.CursorPage;
+import com.ai.lawyer.global.jpa.MatchAgainstFunctionContributor;
+import com.ai.lawyer.global.util.CursorUtils;
+import com.ai.lawyer.infrastructure.redis.service.SearchCountCacheService;
 import com.querydsl.core.BooleanBuilder;
-import com.querydsl.core.Tuple;
 import com.querydsl.core.types.Projections;
 import com.querydsl.core.types.dsl.Expressions;
+import com.querydsl.core.types.dsl.NumberExpression;
+import com.querydsl.core.types.dsl.StringPath;
 import com.querydsl.jpa.JPAExpressions;
 import com.querydsl.jpa.impl.JPAQuery;
 import com.querydsl.jpa.impl.JPAQueryFactory;
 import lombok.RequiredArgsConstructor;
 import org.springframework.data.domain.Page;
-import org.springframework.data.domain.PageImpl;
 import org.springframework.data.domain.PageRequest;
 import org.springframework.data.domain.Pageable;
 import org.springframework.stereotype.Repository;
 import org.springframework.util.StringUtils;
-import com.querydsl.core.types.dsl.StringTemplate;
 
-
-import java.util.HashMap;
 import java.util.List;
-import java.util.Map;
-import java.util.stream.Collectors;
+import java.util.regex.Pattern;
 
 @Repository
 @RequiredArgsConstructor
 public class LawRepositoryCustomImpl implements LawRepositoryCustom {
 
     private final JPAQueryFactory queryFactory;
+    private final SearchCountCacheService searchCountCacheService;
+
+    private static final Pattern BOOLEAN_OPERATORS = Pattern.compile("[+\\-<>()~*\"@]");
+    private static final int NGRAM_TOKEN_SIZE = 2; // MySQL ngram_token_size 기본값 (sql/law_fulltext.sql)
 
     private QLaw law = QLaw.law;
-    private QJang jang = QJang.jang;
     private QJo jo = QJo.jo;
+    private QHang hang = QHang.hang;
 
     @Override
     public Page<LawsDto> searchLaws(LawSearchRequestDto searchRequest) {
         BooleanBuilder builder = new BooleanBuilder();
 
-        // 법령명 조건 (부분 검색)
+        // 수집 중(하위 트리 저장 중)인 법령 제외
+        builder.and(law.getStaging().isFalse());
+
+        // 법령명 조건 (기본은 LIKE 부분 검색, FULLTEXT 를 지정한 경우만 FULLTEXT 인덱스)
+        // 연산자를 뺀 검색어가 ngram 토큰 크기(2)보다 짧으면 FULLTEXT 로는 찾을 수 없으므로 LIKE 로 검색
         if (StringUtils.hasText(searchRequest.getLawName())) {
-            builder.and(law.getLawName().containsIgnoreCase(searchRequest.getLawName()));
+            if (searchRequest.getQueryMode() != LawQueryMode.FULLTEXT
+                    || sanitize(searchRequest.getLawName()).length() < NGRAM_TOKEN_SIZE) {
+                builder.and(law.getLawName().containsIgnoreCase(searchRequest.getLawName().trim()));
+            } else {
+                builder.and(matchAgainst(law.getLawName(), searchRequest.getLawName()).gt(0));
+            }
+        }
+
+        // 조문 내용 조건 (조 또는 항 본문이 검색어와 일치하는 법령)
+        if (StringUtils.hasText(searchRequest.getArticleKeyword())) {
+            String keyword = searchRequest.getArticleKeyword();
+            builder.and(law.getId().in(
+                            JPAExpressions.select(jo.getLawId())
+                                    .from(jo)
+                                    .where(matchAgainst(jo.getContent(), keyword).gt(0)))
+                    .or(law.getId().in(
+                            JPAExpressions.select(jo.getLawId())
+                                    .from(hang)
+                                    .join(hang.getJo(), jo)
+                                    .where(matchAgainst(hang.getContent(), keyword).gt(0)))));
         }
 
         // 소관부처 조건 (완전 일치)
@@ -82,6 +110,11 @@ public class LawRepositoryCustomImpl implements LawRepositoryCustom {
 
         Pageable pageable = PageRequest.of(searchRequest.getPageNumber(), searchRequest.getPageSize());
 
+        // 커서가 있으면 마지막으로 본 id 다음부터 (OFFSET 없이 인덱스로 바로 이동)
+        Long afterId = null;
+        if (StringUtils.hasText(searchRequest.getCursor())) {
+            afterId = Long.parseLong(CursorUtils.decode(searchRequest.getCursor(), 1)[0]);
+        }
 
         // DTO 프로젝션 조회
         JPAQuery<LawsDto> query = queryFactory
@@ -94,51 +127,61 @@ public class LawRepositoryCustomImpl implements LawRepositoryCustom {
                         law.getPromulgationNumber(),
                         law.getPromulgationDate(),
                         law.getEnforcementDate(),
-                        Expressions.nullExpression(String.class)
+                        law.getFirstJoContent().coalesce("")
                 ))
                 .from(law)
-                .where(builder)
-                .offset(pageable.getOffset())
+                .where(builder, afterId != null ? law.getId().gt(afterId) : null)
+                .orderBy(law.getId().asc())
                 .limit(pageable.getPageSize());
 
-        List<LawsDto> content = query.fetch();
-
-        if (content.isEmpty()) {
-            return new PageImpl<>(content, pageable, 0);
-        }
-
-        // 조회한 법령 ID 목록 추출
-        List<Long> lawIds = content.stream()
-                .map(LawsDto::getId)
-                .toList();
-
-        // 3. 법령별 첫 번째 조 내용 조회 - 반복문으로 각각 조회
-        Map<Long, String> firstJoContentMap = new HashMap<>();
-        for (Long lawId : lawIds) {
-            String firstJoContent = queryFactory
-                    .select(jo.getContent())
-                    .from(jo)
-                    .join(jo.getJang(), jang)
-                    .where(jang.getLaw().getId().eq(lawId))
-                    .orderBy(jang.getId().asc(), jo.getId().asc())
-                    .limit(1)
-                    .fetchOne();
-            firstJoContentMap.put(lawId, firstJoContent);
+        if (afterId == null) {
+            query.offset(pageable.getOffset());
         }
 
-        // 4. 조회 결과에 firstJoContent 세팅
-        content.forEach(dto -> {
-            String contentVal = firstJoContentMap.get(dto.getId());
-            dto.setFirstJoContent(contentVal != null ? contentVal : "");
-        });
+        List<LawsDto> content = query.fetch();
 
-        // 전체 개수 조회
-        Long total = queryFactory
+        // 전체 개수 조회 (같은 조건이면 캐시된 값 사용)
+        long total = searchCountCacheService.getCount("law", countKey(searchRequest), () -> queryFactory
                 .select(law.count())
                 .from(law)
                 .where(builder)
-                .fetchOne();
+                .fetchOne());
+
+        String nextCursor = content.size() == pageable.getPageSize()
+                ? CursorUtils.encode(content.get(content.size() - 1).getId())
+                : null;
+
+        return new CursorPage<>(content, pageable, total, nextCursor);
+    }
+
+    // ==================== Private Helper Methods ====================
+
+    /**
+     * MATCH(column) AGAINST(keyword IN BOOLEAN MODE)
+     * 검색어의 boolean 연산자 문자는 공백으로 바꿔 구문 오류를 막음
+     */
+    private NumberExpression<Double> matchAgainst(StringPath column, String keyword) {
+        return Expressions.numberTemplate(Double.class,
+                "function('" + MatchAgainstFunctionContributor.MATCH_AGAINST + "', {0}, {1})", column, sanitize(keyword));
+    }
+
+    private String sanitize(String keyword) {
+        return BOOLEAN_OPERATORS.matcher(keyword).replaceAll(" ").trim();
+    }
 
-        return new PageImpl<>(content, pageable, total != null ? total : 0);
+    /**
+     * 건수 캐시 키 (페이지/커서를 뺀 검색 조건)
+     */
+    private String countKey(LawSearchRequestDto searchRequest) {
+        return String.join("|",
+                SearchCountCacheService.normalizeKeyword(searchRequest.getLawName()),
+                String.valueOf(searchRequest.getQueryMode()),
+                SearchCountCacheService.normalizeKeyword(searchRequest.getArticleKeyword()),
+                String.valueOf(searchRequest.getMinistry()),
+                String.valueOf(searchRequest.getLawField()),
+                String.valueOf(searchRequest.getEnforcementDateStart()),
+                String.valueOf(searchRequest.getEnforcementDateEnd()),
+                String.valueOf(searchRequest.getPromulgationDateStart()),
+                String.valueOf(searchRequest.getPromulgationDateEnd()));
     }
 }
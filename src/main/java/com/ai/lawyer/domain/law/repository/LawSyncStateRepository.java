@@ -0,0 +1,29 @@
+package com.ai.lawyer.domain.law.repository;
+
+import com.ai.lawyer.domain.law.entity.LawSyncState;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.LocalDateTime;
+
+@Repository
+public interface LawSyncStateRepository extends JpaRepository<LawSyncState, String> {
+
+    /**
+     * 잠금이 없거나 만료된 경우에만 잠금 획득 (조건부 UPDATE 이므로 동시에 호출해도 한 인스턴스만 1을 받음)
+     */
+    @Modifying(clearAutomatically = true)
+    @Transactional
+    @Query("UPDATE LawSyncState s SET s.lockedUntil = :until "
+            + "WHERE s.name = :name AND (s.lockedUntil IS NULL OR s.lockedUntil < :now)")
+    int tryLock(@Param("name") String name, @Param("now") LocalDateTime now, @Param("until") LocalDateTime until);
+
+    @Modifying(clearAutomatically = true)
+    @Transactional
+    @Query("UPDATE LawSyncState s SET s.lockedUntil = NULL WHERE s.name = :name")
+    void unlock(@Param("name") String name);
+}
@@ -0,0 +1,132 @@
+package com.ai.lawyer.domain.law.repository;
+
+import com.ai.lawyer.domain.law.dto.LawArticleDto;
+import com.ai.lawyer.domain.law.dto.LawTreeDto;
+import lombok.RequiredArgsConstructor;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Repository;
+
+import java.sql.Date;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+
+/**
+ * 법령 트리(법령/장/조/항/호) 일괄 조회
+ * 장/조마다 하위 목록을 따로 조회하는 대신 계층마다 법령 id 로 한 번씩, 총 5번의 쿼리로 트리 전체를 읽음
+ * 결과는 엔티티가 아닌 평면 읽기 모델(LawTreeDto)로 반환
+ * 조문 단위 조회는 jo 의 (law_id, 조문번호) 인덱스로 필요한 조와 그 항/호만 읽음
+ */
+@Repository
+@RequiredArgsConstructor
+public class LawTreeRepository {
+
+    private static final String SELECT_LAW = "SELECT id, law_api_id, law_name, law_field, ministry, "
+            + "promulgation_number, promulgation_date, enforcement_date FROM law WHERE id = ? AND staging = FALSE";
+    private static final String SELECT_JANGS = "SELECT id, content FROM jang WHERE law_id = ? ORDER BY id";
+    private static final String SELECT_JOS = "SELECT jo.id, jo.content, jo.article_number, jo.article_branch, "
+            + "jo.jang_id AS parent_id FROM jo WHERE jo.law_id = ? ORDER BY jo.id";
+    private static final String SELECT_HANGS = "SELECT h.id, h.content, h.jo_id AS parent_id FROM hang h "
+            + "JOIN jo ON h.jo_id = jo.id WHERE jo.law_id = ? ORDER BY h.id";
+    private static final String SELECT_HOS = "SELECT ho.id, ho.content, ho.hang_id AS parent_id FROM ho "
+            + "JOIN hang h ON ho.hang_id = h.id JOIN jo ON h.jo_id = jo.id WHERE jo.law_id = ? ORDER BY ho.id";
+
+    // 조문 범위 조회 (jo(law_id, article_number, article_branch) 인덱스 사용)
+    private static final String ARTICLE_RANGE = "jo.law_id = ? AND jo.article_number BETWEEN ? AND ? "
+            + "AND (jo.article_number > ? OR jo.article_branch >= ?) AND (jo.article_number < ? OR jo.article_branch <= ?)";
+    private static final String SELECT_ARTICLES = "SELECT jo.id, jo.content, jo.article_number, jo.article_branch "
+            + "FROM jo WHERE " + ARTICLE_RANGE + " ORDER BY jo.article_number, jo.article_branch, jo.id";
+    private static final String SELECT_ARTICLE_HANGS = "SELECT h.id, h.content, h.jo_id AS parent_id FROM hang h "
+            + "JOIN jo ON h.jo_id = jo.id WHERE " + ARTICLE_RANGE + " ORDER BY h.id";
+    private static final String SELECT_ARTICLE_HOS = "SELECT ho.content, ho.hang_id AS parent_id FROM ho "
+            + "JOIN hang h ON ho.hang_id = h.id JOIN jo ON h.jo_id = jo.id WHERE " + ARTICLE_RANGE + " ORDER BY ho.id";
+
+    private final JdbcTemplate jdbcTemplate;
+
+    /**
+     * 법령과 모든 하위 행을 계층별 정렬 목록으로 조회 (엔티티/영속성 컨텍스트를 거치지 않음)
+     *
+     * @param lawId 법령 id
+     * @return 법령 읽기 모델 (없거나 수집 중이면 empty)
+     */
+    public Optional<LawTreeDto> findTree(Long lawId) {
+        Optional<LawTreeDto.LawTreeDtoBuilder> found = jdbcTemplate.query(SELECT_LAW, (rs, rowNum) -> {
+            Date promulgationDate = rs.getDate("promulgation_date");
+            Date enforcementDate = rs.getDate("enforcement_date");
+            return LawTreeDto.builder()
+                    .lawId(rs.getLong("id"))
+                    .lawApiId(rs.getString("law_api_id"))
+                    .lawName(rs.getString("law_name"))
+                    .lawField(rs.getString("law_field"))
+                    .ministry(rs.getString("ministry"))
+                    .promulgationNumber(rs.getString("promulgation_number"))
+                    .promulgationDate(promulgationDate != null ? promulgationDate.toLocalDate() : null)
+                    .enforcementDate(enforcementDate != null ? enforcementDate.toLocalDate() : null);
+        }, lawId).stream().findFirst();
+
+        return found.map(builder -> builder
+                .jangs(jdbcTemplate.query(SELECT_JANGS, (rs, rowNum) -> new LawTreeDto.Node(
+                        rs.getLong("id"), lawId, rs.getString("content"), null, null), lawId))
+                .jos(jdbcTemplate.query(SELECT_JOS, (rs, rowNum) -> new LawTreeDto.Node(
+                        rs.getLong("id"), rs.getLong("parent_id"), rs.getString("content"),
+                        rs.getObject("article_number", Integer.class),
+                        rs.getObject("article_branch", Integer.class)), lawId))
+                .hangs(jdbcTemplate.query(SELECT_HANGS, this::mapNode, lawId))
+                .hos(jdbcTemplate.query(SELECT_HOS, this::mapNode, lawId))
+                .build());
+    }
+
+    /**
+     * 조문번호 범위의 조와 그 항/호 조회 (양 끝 포함)
+     * 제12조의2 는 (12, 2) 로 비교하므로 12조 ~ 13조 범위에 포함됨
+     *
+     * @param lawId 법령 id
+     * @param fromNumber 시작 조문번호
+     * @param fromBranch 시작 조문가지번호
+     * @param toNumber 끝 조문번호
+     * @param toBranch 끝 조문가지번호
+     * @return 조문번호 순 조문 목록
+     */
+    public List<LawArticleDto> findArticles(Long lawId, int fromNumber, int fromBranch, int toNumber, int toBranch) {
+        Object[] range = {lawId, fromNumber, toNumber, fromNumber, fromBranch, toNumber, toBranch};
+
+        Map<Long, LawArticleDto> articles = new LinkedHashMap<>();
+        jdbcTemplate.query(SELECT_ARTICLES, rs -> {
+            LawArticleDto article = new LawArticleDto();
+            article.setLawId(lawId);
+            article.setContent(rs.getString("content"));
+            article.setArticleNumber(rs.getObject("article_number", Integer.class));
+            article.setArticleBranch(rs.getObject("article_branch", Integer.class));
+            articles.put(rs.getLong("id"), article);
+        }, range);
+
+        if (articles.isEmpty()) {
+            return List.of();
+        }
+
+        Map<Long, LawArticleDto.HangDto> hangs = new HashMap<>();
+        jdbcTemplate.query(SELECT_ARTICLE_HANGS, rs -> {
+            LawArticleDto.HangDto hang = new LawArticleDto.HangDto();
+            hang.setContent(rs.getString("content"));
+            articles.get(rs.getLong("parent_id")).getHangs().add(hang);
+            hangs.put(rs.getLong("id"), hang);
+        }, range);
+
+        jdbcTemplate.query(SELECT_ARTICLE_HOS, rs -> {
+            hangs.get(rs.getLong("parent_id")).getHos().add(rs.getString("content"));
+        }, range);
+
+        return new ArrayList<>(articles.values());
+    }
+
+    // ==================== Private Helper Methods ====================
+
+    private LawTreeDto.Node mapNode(ResultSet rs, int rowNum) throws SQLException {
+        return new LawTreeDto.Node(rs.getLong("id"), rs.getLong("parent_id"), rs.getString("content"), null, null);
+    }
+}
@@ -0,0 +1,147 @@
+package com.ai.lawyer.domain.law.service;
+
+import com.ai.lawyer.domain.law.dto.LawImportDto;
+import com.ai.lawyer.domain.law.dto.LawImportDto.HangImport;
+import com.ai.lawyer.domain.law.dto.LawImportDto.JangImport;
+import com.ai.lawyer.domain.law.dto.LawImportDto.JoImport;
+import com.fasterxml.jackson.databind.JsonNode;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Component;
+import org.springframework.util.StringUtils;
+
+import java.time.LocalDate;
+import java.time.format.DateTimeFormatter;
+import java.time.format.DateTimeParseException;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.function.Consumer;
+
+/**
+ * Open API 법령 상세 JSON(기본정보, 조문단위) -> LawImportDto 변환
+ * 응답 전체가 아닌 스트리밍 파서가 잘라낸 노드 단위로 호출됨
+ */
+@Slf4j
+@Component
+public class LawDetailParser {
+
+    private static final DateTimeFormatter DATE_FORMATTER = DateTimeFormatter.ofPattern("yyyyMMdd");
+
+    /**
+     * 법령 기본정보 파싱
+     *
+     * @param basic 법령 기본정보 JSON 노드
+     * @return 하위 트리가 비어 있는 LawImportDto
+     */
+    public LawImportDto parseBasic(JsonNode basic) {
+        LawImportDto law = LawImportDto.builder()
+                .lawName(basic.path("법령명_한글").asText())
+                .lawField(basic.path("법종구분").path("content").asText())
+                .ministry(basic.path("소관부처").path("content").asText())
+                .promulgationNumber(basic.path("공포번호").asText())
+                .build();
+
+        parseAndSetDate(basic.path("공포일자").asText(), law::setPromulgationDate);
+        parseAndSetDate(basic.path("시행일자").asText(), law::setEnforcementDate);
+        return law;
+    }
+
+    /**
+     * 조문단위 묶음을 장/조/항/호 트리로 변환
+     * 조문키가 0으로 끝나면 장, 아니면 현재 장에 속한 조
+     *
+     * @param articles 조문단위 JSON 노드 (응답 순서대로)
+     * @param continueOpenJang true 면 첫 장 제목 전에 나오는 조문은 이전 묶음의 마지막 장에 이어짐
+     * @return 장 목록
+     */
+    public List<JangImport> toJangs(List<JsonNode> articles, boolean continueOpenJang) {
+        List<JangImport> jangs = new ArrayList<>();
+        JangImport currentJang = null;
+
+        for (JsonNode article : articles) {
+            String key = article.path("조문키").asText();
+            String content = article.path("조문내용").asText();
+
+            if (key.endsWith("0")) {
+                currentJang = new JangImport(content);
+                jangs.add(currentJang);
+                continue;
+            }
+
+            // 장 없이 시작하는 조문은 내용 없는 장(또는 이전 묶음의 장)에 담음
+            if (currentJang == null) {
+                currentJang = continueOpenJang ? JangImport.continuation() : new JangImport(null);
+                jangs.add(currentJang);
+            }
+
+            JoImport jo = new JoImport(content);
+            jo.setArticleNumber(parseNumber(article.path("조문번호").asText()));
+            Integer branch = parseNumber(article.path("조문가지번호").asText());
+            jo.setArticleBranch(branch != null ? branch : 0);
+            addHangs(article.path("항"), jo);
+            currentJang.getJos().add(jo);
+        }
+        return jangs;
+    }
+
+    // ==================== Private Helper Methods ====================
+
+    /**
+     * 항(Hang) 파싱
+     * 항이 배열이면 항별로, 객체면 내용 없는 항 하나에 호를 담음
+     */
+    private void addHangs(JsonNode paragraphs, JoImport jo) {
+        if (paragraphs.isArray()) {
+            for (JsonNode paragraph : paragraphs) {
+                String hangContent = paragraph.path("항내용").isMissingNode()
+                        ? null
+                        : paragraph.path("항내용").asText();
+                HangImport hang = new HangImport(hangContent);
+                addHos(paragraph.path("호"), hang);
+                jo.getHangs().add(hang);
+            }
+        } else if (paragraphs.isObject()) {
+            HangImport hang = new HangImport(null);
+            addHos(paragraphs.path("호"), hang);
+            jo.getHangs().add(hang);
+        }
+    }
+
+    /**
+     * 호(Ho) 파싱
+     */
+    private void addHos(JsonNode itemsNode, HangImport hang) {
+        if (itemsNode.isArray()) {
+            for (JsonNode item : itemsNode) {
+                hang.getHos().add(item.path("호내용").asText());
+            }
+        }
+    }
+
+    private Integer parseNumber(String value) {
+        if (!StringUtils.hasText(value)) {
+            return null;
+        }
+        try {
+            return Integer.parseInt(value.trim());
+        } catch (NumberFormatException e) {
+            log.warn("조문번호 파싱 실패: {}", value);
+            return null;
+        }
+    }
+
+    /**
+     * 날짜 문자열을 파싱하여 LocalDate로 변환
+     *
+     * @param dateStr 날짜 문자열 (yyyyMMdd 형식)
+     * @param setter 날짜 설정 함수
+     */
+    private void parseAndSetDate(String dateStr, Consumer<LocalDate> setter) {
+        if (StringUtils.hasText(dateStr)) {
+            try {
+                setter.accept(LocalDate.parse(dateStr, DATE_FORMATTER));
+            } catch (DateTimeParseException e) {
+                log.warn("날짜 파싱 실패: {}", dateStr);
+            }
+        }
+    }
+}
@@ -0,0 +1,169 @@
+package com.ai.lawyer.domain.law.service;
+
+import com.ai.lawyer.domain.law.dto.LawTreeDto;
+import com.ai.lawyer.domain.law.entity.LawDocument;
+import com.ai.lawyer.domain.law.repository.LawDocumentRepository;
+import com.ai.lawyer.domain.law.repository.LawTreeRepository;
+import com.ai.lawyer.global.config.LawDocumentProperties;
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.google.common.cache.Cache;
+import com.google.common.cache.CacheBuilder;
+import jakarta.persistence.EntityNotFoundException;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.data.redis.connection.Message;
+import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.data.redis.listener.ChannelTopic;
+import org.springframework.data.redis.listener.RedisMessageListenerContainer;
+import org.springframework.stereotype.Service;
+
+import java.io.IOException;
+import java.io.StringWriter;
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.time.LocalDateTime;
+import java.util.HexFormat;
+
+/**
+ * 법령 상세 문서(전체 트리 JSON) 관리
+ * 조회 순서: 인스턴스 로컬 캐시 -> law_document 테이블 -> (없으면) 트리 조회 후 생성
+ * 법령이 새로 저장되거나 바뀌면 rebuild 로 다시 만듦
+ * 문서가 바뀌면 Redis 채널로 법령 id 를 알려 다른 인스턴스의 로컬 캐시도 비움
+ * (Redis 장애로 알림이 빠지면 로컬 캐시 TTL 까지 이전 문서가 보일 수 있음)
+ */
+@Slf4j
+@Service
+public class LawDocumentService {
+
+    private static final String INVALIDATION_CHANNEL = "law:document:invalidate";
+
+    private final LawDocumentRepository lawDocumentRepository;
+    private final LawTreeRepository lawTreeRepository;
+    private final ObjectMapper objectMapper;
+    private final LawDocumentWriter lawDocumentWriter;
+    private final RedisTemplate<String, Object> redisTemplate;
+    private final Cache<Long, LawDocument> localCache;
+
+    public LawDocumentService(LawDocumentRepository lawDocumentRepository,
+                              LawTreeRepository lawTreeRepository,
+                              ObjectMapper objectMapper,
+                              LawDocumentWriter lawDocumentWriter,
+                              LawDocumentProperties properties,
+                              RedisTemplate<String, Object> redisTemplate,
+                              RedisMessageListenerContainer listenerContainer) {
+        this.lawDocumentRepository = lawDocumentRepository;
+        this.lawTreeRepository = lawTreeRepository;
+        this.objectMapper = objectMapper;
+        this.lawDocumentWriter = lawDocumentWriter;
+        this.redisTemplate = redisTemplate;
+        this.localCache = CacheBuilder.newBuilder()
+                .maximumSize(properties.getLocalCacheSize())
+                .expireAfterWrite(properties.getLocalCacheTtl())
+                .build();
+        listenerContainer.addMessageListener(this::onInvalidation, new ChannelTopic(INVALIDATION_CHANNEL));
+    }
+
+    /**
+     * 법령 상세 문서 조회
+     *
+     * @param lawId 법령 id
+     * @return 법령 문서 (JSON + ETag)
+     * @throws EntityNotFoundException 해당 ID의 법령이 존재하지 않을 때 예외 발생
+     */
+    public LawDocument getDocument(Long lawId) {
+        LawDocument cached = localCache.getIfPresent(lawId);
+        if (cached != null) {
+            return cached;
+        }
+
+        LawDocument document = lawDocumentRepository.findById(lawId)
+                .orElseGet(() -> rebuild(lawId));
+        localCache.put(lawId, document);
+        return document;
+    }
+
+    /**
+     * 법령 트리를 다시 읽어 문서를 만들고 저장
+     *
+     * @param lawId 법령 id
+     * @return 새로 만든 법령 문서
+     * @throws EntityNotFoundException 해당 ID의 법령이 존재하지 않을 때 예외 발생
+     */
+    public LawDocument rebuild(Long lawId) {
+        LawTreeDto tree = lawTreeRepository.findTree(lawId)
+                .orElseThrow(() -> new EntityNotFoundException("법령이 없습니다. 법령 id = " + lawId));
+
+        LawDocument document = new LawDocument();
+        document.setLawId(lawId);
+        document.setDocument(serialize(tree));
+        document.setEtag(sha256(document.getDocument()));
+        document.setUpdatedAt(LocalDateTime.now());
+
+        try {
+            lawDocumentRepository.save(document);
+        } catch (DataIntegrityViolationException e) {
+            // 같은 법령을 동시에 만든 경우 -> 내용이 같으므로 먼저 저장된 문서를 사용
+            log.debug("법령 문서 동시 생성. 법령 id: {}", lawId);
+        }
+        invalidate(lawId);
+
+        log.info("법령 문서 생성 완료. 법령 id: {}, 크기: {} bytes", lawId, document.getDocument().length());
+        return document;
+    }
+
+    /**
+     * 법령 문서 삭제 (다음 조회 시 다시 생성)
+     *
+     * @param lawId 법령 id
+     */
+    public void evict(Long lawId) {
+        lawDocumentRepository.deleteById(lawId);
+        invalidate(lawId);
+    }
+
+    // ==================== Private Helper Methods ====================
+
+    /**
+     * 이 인스턴스와 다른 인스턴스의 로컬 캐시에서 문서 제거
+     */
+    private void invalidate(Long lawId) {
+        localCache.invalidate(lawId);
+        try {
+            redisTemplate.convertAndSend(INVALIDATION_CHANNEL, String.valueOf(lawId));
+        } catch (Exception e) {
+            log.warn("법령 문서 캐시 무효화 알림 실패. 법령 id: {}", lawId, e);
+        }
+    }
+
+    /**
+     * 다른 인스턴스(자신 포함)가 보낸 무효화 알림
+     */
+    private void onInvalidation(Message message, byte[] pattern) {
+        try {
+            localCache.invalidate(Long.valueOf(new String(message.getBody(), StandardCharsets.UTF_8)));
+        } catch (NumberFormatException e) {
+            log.warn("잘못된 법령 문서 무효화 알림: {}", message);
+        }
+    }
+
+    private String serialize(LawTreeDto tree) {
+        StringWriter writer = new StringWriter();
+        try (JsonGenerator generator = objectMapper.getFactory().createGenerator(writer)) {
+            lawDocumentWriter.write(tree, generator);
+        } catch (IOException e) {
+            throw new IllegalStateException("법령 문서 직렬화 실패. 법령 id: " + tree.getLawId(), e);
+        }
+        return writer.toString();
+    }
+
+    private String sha256(String value) {
+        try {
+            MessageDigest digest = MessageDigest.getInstance("SHA-256");
+            return HexFormat.of().formatHex(digest.digest(value.getBytes(StandardCharsets.UTF_8)));
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException(e);
+        }
+    }
+}
@@ -0,0 +1,95 @@
+package com.ai.lawyer.domain.law.service;
+
+import com.ai.lawyer.domain.law.dto.LawTreeDto;
+import com.ai.lawyer.domain.law.dto.LawTreeDto.Node;
+import com.fasterxml.jackson.core.JsonGenerator;
+import org.springframework.stereotype.Component;
+
+import java.io.IOException;
+import java.time.LocalDate;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * 법령 읽기 모델을 JsonGenerator 로 바로 써 내려가는 직렬화기
+ * 중간 객체 그래프 없이 텍스트 크기에 비례하는 시간으로 법령 상세 JSON 을 만듦
+ * 출력 형식은 기존 Law 엔티티 직렬화 결과(jangList/joList/hangList/hoList)와 같음
+ */
+@Component
+public class LawDocumentWriter {
+
+    /**
+     * 법령 상세 JSON 쓰기
+     *
+     * @param tree 법령 읽기 모델
+     * @param generator 출력 대상
+     */
+    public void write(LawTreeDto tree, JsonGenerator generator) throws IOException {
+        Map<Long, List<Node>> josByJang = LawTreeDto.groupByParent(tree.getJos());
+        Map<Long, List<Node>> hangsByJo = LawTreeDto.groupByParent(tree.getHangs());
+        Map<Long, List<Node>> hosByHang = LawTreeDto.groupByParent(tree.getHos());
+
+        generator.writeStartObject();
+        generator.writeStringField("lawApiId", tree.getLawApiId());
+        generator.writeStringField("lawName", tree.getLawName());
+        generator.writeStringField("lawField", tree.getLawField());
+        generator.writeStringField("ministry", tree.getMinistry());
+        generator.writeStringField("promulgationNumber", tree.getPromulgationNumber());
+        writeDate(generator, "promulgationDate", tree.getPromulgationDate());
+        writeDate(generator, "enforcementDate", tree.getEnforcementDate());
+
+        generator.writeArrayFieldStart("jangList");
+        for (Node jang : tree.getJangs()) {
+            generator.writeStartObject();
+            generator.writeStringField("content", jang.getContent());
+
+            generator.writeArrayFieldStart("joList");
+            for (Node jo : josByJang.getOrDefault(jang.getId(), List.of())) {
+                generator.writeStartObject();
+                generator.writeStringField("content", jo.getContent());
+                writeInteger(generator, "articleNumber", jo.getArticleNumber());
+                writeInteger(generator, "articleBranch", jo.getArticleBranch());
+
+                generator.writeArrayFieldStart("hangList");
+                for (Node hang : hangsByJo.getOrDefault(jo.getId(), List.of())) {
+                    generator.writeStartObject();
+                    generator.writeStringField("content", hang.getContent());
+
+                    generator.writeArrayFieldStart("hoList");
+                    for (Node ho : hosByHang.getOrDefault(hang.getId(), List.of())) {
+                        generator.writeStartObject();
+                        generator.writeStringField("content", ho.getContent());
+                        generator.writeEndObject();
+                    }
+                    generator.writeEndArray();
+                    generator.writeEndObject();
+                }
+                generator.writeEndArray();
+                generator.writeEndObject();
+            }
+            generator.writeEndArray();
+            generator.writeEndObject();
+        }
+        generator.writeEndArray();
+        generator.writeEndObject();
+        generator.flush();
+    }
+
+    // ==================== Private Helper Methods ====================
+
+    private void writeDate(JsonGenerator generator, String field, LocalDate date) throws IOException {
+        if (date != null) {
+            generator.writeStringField(field, date.toString()); // yyyy-MM-dd
+        } else {
+            generator.writeNullField(field);
+        }
+    }
+
+    private void writeInteger(JsonGenerator generator, String field, Integer value) throws IOException {
+        if (value != null) {
+            generator.writeNumberField(field, value);
+        } else {
+            generator.writeNullField(field);
+        }
+    }
+}
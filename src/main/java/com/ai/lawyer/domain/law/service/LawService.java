@@ -1,30 +1,33 @@
 package com.ai.lawyer.domain.law.service;
 
 
+import com.ai.lawyer.domain.law.dto.LawArticleDto;
+import com.ai.lawyer.domain.law.dto.LawImportResultDto;
 import com.ai.lawyer.domain.law.dto.LawSearchRequestDto;
 import com.ai.lawyer.domain.law.dto.LawsDto;
-import com.ai.lawyer.domain.law.entity.*;
-import com.ai.lawyer.domain.law.repository.*;
+import com.ai.lawyer.domain.law.entity.Law;
+import com.ai.lawyer.domain.law.repository.LawRepository;
+import com.ai.lawyer.domain.law.repository.LawTreeRepository;
+import com.ai.lawyer.infrastructure.lawapi.LawApiClient;
 import com.fasterxml.jackson.databind.JsonNode;
 import com.fasterxml.jackson.databind.ObjectMapper;
-import jakarta.persistence.EntityNotFoundException;
 import lombok.AllArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.data.domain.Page;
 import org.springframework.stereotype.Service;
-import org.springframework.transaction.annotation.Transactional;
 import org.springframework.util.StringUtils;
-import org.springframework.web.client.RestTemplate;
-import org.springframework.web.reactive.function.client.WebClient;
-import org.springframework.web.util.UriComponentsBuilder;
+import reactor.core.publisher.Flux;
 
-import java.io.IOException;
 import java.time.LocalDate;
 import java.time.format.DateTimeFormatter;
 import java.time.format.DateTimeParseException;
 import java.util.ArrayList;
+import java.util.LinkedHashMap;
 import java.util.List;
+import java.util.Map;
+import java.util.NoSuchElementException;
 import java.util.stream.Collectors;
+import java.util.stream.Stream;
 import java.util.stream.StreamSupport;
 
 @Service
@@ -33,17 +36,14 @@ import java.util.stream.StreamSupport;
 public class LawService {
 
     private final LawRepository lawRepository;
-    private final JangRepository jangRepository;
-    private final JoRepository joRepository;
-    private final HangRepository hangRepository;
-    private final HoRepository hoRepository;
+    private final LawTreeRepository lawTreeRepository;
+    private final LawStreamImporter lawStreamImporter;
+    private final LawApiClient lawApiClient;
     private final ObjectMapper objectMapper = new ObjectMapper();
-    private final WebClient webClient = WebClient.builder().build();
 
     // 상수 정의
-    private static final String BASE_URL = "http://www.law.go.kr/DRF";
-    private static final String OC = "noheechul";
     private static final int DEFAULT_PAGE_SIZE = 100;
+    private static final int MAX_ARTICLE_RANGE = 50; // 범위 조회 시 최대 조문번호 개수
     private static final DateTimeFormatter DATE_FORMATTER = DateTimeFormatter.ofPattern("yyyyMMdd");
 
     /**
@@ -57,55 +57,79 @@ public class LawService {
     }
 
     /**
-     * 법령 ID로 법령과 모든 하위 엔티티를 조회
+     * 조문 하나(항/호 포함) 조회
      *
-     * @param lawId 법령 ID
-     * @return Law 엔티티 (Jang, Jo, Hang, Ho 모두 포함)
-     * @throws EntityNotFoundException 해당 ID의 법령이 존재하지 않을 때 예외 발생
+     * @param lawId 법령 id
+     * @param articleNumber 조문번호
+     * @param articleBranch 조문가지번호 (제12조의2 -> 2, 없으면 0)
+     * @return 조문
+     * @throws NoSuchElementException 해당 조문이 없을 때 예외 발생
      */
-    public Law getLawWithAllChildren(Long lawId) {
-        Law law = lawRepository.findWithJangById(lawId)
-                .orElseThrow(() -> new EntityNotFoundException("법령이 없습니다. 법령 id = " + lawId));
-
-        List<Jang> jangs = jangRepository.findByLawId(lawId);
-        law.setJangList(jangs);
-
-        loadChildEntities(jangs);
+    public LawArticleDto getArticle(Long lawId, int articleNumber, int articleBranch) {
+        return lawTreeRepository.findArticles(lawId, articleNumber, articleBranch, articleNumber, articleBranch)
+                .stream()
+                .findFirst()
+                .orElseThrow(() -> new NoSuchElementException(
+                        "조문이 없습니다. 법령 id = " + lawId + ", 조문 = " + articleNumber + "-" + articleBranch));
+    }
 
-        log.info("법령 상세 정보 조회 완료. 법령 ID: {}", lawId);
-        return law;
+    /**
+     * 조문번호 범위 조회 (양 끝 포함, 가지조문 포함)
+     *
+     * @param lawId 법령 id
+     * @param fromNumber 시작 조문번호
+     * @param toNumber 끝 조문번호
+     * @return 조문번호 순 조문 목록
+     * @throws IllegalArgumentException 범위가 잘못되었거나 너무 클 때 예외 발생
+     */
+    public List<LawArticleDto> getArticles(Long lawId, int fromNumber, int toNumber) {
+        if (fromNumber > toNumber) {
+            throw new IllegalArgumentException("시작 조문번호가 끝 조문번호보다 큽니다.");
+        }
+        if (toNumber - fromNumber + 1 > MAX_ARTICLE_RANGE) {
+            throw new IllegalArgumentException("한 번에 조회할 수 있는 조문은 최대 " + MAX_ARTICLE_RANGE + "개입니다.");
+        }
+        return lawTreeRepository.findArticles(lawId, fromNumber, 0, toNumber, Integer.MAX_VALUE);
     }
 
     /**
      * Open API를 통해 법령 데이터를 검색하고 데이터베이스에 저장
+     * 상세 조회는 제한된 동시성/초당 요청 수로 병렬 진행하고, 응답은 스트리밍으로 파싱하며
+     * 조문 묶음 단위 배치 insert 로 저장 -> 한 법령이 실패해도 나머지는 저장됨
+     * 이미 같은 법령ID + 공포번호 + 시행일자로 저장된 법령은 상세 조회 없이 건너뛰고,
+     * 조회한 법령도 내용 해시가 같으면 트리를 쓰지 않고 기존 법령을 유지함
      *
      * @param query 검색 키워드
+     * @return 새로 저장되거나 내용이 바뀐 Law 엔티티 id 리스트
      * @throws RuntimeException API 호출 또는 저장 중 오류 발생 시 예외 발생
      */
-    @Transactional
-    public void saveLaw(String query) {
+    public List<Long> saveLaw(String query) {
         try {
             log.info("법령 검색 및 저장 시작. 키워드: {}", query);
 
-            String lawJson = getLawSearchResponse(query);
-            List<String> lawIdList = extractLawIds(lawJson);
+            String lawJson = lawApiClient.searchLaws(query, 1, DEFAULT_PAGE_SIZE).block();
+            List<LawSearchItem> searchItems = extractSearchItems(lawJson);
 
-            if (lawIdList.isEmpty()) {
+            if (searchItems.isEmpty()) {
                 log.info("검색 결과가 없습니다. 키워드: {}", query);
-                return;
+                return List.of();
             }
 
-            for (String lawId : lawIdList) {
-                try {
-                    String lawDetailJson = getLawDetailResponse(lawId);
-                    saveLawToDatabase(lawDetailJson);
-                } catch (Exception e) {
-                    log.error("법령 저장 실패. 법령 ID: {}", lawId, e);
-                    // 개별 실패는 무시하고 계속 진행
-                }
-            }
+            List<String> lawIdList = filterOutdated(searchItems);
 
-            log.info("법령 저장 완료. 키워드: {}, 처리된 법령 수: {}", query, lawIdList.size());
+            List<LawImportResultDto> results = Flux.fromIterable(lawIdList)
+                    .flatMap(lawStreamImporter::importLaw, lawApiClient.maxConcurrency())
+                    .collectList()
+                    .block();
+
+            List<Long> savedIds = results.stream()
+                    .filter(LawImportResultDto::isChanged)
+                    .map(LawImportResultDto::getLawId)
+                    .toList();
+
+            log.info("법령 저장 완료. 키워드: {}, 검색된 법령 수: {}, 상세 조회한 법령 수: {}, 저장(변경)된 법령 수: {}",
+                    query, searchItems.size(), lawIdList.size(), savedIds.size());
+            return savedIds;
 
         } catch (Exception e) {
             log.error("법령 검색 및 저장 실패. 키워드: {}", query, e);
@@ -116,279 +140,79 @@ public class LawService {
     // ==================== Private Helper Methods ====================
 
     /**
-     * 하위 엔티티들을 재귀적으로 로드
-     *
-     * @param jangs 장 엔티티 리스트
-     */
-    private void loadChildEntities(List<Jang> jangs) {
-        for (Jang jang : jangs) {
-            List<Jo> jos = joRepository.findByJangId(jang.getId());
-            jang.setJoList(jos);
-
-            for (Jo jo : jos) {
-                List<Hang> hangs = hangRepository.findByJoId(jo.getId());
-                jo.setHangList(hangs);
-                // Ho는 lazy loading으로 처리되거나 필요시 추가 로드
-            }
-        }
-    }
-
-    /**
-     * Open API에서 법령 검색 결과 조회
-     *
-     * @param query 검색 키워드
-     * @return API 응답 JSON 문자열
-     */
-    private String getLawSearchResponse(String query) {
-        String url = UriComponentsBuilder.fromHttpUrl(BASE_URL + "/lawSearch.do")
-                .queryParam("OC", OC)
-                .queryParam("target", "law")
-                .queryParam("type", "JSON")
-                .queryParam("query", query)
-                .queryParam("page", 1)
-                .queryParam("display", DEFAULT_PAGE_SIZE)
-                .build()
-                .toUriString();
-
-        return webClient.get()
-                .uri(url)
-                .retrieve()
-                .bodyToMono(String.class)
-                .block();
-    }
-
-    /**
-     * Open API에서 법령 상세 정보 조회
-     *
-     * @param lawId 법령 ID
-     * @return API 응답 JSON 문자열
-     */
-    private String getLawDetailResponse(String lawId) {
-        String url = UriComponentsBuilder.fromHttpUrl(BASE_URL + "/lawService.do")
-                .queryParam("OC", OC)
-                .queryParam("target", "law")
-                .queryParam("ID", lawId)
-                .queryParam("type", "JSON")
-                .build()
-                .toUriString();
-
-        return webClient.get()
-                .uri(url)
-                .retrieve()
-                .bodyToMono(String.class)
-                .block();
-    }
-
-    /**
-     * 법령 검색 결과 JSON에서 법령 ID 리스트 추출
+     * 법령 검색 결과 JSON에서 법령ID, 공포번호, 시행일자 추출
      *
      * @param json API 응답 JSON 문자열
-     * @return 법령 ID 리스트
+     * @return 검색 결과 항목 리스트 (같은 법령ID 는 한 번만)
      * @throws Exception JSON 파싱 오류 시 예외 발생
      */
-    private List<String> extractLawIds(String json) throws Exception {
+    private List<LawSearchItem> extractSearchItems(String json) throws Exception {
         JsonNode root = objectMapper.readTree(json);
         JsonNode lawNode = root.path("LawSearch").path("law");
 
+        Stream<JsonNode> items;
         if (lawNode.isArray()) {
-            return StreamSupport.stream(lawNode.spliterator(), false)
-                    .map(item -> item.path("법령ID").asText(null))
-                    .filter(StringUtils::hasText)
-                    .collect(Collectors.toList());
+            items = StreamSupport.stream(lawNode.spliterator(), false);
         } else if (lawNode.isObject()) {
-            String lawId = lawNode.path("법령ID").asText(null);
-            return StringUtils.hasText(lawId) ? List.of(lawId) : List.of();
-        }
-
-        return new ArrayList<>();
-    }
-
-    /**
-     * 법령 상세 정보 JSON을 파싱하여 데이터베이스에 저장
-     *
-     * @param json API 응답 JSON 문자열
-     * @throws IOException JSON 파싱 오류 시 예외 발생
-     */
-    private void saveLawToDatabase(String json) throws IOException {
-        JsonNode root = objectMapper.readTree(json);
-        JsonNode basic = root.path("법령").path("기본정보");
-
-        // 1. Law 엔티티 저장
-        Law law = createAndSaveLaw(basic);
-
-        // 2. 조문 단위 처리
-        JsonNode articles = root.path("법령").path("조문").path("조문단위");
-        if (articles.isArray()) {
-            processArticles(articles, law);
-        }
-    }
-
-    /**
-     * Law 엔티티 생성 및 저장
-     *
-     * @param basic 법령 기본정보 JSON 노드
-     * @return 저장된 Law 엔티티
-     */
-    private Law createAndSaveLaw(JsonNode basic) {
-        Law law = new Law();
-        law.setLawName(basic.path("법령명_한글").asText());
-        law.setLawField(basic.path("법종구분").path("content").asText());
-        law.setMinistry(basic.path("소관부처").path("content").asText());
-        law.setPromulgationNumber(basic.path("공포번호").asText());
-
-        // 날짜 파싱
-        parseAndSetDate(basic.path("공포일자").asText(), law::setPromulgationDate);
-        parseAndSetDate(basic.path("시행일자").asText(), law::setEnforcementDate);
-
-        return lawRepository.save(law);
-    }
-
-    /**
-     * 날짜 문자열을 파싱하여 LocalDate로 변환
-     *
-     * @param dateStr 날짜 문자열 (yyyyMMdd 형식)
-     * @param setter 날짜 설정 함수
-     */
-    private void parseAndSetDate(String dateStr, java.util.function.Consumer<LocalDate> setter) {
-        if (StringUtils.hasText(dateStr)) {
-            try {
-                setter.accept(LocalDate.parse(dateStr, DATE_FORMATTER));
-            } catch (DateTimeParseException e) {
-                log.warn("날짜 파싱 실패: {}", dateStr);
-            }
+            items = Stream.of(lawNode);
+        } else {
+            return new ArrayList<>();
         }
-    }
 
-    /**
-     * 조문 단위 배열 처리
-     *
-     * @param articles 조문 단위 JSON 배열
-     * @param law 상위 Law 엔티티
-     */
-    private void processArticles(JsonNode articles, Law law) {
-        Jang currentJang = createEmptyJang(law);
-
-        for (JsonNode article : articles) {
-            String key = article.path("조문키").asText();
-            String content = article.path("조문내용").asText();
-
-            if (key.endsWith("0")) {
-                // 장(Jang) 처리
-                currentJang = createAndSaveJang(content, law);
-            } else {
-                // 조(Jo) 처리
-                if (currentJang.getContent() == null) {
-                    currentJang = jangRepository.save(currentJang);
-                }
-                Jo jo = createAndSaveJo(content, currentJang);
-                processHangEntities(article.path("항"), jo);
-            }
-        }
+        return items
+                .filter(item -> StringUtils.hasText(item.path("법령ID").asText(null)))
+                .map(item -> new LawSearchItem(
+                        item.path("법령ID").asText(),
+                        item.path("공포번호").asText(null),
+                        parseDate(item.path("시행일자").asText(null))))
+                .collect(Collectors.toMap(LawSearchItem::lawApiId, item -> item, (first, second) -> first,
+                        LinkedHashMap::new))
+                .values()
+                .stream()
+                .toList();
     }
 
     /**
-     * 빈 Jang 엔티티 생성
+     * 이미 같은 공포번호/시행일자로 저장된 법령을 제외한 법령ID 리스트
      *
-     * @param law 상위 Law 엔티티
-     * @return 생성된 Jang 엔티티
+     * @param searchItems 검색 결과 항목
+     * @return 상세 조회가 필요한 법령ID 리스트
      */
-    private Jang createEmptyJang(Law law) {
-        Jang jang = new Jang();
-        jang.setContent(null);
-        jang.setLaw(law);
-        return jang;
-    }
+    private List<String> filterOutdated(List<LawSearchItem> searchItems) {
+        Map<String, Law> stored = lawRepository.findByLawApiIdIn(
+                        searchItems.stream().map(LawSearchItem::lawApiId).toList())
+                .stream()
+                .collect(Collectors.toMap(Law::getLawApiId, law -> law));
 
-    /**
-     * Jang 엔티티 생성 및 저장
-     *
-     * @param content 장 내용
-     * @param law 상위 Law 엔티티
-     * @return 저장된 Jang 엔티티
-     */
-    private Jang createAndSaveJang(String content, Law law) {
-        Jang jang = new Jang();
-        jang.setContent(content);
-        jang.setLaw(law);
-        return jangRepository.save(jang);
+        return searchItems.stream()
+                .filter(item -> !item.isSameVersion(stored.get(item.lawApiId())))
+                .map(LawSearchItem::lawApiId)
+                .toList();
     }
 
-    /**
-     * Jo 엔티티 생성 및 저장
-     *
-     * @param content 조 내용
-     * @param jang 상위 Jang 엔티티
-     * @return 저장된 Jo 엔티티
-     */
-    private Jo createAndSaveJo(String content, Jang jang) {
-        Jo jo = new Jo();
-        jo.setContent(content);
-        jo.setJang(jang);
-        return joRepository.save(jo);
-    }
-
-    /**
-     * 항(Hang) 엔티티들 처리
-     *
-     * @param paragraphs 항 JSON 노드
-     * @param jo 상위 Jo 엔티티
-     */
-    private void processHangEntities(JsonNode paragraphs, Jo jo) {
-        if (paragraphs.isMissingNode()) {
-            return;
+    private LocalDate parseDate(String dateStr) {
+        if (!StringUtils.hasText(dateStr)) {
+            return null;
         }
-
-        if (paragraphs.isArray()) {
-            for (JsonNode paragraph : paragraphs) {
-                Hang hang = createAndSaveHang(paragraph, jo);
-                processHoEntities(paragraph.path("호"), hang);
-            }
-        } else if (paragraphs.isObject()) {
-            Hang hang = createAndSaveHang(null, jo);
-            processHoEntities(paragraphs.path("호"), hang);
+        try {
+            return LocalDate.parse(dateStr, DATE_FORMATTER);
+        } catch (DateTimeParseException e) {
+            log.warn("날짜 파싱 실패: {}", dateStr);
+            return null;
         }
     }
 
     /**
-     * Hang 엔티티 생성 및 저장
-     *
-     * @param paragraph 항 JSON 노드 (null 가능)
-     * @param jo 상위 Jo 엔티티
-     * @return 저장된 Hang 엔티티
+     * 법령 검색 결과 한 건
      */
-    private Hang createAndSaveHang(JsonNode paragraph, Jo jo) {
-        Hang hang = new Hang();
+    private record LawSearchItem(String lawApiId, String promulgationNumber, LocalDate enforcementDate) {
 
-        if (paragraph != null) {
-            String hangContent = paragraph.path("항내용").isMissingNode()
-                    ? null
-                    : paragraph.path("항내용").asText();
-            hang.setContent(hangContent);
-        } else {
-            hang.setContent(null);
+        boolean isSameVersion(Law law) {
+            return law != null
+                    && promulgationNumber != null
+                    && enforcementDate != null
+                    && promulgationNumber.equals(law.getPromulgationNumber())
+                    && enforcementDate.equals(law.getEnforcementDate());
         }
-
-        hang.setJo(jo);
-        return hangRepository.save(hang);
     }
-
-    /**
-     * 호(Ho) 엔티티들 처리
-     *
-     * @param itemsNode 호 JSON 노드
-     * @param hang 상위 Hang 엔티티
-     */
-    private void processHoEntities(JsonNode itemsNode, Hang hang) {
-        if (itemsNode.isArray()) {
-            for (JsonNode item : itemsNode) {
-                Ho ho = new Ho();
-                ho.setContent(item.path("호내용").asText());
-                ho.setHang(hang);
-                hoRepository.save(ho);
-            }
-        }
-    }
-
-
 }
-
@@ -0,0 +1,256 @@
+package com.ai.lawyer.domain.law.service;
+
+import com.ai.lawyer.domain.law.dto.LawImportDto;
+import com.ai.lawyer.domain.law.dto.LawImportResultDto;
+import com.ai.lawyer.domain.law.entity.LawImportLock;
+import com.ai.lawyer.domain.law.repository.LawBulkRepository;
+import com.ai.lawyer.domain.law.repository.LawImportLockRepository;
+import com.ai.lawyer.infrastructure.lawapi.JsonObjectStreamSplitter;
+import com.ai.lawyer.infrastructure.lawapi.JsonObjectStreamSplitter.Match;
+import com.ai.lawyer.infrastructure.lawapi.LawApiClient;
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.core.io.buffer.DataBufferUtils;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.stereotype.Component;
+import reactor.core.publisher.Mono;
+import reactor.core.scheduler.Schedulers;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.HexFormat;
+import java.util.List;
+import java.util.Optional;
+import java.util.Set;
+import java.util.function.Consumer;
+
+/**
+ * 법령 상세 응답을 스트리밍으로 파싱하며 조문 묶음 단위로 저장
+ * 응답 전체(String, JsonNode 트리, LawImportDto 트리)를 메모리에 올리지 않으므로
+ * 조문 수천 개짜리 법령도 조문 묶음 하나 크기의 메모리로 저장됨
+ * 응답은 임시 파일로 받아 먼저 내용 해시만 계산하고, 저장된 해시와 다를 때만 다시 읽으며 트리를 씀
+ * 같은 법령ID 는 law_import_lock 으로 한 요청만 수집함 (인스턴스 간 포함)
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class LawStreamImporter {
+
+    private static final List<String> BASIC_PATH = List.of("법령", "기본정보");
+    private static final List<String> ARTICLE_PATH = List.of("법령", "조문", "조문단위");
+    private static final int ARTICLE_BATCH_SIZE = 50; // 한 번에 저장할 조문단위 수
+    private static final int READ_CHUNK_SIZE = 64 * 1024; // 임시 파일에서 한 번에 읽어 파서에 넣는 크기
+    private static final Duration IMPORT_LOCK_TIMEOUT = Duration.ofMinutes(30); // 비정상 종료 시 잠금이 풀리는 시간
+
+    private final LawApiClient lawApiClient;
+    private final LawDetailParser lawDetailParser;
+    private final LawBulkRepository lawBulkRepository;
+    private final LawImportLockRepository lawImportLockRepository;
+    private final LawDocumentService lawDocumentService;
+    private final ObjectMapper objectMapper = new ObjectMapper();
+
+    /**
+     * 법령 하나를 조회하면서 저장
+     * 1. 응답을 임시 파일로 받고 기본정보 + 조문 원문의 해시 계산 (DB 쓰기 없음)
+     * 2. 같은 법령ID 에 같은 해시가 저장되어 있으면 그대로 끝냄 (UNCHANGED)
+     * 3. 아니면 파일을 다시 읽으며 수집 중(staging) 법령으로 묶음마다 저장하고, 끝나면 기존 법령과 합침
+     * 묶음마다 트랜잭션이 나뉘므로 도중에 실패하면 이미 저장한 법령 트리를 삭제해 법령 단위로 되돌림
+     *
+     * @param lawApiId Open API 법령ID
+     * @return 수집 결과 (실패 시 empty, 다른 요청이 수집 중이면 SKIPPED)
+     */
+    public Mono<LawImportResultDto> importLaw(String lawApiId) {
+        return Mono.fromCallable(() -> tryLock(lawApiId))
+                .subscribeOn(Schedulers.boundedElastic())
+                .flatMap(locked -> {
+                    if (!locked) {
+                        log.info("다른 요청에서 수집 중인 법령이라 건너뜀. 법령 ID: {}", lawApiId);
+                        return Mono.just(new LawImportResultDto(null, LawImportResultDto.Status.SKIPPED));
+                    }
+                    return importLocked(lawApiId)
+                            .doFinally(signal -> unlock(lawApiId));
+                });
+    }
+
+    // ==================== Private Helper Methods ====================
+
+    private Mono<LawImportResultDto> importLocked(String lawApiId) {
+        ImportState state = new ImportState();
+
+        return Mono.using(
+                        () -> Files.createTempFile("law-" + lawApiId + "-", ".json"),
+                        file -> DataBufferUtils.write(lawApiClient.getLawDetailStream(lawApiId), file)
+                                .then(Mono.fromCallable(() -> importFile(lawApiId, file, state))
+                                        .subscribeOn(Schedulers.boundedElastic())),
+                        this::deleteTempFile)
+                .onErrorResume(e -> {
+                    log.error("법령 저장 실패. 법령 ID: {}", lawApiId, e);
+                    rollback(lawApiId, state);
+                    return Mono.empty();
+                });
+    }
+
+    /**
+     * 받은 응답 파일로 해시를 비교하고, 바뀐 경우에만 트리 저장
+     */
+    private LawImportResultDto importFile(String lawApiId, Path file, ImportState state) throws IOException {
+        MessageDigest digest = newDigest();
+        readMatches(file, match -> {
+            digest.update(match.node().toString().getBytes(StandardCharsets.UTF_8));
+            if (BASIC_PATH.equals(match.path())) {
+                state.basic = lawDetailParser.parseBasic(match.node());
+            }
+        });
+        if (state.basic == null) {
+            throw new IllegalStateException("법령 기본정보가 없습니다. 법령 ID: " + lawApiId);
+        }
+
+        String contentHash = HexFormat.of().formatHex(digest.digest());
+        Optional<Long> unchangedLawId = lawBulkRepository.findUnchangedLawId(lawApiId, contentHash);
+        if (unchangedLawId.isPresent()) {
+            log.info("법령 내용 변경 없음. 법령명: {}", state.basic.getLawName());
+            return new LawImportResultDto(unchangedLawId.get(), LawImportResultDto.Status.UNCHANGED);
+        }
+
+        readMatches(file, match -> handle(lawApiId, state, match));
+        return finish(lawApiId, contentHash, state);
+    }
+
+    /**
+     * 임시 파일을 조각 단위로 읽어 기본정보/조문단위 객체를 순서대로 처리
+     */
+    private void readMatches(Path file, Consumer<Match> consumer) throws IOException {
+        try (InputStream input = Files.newInputStream(file);
+             JsonObjectStreamSplitter splitter = new JsonObjectStreamSplitter(objectMapper, Set.of(BASIC_PATH, ARTICLE_PATH))) {
+            byte[] chunk;
+            while ((chunk = input.readNBytes(READ_CHUNK_SIZE)).length > 0) {
+                splitter.feed(chunk).forEach(consumer);
+            }
+            splitter.endOfInput().forEach(consumer);
+        }
+    }
+
+    /**
+     * 잘라낸 객체 저장
+     * 기본정보가 조문보다 늦게 오면 법령 행을 만들 수 없으므로 그때까지 조문을 모아 둠
+     */
+    private void handle(String lawApiId, ImportState state, Match match) {
+        if (BASIC_PATH.equals(match.path())) {
+            state.lawId = lawBulkRepository.insertLaw(state.basic, true);
+            log.debug("법령 기본정보 저장. 법령 ID: {}, id: {}", lawApiId, state.lawId);
+        } else {
+            state.pendingArticles.add(match.node());
+        }
+
+        if (state.lawId != null && state.pendingArticles.size() >= ARTICLE_BATCH_SIZE) {
+            flush(state);
+        }
+    }
+
+    private LawImportResultDto finish(String lawApiId, String contentHash, ImportState state) {
+        flush(state);
+
+        LawImportResultDto result =
+                lawBulkRepository.mergeImportedLaw(state.lawId, lawApiId, contentHash, state.basic);
+        log.info("법령 수집 완료. 법령명: {}, 조문단위 수: {}, 결과: {}",
+                state.basic.getLawName(), state.articleCount, result.getStatus());
+
+        if (result.isChanged()) {
+            refreshDocument(result.getLawId());
+        }
+        return result;
+    }
+
+    private void flush(ImportState state) {
+        if (state.pendingArticles.isEmpty()) {
+            return;
+        }
+        List<LawImportDto.JangImport> jangs =
+                lawDetailParser.toJangs(state.pendingArticles, state.lastJangId != null);
+        state.lastJangId = lawBulkRepository.insertJangs(state.lawId, jangs, state.lastJangId);
+        state.articleCount += state.pendingArticles.size();
+        state.pendingArticles = new ArrayList<>();
+    }
+
+    /**
+     * 법령 상세 문서 재생성 (실패해도 수집 결과는 유지하고 문서만 지워 다음 조회 때 다시 만들게 함)
+     */
+    private void refreshDocument(Long lawId) {
+        try {
+            lawDocumentService.rebuild(lawId);
+        } catch (Exception e) {
+            log.warn("법령 문서 생성 실패. 법령 id: {}", lawId, e);
+            lawDocumentService.evict(lawId);
+        }
+    }
+
+    private void rollback(String lawApiId, ImportState state) {
+        if (state.lawId == null) {
+            return;
+        }
+        try {
+            lawBulkRepository.deleteLawTree(state.lawId);
+        } catch (Exception e) {
+            log.error("저장 중 실패한 법령 삭제 실패. 법령 ID: {}, id: {}", lawApiId, state.lawId, e);
+        }
+    }
+
+    private boolean tryLock(String lawApiId) {
+        if (!lawImportLockRepository.existsById(lawApiId)) {
+            try {
+                lawImportLockRepository.saveAndFlush(new LawImportLock(lawApiId));
+            } catch (DataIntegrityViolationException e) {
+                // 다른 요청이 먼저 만든 경우
+                log.debug("법령 수집 잠금 동시 생성. 법령 ID: {}", lawApiId);
+            }
+        }
+        LocalDateTime now = LocalDateTime.now();
+        return lawImportLockRepository.tryLock(lawApiId, now, now.plus(IMPORT_LOCK_TIMEOUT)) > 0;
+    }
+
+    private void unlock(String lawApiId) {
+        try {
+            lawImportLockRepository.unlock(lawApiId);
+        } catch (Exception e) {
+            // 잠금은 IMPORT_LOCK_TIMEOUT 후 만료됨
+            log.warn("법령 수집 잠금 해제 실패. 법령 ID: {}", lawApiId, e);
+        }
+    }
+
+    private void deleteTempFile(Path file) {
+        try {
+            Files.deleteIfExists(file);
+        } catch (IOException e) {
+            log.warn("법령 임시 파일 삭제 실패: {}", file, e);
+        }
+    }
+
+    private static MessageDigest newDigest() {
+        try {
+            return MessageDigest.getInstance("SHA-256");
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException(e);
+        }
+    }
+
+    /**
+     * 법령 하나를 저장하는 동안의 진행 상태 (한 구독 안에서 순차적으로만 접근됨)
+     */
+    private static class ImportState {
+        private LawImportDto basic;
+        private Long lawId;
+        private Long lastJangId;
+        private List<JsonNode> pendingArticles = new ArrayList<>();
+        private int articleCount;
+    }
+}
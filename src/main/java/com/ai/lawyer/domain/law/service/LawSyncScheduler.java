@@ -0,0 +1,31 @@
+package com.ai.lawyer.domain.law.service;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.scheduling.annotation.EnableScheduling;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+/**
+ * 법령 개정 동기화 스케줄러 (custom.law-sync.enabled=true 일 때만 등록)
+ */
+@Slf4j
+@Component
+@EnableScheduling
+@RequiredArgsConstructor
+@ConditionalOnProperty(prefix = "custom.law-sync", name = "enabled", havingValue = "true")
+public class LawSyncScheduler {
+
+    private final LawSyncService lawSyncService;
+
+    @Scheduled(cron = "${custom.law-sync.cron}")
+    public void syncLaws() {
+        log.info("법령 개정 동기화 스케줄러 실행...");
+        try {
+            lawSyncService.sync();
+        } catch (Exception e) {
+            log.error("법령 개정 동기화 중 오류 발생", e);
+        }
+    }
+}
@@ -0,0 +1,322 @@
+package com.ai.lawyer.domain.law.service;
+
+import com.ai.lawyer.domain.law.dto.LawBackfillResultDto;
+import com.ai.lawyer.domain.law.dto.LawImportResultDto;
+import com.ai.lawyer.domain.law.dto.LawSyncResultDto;
+import com.ai.lawyer.domain.law.entity.Law;
+import com.ai.lawyer.domain.law.entity.LawSyncState;
+import com.ai.lawyer.domain.law.repository.LawRepository;
+import com.ai.lawyer.domain.law.repository.LawSyncStateRepository;
+import com.ai.lawyer.global.batch.VectorizationTarget;
+import com.ai.lawyer.global.batch.service.VectorizationJobService;
+import com.ai.lawyer.global.config.LawSyncProperties;
+import com.ai.lawyer.infrastructure.lawapi.LawApiClient;
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.stereotype.Service;
+import org.springframework.util.StringUtils;
+import reactor.core.publisher.Flux;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.NoSuchElementException;
+import java.util.Optional;
+import java.util.Set;
+
+/**
+ * 법령 개정 동기화
+ * 마지막 동기화 일자 다음 날부터 어제까지 날짜별로 변경 이력을 조회해, 이미 보유한 법령만 다시 수집
+ * 수집 시 내용 해시가 바뀐 법령만 트리/상세 문서가 교체되고, 교체된 법령은 벡터화 잡으로 청크를 다시 만듦
+ * (벡터화 writer 가 같은 lawId 의 기존 청크를 지운 뒤 저장하므로 이전 청크가 남지 않음)
+ * 법령ID 없이 저장된 기존 법령은 동기화 대상에서 빠지므로, 도입 시 backfillLawApiIds 로 한 번 채워야 함
+ * (변경 이력의 공포번호는 개정 후 번호라 법령명 + 공포번호로는 기존 법령을 찾을 수 없음)
+ */
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class LawSyncService {
+
+    private static final String SYNC_NAME = "law";
+    private static final int BACKFILL_SEARCH_SIZE = 100;
+
+    private final LawApiClient lawApiClient;
+    private final LawStreamImporter lawStreamImporter;
+    private final LawRepository lawRepository;
+    private final LawSyncStateRepository lawSyncStateRepository;
+    private final VectorizationJobService vectorizationJobService;
+    private final LawSyncProperties properties;
+    private final ObjectMapper objectMapper = new ObjectMapper();
+
+    /**
+     * 동기화 실행
+     * 여러 인스턴스에서 동시에 호출되면 잠금을 얻은 하나만 실행하고 나머지는 건너뜀
+     *
+     * @return 동기화 결과
+     */
+    public LawSyncResultDto sync() {
+        ensureState();
+
+        LocalDateTime now = LocalDateTime.now();
+        if (lawSyncStateRepository.tryLock(SYNC_NAME, now, now.plus(properties.getLockTimeout())) == 0) {
+            log.info("다른 인스턴스에서 법령 동기화 실행 중이라 건너뜀");
+            return LawSyncResultDto.skipped();
+        }
+
+        try {
+            return run();
+        } finally {
+            lawSyncStateRepository.unlock(SYNC_NAME);
+        }
+    }
+
+    /**
+     * 동기화 상태 조회
+     *
+     * @throws NoSuchElementException 동기화를 한 번도 실행하지 않았을 때 예외 발생
+     */
+    public LawSyncState getState() {
+        return lawSyncStateRepository.findById(SYNC_NAME)
+                .orElseThrow(() -> new NoSuchElementException("법령 동기화 기록이 없습니다."));
+    }
+
+    /**
+     * 법령ID 없이 저장된 기존 법령에 법령ID 채우기
+     * 법령명으로 검색해 법령명한글이 정확히 같은 법령ID 가 하나일 때만 채움 (여러 개면 사람이 확인하도록 남김)
+     *
+     * @return 처리 결과
+     */
+    public LawBackfillResultDto backfillLawApiIds() {
+        int scanned = 0;
+        int assigned = 0;
+        int failed = 0;
+        List<Long> unmatchedIds = new ArrayList<>();
+
+        long afterId = 0;
+        List<Law> laws;
+        do {
+            laws = lawRepository.findTop100ByLawApiIdIsNullAndStagingFalseAndIdGreaterThanOrderByIdAsc(afterId);
+            for (Law law : laws) {
+                scanned++;
+                try {
+                    Optional<String> lawApiId = findLawApiIdByName(law.getLawName());
+                    if (lawApiId.isEmpty()) {
+                        unmatchedIds.add(law.getId());
+                    } else if (lawRepository.assignLawApiId(law.getId(), lawApiId.get()) > 0) {
+                        assigned++;
+                    }
+                } catch (DataIntegrityViolationException e) {
+                    // 같은 법령이 법령ID 와 함께 이미 다시 수집된 경우
+                    failed++;
+                    log.warn("이미 사용 중인 법령ID 라 건너뜀. 법령 id: {}, 법령명: {}", law.getId(), law.getLawName());
+                } catch (Exception e) {
+                    failed++;
+                    log.error("법령ID 조회 실패. 법령 id: {}, 법령명: {}", law.getId(), law.getLawName(), e);
+                }
+            }
+            if (!laws.isEmpty()) {
+                afterId = laws.get(laws.size() - 1).getId();
+            }
+        } while (!laws.isEmpty());
+
+        log.info("법령ID 채우기 완료. 대상: {}, 채움: {}, 미일치: {}, 실패: {}",
+                scanned, assigned, unmatchedIds.size(), failed);
+
+        return LawBackfillResultDto.builder()
+                .scannedCount(scanned)
+                .assignedCount(assigned)
+                .unmatchedIds(unmatchedIds)
+                .failedCount(failed)
+                .build();
+    }
+
+    // ==================== Private Helper Methods ====================
+
+    /**
+     * 법령명이 정확히 같은 검색 결과의 법령ID (공백 차이는 무시, 후보가 하나가 아니면 empty)
+     */
+    private Optional<String> findLawApiIdByName(String lawName) throws JsonProcessingException {
+        if (!StringUtils.hasText(lawName)) {
+            return Optional.empty();
+        }
+        String json = lawApiClient.searchLaws(lawName, 1, BACKFILL_SEARCH_SIZE).block();
+        JsonNode lawNode = objectMapper.readTree(json).path("LawSearch").path("law");
+
+        List<JsonNode> items = new ArrayList<>();
+        if (lawNode.isArray()) {
+            lawNode.forEach(items::add);
+        } else if (lawNode.isObject()) {
+            items.add(lawNode);
+        }
+
+        String normalizedName = normalizeName(lawName);
+        Set<String> candidates = new LinkedHashSet<>();
+        items.stream()
+                .filter(item -> normalizedName.equals(normalizeName(item.path("법령명한글").asText(""))))
+                .map(item -> item.path("법령ID").asText(null))
+                .filter(StringUtils::hasText)
+                .forEach(candidates::add);
+
+        return candidates.size() == 1 ? Optional.of(candidates.iterator().next()) : Optional.empty();
+    }
+
+    private String normalizeName(String name) {
+        return name.replaceAll("\\s+", "");
+    }
+
+    private LawSyncResultDto run() {
+        LawSyncState state = getState();
+
+        // 당일 변경분은 하루가 끝난 뒤 반영
+        LocalDate yesterday = LocalDate.now().minusDays(1);
+        LocalDate from = state.getLastSyncedDate() != null
+                ? state.getLastSyncedDate().plusDays(1)
+                : yesterday.minusDays(properties.getInitialLookbackDays() - 1L);
+        LocalDate to = from.plusDays(properties.getMaxDaysPerRun() - 1L);
+        if (to.isAfter(yesterday)) {
+            to = yesterday;
+        }
+
+        log.info("법령 동기화 시작. 변경일자: {} ~ {}", from, to);
+
+        LocalDate syncedDate = state.getLastSyncedDate();
+        List<Long> updatedIds = new ArrayList<>();
+        int changedCount = 0;
+        int failedCount = 0;
+
+        for (LocalDate date = from; !date.isAfter(to); date = date.plusDays(1)) {
+            try {
+                List<String> changedLawIds = filterStored(fetchChangedLawIds(date));
+                changedCount += changedLawIds.size();
+
+                List<Optional<LawImportResultDto>> results = importAll(changedLawIds);
+                results.stream()
+                        .flatMap(Optional::stream)
+                        .filter(LawImportResultDto::isChanged)
+                        .map(LawImportResultDto::getLawId)
+                        .forEach(updatedIds::add);
+
+                long failed = results.stream().filter(Optional::isEmpty).count();
+                if (failed > 0) {
+                    // 실패한 날부터 다음 실행에서 다시 조회 (이미 반영된 법령은 해시가 같아 건너뜀)
+                    failedCount += (int) failed;
+                    log.warn("법령 동기화 중 수집 실패. 변경일자: {}, 실패 수: {}", date, failed);
+                    break;
+                }
+                syncedDate = date;
+            } catch (Exception e) {
+                log.error("법령 변경 이력 조회 실패. 변경일자: {}", date, e);
+                break;
+            }
+        }
+
+        if (properties.isVectorize() && !updatedIds.isEmpty()) {
+            vectorizationJobService.launchForIds(VectorizationTarget.LAW, updatedIds);
+        }
+
+        state.setLastSyncedDate(syncedDate);
+        state.setLastRunAt(LocalDateTime.now());
+        state.setLastChangedCount(changedCount);
+        state.setLastUpdatedCount(updatedIds.size());
+        state.setLastFailedCount(failedCount);
+        lawSyncStateRepository.save(state);
+
+        log.info("법령 동기화 완료. 반영 일자: {}, 변경 법령 수: {}, 교체된 법령 수: {}, 실패 수: {}",
+                syncedDate, changedCount, updatedIds.size(), failedCount);
+
+        return LawSyncResultDto.builder()
+                .fromDate(from)
+                .toDate(to)
+                .lastSyncedDate(syncedDate)
+                .changedCount(changedCount)
+                .updatedIds(updatedIds)
+                .failedCount(failedCount)
+                .build();
+    }
+
+    private void ensureState() {
+        if (lawSyncStateRepository.existsById(SYNC_NAME)) {
+            return;
+        }
+        try {
+            lawSyncStateRepository.saveAndFlush(new LawSyncState(SYNC_NAME));
+        } catch (DataIntegrityViolationException e) {
+            // 다른 인스턴스가 먼저 만든 경우
+            log.debug("법령 동기화 상태 동시 생성");
+        }
+    }
+
+    /**
+     * 해당 일자의 변경 이력 전체 페이지에서 법령ID 추출
+     */
+    private Set<String> fetchChangedLawIds(LocalDate date) throws JsonProcessingException {
+        Set<String> lawIds = new LinkedHashSet<>();
+        int pageSize = properties.getPageSize();
+
+        for (int page = 1; ; page++) {
+            String json = lawApiClient.searchLawChanges(date, page, pageSize).block();
+            JsonNode result = firstObject(objectMapper.readTree(json));
+            JsonNode lawNode = result.path("law");
+
+            List<JsonNode> items = new ArrayList<>();
+            if (lawNode.isArray()) {
+                lawNode.forEach(items::add);
+            } else if (lawNode.isObject()) {
+                items.add(lawNode);
+            }
+
+            items.stream()
+                    .map(item -> item.path("법령ID").asText(null))
+                    .filter(StringUtils::hasText)
+                    .forEach(lawIds::add);
+
+            if (items.isEmpty() || (long) page * pageSize >= result.path("totalCnt").asLong(0)) {
+                return lawIds;
+            }
+        }
+    }
+
+    /**
+     * 응답 최상위 객체 (목록 종류에 따라 이름이 달라 첫 번째 필드를 사용)
+     */
+    private JsonNode firstObject(JsonNode root) {
+        if (root == null || !root.elements().hasNext()) {
+            return objectMapper.missingNode();
+        }
+        return root.elements().next();
+    }
+
+    /**
+     * 보유 중인 법령만 남김 (동기화는 새 법령을 들이지 않고 기존 법령만 최신으로 유지)
+     */
+    private List<String> filterStored(Set<String> lawApiIds) {
+        if (lawApiIds.isEmpty()) {
+            return List.of();
+        }
+        return lawRepository.findByLawApiIdIn(lawApiIds).stream()
+                .map(Law::getLawApiId)
+                .toList();
+    }
+
+    /**
+     * 법령별 수집 결과 (실패한 법령은 empty)
+     */
+    private List<Optional<LawImportResultDto>> importAll(List<String> lawApiIds) {
+        if (lawApiIds.isEmpty()) {
+            return List.of();
+        }
+        return Flux.fromIterable(lawApiIds)
+                .flatMap(lawApiId -> lawStreamImporter.importLaw(lawApiId)
+                                .map(Optional::of)
+                                .defaultIfEmpty(Optional.empty()),
+                        lawApiClient.maxConcurrency())
+                .collectList()
+                .block();
+    }
+}
@@ -0,0 +1,31 @@
+package com.ai.lawyer.domain.precedent.controller;
+
+import com.ai.lawyer.domain.precedent.service.PrecedentCitationService;
+import io.swagger.v3.oas.annotations.Operation;
+import io.swagger.v3.oas.annotations.tags.Tag;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.*;
+
+@Slf4j
+@RestController
+@RequiredArgsConstructor
+@Tag(name = "판례 인용 관계", description = "판례 인용 관계 API (관리자 전용)")
+@RequestMapping("/api/admin/precedent/citations")
+public class PrecedentCitationController {
+
+    private final PrecedentCitationService precedentCitationService;
+
+    @PostMapping("/rebuild")
+    @Operation(summary = "판례 인용 관계 재추출",
+            description = "저장된 판례 전체의 참조판례/참조조문에서 인용 관계를 다시 추출하고 인용 그래프를 새로 만듭니다. 처리한 판례 수를 반환합니다")
+    public ResponseEntity<?> rebuild() {
+        try {
+            return ResponseEntity.ok(precedentCitationService.rebuild());
+        } catch (Exception e) {
+            log.error("판례 인용 관계 재추출 에러 : " + e.getMessage());
+            return ResponseEntity.badRequest().body("판례 인용 관계 재추출 에러 : " + e.getMessage());
+        }
+    }
+}
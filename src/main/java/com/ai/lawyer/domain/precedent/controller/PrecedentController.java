@@ -3,6 +3,7 @@ package com.ai.lawyer.domain.precedent.controller;
 import com.ai.lawyer.domain.precedent.dto.PrecedentSearchRequestDto;
 import com.ai.lawyer.domain.precedent.dto.PrecedentSummaryListDto;
 import com.ai.lawyer.domain.precedent.entity.Precedent;
+import com.ai.lawyer.domain.precedent.service.PrecedentCitationService;
 import com.ai.lawyer.domain.precedent.service.PrecedentService;
 import com.ai.lawyer.global.dto.PageResponseDto;
 import io.swagger.v3.oas.annotations.Operation;
@@ -21,14 +22,7 @@ import org.springframework.web.bind.annotation.*;
 public class PrecedentController {
 
     private final PrecedentService precedentService;
-
-    @GetMapping(value = "/list/save")
-    @Operation(summary = "키워드 관련 판례 데이터 저장(벡엔드 전용 API)", description = "벡엔드 데이터 저장용 API입니다")
-    public ResponseEntity<?> list(
-            @RequestParam String query
-    ) throws Exception {
-        return ResponseEntity.ok().body(precedentService.searchAndSaveAll(query));
-    }
+    private final PrecedentCitationService precedentCitationService;
 
     /**
      * POST /api/precedent/search
@@ -69,4 +63,44 @@ public class PrecedentController {
             return ResponseEntity.badRequest().body("판례 상세 조회 에러 : " + e.getMessage());
         }
     }
+
+    /**
+     * GET /api/precedent/{id}/citations
+     * 판례의 인용 관계 (참조판례로 인용한 판례, 이 판례를 인용한 판례)
+     *
+     * @param id Precedent PK
+     * @param size 방향별 최대 건수
+     */
+    @GetMapping("/{id}/citations")
+    @Operation(summary = "판례 인용 관계 조회 기능", description = "이 판례가 인용한 판례(cites)와 이 판례를 인용한 판례(citedBy)를 선고일자 최신순으로 조회합니다 \n" +
+            "예시: /api/precedent/1/citations?size=20")
+    public ResponseEntity<?> getCitations(@PathVariable Long id, @RequestParam(defaultValue = "20") int size) {
+        try {
+            return ResponseEntity.ok(precedentCitationService.getCitations(id, size));
+        } catch (Exception e) {
+            log.error("판례 인용 관계 조회 에러 : " + e.getMessage());
+            return ResponseEntity.badRequest().body("판례 인용 관계 조회 에러 : " + e.getMessage());
+        }
+    }
+
+    /**
+     * GET /api/precedent/article
+     * 참조조문으로 해당 조문을 든 판례
+     */
+    @GetMapping("/article")
+    @Operation(summary = "조문별 판례 조회 기능", description = "참조조문에 해당 조문이 있는 판례를 선고일자 최신순으로 조회합니다 \n" +
+            "예시: /api/precedent/article?lawName=형법&articleNumber=329 (제5조의4 는 articleNumber=5&articleBranch=4)")
+    public ResponseEntity<?> getPrecedentsForArticle(
+            @RequestParam String lawName,
+            @RequestParam int articleNumber,
+            @RequestParam(defaultValue = "0") int articleBranch,
+            @RequestParam(defaultValue = "20") int size
+    ) {
+        try {
+            return ResponseEntity.ok(precedentCitationService.getPrecedentsForArticle(lawName, articleNumber, articleBranch, size));
+        } catch (Exception e) {
+            log.error("조문별 판례 조회 에러 : " + e.getMessage());
+            return ResponseEntity.badRequest().body("조문별 판례 조회 에러 : " + e.getMessage());
+        }
+    }
 }
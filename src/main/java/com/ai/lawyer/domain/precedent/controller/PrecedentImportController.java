@@ -0,0 +1,47 @@
+package com.ai.lawyer.domain.precedent.controller;
+
+import com.ai.lawyer.global.batch.service.PrecedentImportJobService;
+import io.swagger.v3.oas.annotations.Operation;
+import io.swagger.v3.oas.annotations.tags.Tag;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.*;
+
+import java.util.NoSuchElementException;
+
+@Slf4j
+@RestController
+@RequiredArgsConstructor
+@Tag(name = "판례 수집", description = "키워드 판례 수집 잡 API (관리자 전용)")
+@RequestMapping("/api/admin/precedent/import")
+public class PrecedentImportController {
+
+    private final PrecedentImportJobService precedentImportJobService;
+
+    @PostMapping
+    @Operation(summary = "키워드 관련 판례 데이터 저장", description = "판례 수집 잡을 백그라운드로 실행하고 바로 반환하며, " +
+            "진행 상황은 /api/admin/precedent/import/{executionId} 로 조회합니다. " +
+            "vectorize=true이면 수집 완료 후 저장된 판례의 벡터화 잡을 실행합니다 (기본값 false)")
+    public ResponseEntity<?> launch(
+            @RequestParam String query,
+            @RequestParam(defaultValue = "false") boolean vectorize
+    ) {
+        try {
+            return ResponseEntity.accepted().body(precedentImportJobService.launch(query, vectorize));
+        } catch (Exception e) {
+            log.error("판례 수집 잡 실행 에러 : " + e.getMessage());
+            return ResponseEntity.badRequest().body("판례 수집 잡 실행 에러 : " + e.getMessage());
+        }
+    }
+
+    @GetMapping("/{executionId}")
+    @Operation(summary = "판례 수집 잡 진행 상황 조회", description = "검색 결과 전체 건수, 처리/저장 건수, 처리 속도, 예상 남은 시간을 조회합니다")
+    public ResponseEntity<?> progress(@PathVariable Long executionId) {
+        try {
+            return ResponseEntity.ok(precedentImportJobService.getProgress(executionId));
+        } catch (NoSuchElementException e) {
+            return ResponseEntity.notFound().build();
+        }
+    }
+}
@@ -0,0 +1,36 @@
+package com.ai.lawyer.domain.precedent.controller;
+
+import com.ai.lawyer.domain.precedent.service.PrecedentSearchEngine;
+import com.ai.lawyer.domain.precedent.service.PrecedentService;
+import com.ai.lawyer.infrastructure.redis.service.SearchResultCacheService;
+import io.swagger.v3.oas.annotations.Operation;
+import io.swagger.v3.oas.annotations.tags.Tag;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.*;
+
+@Slf4j
+@RestController
+@RequiredArgsConstructor
+@Tag(name = "판례 검색 색인", description = "판례 검색 색인 API (관리자 전용)")
+@RequestMapping("/api/admin/precedent/search-index")
+public class PrecedentSearchIndexController {
+
+    private final PrecedentSearchEngine precedentSearchEngine;
+    private final SearchResultCacheService searchResultCacheService;
+
+    @PostMapping("/rebuild")
+    @Operation(summary = "판례 검색 색인 재구성",
+            description = "저장된 판례 전체로 검색 색인을 다시 만듭니다 (lucene 엔진 사용 시). 반영된 판례 수를 반환합니다")
+    public ResponseEntity<?> rebuild() {
+        try {
+            long count = precedentSearchEngine.rebuild();
+            searchResultCacheService.invalidate(PrecedentService.SEARCH_CACHE_NAMESPACE);
+            return ResponseEntity.ok(count);
+        } catch (Exception e) {
+            log.error("판례 검색 색인 재구성 에러 : " + e.getMessage());
+            return ResponseEntity.badRequest().body("판례 검색 색인 재구성 에러 : " + e.getMessage());
+        }
+    }
+}
@@ -0,0 +1,21 @@
+package com.ai.lawyer.domain.precedent.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDate;
+
+/**
+ * 인용 관계 조회 결과의 판례 한 건 (본문 없이 목록 표시용 항목만)
+ */
+@Data
+@AllArgsConstructor
+@NoArgsConstructor
+public class PrecedentCitationDto {
+    private Long id;
+    private String caseName;          // 사건명
+    private String caseNumber;        // 사건번호
+    private LocalDate sentencingDate; // 선고일자
+    private String courtName;         // 법원명
+}
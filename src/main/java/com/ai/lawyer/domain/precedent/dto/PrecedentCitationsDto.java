@@ -0,0 +1,18 @@
+package com.ai.lawyer.domain.precedent.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.util.List;
+
+/**
+ * 판례 한 건의 인용 관계 (선고일자 최신순)
+ */
+@Data
+@AllArgsConstructor
+@NoArgsConstructor
+public class PrecedentCitationsDto {
+    private List<PrecedentCitationDto> cites;    // 이 판례가 참조판례로 인용한 판례 (수집된 판례만)
+    private List<PrecedentCitationDto> citedBy;  // 이 판례를 인용한 판례
+}
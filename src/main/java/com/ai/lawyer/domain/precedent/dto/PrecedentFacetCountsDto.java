@@ -0,0 +1,18 @@
+package com.ai.lawyer.domain.precedent.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.util.Map;
+
+/**
+ * 검색 조건 전체 결과의 건수와 패싯별 건수 (페이지와 무관하므로 조건별로 캐시)
+ */
+@Data
+@AllArgsConstructor
+@NoArgsConstructor
+public class PrecedentFacetCountsDto {
+    private long total;                          // 전체 건수
+    private Map<String, Map<String, Long>> facets; // 패싯 이름 -> (값 -> 건수)
+}
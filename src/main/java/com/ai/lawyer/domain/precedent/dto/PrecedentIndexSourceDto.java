@@ -0,0 +1,30 @@
+package com.ai.lawyer.domain.precedent.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDate;
+
+/**
+ * 검색 색인에 넣을 판례 한 건 (엔티티를 거치지 않고 필요한 컬럼만 읽음)
+ */
+@Data
+@Builder
+@AllArgsConstructor
+@NoArgsConstructor
+public class PrecedentIndexSourceDto {
+    private Long id;
+    private String caseName;             // 사건명
+    private String caseNumber;           // 사건번호
+    private LocalDate sentencingDate;    // 선고일자
+    private String courtName;            // 법원명
+    private String caseTypeName;         // 사건종류명
+    private String typeOfJudgment;       // 판결유형
+    private String notice;               // 판시사항
+    private String summaryOfTheJudgment; // 판결요지
+    private String precedentContent;     // 판례내용
+    private String listSummary;          // 검색 목록용 요약
+    private String snippetSource;        // 검색어 스니펫 원문
+}
@@ -0,0 +1,26 @@
+package com.ai.lawyer.domain.precedent.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+import java.util.List;
+
+/**
+ * Open API 판례 검색 결과 한 페이지 (판례일련번호만)
+ */
+@Getter
+@AllArgsConstructor
+public class PrecedentNumberPageDto {
+
+    private int page;            // 페이지 번호 (1부터)
+
+    private int display;         // 페이지 크기
+
+    private int totalCount;      // 검색 결과 전체 건수
+
+    private List<String> numbers; // 판례일련번호
+
+    public boolean hasNext() {
+        return !numbers.isEmpty() && (long) page * display < totalCount;
+    }
+}
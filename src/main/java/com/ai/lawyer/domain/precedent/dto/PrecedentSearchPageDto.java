@@ -0,0 +1,26 @@
+package com.ai.lawyer.domain.precedent.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * 판례 검색 결과 한 페이지 (검색 결과 캐시에 JSON 으로 저장)
+ */
+@Data
+@AllArgsConstructor
+@NoArgsConstructor
+public class PrecedentSearchPageDto {
+    private List<PrecedentSummaryListDto> content = new ArrayList<>();
+    private long totalElements;     // 전체 건수
+    private String nextCursor;      // 다음 페이지 커서 (마지막 페이지면 null)
+    private Map<String, Map<String, Long>> facets; // 패싯 이름 -> (값 -> 건수), 엔진이 계산하지 않으면 null
+
+    public PrecedentSearchPageDto(List<PrecedentSummaryListDto> content, long totalElements, String nextCursor) {
+        this(content, totalElements, nextCursor, null);
+    }
+}
@@ -19,13 +19,50 @@ public class PrecedentSearchRequestDto {
     @Schema(description = "선고일자 종료", example = "2024-12-31")
     private LocalDate sentencingDateEnd;   // 선고일자 종료
 
+    @Schema(description = "법원명 필터 (패싯 courtName 의 값)", example = "대법원")
+    private String courtName;           // 법원명
+
+    @Schema(description = "사건종류명 필터 (패싯 caseTypeName 의 값)", example = "형사")
+    private String caseTypeName;        // 사건종류명
+
+    @Schema(description = "판결유형 필터 (패싯 typeOfJudgment 의 값)", example = "판결")
+    private String typeOfJudgment;      // 판결유형
+
+    @Schema(description = "선고연도 필터 (패싯 sentencingYear 의 값, 선고일자 범위와 함께 쓰면 겹치는 기간만)", example = "2020")
+    private Integer sentencingYear;     // 선고연도
+
     @Schema(description = "페이지 번호 (0부터 시작)", example = "0")
     private int pageNumber;               // 페이지 번호
 
     @Schema(description = "페이지 크기", example = "10")
     private int pageSize;               // 페이지 크기
 
+    @Schema(description = "다음 페이지 커서 (이전 응답의 nextCursor, 있으면 pageNumber 대신 사용)", example = "")
+    private String cursor;              // 키셋 페이지네이션 커서
+
     public Pageable toPageable() {
         return PageRequest.of(pageNumber, pageSize);
     }
+
+    /**
+     * 선고연도 필터를 반영한 선고일자 시작 (연도 필터는 날짜 범위로 바꿔 인덱스를 그대로 사용)
+     */
+    public LocalDate effectiveSentencingDateStart() {
+        if (sentencingYear == null) {
+            return sentencingDateStart;
+        }
+        LocalDate yearStart = LocalDate.of(sentencingYear, 1, 1);
+        return sentencingDateStart != null && sentencingDateStart.isAfter(yearStart) ? sentencingDateStart : yearStart;
+    }
+
+    /**
+     * 선고연도 필터를 반영한 선고일자 종료
+     */
+    public LocalDate effectiveSentencingDateEnd() {
+        if (sentencingYear == null) {
+            return sentencingDateEnd;
+        }
+        LocalDate yearEnd = LocalDate.of(sentencingYear, 12, 31);
+        return sentencingDateEnd != null && sentencingDateEnd.isBefore(yearEnd) ? sentencingDateEnd : yearEnd;
+    }
 }
@@ -1,10 +1,12 @@
 package com.ai.lawyer.domain.precedent.dto;
 
+import com.fasterxml.jackson.annotation.JsonInclude;
 import lombok.AllArgsConstructor;
 import lombok.Data;
 import lombok.NoArgsConstructor;
 
 import java.time.LocalDate;
+import java.util.List;
 
 @Data
 @AllArgsConstructor
@@ -14,5 +16,20 @@ public class PrecedentSummaryListDto {
     private String caseName;        // 사건명
     private String caseNumber;      // 사건번호
     private LocalDate sentencingDate; // 선고일자
-    private String contents;
+    private String contents;        // 검색어가 있으면 검색어 주변 스니펫, 없으면 요약
+
+    @JsonInclude(JsonInclude.Include.NON_NULL)
+    private List<Highlight> highlights; // contents 안의 검색어 위치 (스니펫일 때만)
+
+    public PrecedentSummaryListDto(Long id, String caseName, String caseNumber, LocalDate sentencingDate, String contents) {
+        this(id, caseName, caseNumber, sentencingDate, contents, null);
+    }
+
+    @Data
+    @AllArgsConstructor
+    @NoArgsConstructor
+    public static class Highlight {
+        private int start; // 시작 위치 (포함)
+        private int end;   // 끝 위치 (제외)
+    }
 }
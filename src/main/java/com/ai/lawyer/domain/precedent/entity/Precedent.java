@@ -8,7 +8,9 @@ import java.time.LocalDate;
 
 @Entity
 @Data
-@Table(name = "precedent")
+@Table(name = "precedent", uniqueConstraints = {
+        @UniqueConstraint(name = "uk_precedent_number", columnNames = "precedent_number")
+})
 public class Precedent {
 
     @Id
@@ -16,7 +18,8 @@ public class Precedent {
     @JsonIgnore
     private Long id;
 
-    private String precedentNumber; // 판례일련번호
+    @Column(length = 20)
+    private String precedentNumber; // 판례일련번호 (upsert 키)
 
     @Lob
     @Column(columnDefinition = "TEXT")
@@ -40,23 +43,28 @@ public class Precedent {
 
     private String typeOfJudgment; // 판결유형
 
-    @Lob
-    @Column(columnDefinition = "LONGTEXT")
+    // 본문은 precedent_body(압축)와 precedent_search_text(FULLTEXT)에 저장하고 이 테이블에는 두지 않음
+    // 수집 시에는 파싱 결과를 담아 PrecedentBulkRepository 로 넘기고, 상세 조회 시에는 PrecedentService 가 채움
+    @Transient
     private String notice; // 판시사항
 
-    @Lob
-    @Column(columnDefinition = "LONGTEXT")
+    @Transient
     private String summaryOfTheJudgment; // 판결요지
 
-    @Lob
-    @Column(columnDefinition = "LONGTEXT")
+    @Transient
     private String referenceArticle; // 참조조문
 
-    @Lob
-    @Column(columnDefinition = "LONGTEXT")
+    @Transient
     private String referencePrecedent; // 참조판례
 
-    @Lob
-    @Column(columnDefinition = "LONGTEXT")
+    @Transient
     private String precedentContent; // 판례내용
+
+    @JsonIgnore
+    @Column(length = 500)
+    private String listSummary; // 검색 목록용 요약 (PrecedentSummaryExtractor, 수집 시 계산)
+
+    @JsonIgnore
+    @Column(length = 2000)
+    private String snippetSource; // 검색어 스니펫 원문 (판시사항 + 판결요지, 수집 시 계산)
 }
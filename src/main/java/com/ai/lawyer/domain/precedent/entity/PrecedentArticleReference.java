@@ -0,0 +1,31 @@
+package com.ai.lawyer.domain.precedent.entity;
+
+import jakarta.persistence.*;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+/**
+ * 판례 참조조문 (참조조문에서 뽑은 법령명 + 조문)
+ */
+@Entity
+@Getter
+@NoArgsConstructor
+@Table(name = "precedent_article_reference", indexes = {
+        @Index(name = "idx_precedent_article_reference_article", columnList = "law_name, article_number, article_branch"),
+        @Index(name = "idx_precedent_article_reference_precedent", columnList = "precedent_id")
+})
+public class PrecedentArticleReference {
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    private Long id;
+
+    @Column(nullable = false)
+    private Long precedentId;
+
+    @Column(length = 100, nullable = false)
+    private String lawName; // 법령명 ("구" 접두어 제외)
+
+    private int articleNumber; // 조 번호
+
+    private int articleBranch; // 가지 번호 (제5조의4 의 4, 없으면 0)
+}
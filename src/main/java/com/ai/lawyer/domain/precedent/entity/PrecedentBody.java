@@ -0,0 +1,40 @@
+package com.ai.lawyer.domain.precedent.entity;
+
+import com.ai.lawyer.global.jpa.CompressedTextConverter;
+import jakarta.persistence.*;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+/**
+ * 판례 본문 (압축 저장, precedent 와 1:1)
+ * 상세 조회와 벡터화에서만 id 로 한 건씩 읽으며, 목록/검색 쿼리는 이 테이블을 읽지 않음
+ * 저장은 PrecedentBulkRepository.upsert 가 JDBC 로 함께 처리
+ */
+@Entity
+@Getter
+@NoArgsConstructor
+@Table(name = "precedent_body")
+public class PrecedentBody {
+    @Id
+    private Long precedentId;
+
+    @Convert(converter = CompressedTextConverter.class)
+    @Column(columnDefinition = "LONGBLOB")
+    private String notice; // 판시사항
+
+    @Convert(converter = CompressedTextConverter.class)
+    @Column(columnDefinition = "LONGBLOB")
+    private String summaryOfTheJudgment; // 판결요지
+
+    @Convert(converter = CompressedTextConverter.class)
+    @Column(columnDefinition = "LONGBLOB")
+    private String referenceArticle; // 참조조문
+
+    @Convert(converter = CompressedTextConverter.class)
+    @Column(columnDefinition = "LONGBLOB")
+    private String referencePrecedent; // 참조판례
+
+    @Convert(converter = CompressedTextConverter.class)
+    @Column(columnDefinition = "LONGBLOB")
+    private String precedentContent; // 판례내용
+}
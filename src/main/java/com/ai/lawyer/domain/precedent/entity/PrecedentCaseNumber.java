@@ -0,0 +1,28 @@
+package com.ai.lawyer.domain.precedent.entity;
+
+import jakarta.persistence.*;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+/**
+ * 판례 사건번호 (공백 제거, 병합 사건이면 판례 하나에 여러 행)
+ * 인용된 사건번호를 판례 id 로 이어 주는 조인 키 (PrecedentCitationRepository 가 JDBC 로 읽고 씀)
+ */
+@Entity
+@Getter
+@NoArgsConstructor
+@Table(name = "precedent_case_number", indexes = {
+        @Index(name = "idx_precedent_case_number", columnList = "case_number"),
+        @Index(name = "idx_precedent_case_number_precedent", columnList = "precedent_id")
+})
+public class PrecedentCaseNumber {
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    private Long id;
+
+    @Column(nullable = false)
+    private Long precedentId;
+
+    @Column(length = 40, nullable = false)
+    private String caseNumber; // CitationExtractor.caseNumbers
+}
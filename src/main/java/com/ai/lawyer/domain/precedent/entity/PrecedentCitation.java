@@ -0,0 +1,28 @@
+package com.ai.lawyer.domain.precedent.entity;
+
+import jakarta.persistence.*;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+/**
+ * 판례 인용 (참조판례에서 뽑은 사건번호)
+ * 인용된 판례가 아직 수집되지 않았어도 저장해 두고, 조회 시 precedent_case_number 와 조인해 간선으로 만듦
+ */
+@Entity
+@Getter
+@NoArgsConstructor
+@Table(name = "precedent_citation", indexes = {
+        @Index(name = "idx_precedent_citation_citing", columnList = "citing_precedent_id"),
+        @Index(name = "idx_precedent_citation_cited", columnList = "cited_case_number")
+})
+public class PrecedentCitation {
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    private Long id;
+
+    @Column(nullable = false)
+    private Long citingPrecedentId; // 인용한 판례 id
+
+    @Column(length = 40, nullable = false)
+    private String citedCaseNumber; // 인용된 사건번호 (공백 제거)
+}
@@ -0,0 +1,39 @@
+package com.ai.lawyer.domain.precedent.entity;
+
+import jakarta.persistence.*;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+/**
+ * 판례 FULLTEXT 검색 원문 (precedent 와 1:1, idx_precedent_search_text_fulltext)
+ * InnoDB FULLTEXT 는 압축 컬럼이나 다른 테이블 컬럼에 걸 수 없으므로 검색 대상 본문만 압축하지 않고 따로 둠
+ * precedent 에는 목록/패싯용 짧은 컬럼만 남기고, 검색 쿼리는 MATCH 를 이 테이블에서 한 뒤 id 로 조인
+ */
+@Entity
+@Getter
+@NoArgsConstructor
+@Table(name = "precedent_search_text")
+public class PrecedentSearchText {
+    @Id
+    private Long precedentId;
+
+    @Lob
+    @Column(columnDefinition = "TEXT")
+    private String caseName; // 사건명
+
+    @Lob
+    @Column(columnDefinition = "TEXT")
+    private String caseNumber; // 사건번호
+
+    @Lob
+    @Column(columnDefinition = "LONGTEXT")
+    private String notice; // 판시사항
+
+    @Lob
+    @Column(columnDefinition = "LONGTEXT")
+    private String summaryOfTheJudgment; // 판결요지
+
+    @Lob
+    @Column(columnDefinition = "LONGTEXT")
+    private String precedentContent; // 판례내용
+}
@@ -0,0 +1,11 @@
+package com.ai.lawyer.domain.precedent.event;
+
+import java.util.List;
+
+/**
+ * 판례 저장(upsert) 이벤트 (커밋 후 검색 결과 캐시 무효화, 검색 색인/인용 그래프 갱신에 사용)
+ *
+ * @param ids 저장(갱신 포함)된 판례 id
+ */
+public record PrecedentsSavedEvent(List<Long> ids) {
+}
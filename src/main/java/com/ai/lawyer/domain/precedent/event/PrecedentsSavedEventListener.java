@@ -0,0 +1,44 @@
+package com.ai.lawyer.domain.precedent.event;
+
+import com.ai.lawyer.domain.precedent.service.PrecedentCitationService;
+import com.ai.lawyer.domain.precedent.service.PrecedentSearchEngine;
+import com.ai.lawyer.domain.precedent.service.PrecedentService;
+import com.ai.lawyer.infrastructure.redis.service.SearchResultCacheService;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionPhase;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+@Component
+@RequiredArgsConstructor
+@Slf4j
+public class PrecedentsSavedEventListener {
+
+    private final PrecedentSearchEngine precedentSearchEngine;
+    private final SearchResultCacheService searchResultCacheService;
+    private final PrecedentCitationService precedentCitationService;
+
+    /**
+     * 저장이 커밋된 뒤에만 색인/인용 그래프 갱신, 캐시 무효화 (커밋 전에 하면 다른 요청이 이전 데이터로 캐시를 다시 채울 수 있음)
+     * 배치 청크마다 커밋되므로 수집 중에도 페이지 단위로 새 판례가 검색에 반영됨
+     */
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT, fallbackExecution = true)
+    public void onPrecedentsSaved(PrecedentsSavedEvent event) {
+        if (event.ids().isEmpty()) return;
+        log.debug("판례 {}개 저장 커밋 -> 검색 색인/인용 그래프 갱신, 검색 결과 캐시 무효화", event.ids().size());
+        try {
+            precedentSearchEngine.index(event.ids());
+        } catch (Exception e) {
+            // 저장은 이미 커밋됐으므로 색인 실패로 수집을 실패시키지 않음 (재구성 API 로 복구)
+            log.warn("판례 검색 색인 갱신 실패. 판례 수: {}", event.ids().size(), e);
+        }
+        try {
+            precedentCitationService.ingest(event.ids());
+        } catch (Exception e) {
+            // 인용 관계 재추출 API 로 복구
+            log.warn("판례 인용 관계 갱신 실패. 판례 수: {}", event.ids().size(), e);
+        }
+        searchResultCacheService.invalidate(PrecedentService.SEARCH_CACHE_NAMESPACE);
+    }
+}
@@ -0,0 +1,9 @@
+package com.ai.lawyer.domain.precedent.repository;
+
+import com.ai.lawyer.domain.precedent.entity.PrecedentBody;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.stereotype.Repository;
+
+@Repository
+public interface PrecedentBodyRepository extends JpaRepository<PrecedentBody, Long> {
+}
@@ -0,0 +1,131 @@
+package com.ai.lawyer.domain.precedent.repository;
+
+import com.ai.lawyer.domain.precedent.entity.Precedent;
+import com.ai.lawyer.domain.precedent.event.PrecedentsSavedEvent;
+import com.ai.lawyer.global.util.TextCompressor;
+import lombok.RequiredArgsConstructor;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.core.namedparam.MapSqlParameterSource;
+import org.springframework.jdbc.core.namedparam.NamedParameterJdbcTemplate;
+import org.springframework.stereotype.Repository;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.sql.Date;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * 판례 일괄 저장 (판례일련번호 기준 upsert)
+ * precedent_number 유니크 인덱스에 걸리면 기존 행을 새 내용으로 갱신하므로 같은 키워드를 다시 수집해도 중복 행이 생기지 않음
+ * 본문은 precedent_search_text(FULLTEXT 원문), precedent_body(압축)에 precedent_id 기준으로 함께 upsert
+ */
+@Repository
+@RequiredArgsConstructor
+public class PrecedentBulkRepository {
+
+    private static final String UPSERT = "INSERT INTO precedent (precedent_number, case_name, case_number, sentencing_date, "
+            + "sentence, court_name, court_type_code, case_type_name, case_type_code, type_of_judgment, list_summary, "
+            + "snippet_source) VALUES (?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?) "
+            + "ON DUPLICATE KEY UPDATE case_name = VALUES(case_name), case_number = VALUES(case_number), "
+            + "sentencing_date = VALUES(sentencing_date), sentence = VALUES(sentence), court_name = VALUES(court_name), "
+            + "court_type_code = VALUES(court_type_code), case_type_name = VALUES(case_type_name), "
+            + "case_type_code = VALUES(case_type_code), type_of_judgment = VALUES(type_of_judgment), "
+            + "list_summary = VALUES(list_summary), snippet_source = VALUES(snippet_source)";
+    private static final String UPSERT_SEARCH_TEXT = "INSERT INTO precedent_search_text (precedent_id, case_name, case_number, "
+            + "notice, summary_of_the_judgment, precedent_content) VALUES (?, ?, ?, ?, ?, ?) "
+            + "ON DUPLICATE KEY UPDATE case_name = VALUES(case_name), case_number = VALUES(case_number), "
+            + "notice = VALUES(notice), summary_of_the_judgment = VALUES(summary_of_the_judgment), "
+            + "precedent_content = VALUES(precedent_content)";
+    private static final String UPSERT_BODY = "INSERT INTO precedent_body (precedent_id, notice, summary_of_the_judgment, "
+            + "reference_article, reference_precedent, precedent_content) VALUES (?, ?, ?, ?, ?, ?) "
+            + "ON DUPLICATE KEY UPDATE notice = VALUES(notice), summary_of_the_judgment = VALUES(summary_of_the_judgment), "
+            + "reference_article = VALUES(reference_article), reference_precedent = VALUES(reference_precedent), "
+            + "precedent_content = VALUES(precedent_content)";
+    private static final String SELECT_IDS = "SELECT id, precedent_number FROM precedent WHERE precedent_number IN (:numbers)";
+
+    private static final int BATCH_SIZE = 100;
+
+    private final JdbcTemplate jdbcTemplate;
+    private final NamedParameterJdbcTemplate namedParameterJdbcTemplate;
+    private final ApplicationEventPublisher eventPublisher;
+
+    /**
+     * 판례 묶음 upsert 후 저장된 행의 id 를 엔티티에 채움
+     * (ON DUPLICATE KEY UPDATE 는 갱신된 행의 생성 키를 돌려주지 않으므로 판례일련번호로 다시 조회)
+     *
+     * @param precedents 저장할 판례 (같은 판례일련번호가 여러 번 있으면 마지막 것만 저장)
+     * @return 저장(갱신 포함)된 판례 id 리스트
+     */
+    @Transactional
+    public List<Long> upsert(Collection<Precedent> precedents) {
+        Map<String, Precedent> byNumber = new LinkedHashMap<>();
+        precedents.forEach(precedent -> byNumber.put(precedent.getPrecedentNumber(), precedent));
+        if (byNumber.isEmpty()) {
+            return List.of();
+        }
+
+        jdbcTemplate.batchUpdate(UPSERT, byNumber.values(), BATCH_SIZE, (ps, precedent) -> {
+            ps.setString(1, precedent.getPrecedentNumber());
+            ps.setString(2, precedent.getCaseName());
+            ps.setString(3, precedent.getCaseNumber());
+            ps.setDate(4, precedent.getSentencingDate() != null ? Date.valueOf(precedent.getSentencingDate()) : null);
+            ps.setString(5, precedent.getSentence());
+            ps.setString(6, precedent.getCourtName());
+            ps.setString(7, precedent.getCourtTypeCode());
+            ps.setString(8, precedent.getCaseTypeName());
+            ps.setString(9, precedent.getCaseTypeCode());
+            ps.setString(10, precedent.getTypeOfJudgment());
+            ps.setString(11, precedent.getListSummary());
+            ps.setString(12, precedent.getSnippetSource());
+        });
+
+        Map<String, Long> ids = findIds(byNumber.keySet());
+        byNumber.forEach((number, precedent) -> precedent.setId(ids.get(number)));
+
+        // 본문: 검색용 원문(FULLTEXT)과 압축 본문(상세/벡터화)을 같은 트랜잭션에서 저장
+        jdbcTemplate.batchUpdate(UPSERT_SEARCH_TEXT, byNumber.values(), BATCH_SIZE, (ps, precedent) -> {
+            ps.setLong(1, precedent.getId());
+            ps.setString(2, precedent.getCaseName());
+            ps.setString(3, precedent.getCaseNumber());
+            ps.setString(4, precedent.getNotice());
+            ps.setString(5, precedent.getSummaryOfTheJudgment());
+            ps.setString(6, precedent.getPrecedentContent());
+        });
+        jdbcTemplate.batchUpdate(UPSERT_BODY, byNumber.values(), BATCH_SIZE, (ps, precedent) -> {
+            ps.setLong(1, precedent.getId());
+            ps.setBytes(2, TextCompressor.compress(precedent.getNotice()));
+            ps.setBytes(3, TextCompressor.compress(precedent.getSummaryOfTheJudgment()));
+            ps.setBytes(4, TextCompressor.compress(precedent.getReferenceArticle()));
+            ps.setBytes(5, TextCompressor.compress(precedent.getReferencePrecedent()));
+            ps.setBytes(6, TextCompressor.compress(precedent.getPrecedentContent()));
+        });
+
+        List<Long> savedIds = byNumber.keySet().stream()
+                .map(ids::get)
+                .toList();
+        // 모든 판례 저장 경로가 이 메서드를 거치므로 여기서 한 번만 알림 (검색 캐시 무효화/색인 갱신은 커밋 후)
+        eventPublisher.publishEvent(new PrecedentsSavedEvent(savedIds));
+        return savedIds;
+    }
+
+    /**
+     * 이미 저장된 판례일련번호 -> id
+     *
+     * @param precedentNumbers 판례일련번호
+     * @return 저장된 것만 담은 맵
+     */
+    public Map<String, Long> findIds(Collection<String> precedentNumbers) {
+        Map<String, Long> ids = new HashMap<>();
+        if (precedentNumbers.isEmpty()) {
+            return ids;
+        }
+        namedParameterJdbcTemplate.query(SELECT_IDS, new MapSqlParameterSource("numbers", precedentNumbers), rs -> {
+            ids.put(rs.getString("precedent_number"), rs.getLong("id"));
+        });
+        return ids;
+    }
+}
@@ -0,0 +1,195 @@
+package com.ai.lawyer.domain.precedent.repository;
+
+import com.ai.lawyer.domain.precedent.dto.PrecedentCitationDto;
+import com.ai.lawyer.domain.precedent.service.CitationExtractor;
+import com.ai.lawyer.domain.precedent.service.CitationGraph;
+import com.ai.lawyer.global.util.TextCompressor;
+import lombok.RequiredArgsConstructor;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.core.namedparam.MapSqlParameterSource;
+import org.springframework.jdbc.core.namedparam.NamedParameterJdbcTemplate;
+import org.springframework.stereotype.Repository;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.sql.Date;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+
+/**
+ * 판례 인용 관계 테이블 (precedent_case_number, precedent_citation, precedent_article_reference)
+ * 인용은 사건번호 문자열로 저장하고 조회할 때 precedent_case_number 와 조인하므로,
+ * 인용된 판례가 나중에 수집되어도 다시 추출하지 않고 간선이 이어짐
+ */
+@Repository
+@RequiredArgsConstructor
+public class PrecedentCitationRepository {
+
+    // 참조판례/참조조문은 압축 본문(precedent_body)에 있음
+    private static final String SOURCES = "SELECT p.id, p.case_number, b.reference_precedent, b.reference_article "
+            + "FROM precedent p LEFT JOIN precedent_body b ON b.precedent_id = p.id ";
+    private static final String SELECT_SOURCES_BY_IDS = SOURCES + "WHERE p.id IN (:ids)";
+    private static final String SELECT_SOURCES_AFTER = SOURCES + "WHERE p.id > ? ORDER BY p.id LIMIT ?";
+
+    private static final String EDGES = "SELECT DISTINCT c.citing_precedent_id, n.precedent_id FROM precedent_citation c "
+            + "JOIN precedent_case_number n ON n.case_number = c.cited_case_number "
+            + "WHERE c.citing_precedent_id <> n.precedent_id ";
+    private static final String EDGES_BY_IDS = EDGES + "AND (c.citing_precedent_id IN (:ids) OR n.precedent_id IN (:ids))";
+    private static final String ARTICLES = "SELECT DISTINCT precedent_id, law_name, article_number, article_branch "
+            + "FROM precedent_article_reference ";
+    private static final String ARTICLES_BY_IDS = ARTICLES + "WHERE precedent_id IN (:ids)";
+
+    private static final String SELECT_SUMMARIES =
+            "SELECT id, case_name, case_number, sentencing_date, court_name FROM precedent WHERE id IN (:ids) "
+            + "ORDER BY sentencing_date DESC, id DESC LIMIT :limit";
+
+    private final JdbcTemplate jdbcTemplate;
+    private final NamedParameterJdbcTemplate namedParameterJdbcTemplate;
+
+    /**
+     * 추출 대상 원문 (사건번호, 참조판례, 참조조문) 조회
+     *
+     * @param ids 판례 id
+     */
+    public List<CitationSource> findSourcesByIds(Collection<Long> ids) {
+        if (ids.isEmpty()) {
+            return List.of();
+        }
+        return namedParameterJdbcTemplate.query(SELECT_SOURCES_BY_IDS, new MapSqlParameterSource("ids", ids), this::mapSource);
+    }
+
+    /**
+     * afterId 다음 판례의 추출 대상 원문을 id 순으로 limit 개 조회 (전체 재추출용)
+     */
+    public List<CitationSource> findSourcesAfter(long afterId, int limit) {
+        return jdbcTemplate.query(SELECT_SOURCES_AFTER, this::mapSource, afterId, limit);
+    }
+
+    /**
+     * 판례들의 사건번호/인용/조문 참조 행을 지우고 새로 저장
+     * 판례 저장 커밋 후(AFTER_COMMIT) 호출되므로 이미 끝난 트랜잭션에 참여하지 않도록 새 트랜잭션으로 실행
+     */
+    @Transactional(propagation = Propagation.REQUIRES_NEW)
+    public void replace(List<ExtractedCitations> extracted) {
+        if (extracted.isEmpty()) {
+            return;
+        }
+        MapSqlParameterSource ids = new MapSqlParameterSource("ids",
+                extracted.stream().map(ExtractedCitations::precedentId).toList());
+        namedParameterJdbcTemplate.update("DELETE FROM precedent_case_number WHERE precedent_id IN (:ids)", ids);
+        namedParameterJdbcTemplate.update("DELETE FROM precedent_citation WHERE citing_precedent_id IN (:ids)", ids);
+        namedParameterJdbcTemplate.update("DELETE FROM precedent_article_reference WHERE precedent_id IN (:ids)", ids);
+
+        List<Object[]> caseNumbers = new ArrayList<>();
+        List<Object[]> citations = new ArrayList<>();
+        List<Object[]> articles = new ArrayList<>();
+        for (ExtractedCitations row : extracted) {
+            row.caseNumbers().forEach(caseNumber -> caseNumbers.add(new Object[]{row.precedentId(), caseNumber}));
+            row.citedCaseNumbers().stream()
+                    .filter(caseNumber -> !row.caseNumbers().contains(caseNumber))
+                    .forEach(caseNumber -> citations.add(new Object[]{row.precedentId(), caseNumber}));
+            row.articles().forEach(article -> articles.add(new Object[]{
+                    row.precedentId(), article.lawName(), article.articleNumber(), article.articleBranch()}));
+        }
+        jdbcTemplate.batchUpdate("INSERT INTO precedent_case_number (precedent_id, case_number) VALUES (?, ?)", caseNumbers);
+        jdbcTemplate.batchUpdate("INSERT INTO precedent_citation (citing_precedent_id, cited_case_number) VALUES (?, ?)", citations);
+        jdbcTemplate.batchUpdate("INSERT INTO precedent_article_reference (precedent_id, law_name, article_number, article_branch) "
+                + "VALUES (?, ?, ?, ?)", articles);
+    }
+
+    /**
+     * 전체 인용 간선 (인용한 판례 -> 인용된 판례, 수집된 판례끼리만)
+     */
+    public CitationGraph.Edges<Long> findAllEdges() {
+        CitationGraph.Edges<Long> edges = CitationGraph.Edges.empty();
+        jdbcTemplate.query(EDGES, rs -> {
+            edges.add(rs.getLong(1), rs.getLong(2));
+        });
+        return edges;
+    }
+
+    /**
+     * 판례들이 한쪽 끝인 인용 간선
+     */
+    public CitationGraph.Edges<Long> findEdgesByIds(Collection<Long> ids) {
+        CitationGraph.Edges<Long> edges = CitationGraph.Edges.empty();
+        if (!ids.isEmpty()) {
+            namedParameterJdbcTemplate.query(EDGES_BY_IDS, new MapSqlParameterSource("ids", ids), rs -> {
+                edges.add(rs.getLong(1), rs.getLong(2));
+            });
+        }
+        return edges;
+    }
+
+    /**
+     * 전체 조문 참조 (판례 -> 조문 키)
+     */
+    public CitationGraph.Edges<String> findAllArticles() {
+        CitationGraph.Edges<String> articles = CitationGraph.Edges.empty();
+        jdbcTemplate.query(ARTICLES, rs -> {
+            articles.add(rs.getLong(1), CitationExtractor.articleKey(rs.getString(2), rs.getInt(3), rs.getInt(4)));
+        });
+        return articles;
+    }
+
+    /**
+     * 판례들의 조문 참조
+     */
+    public CitationGraph.Edges<String> findArticlesByIds(Collection<Long> ids) {
+        CitationGraph.Edges<String> articles = CitationGraph.Edges.empty();
+        if (!ids.isEmpty()) {
+            namedParameterJdbcTemplate.query(ARTICLES_BY_IDS, new MapSqlParameterSource("ids", ids), rs -> {
+                articles.add(rs.getLong(1), CitationExtractor.articleKey(rs.getString(2), rs.getInt(3), rs.getInt(4)));
+            });
+        }
+        return articles;
+    }
+
+    /**
+     * 응답용 판례 요약 (본문 컬럼은 읽지 않음), 선고일자 최신순
+     *
+     * @param ids 판례 id
+     * @param limit 최대 건수
+     */
+    public List<PrecedentCitationDto> findSummariesByIds(Collection<Long> ids, int limit) {
+        if (ids.isEmpty()) {
+            return List.of();
+        }
+        MapSqlParameterSource params = new MapSqlParameterSource("ids", ids).addValue("limit", limit);
+        return namedParameterJdbcTemplate.query(SELECT_SUMMARIES, params, (rs, rowNum) -> {
+            Date sentencingDate = rs.getDate("sentencing_date");
+            return new PrecedentCitationDto(rs.getLong("id"), rs.getString("case_name"), rs.getString("case_number"),
+                    sentencingDate != null ? sentencingDate.toLocalDate() : null, rs.getString("court_name"));
+        });
+    }
+
+    /**
+     * @param precedentId 판례 id
+     * @param caseNumber 사건번호 원문
+     * @param referencePrecedent 참조판례 원문
+     * @param referenceArticle 참조조문 원문
+     */
+    public record CitationSource(long precedentId, String caseNumber, String referencePrecedent, String referenceArticle) {
+    }
+
+    /**
+     * @param precedentId 판례 id
+     * @param caseNumbers 판례 자신의 사건번호 (병합 사건이면 여러 개)
+     * @param citedCaseNumbers 참조판례에서 뽑은 사건번호
+     * @param articles 참조조문에서 뽑은 조문
+     */
+    public record ExtractedCitations(long precedentId, List<String> caseNumbers, List<String> citedCaseNumbers,
+                                     List<CitationExtractor.ArticleRef> articles) {
+    }
+
+    // ==================== Private Helper Methods ====================
+
+    private CitationSource mapSource(ResultSet rs, int rowNum) throws SQLException {
+        return new CitationSource(rs.getLong("id"), rs.getString("case_number"),
+                TextCompressor.decompress(rs.getBytes("reference_precedent")),
+                TextCompressor.decompress(rs.getBytes("reference_article")));
+    }
+}
@@ -0,0 +1,75 @@
+package com.ai.lawyer.domain.precedent.repository;
+
+import com.ai.lawyer.domain.precedent.dto.PrecedentIndexSourceDto;
+import lombok.RequiredArgsConstructor;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.core.namedparam.MapSqlParameterSource;
+import org.springframework.jdbc.core.namedparam.NamedParameterJdbcTemplate;
+import org.springframework.stereotype.Repository;
+
+import java.sql.Date;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.util.Collection;
+import java.util.List;
+
+/**
+ * 검색 색인용 판례 조회
+ * 색인 재구성은 id 키셋으로 한 묶음씩 읽으므로 전체 판례를 메모리에 올리지 않음
+ * 본문은 압축 본문(precedent_body) 대신 압축 해제가 필요 없는 검색 원문(precedent_search_text)에서 읽음
+ */
+@Repository
+@RequiredArgsConstructor
+public class PrecedentIndexSourceRepository {
+
+    private static final String COLUMNS = "SELECT p.id, p.case_name, p.case_number, p.sentencing_date, p.court_name, "
+            + "p.case_type_name, p.type_of_judgment, t.notice, t.summary_of_the_judgment, t.precedent_content, p.list_summary, "
+            + "p.snippet_source FROM precedent p LEFT JOIN precedent_search_text t ON t.precedent_id = p.id ";
+    private static final String SELECT_BY_IDS = COLUMNS + "WHERE p.id IN (:ids)";
+    private static final String SELECT_AFTER = COLUMNS + "WHERE p.id > ? ORDER BY p.id LIMIT ?";
+
+    private final JdbcTemplate jdbcTemplate;
+    private final NamedParameterJdbcTemplate namedParameterJdbcTemplate;
+
+    /**
+     * id 로 조회 (없는 id 는 결과에서 빠짐)
+     *
+     * @param ids 판례 id
+     */
+    public List<PrecedentIndexSourceDto> findByIds(Collection<Long> ids) {
+        if (ids.isEmpty()) {
+            return List.of();
+        }
+        return namedParameterJdbcTemplate.query(SELECT_BY_IDS, new MapSqlParameterSource("ids", ids), this::mapRow);
+    }
+
+    /**
+     * afterId 다음 판례를 id 순으로 limit 개 조회
+     *
+     * @param afterId 이전 묶음의 마지막 id (처음이면 0)
+     * @param limit 묶음 크기
+     */
+    public List<PrecedentIndexSourceDto> findAfter(long afterId, int limit) {
+        return jdbcTemplate.query(SELECT_AFTER, this::mapRow, afterId, limit);
+    }
+
+    // ==================== Private Helper Methods ====================
+
+    private PrecedentIndexSourceDto mapRow(ResultSet rs, int rowNum) throws SQLException {
+        Date sentencingDate = rs.getDate("sentencing_date");
+        return PrecedentIndexSourceDto.builder()
+                .id(rs.getLong("id"))
+                .caseName(rs.getString("case_name"))
+                .caseNumber(rs.getString("case_number"))
+                .sentencingDate(sentencingDate != null ? sentencingDate.toLocalDate() : null)
+                .courtName(rs.getString("court_name"))
+                .caseTypeName(rs.getString("case_type_name"))
+                .typeOfJudgment(rs.getString("type_of_judgment"))
+                .notice(rs.getString("notice"))
+                .summaryOfTheJudgment(rs.getString("summary_of_the_judgment"))
+                .precedentContent(rs.getString("precedent_content"))
+                .listSummary(rs.getString("list_summary"))
+                .snippetSource(rs.getString("snippet_source"))
+                .build();
+    }
+}
@@ -6,57 +6,124 @@ import org.springframework.data.jpa.repository.Query;
 import org.springframework.stereotype.Repository;
 import org.springframework.data.repository.query.Param;
 
+import java.math.BigDecimal;
 import java.time.LocalDate;
 import java.util.List;
 
 @Repository
 public interface PrecedentRepository extends JpaRepository<Precedent, Long>, PrecedentRepositoryCustom {
 
+    long countByIdBetween(Long fromId, Long toId);
+
     @Query(value = """
         SELECT 
-            id, 
-            case_name, 
-            case_number, 
-            sentencing_date,
-            COALESCE(
-                NULLIF(summary_of_the_judgment, ''),
-                NULLIF(notice, ''),
-                NULLIF(precedent_content, ''),
-                ''
-            ) AS contents,
-            MATCH(notice, summary_of_the_judgment, precedent_content, case_name, case_number)
-                AGAINST (:keyword IN BOOLEAN MODE) AS relevance
-        FROM precedent
+            p.id, 
+            p.case_name, 
+            p.case_number, 
+            p.sentencing_date,
+            COALESCE(p.list_summary, '') AS contents,
+            CAST(MATCH(t.notice, t.summary_of_the_judgment, t.precedent_content, t.case_name, t.case_number)
+                AGAINST (:keyword IN BOOLEAN MODE) AS DECIMAL(20, 10)) AS relevance,
+            p.snippet_source
+        FROM precedent p
+        JOIN precedent_search_text t ON t.precedent_id = p.id
         WHERE 
             (:keyword IS NULL OR :keyword = '' OR
-             MATCH(notice, summary_of_the_judgment, precedent_content, case_name, case_number)
+             MATCH(t.notice, t.summary_of_the_judgment, t.precedent_content, t.case_name, t.case_number)
              AGAINST (:keyword IN BOOLEAN MODE) > 0)
-          AND (:startDate IS NULL OR sentencing_date >= :startDate)
-          AND (:endDate IS NULL OR sentencing_date <= :endDate)
-        ORDER BY relevance DESC, sentencing_date DESC
+          AND (:startDate IS NULL OR p.sentencing_date >= :startDate)
+          AND (:endDate IS NULL OR p.sentencing_date <= :endDate)
+          AND (:courtName IS NULL OR p.court_name = :courtName)
+          AND (:caseTypeName IS NULL OR p.case_type_name = :caseTypeName)
+          AND (:typeOfJudgment IS NULL OR p.type_of_judgment = :typeOfJudgment)
+        ORDER BY relevance DESC, COALESCE(p.sentencing_date, DATE '1000-01-01') DESC, p.id DESC
         LIMIT :offset, :pageSize
         """, nativeQuery = true)
     List<Object[]> searchByKeywordNative(
             @Param("keyword") String keyword, // "절도*" 형식
             @Param("startDate") LocalDate startDate,
             @Param("endDate") LocalDate endDate,
+            @Param("courtName") String courtName,
+            @Param("caseTypeName") String caseTypeName,
+            @Param("typeOfJudgment") String typeOfJudgment,
             @Param("offset") int offset,
             @Param("pageSize") int pageSize
     );
 
+    /**
+     * 키셋(seek) 페이지네이션 검색
+     * (relevance, 선고일자, id) 가 커서보다 뒤인 행부터 조회하므로 깊은 페이지도 OFFSET 만큼 건너뛰지 않음
+     * relevance 는 커서로 그대로 되돌려 비교할 수 있도록 DECIMAL 로 고정
+     */
+    @Query(value = """
+        SELECT id, case_name, case_number, sentencing_date, contents, relevance, snippet_source
+        FROM (
+            SELECT
+                q.id,
+                q.case_name,
+                q.case_number,
+                q.sentencing_date,
+                COALESCE(q.list_summary, '') AS contents,
+                q.snippet_source,
+                CAST(MATCH(t.notice, t.summary_of_the_judgment, t.precedent_content, t.case_name, t.case_number)
+                    AGAINST (:keyword IN BOOLEAN MODE) AS DECIMAL(20, 10)) AS relevance,
+                COALESCE(q.sentencing_date, DATE '1000-01-01') AS sort_date
+            FROM precedent q
+            JOIN precedent_search_text t ON t.precedent_id = q.id
+            WHERE
+                (:keyword IS NULL OR :keyword = '' OR
+                 MATCH(t.notice, t.summary_of_the_judgment, t.precedent_content, t.case_name, t.case_number)
+                 AGAINST (:keyword IN BOOLEAN MODE) > 0)
+              AND (:startDate IS NULL OR q.sentencing_date >= :startDate)
+              AND (:endDate IS NULL OR q.sentencing_date <= :endDate)
+              AND (:courtName IS NULL OR q.court_name = :courtName)
+              AND (:caseTypeName IS NULL OR q.case_type_name = :caseTypeName)
+              AND (:typeOfJudgment IS NULL OR q.type_of_judgment = :typeOfJudgment)
+        ) p
+        WHERE p.relevance < :cursorRelevance
+           OR (p.relevance = :cursorRelevance
+               AND (p.sort_date < :cursorDate OR (p.sort_date = :cursorDate AND p.id < :cursorId)))
+        ORDER BY p.relevance DESC, p.sort_date DESC, p.id DESC
+        LIMIT :pageSize
+        """, nativeQuery = true)
+    List<Object[]> searchByKeywordNativeAfter(
+            @Param("keyword") String keyword,
+            @Param("startDate") LocalDate startDate,
+            @Param("endDate") LocalDate endDate,
+            @Param("courtName") String courtName,
+            @Param("caseTypeName") String caseTypeName,
+            @Param("typeOfJudgment") String typeOfJudgment,
+            @Param("cursorRelevance") BigDecimal cursorRelevance,
+            @Param("cursorDate") LocalDate cursorDate,
+            @Param("cursorId") Long cursorId,
+            @Param("pageSize") int pageSize
+    );
+
+    /**
+     * 검색 조건 전체 결과의 패싯 조합별 건수 (법원명, 사건종류명, 판결유형, 선고연도)
+     * 패싯마다 GROUP BY 를 따로 하지 않고 한 번 묶은 결과를 호출 측에서 패싯별로 합산 (합계가 전체 건수)
+     */
     @Query(value = """
-        SELECT COUNT(*)
-        FROM precedent
+        SELECT p.court_name, p.case_type_name, p.type_of_judgment, YEAR(p.sentencing_date) AS sentencing_year, COUNT(*)
+        FROM precedent p
+        JOIN precedent_search_text t ON t.precedent_id = p.id
         WHERE 
             (:keyword IS NULL OR :keyword = '' OR
-             MATCH(notice, summary_of_the_judgment, precedent_content, case_name, case_number)
+             MATCH(t.notice, t.summary_of_the_judgment, t.precedent_content, t.case_name, t.case_number)
              AGAINST (:keyword IN BOOLEAN MODE) > 0)
-          AND (:startDate IS NULL OR sentencing_date >= :startDate)
-          AND (:endDate IS NULL OR sentencing_date <= :endDate)
+          AND (:startDate IS NULL OR p.sentencing_date >= :startDate)
+          AND (:endDate IS NULL OR p.sentencing_date <= :endDate)
+          AND (:courtName IS NULL OR p.court_name = :courtName)
+          AND (:caseTypeName IS NULL OR p.case_type_name = :caseTypeName)
+          AND (:typeOfJudgment IS NULL OR p.type_of_judgment = :typeOfJudgment)
+        GROUP BY p.court_name, p.case_type_name, p.type_of_judgment, sentencing_year
         """, nativeQuery = true)
-    Long countByKeywordNative(
+    List<Object[]> countFacetsByKeywordNative(
             @Param("keyword") String keyword,
             @Param("startDate") LocalDate startDate,
-            @Param("endDate") LocalDate endDate
+            @Param("endDate") LocalDate endDate,
+            @Param("courtName") String courtName,
+            @Param("caseTypeName") String caseTypeName,
+            @Param("typeOfJudgment") String typeOfJudgment
     );
 }
@@ -3,16 +3,23 @@ package com.ai.lawyer.domain.precedent.repository;
 import com.ai.lawyer.domain.precedent.dto.PrecedentSearchRequestDto;
 import com.ai.lawyer.domain.precedent.dto.PrecedentSummaryListDto;
 import com.ai.lawyer.domain.precedent.entity.QPrecedent;
+import com.ai.lawyer.domain.precedent.entity.QPrecedentSearchText;
+import com.ai.lawyer.global.dto.CursorPage;
+import com.ai.lawyer.global.util.CursorUtils;
+import com.ai.lawyer.infrastructure.redis.service.SearchCountCacheService;
 import com.querydsl.core.BooleanBuilder;
 import com.querydsl.core.types.Projections;
-import com.querydsl.core.types.dsl.CaseBuilder;
-import com.querydsl.core.types.dsl.StringExpression;
+import com.querydsl.core.types.dsl.BooleanExpression;
+import com.querydsl.core.types.dsl.DateExpression;
+import com.querydsl.core.types.dsl.Expressions;
+import com.querydsl.jpa.JPAExpressions;
 import com.querydsl.jpa.impl.JPAQueryFactory;
 import lombok.RequiredArgsConstructor;
 import org.springframework.data.domain.*;
 import org.springframework.stereotype.Repository;
 import org.springframework.util.StringUtils;
 
+import java.time.LocalDate;
 import java.util.Collections;
 import java.util.List;
 
@@ -20,9 +27,13 @@ import java.util.List;
 @RequiredArgsConstructor
 public class PrecedentRepositoryImpl implements PrecedentRepositoryCustom{
 
+    private static final LocalDate MIN_SORT_DATE = LocalDate.of(1000, 1, 1);
+
     private final JPAQueryFactory queryFactory;
+    private final SearchCountCacheService searchCountCacheService;
 
     private final QPrecedent precedent = QPrecedent.precedent;
+    private final QPrecedentSearchText searchText = QPrecedentSearchText.precedentSearchText;
 
     @Override
     public Page<PrecedentSummaryListDto> searchPrecedentsByKeyword(PrecedentSearchRequestDto requestDto) {
@@ -31,9 +42,13 @@ public class PrecedentRepositoryImpl implements PrecedentRepositoryCustom{
 
         if (StringUtils.hasText(requestDto.getKeyword())) {
             String pattern = "%" + requestDto.getKeyword().trim() + "%";
-            builder.or(precedent.getNotice().like(pattern))
-                    .or(precedent.getSummaryOfTheJudgment().like(pattern))
-                    .or(precedent.getPrecedentContent().like(pattern))
+            // 본문은 precedent_search_text 에 있으므로 본문 검색은 id 서브쿼리로
+            builder.or(precedent.getId().in(JPAExpressions
+                            .select(searchText.getPrecedentId())
+                            .from(searchText)
+                            .where(searchText.getNotice().like(pattern)
+                                    .or(searchText.getSummaryOfTheJudgment().like(pattern))
+                                    .or(searchText.getPrecedentContent().like(pattern)))))
                     .or(precedent.getCaseName().like(pattern))
                     .or(precedent.getCaseNumber().like(pattern));
         }
@@ -58,29 +73,30 @@ public class PrecedentRepositoryImpl implements PrecedentRepositoryCustom{
                 Sort.by(Sort.Direction.DESC, "sentencingDate")
         );
 
-        // 1) 전체 건수 조회
-        long total = queryFactory
-                .selectFrom(precedent)
+        // 1) 전체 건수 조회 (같은 조건이면 캐시된 값 사용)
+        long total = searchCountCacheService.getCount("precedent-like", countKey(requestDto), () -> queryFactory
+                .select(precedent.count())
+                .from(precedent)
                 .where(builder)
-                .fetchCount();
+                .fetchOne());
 
         if (total == 0) {
             return new PageImpl<>(Collections.emptyList(), pageable, 0);
         }
 
-        // CLOB 필드 조건: null 또는 빈 문자열("") 체크
-        StringExpression contents = new CaseBuilder()
-                // summaryOfTheJudgment가 null도 아니고, 빈 문자열도 아닐 때
-                .when(precedent.getSummaryOfTheJudgment().isNotNull()
-                        .and(precedent.getSummaryOfTheJudgment().ne("")))
-                .then(precedent.getSummaryOfTheJudgment())
-                // notice가 null도 아니고, 빈 문자열도 아닐 때
-                .when(precedent.getNotice().isNotNull()
-                        .and(precedent.getNotice().ne("")))
-                .then(precedent.getNotice())
-                // 그 외에는 precedentContent 전체
-                .otherwise(precedent.getPrecedentContent());
-
+        // 선고일자가 없는 판례도 순서가 정해지도록 정렬 키에서는 최소 날짜로 취급
+        DateExpression<LocalDate> sortDate = Expressions.dateTemplate(
+                LocalDate.class, "coalesce({0}, {1})", precedent.getSentencingDate(), MIN_SORT_DATE);
+
+        // 커서가 있으면 (선고일자, id) 가 마지막으로 본 행보다 뒤인 것부터
+        BooleanExpression afterCursor = null;
+        if (StringUtils.hasText(requestDto.getCursor())) {
+            String[] cursor = CursorUtils.decode(requestDto.getCursor(), 2);
+            LocalDate cursorDate = LocalDate.parse(cursor[0]);
+            Long cursorId = Long.parseLong(cursor[1]);
+            afterCursor = sortDate.lt(cursorDate)
+                    .or(sortDate.eq(cursorDate).and(precedent.getId().lt(cursorId)));
+        }
 
         // 2) 데이터 조회
         List<PrecedentSummaryListDto> content = queryFactory
@@ -89,45 +105,33 @@ public class PrecedentRepositoryImpl implements PrecedentRepositoryCustom{
                         precedent.getCaseName(),
                         precedent.getCaseNumber(),
                         precedent.getSentencingDate(),
-                        contents
+                        precedent.getListSummary().coalesce("")   // 수집 시 만든 요약만 읽음 (본문 LONGTEXT 는 읽지 않음)
                 ))
                 .from(precedent)
-                .where(builder)
-                .offset(pageable.getOffset())
+                .where(builder, afterCursor)
+                .offset(afterCursor != null ? 0 : pageable.getOffset())
                 .limit(pageable.getPageSize())
-                .orderBy(precedent.getSentencingDate().desc())
+                .orderBy(sortDate.desc(), precedent.getId().desc())
                 .fetch();
 
-        // Java에서 후처리: 빈 문자열 체크 및 【주문】부분 추출
-        content.forEach(dto -> {
-            String processedContents = processContents(dto.getContents());
-            dto.setContents(processedContents);
-        });
-
-        return new PageImpl<>(content, pageable, total);
-    }
-
-    private String processContents(String contents) {
-        if (contents == null || contents.trim().isEmpty()) {
-            return "";
-        }
-
-        // 이미 summaryOfTheJudgment나 notice가 있는 경우
-        if (!contents.contains("【주    문】")) {
-            return contents;
+        String nextCursor = null;
+        if (content.size() == pageable.getPageSize()) {
+            PrecedentSummaryListDto last = content.get(content.size() - 1);
+            nextCursor = CursorUtils.encode(
+                    last.getSentencingDate() != null ? last.getSentencingDate() : MIN_SORT_DATE,
+                    last.getId());
         }
 
-        // precedentContent에서 【주문】부터 【이유】까지 추출
-        String startTag = "【주    문】";
-        String endTag = "【이    유】";
-
-        int startIndex = contents.indexOf(startTag);
-        int endIndex = contents.indexOf(endTag);
-
-        if (startIndex != -1 && endIndex != -1 && endIndex > startIndex) {
-            return contents.substring(startIndex, endIndex).trim();
-        }
+        return new CursorPage<>(content, pageable, total, nextCursor);
+    }
 
-        return contents;
+    /**
+     * 건수 캐시 키 (페이지/커서를 뺀 검색 조건)
+     */
+    private String countKey(PrecedentSearchRequestDto requestDto) {
+        return String.join("|",
+                SearchCountCacheService.normalizeKeyword(requestDto.getKeyword()),
+                String.valueOf(requestDto.getSentencingDateStart()),
+                String.valueOf(requestDto.getSentencingDateEnd()));
     }
 }
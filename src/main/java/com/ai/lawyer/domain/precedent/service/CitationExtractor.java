@@ -0,0 +1,147 @@
+package com.ai.lawyer.domain.precedent.service;
+
+import org.springframework.util.StringUtils;
+
+import java.util.ArrayList;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
+/**
+ * 참조판례/참조조문 자유 텍스트에서 인용 사건번호와 법령 조문 추출
+ * 예) 참조판례 "대법원 2009. 12. 10. 선고 2009도11448 판결(공2010상, 190)" -> 2009도11448
+ *     참조조문 "[1] 형법 제329조, 제330조 / [2] 민법 제750조의2 제1항" -> 형법 329조, 형법 330조, 민법 750조의2
+ * 사건번호는 공백을 뺀 형태로 맞추므로 precedent.case_number 에서 같은 규칙으로 뽑은 값과 그대로 비교할 수 있음
+ */
+public final class CitationExtractor {
+
+    public static final int MAX_CASE_NUMBER_LENGTH = 40; // precedent_case_number.case_number 컬럼 길이와 같아야 함
+    public static final int MAX_LAW_NAME_LENGTH = 100;   // precedent_article_reference.law_name 컬럼 길이와 같아야 함
+
+    // 연도(2자리/4자리) + 사건부호(한글 1~3자) + 일련번호
+    private static final Pattern CASE_NUMBER = Pattern.compile("(?<!\\d)(\\d{4}|\\d{2})\\s*([가-힣]{1,3})\\s*(\\d{1,7})(?!\\d)");
+    // 사건부호로 쓰이지 않는 글자 (날짜, 조항, 공보 면수 등의 오탐 방지)
+    private static final Set<String> NON_CASE_CODES = Set.of(
+            "년", "월", "일", "조", "항", "호", "목", "세", "명", "원", "회", "개", "차", "장", "절", "편", "권", "면", "쪽", "상", "하");
+
+    private static final Pattern ARTICLE = Pattern.compile("제\\s*(\\d+)\\s*조(?:\\s*의\\s*(\\d+))?");
+    private static final Pattern ITEM_MARKER = Pattern.compile("\\[\\d+]");
+    private static final Pattern PARENTHESES = Pattern.compile("\\([^()]*\\)");
+    private static final Pattern SAME_LAW = Pattern.compile("^(같은|동)\\s*(법|법률|령|시행령|규칙)?$");
+
+    private CitationExtractor() {
+    }
+
+    /**
+     * @param text 참조판례 또는 사건번호 원문
+     * @return 공백을 뺀 사건번호 (중복 제거, 나온 순서)
+     */
+    public static List<String> caseNumbers(String text) {
+        if (!StringUtils.hasText(text)) {
+            return List.of();
+        }
+        Set<String> caseNumbers = new LinkedHashSet<>();
+        Matcher matcher = CASE_NUMBER.matcher(text);
+        while (matcher.find()) {
+            if (NON_CASE_CODES.contains(matcher.group(2))) {
+                continue;
+            }
+            String caseNumber = matcher.group(1) + matcher.group(2) + matcher.group(3);
+            if (caseNumber.length() <= MAX_CASE_NUMBER_LENGTH) {
+                caseNumbers.add(caseNumber);
+            }
+        }
+        return new ArrayList<>(caseNumbers);
+    }
+
+    /**
+     * 쉼표, 슬래시로 나눈 항목마다 "법령명 제N조(의M)" 를 찾음
+     * 법령명이 생략된 항목("제330조", "같은 법 제2조")은 바로 앞 항목의 법령명을 이어 씀
+     * 괄호 안 개정 연혁("(2010. 3. 31. 법률 제10210호로 개정되기 전의 것)")과 항/호는 무시
+     *
+     * @param text 참조조문 원문
+     * @return 조문 참조 (중복 제거, 나온 순서)
+     */
+    public static List<ArticleRef> articles(String text) {
+        if (!StringUtils.hasText(text)) {
+            return List.of();
+        }
+        String cleaned = removeParentheses(ITEM_MARKER.matcher(text).replaceAll(" "));
+
+        Set<ArticleRef> articles = new LinkedHashSet<>();
+        String currentLawName = null;
+        for (String item : cleaned.split("[,/\\n]")) {
+            Matcher matcher = ARTICLE.matcher(item);
+            boolean first = true;
+            while (matcher.find()) {
+                if (first) {
+                    String lawName = normalizeLawName(item.substring(0, matcher.start()));
+                    if (lawName != null) {
+                        currentLawName = lawName;
+                    }
+                    first = false;
+                }
+                if (currentLawName == null) {
+                    break;
+                }
+                int articleBranch = matcher.group(2) != null ? Integer.parseInt(matcher.group(2)) : 0;
+                articles.add(new ArticleRef(currentLawName, Integer.parseInt(matcher.group(1)), articleBranch));
+            }
+        }
+        return new ArrayList<>(articles);
+    }
+
+    /**
+     * @param lawName 법령명 (공백 정리됨)
+     * @param articleNumber 조 번호
+     * @param articleBranch 가지 번호 ("제5조의4" 의 4, 없으면 0)
+     */
+    public record ArticleRef(String lawName, int articleNumber, int articleBranch) {
+
+        /**
+         * 조문 그래프/조회에 쓰는 키 (법령명|조|가지)
+         */
+        public String key() {
+            return articleKey(lawName, articleNumber, articleBranch);
+        }
+    }
+
+    public static String articleKey(String lawName, int articleNumber, int articleBranch) {
+        return lawName.trim().replaceAll("\\s+", " ") + "|" + articleNumber + "|" + articleBranch;
+    }
+
+    // ==================== Private Helper Methods ====================
+
+    /**
+     * 중첩 괄호까지 안쪽부터 제거
+     */
+    private static String removeParentheses(String text) {
+        String previous;
+        String current = text;
+        do {
+            previous = current;
+            current = PARENTHESES.matcher(previous).replaceAll(" ");
+        } while (!current.equals(previous));
+        return current;
+    }
+
+    /**
+     * 조문 앞 텍스트를 법령명으로 정리 (앞 항목의 항/호 잔여, "구" 접두어 제거)
+     *
+     * @return 법령명, 앞 항목 법령을 이어 써야 하면 null
+     */
+    private static String normalizeLawName(String prefix) {
+        String lawName = prefix.replaceAll("제\\s*\\d+\\s*[항호목]", " ")
+                .replaceAll("\\s+", " ")
+                .trim();
+        if (lawName.startsWith("구 ")) {
+            lawName = lawName.substring(2).trim();
+        }
+        if (lawName.isEmpty() || !lawName.matches(".*[가-힣].*") || SAME_LAW.matcher(lawName).matches()) {
+            return null;
+        }
+        return lawName.length() > MAX_LAW_NAME_LENGTH ? lawName.substring(0, MAX_LAW_NAME_LENGTH) : lawName;
+    }
+}
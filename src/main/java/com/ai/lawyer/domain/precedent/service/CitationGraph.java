@@ -0,0 +1,428 @@
+package com.ai.lawyer.domain.precedent.service;
+
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.Set;
+import java.util.TreeSet;
+import java.util.function.Function;
+
+/**
+ * 판례 인용 관계 / 조문 참조 그래프 (읽기 전용)
+ * 판례 id 를 정렬된 long 배열 위치(노드 번호)로 바꾸고, 인접 목록은 CSR(offsets + targets int 배열)로 저장
+ * 판례 수십만 건이어도 간선당 int 하나(정방향, 역방향 각각)라 객체 그래프보다 훨씬 작고 GC 부담이 없음
+ * 변경은 replace 로 바뀐 판례와 그 이웃의 목록만 오버레이(판례 id -> 새 목록)에 담은 새 그래프를 만들고 참조를 바꿔 끼움
+ * (CSR 은 그대로 공유하므로 비용은 바뀐 간선 수 + 오버레이 크기에 비례, 읽는 쪽은 잠금 없음)
+ * 오버레이가 커지면 compact 로 CSR 하나로 합침
+ */
+public final class CitationGraph {
+
+    private static final long[] EMPTY = new long[0];
+    private static final String[] NO_ARTICLES = new String[0];
+
+    private final long[] nodeIds;        // 정렬된 판례 id (배열 위치 = 노드 번호)
+    private final int[] citeOffsets;     // 노드 i 가 인용한 판례: citeTargets[citeOffsets[i] .. citeOffsets[i + 1])
+    private final int[] citeTargets;
+    private final int[] citedByOffsets;  // 노드 i 를 인용한 판례: citedByTargets[citedByOffsets[i] .. citedByOffsets[i + 1])
+    private final int[] citedByTargets;
+    private final String[] articleKeys;  // 정렬된 조문 키 (CitationExtractor.articleKey)
+    private final int[] articleOffsets;  // 조문 j 를 참조한 판례: articleNodes[articleOffsets[j] .. articleOffsets[j + 1])
+    private final int[] articleNodes;
+    private final int[] nodeArticleOffsets; // 노드 i 가 참조한 조문: nodeArticles[nodeArticleOffsets[i] .. nodeArticleOffsets[i + 1])
+    private final int[] nodeArticles;
+
+    // 오버레이: 있으면 CSR 대신 사용 (생성 후 변경하지 않음)
+    private final Map<Long, long[]> citesOverlay;
+    private final Map<Long, long[]> citedByOverlay;
+    private final Map<Long, String[]> nodeArticlesOverlay;
+    private final Map<String, long[]> articleOverlay;
+
+    private final int nodeCount;
+    private final int citationCount;
+    private final int articleReferenceCount;
+
+    private CitationGraph(long[] nodeIds, int[] citeOffsets, int[] citeTargets, int[] citedByOffsets, int[] citedByTargets,
+                          String[] articleKeys, int[] articleOffsets, int[] articleNodes,
+                          int[] nodeArticleOffsets, int[] nodeArticles) {
+        this.nodeIds = nodeIds;
+        this.citeOffsets = citeOffsets;
+        this.citeTargets = citeTargets;
+        this.citedByOffsets = citedByOffsets;
+        this.citedByTargets = citedByTargets;
+        this.articleKeys = articleKeys;
+        this.articleOffsets = articleOffsets;
+        this.articleNodes = articleNodes;
+        this.nodeArticleOffsets = nodeArticleOffsets;
+        this.nodeArticles = nodeArticles;
+        this.citesOverlay = Map.of();
+        this.citedByOverlay = Map.of();
+        this.nodeArticlesOverlay = Map.of();
+        this.articleOverlay = Map.of();
+        this.nodeCount = nodeIds.length;
+        this.citationCount = citeTargets.length;
+        this.articleReferenceCount = articleNodes.length;
+    }
+
+    /**
+     * base 의 CSR 을 공유하고 오버레이만 바꾼 그래프
+     */
+    private CitationGraph(CitationGraph base, Map<Long, long[]> citesOverlay, Map<Long, long[]> citedByOverlay,
+                          Map<Long, String[]> nodeArticlesOverlay, Map<String, long[]> articleOverlay,
+                          int citationCount, int articleReferenceCount) {
+        this.nodeIds = base.nodeIds;
+        this.citeOffsets = base.citeOffsets;
+        this.citeTargets = base.citeTargets;
+        this.citedByOffsets = base.citedByOffsets;
+        this.citedByTargets = base.citedByTargets;
+        this.articleKeys = base.articleKeys;
+        this.articleOffsets = base.articleOffsets;
+        this.articleNodes = base.articleNodes;
+        this.nodeArticleOffsets = base.nodeArticleOffsets;
+        this.nodeArticles = base.nodeArticles;
+        this.citesOverlay = citesOverlay;
+        this.citedByOverlay = citedByOverlay;
+        this.nodeArticlesOverlay = nodeArticlesOverlay;
+        this.articleOverlay = articleOverlay;
+        this.nodeCount = nodeIds.length + (int) overlayIds().stream()
+                .filter(id -> Arrays.binarySearch(nodeIds, id) < 0)
+                .count();
+        this.citationCount = citationCount;
+        this.articleReferenceCount = articleReferenceCount;
+    }
+
+    public static CitationGraph empty() {
+        return build(Edges.empty(), Edges.empty());
+    }
+
+    /**
+     * @param citations 인용 간선 (인용한 판례 id -> 인용된 판례 id)
+     * @param articles 조문 참조 (판례 id -> 조문 키)
+     */
+    public static CitationGraph build(Edges<Long> citations, Edges<String> articles) {
+        long[] nodeIds = nodeIds(citations, articles);
+
+        int size = citations.size();
+        int[] sources = new int[size];
+        int[] targets = new int[size];
+        for (int i = 0; i < size; i++) {
+            sources[i] = Arrays.binarySearch(nodeIds, citations.from(i));
+            targets[i] = Arrays.binarySearch(nodeIds, citations.to(i));
+        }
+        int[] citeOffsets = new int[nodeIds.length + 1];
+        int[] citeTargets = new int[size];
+        fill(sources, targets, citeOffsets, citeTargets);
+        int[] citedByOffsets = new int[nodeIds.length + 1];
+        int[] citedByTargets = new int[size];
+        fill(targets, sources, citedByOffsets, citedByTargets);
+
+        Set<String> sortedKeys = new TreeSet<>();
+        for (int i = 0; i < articles.size(); i++) {
+            sortedKeys.add(articles.to(i));
+        }
+        String[] articleKeys = sortedKeys.toArray(String[]::new);
+        int[] articleIndexes = new int[articles.size()];
+        int[] articleSources = new int[articles.size()];
+        for (int i = 0; i < articles.size(); i++) {
+            articleIndexes[i] = Arrays.binarySearch(articleKeys, articles.to(i));
+            articleSources[i] = Arrays.binarySearch(nodeIds, articles.from(i));
+        }
+        int[] articleOffsets = new int[articleKeys.length + 1];
+        int[] articleNodes = new int[articles.size()];
+        fill(articleIndexes, articleSources, articleOffsets, articleNodes);
+        int[] nodeArticleOffsets = new int[nodeIds.length + 1];
+        int[] nodeArticles = new int[articles.size()];
+        fill(articleSources, articleIndexes, nodeArticleOffsets, nodeArticles);
+
+        return new CitationGraph(nodeIds, citeOffsets, citeTargets, citedByOffsets, citedByTargets,
+                articleKeys, articleOffsets, articleNodes, nodeArticleOffsets, nodeArticles);
+    }
+
+    /**
+     * 바뀐 판례의 간선만 교체한 새 그래프 (CSR 은 다시 만들지 않음)
+     * 바뀐 판례가 인용한 간선, 바뀐 판례를 인용한 간선(사건번호가 바뀌었을 수 있으므로), 바뀐 판례의 조문 참조를 지우고
+     * 새로 읽은 간선을 더한 결과를 바뀐 판례와 그 이웃, 관련 조문의 오버레이로 저장
+     *
+     * @param changedIds 다시 수집된 판례 id
+     * @param citations 바뀐 판례가 한쪽 끝인 인용 간선 (DB 에서 다시 읽은 값)
+     * @param articles 바뀐 판례의 조문 참조
+     */
+    public CitationGraph replace(Set<Long> changedIds, Edges<Long> citations, Edges<String> articles) {
+        Map<Long, Set<Long>> cites = new HashMap<>();
+        Map<Long, Set<Long>> citedBy = new HashMap<>();
+        Map<Long, Set<String>> nodeArticleSets = new HashMap<>();
+        Map<String, Set<Long>> articleSets = new HashMap<>();
+
+        for (long changedId : changedIds) {
+            cites.put(changedId, new TreeSet<>());
+            citedBy.put(changedId, new TreeSet<>());
+            nodeArticleSets.put(changedId, new TreeSet<>());
+            for (long target : cites(changedId)) {
+                if (!changedIds.contains(target)) {
+                    editable(citedBy, target, this::citedBy).remove(changedId);
+                }
+            }
+            for (long source : citedBy(changedId)) {
+                if (!changedIds.contains(source)) {
+                    editable(cites, source, this::cites).remove(changedId);
+                }
+            }
+            for (String articleKey : articlesOf(changedId)) {
+                editable(articleSets, articleKey, this::precedentsForArticle).remove(changedId);
+            }
+        }
+
+        for (int i = 0; i < citations.size(); i++) {
+            long from = citations.from(i);
+            long to = citations.to(i);
+            editable(cites, from, this::cites).add(to);
+            editable(citedBy, to, this::citedBy).add(from);
+        }
+        for (int i = 0; i < articles.size(); i++) {
+            long precedentId = articles.from(i);
+            String articleKey = articles.to(i);
+            nodeArticleSets.computeIfAbsent(precedentId, id -> new TreeSet<>(Arrays.asList(articlesOf(id)))).add(articleKey);
+            editable(articleSets, articleKey, this::precedentsForArticle).add(precedentId);
+        }
+
+        // 간선 수 변화는 인용한 쪽 목록 길이 차이의 합 (바뀐 간선의 출발 판례는 모두 cites 에 있음)
+        int newCitationCount = citationCount;
+        Map<Long, long[]> newCites = new HashMap<>(citesOverlay);
+        for (Map.Entry<Long, Set<Long>> entry : cites.entrySet()) {
+            newCitationCount += entry.getValue().size() - cites(entry.getKey()).length;
+            newCites.put(entry.getKey(), toArray(entry.getValue()));
+        }
+        Map<Long, long[]> newCitedBy = new HashMap<>(citedByOverlay);
+        citedBy.forEach((id, ids) -> newCitedBy.put(id, toArray(ids)));
+
+        int newArticleReferenceCount = articleReferenceCount;
+        Map<Long, String[]> newNodeArticles = new HashMap<>(nodeArticlesOverlay);
+        for (Map.Entry<Long, Set<String>> entry : nodeArticleSets.entrySet()) {
+            newArticleReferenceCount += entry.getValue().size() - articlesOf(entry.getKey()).length;
+            newNodeArticles.put(entry.getKey(), entry.getValue().toArray(String[]::new));
+        }
+        Map<String, long[]> newArticles = new HashMap<>(articleOverlay);
+        articleSets.forEach((articleKey, ids) -> newArticles.put(articleKey, toArray(ids)));
+
+        return new CitationGraph(this, newCites, newCitedBy, newNodeArticles, newArticles,
+                newCitationCount, newArticleReferenceCount);
+    }
+
+    /**
+     * 오버레이를 CSR 에 합친 같은 내용의 그래프 (간선 전체를 다시 정렬하므로 오버레이가 커졌을 때만 호출)
+     */
+    public CitationGraph compact() {
+        if (overlaySize() == 0) {
+            return this;
+        }
+        Set<Long> ids = overlayIds();
+        for (long nodeId : nodeIds) {
+            ids.add(nodeId);
+        }
+
+        Edges<Long> citations = new Edges<>();
+        Edges<String> articles = new Edges<>();
+        for (long id : ids) {
+            for (long target : cites(id)) {
+                citations.add(id, target);
+            }
+            for (String articleKey : articlesOf(id)) {
+                articles.add(id, articleKey);
+            }
+        }
+        return build(citations, articles);
+    }
+
+    /**
+     * @return precedentId 가 인용한 판례 id (id 순)
+     */
+    public long[] cites(long precedentId) {
+        long[] overlay = citesOverlay.get(precedentId);
+        if (overlay != null) {
+            return overlay.clone();
+        }
+        int node = Arrays.binarySearch(nodeIds, precedentId);
+        return node < 0 ? EMPTY : toIds(citeTargets, citeOffsets[node], citeOffsets[node + 1]);
+    }
+
+    /**
+     * @return precedentId 를 인용한 판례 id (id 순)
+     */
+    public long[] citedBy(long precedentId) {
+        long[] overlay = citedByOverlay.get(precedentId);
+        if (overlay != null) {
+            return overlay.clone();
+        }
+        int node = Arrays.binarySearch(nodeIds, precedentId);
+        return node < 0 ? EMPTY : toIds(citedByTargets, citedByOffsets[node], citedByOffsets[node + 1]);
+    }
+
+    /**
+     * @param articleKey CitationExtractor.articleKey
+     * @return 조문을 참조한 판례 id (id 순)
+     */
+    public long[] precedentsForArticle(String articleKey) {
+        long[] overlay = articleOverlay.get(articleKey);
+        if (overlay != null) {
+            return overlay.clone();
+        }
+        int article = Arrays.binarySearch(articleKeys, articleKey);
+        return article < 0 ? EMPTY : toIds(articleNodes, articleOffsets[article], articleOffsets[article + 1]);
+    }
+
+    public int nodeCount() {
+        return nodeCount;
+    }
+
+    public int citationCount() {
+        return citationCount;
+    }
+
+    public int articleReferenceCount() {
+        return articleReferenceCount;
+    }
+
+    /**
+     * @return 오버레이에 담긴 목록 수 (compact 시점 판단용)
+     */
+    public int overlaySize() {
+        return citesOverlay.size() + citedByOverlay.size() + nodeArticlesOverlay.size() + articleOverlay.size();
+    }
+
+    /**
+     * 판례 id -> 값 간선 목록 (그래프 생성 입력, 원시 배열로 늘려 가며 저장)
+     */
+    public static final class Edges<T> {
+        private long[] from = new long[16];
+        private Object[] to = new Object[16];
+        private int size;
+
+        public static <T> Edges<T> empty() {
+            return new Edges<>();
+        }
+
+        public void add(long fromId, T toValue) {
+            if (size == from.length) {
+                from = Arrays.copyOf(from, size * 2);
+                to = Arrays.copyOf(to, size * 2);
+            }
+            from[size] = fromId;
+            to[size] = toValue;
+            size++;
+        }
+
+        public void addAll(Edges<T> other) {
+            for (int i = 0; i < other.size; i++) {
+                add(other.from[i], other.to(i));
+            }
+        }
+
+        public int size() {
+            return size;
+        }
+
+        public long from(int index) {
+            return from[index];
+        }
+
+        @SuppressWarnings("unchecked")
+        public T to(int index) {
+            return (T) to[index];
+        }
+    }
+
+    // ==================== Private Helper Methods ====================
+
+    /**
+     * 간선 양 끝과 조문 참조 판례를 모아 정렬 + 중복 제거
+     */
+    private static long[] nodeIds(Edges<Long> citations, Edges<String> articles) {
+        long[] ids = new long[citations.size() * 2 + articles.size()];
+        int count = 0;
+        for (int i = 0; i < citations.size(); i++) {
+            ids[count++] = citations.from(i);
+            ids[count++] = citations.to(i);
+        }
+        for (int i = 0; i < articles.size(); i++) {
+            ids[count++] = articles.from(i);
+        }
+        Arrays.sort(ids);
+        int unique = 0;
+        for (int i = 0; i < ids.length; i++) {
+            if (i == 0 || ids[i] != ids[i - 1]) {
+                ids[unique++] = ids[i];
+            }
+        }
+        return Arrays.copyOf(ids, unique);
+    }
+
+    /**
+     * (source, target) 쌍으로 CSR 채우기 (노드별 target 은 id 순 정렬)
+     * 입력 간선은 중복이 없어야 함 (DB 조회는 DISTINCT, compact 는 판례별 목록이 집합)
+     */
+    private static void fill(int[] sources, int[] targets, int[] offsets, int[] out) {
+        for (int source : sources) {
+            offsets[source + 1]++;
+        }
+        for (int i = 1; i < offsets.length; i++) {
+            offsets[i] += offsets[i - 1];
+        }
+        int[] cursor = Arrays.copyOf(offsets, offsets.length - 1);
+        for (int i = 0; i < sources.length; i++) {
+            out[cursor[sources[i]]++] = targets[i];
+        }
+        for (int node = 0; node < offsets.length - 1; node++) {
+            Arrays.sort(out, offsets[node], offsets[node + 1]);
+        }
+    }
+
+    /**
+     * @return precedentId 가 참조한 조문 키 (키 순)
+     */
+    private String[] articlesOf(long precedentId) {
+        String[] overlay = nodeArticlesOverlay.get(precedentId);
+        if (overlay != null) {
+            return overlay;
+        }
+        int node = Arrays.binarySearch(nodeIds, precedentId);
+        if (node < 0) {
+            return NO_ARTICLES;
+        }
+        String[] keys = new String[nodeArticleOffsets[node + 1] - nodeArticleOffsets[node]];
+        for (int i = nodeArticleOffsets[node]; i < nodeArticleOffsets[node + 1]; i++) {
+            keys[i - nodeArticleOffsets[node]] = articleKeys[nodeArticles[i]];
+        }
+        return keys;
+    }
+
+    /**
+     * replace 중 고칠 목록 (처음 고칠 때 현재 목록으로 채움)
+     */
+    private static <K> Set<Long> editable(Map<K, Set<Long>> sets, K key, Function<K, long[]> current) {
+        return sets.computeIfAbsent(key, k -> {
+            Set<Long> set = new TreeSet<>();
+            for (long id : current.apply(k)) {
+                set.add(id);
+            }
+            return set;
+        });
+    }
+
+    private Set<Long> overlayIds() {
+        Set<Long> ids = new TreeSet<>(citesOverlay.keySet());
+        ids.addAll(citedByOverlay.keySet());
+        ids.addAll(nodeArticlesOverlay.keySet());
+        return ids;
+    }
+
+    private static long[] toArray(Set<Long> ids) {
+        return ids.stream().mapToLong(Long::longValue).toArray();
+    }
+
+    private long[] toIds(int[] nodes, int start, int end) {
+        long[] ids = new long[end - start];
+        for (int i = start; i < end; i++) {
+            ids[i - start] = nodeIds[nodes[i]];
+        }
+        return ids;
+    }
+}
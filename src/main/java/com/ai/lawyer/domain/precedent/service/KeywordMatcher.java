@@ -0,0 +1,128 @@
+package com.ai.lawyer.domain.precedent.service;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * 여러 검색어를 텍스트 한 번의 순회로 모두 찾는 Aho-Corasick 매처
+ * 검색 요청마다 한 번 만들어 결과 페이지의 모든 판례에 재사용 (텍스트 길이 + 일치 수에 비례)
+ * 영문은 대소문자를 구분하지 않음
+ */
+public class KeywordMatcher {
+
+    private final List<Map<Character, Integer>> transitions = new ArrayList<>();
+    private final List<Integer> failures = new ArrayList<>();
+    private final List<List<Integer>> outputs = new ArrayList<>(); // 노드에서 끝나는 검색어 번호
+    private final List<String> terms;
+
+    /**
+     * @param terms 검색어 (빈 문자열 제외)
+     */
+    public KeywordMatcher(List<String> terms) {
+        this.terms = terms.stream()
+                .filter(term -> !term.isEmpty())
+                .map(this::normalize)
+                .distinct()
+                .toList();
+        addNode();
+        for (int i = 0; i < this.terms.size(); i++) {
+            insert(this.terms.get(i), i);
+        }
+        buildFailureLinks();
+    }
+
+    /**
+     * 텍스트에서 모든 검색어 위치 찾기 (겹치는 일치 포함, 끝 위치 순)
+     *
+     * @param text 대상 텍스트
+     * @return 일치 목록
+     */
+    public List<Match> findAll(String text) {
+        List<Match> matches = new ArrayList<>();
+        if (terms.isEmpty() || text == null) {
+            return matches;
+        }
+
+        int state = 0;
+        for (int i = 0; i < text.length(); i++) {
+            char c = normalize(text.charAt(i));
+            while (state != 0 && !transitions.get(state).containsKey(c)) {
+                state = failures.get(state);
+            }
+            state = transitions.get(state).getOrDefault(c, 0);
+            for (int termIndex : outputs.get(state)) {
+                int end = i + 1;
+                matches.add(new Match(end - terms.get(termIndex).length(), end, termIndex));
+            }
+        }
+        return matches;
+    }
+
+    /**
+     * @param start 시작 위치 (포함)
+     * @param end 끝 위치 (제외)
+     * @param termIndex 일치한 검색어 번호
+     */
+    public record Match(int start, int end, int termIndex) {
+    }
+
+    // ==================== Private Helper Methods ====================
+
+    private int addNode() {
+        transitions.add(new HashMap<>());
+        failures.add(0);
+        outputs.add(new ArrayList<>());
+        return transitions.size() - 1;
+    }
+
+    private void insert(String term, int termIndex) {
+        int node = 0;
+        for (int i = 0; i < term.length(); i++) {
+            char c = term.charAt(i);
+            Integer next = transitions.get(node).get(c);
+            if (next == null) {
+                next = addNode();
+                transitions.get(node).put(c, next);
+            }
+            node = next;
+        }
+        outputs.get(node).add(termIndex);
+    }
+
+    /**
+     * 너비 우선으로 실패 링크를 만들고, 실패 링크 노드의 출력을 합쳐 접미사로 끝나는 검색어도 찾게 함
+     */
+    private void buildFailureLinks() {
+        List<Integer> queue = new ArrayList<>(transitions.get(0).values());
+        for (int head = 0; head < queue.size(); head++) {
+            int node = queue.get(head);
+            for (Map.Entry<Character, Integer> edge : transitions.get(node).entrySet()) {
+                char c = edge.getKey();
+                int child = edge.getValue();
+
+                int fallback = failures.get(node);
+                while (fallback != 0 && !transitions.get(fallback).containsKey(c)) {
+                    fallback = failures.get(fallback);
+                }
+                int failure = transitions.get(fallback).getOrDefault(c, 0);
+                failures.set(child, failure == child ? 0 : failure);
+                outputs.get(child).addAll(outputs.get(failures.get(child)));
+                queue.add(child);
+            }
+        }
+    }
+
+    private String normalize(String value) {
+        StringBuilder builder = new StringBuilder(value.length());
+        for (int i = 0; i < value.length(); i++) {
+            builder.append(normalize(value.charAt(i)));
+        }
+        return builder.toString();
+    }
+
+    private char normalize(char c) {
+        return Character.toLowerCase(c);
+    }
+}
@@ -0,0 +1,153 @@
+package com.ai.lawyer.domain.precedent.service;
+
+import com.ai.lawyer.domain.precedent.dto.PrecedentFacetCountsDto;
+import com.ai.lawyer.domain.precedent.dto.PrecedentSearchPageDto;
+import com.ai.lawyer.domain.precedent.dto.PrecedentSearchRequestDto;
+import com.ai.lawyer.domain.precedent.dto.PrecedentSummaryListDto;
+import com.ai.lawyer.domain.precedent.repository.PrecedentRepository;
+import com.ai.lawyer.global.util.CursorUtils;
+import com.ai.lawyer.infrastructure.redis.service.SearchResultCacheService;
+import lombok.RequiredArgsConstructor;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.stereotype.Component;
+import org.springframework.util.StringUtils;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * InnoDB FULLTEXT(BOOLEAN MODE) 기반 판례 검색 (기본 엔진)
+ * MATCH 는 검색 원문 테이블(precedent_search_text)에서 하고 목록 컬럼은 precedent 에서 읽음 (압축 본문은 읽지 않음)
+ * cursor 가 있으면 (relevance, 선고일자, id) 키셋으로 다음 페이지를 조회
+ * 전체 건수와 패싯(법원명, 사건종류명, 판결유형, 선고연도)은 GROUP BY 한 번으로 같이 계산해 조건별로 캐시
+ */
+@Component
+@RequiredArgsConstructor
+@ConditionalOnProperty(name = "custom.precedent-search.engine", havingValue = "mysql", matchIfMissing = true)
+public class MySqlPrecedentSearchEngine implements PrecedentSearchEngine {
+
+    private static final LocalDate MIN_SORT_DATE = LocalDate.of(1000, 1, 1); // 선고일자 없는 판례의 정렬 키 (쿼리의 COALESCE 와 동일)
+
+    private final PrecedentRepository precedentRepository;
+    private final SearchResultCacheService searchResultCacheService;
+    private final PrecedentSnippetGenerator precedentSnippetGenerator;
+
+    @Override
+    public PrecedentSearchPageDto search(PrecedentSearchRequestDto requestDto) {
+        String keyword = null;
+        if (StringUtils.hasText(requestDto.getKeyword())) {
+            keyword = requestDto.getKeyword().trim() + "*";
+        }
+
+        LocalDate startDate = requestDto.effectiveSentencingDateStart();
+        LocalDate endDate = requestDto.effectiveSentencingDateEnd();
+        String courtName = PrecedentFacets.filterValue(requestDto.getCourtName());
+        String caseTypeName = PrecedentFacets.filterValue(requestDto.getCaseTypeName());
+        String typeOfJudgment = PrecedentFacets.filterValue(requestDto.getTypeOfJudgment());
+
+        List<Object[]> results;
+        if (StringUtils.hasText(requestDto.getCursor())) {
+            String[] cursor = CursorUtils.decode(requestDto.getCursor(), 3);
+            results = precedentRepository.searchByKeywordNativeAfter(
+                    keyword,
+                    startDate,
+                    endDate,
+                    courtName,
+                    caseTypeName,
+                    typeOfJudgment,
+                    new BigDecimal(cursor[0]),
+                    LocalDate.parse(cursor[1]),
+                    Long.parseLong(cursor[2]),
+                    requestDto.getPageSize()
+            );
+        } else {
+            int offset = requestDto.getPageNumber() * requestDto.getPageSize();
+            results = precedentRepository.searchByKeywordNative(
+                    keyword,
+                    startDate,
+                    endDate,
+                    courtName,
+                    caseTypeName,
+                    typeOfJudgment,
+                    offset,
+                    requestDto.getPageSize()
+            );
+        }
+
+        String facetKeyword = keyword;
+        PrecedentFacetCountsDto facetCounts = searchResultCacheService.get(PrecedentService.SEARCH_CACHE_NAMESPACE,
+                "facets|" + PrecedentFacets.filterKey(requestDto), PrecedentFacetCountsDto.class,
+                () -> toFacetCounts(precedentRepository.countFacetsByKeywordNative(
+                        facetKeyword, startDate, endDate, courtName, caseTypeName, typeOfJudgment)));
+
+        // 검색어 주변 스니펫 (매처는 페이지당 한 번만 생성)
+        KeywordMatcher matcher = precedentSnippetGenerator.matcherFor(requestDto.getKeyword());
+        List<PrecedentSummaryListDto> content = results.stream()
+                .map(row -> precedentSnippetGenerator.apply(mapToDto(row), matcher, (String) row[6]))
+                .toList();
+
+        String nextCursor = null;
+        if (results.size() == requestDto.getPageSize()) {
+            Object[] last = results.get(results.size() - 1);
+            java.sql.Date sentencingDate = (java.sql.Date) last[3];
+            nextCursor = CursorUtils.encode(
+                    ((BigDecimal) last[5]).toPlainString(),
+                    sentencingDate != null ? sentencingDate.toLocalDate() : MIN_SORT_DATE,
+                    ((Number) last[0]).longValue());
+        }
+
+        return new PrecedentSearchPageDto(content, facetCounts.getTotal(), nextCursor, facetCounts.getFacets());
+    }
+
+    // ==================== Private Helper Methods ====================
+
+    private PrecedentSummaryListDto mapToDto(Object[] row) {
+        Long id = ((Number) row[0]).longValue();
+        String caseName = (String) row[1];
+        String caseNumber = (String) row[2];
+        java.sql.Date sqlDate = (java.sql.Date) row[3];
+        String contents = (String) row[4];
+
+        if (contents == null) contents = "";
+
+        return new PrecedentSummaryListDto(
+                id,
+                caseName,
+                caseNumber,
+                sqlDate != null ? sqlDate.toLocalDate() : null,
+                contents
+        );
+    }
+
+    /**
+     * 패싯 조합별 건수 행 (법원명, 사건종류명, 판결유형, 선고연도, 건수) 을 패싯별로 합산
+     */
+    private PrecedentFacetCountsDto toFacetCounts(List<Object[]> rows) {
+        Map<String, Map<String, Long>> facets = new LinkedHashMap<>();
+        facets.put(PrecedentFacets.COURT_NAME, new HashMap<>());
+        facets.put(PrecedentFacets.CASE_TYPE_NAME, new HashMap<>());
+        facets.put(PrecedentFacets.TYPE_OF_JUDGMENT, new HashMap<>());
+        facets.put(PrecedentFacets.SENTENCING_YEAR, new HashMap<>());
+
+        long total = 0;
+        for (Object[] row : rows) {
+            long count = ((Number) row[4]).longValue();
+            total += count;
+            addFacetCount(facets.get(PrecedentFacets.COURT_NAME), row[0], count);
+            addFacetCount(facets.get(PrecedentFacets.CASE_TYPE_NAME), row[1], count);
+            addFacetCount(facets.get(PrecedentFacets.TYPE_OF_JUDGMENT), row[2], count);
+            addFacetCount(facets.get(PrecedentFacets.SENTENCING_YEAR), row[3], count);
+        }
+        return new PrecedentFacetCountsDto(total, PrecedentFacets.sorted(facets));
+    }
+
+    private void addFacetCount(Map<String, Long> counts, Object value, long count) {
+        if (value != null && StringUtils.hasText(value.toString())) {
+            counts.merge(value.toString(), count, Long::sum);
+        }
+    }
+}
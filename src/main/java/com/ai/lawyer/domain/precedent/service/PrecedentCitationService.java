@@ -0,0 +1,237 @@
+package com.ai.lawyer.domain.precedent.service;
+
+import com.ai.lawyer.domain.precedent.dto.PrecedentCitationDto;
+import com.ai.lawyer.domain.precedent.dto.PrecedentCitationsDto;
+import com.ai.lawyer.domain.precedent.repository.PrecedentCitationRepository;
+import com.ai.lawyer.domain.precedent.repository.PrecedentCitationRepository.CitationSource;
+import com.ai.lawyer.domain.precedent.repository.PrecedentCitationRepository.ExtractedCitations;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Service;
+import org.springframework.util.StringUtils;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.HashSet;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+
+/**
+ * 판례 인용 관계 수집/조회
+ * - 수집: 판례 저장이 커밋되면 참조판례/참조조문에서 사건번호와 조문을 뽑아 인용 테이블에 저장하고 그래프를 증분 갱신
+ * - 조회: "인용한 판례 / 인용된 판례 / 조문을 참조한 판례" 는 메모리 그래프(CitationGraph)에서 id 를 찾고 목록 항목만 DB 에서 읽음
+ * - 챗봇: related 로 벡터 검색 없이 관련 판례 id 를 얻어 검색 결과를 넓힐 수 있음
+ * 그래프는 인스턴스마다 기동 시 테이블에서 한 번 만들고, 이후에는 이 인스턴스에서 저장된 판례만 증분 반영
+ * (다른 인스턴스에서 저장된 판례의 인용 관계는 재기동 또는 관리자 재추출(rebuild) 전까지 이 인스턴스 그래프에 보이지 않음)
+ * 증분은 바뀐 판례와 이웃의 목록만 오버레이로 교체하고, 오버레이가 COMPACT_THRESHOLD 를 넘으면 백그라운드에서 CSR 로 합침
+ */
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class PrecedentCitationService {
+
+    private static final int REBUILD_BATCH_SIZE = 500;
+    private static final int MAX_LIMIT = 100;
+    private static final int COMPACT_THRESHOLD = 50_000; // 오버레이 목록 수 (replace 마다 오버레이를 복사하므로 너무 커지지 않게)
+
+    private final PrecedentCitationRepository precedentCitationRepository;
+
+    private final Object graphLock = new Object();
+    private volatile CitationGraph graph = CitationGraph.empty();
+    private long generation;                 // reload 마다 증가 (진행 중인 compact 결과 폐기용)
+    private List<GraphChange> pendingChanges; // compact 중 반영된 변경 (compact 결과에 다시 적용), compact 중이 아니면 null
+
+    /**
+     * 저장된 판례의 인용 관계를 다시 추출해 테이블과 그래프에 반영
+     *
+     * @param ids 저장(갱신 포함)된 판례 id
+     */
+    public void ingest(Collection<Long> ids) {
+        if (ids.isEmpty()) {
+            return;
+        }
+        precedentCitationRepository.replace(extract(precedentCitationRepository.findSourcesByIds(ids)));
+
+        Set<Long> changedIds = new HashSet<>(ids);
+        // 간선 조회와 반영을 같은 잠금 안에서 해야 나중에 읽은 간선이 먼저 읽은 간선에 덮이지 않음 (잠금 구간은 바뀐 판례 분량만큼)
+        synchronized (graphLock) {
+            GraphChange change = new GraphChange(changedIds,
+                    precedentCitationRepository.findEdgesByIds(changedIds),
+                    precedentCitationRepository.findArticlesByIds(changedIds));
+            graph = change.applyTo(graph);
+
+            if (pendingChanges != null) {
+                pendingChanges.add(change);
+            } else if (graph.overlaySize() > COMPACT_THRESHOLD) {
+                pendingChanges = new ArrayList<>();
+                CitationGraph snapshot = graph;
+                long snapshotGeneration = generation;
+                CompletableFuture.runAsync(() -> compact(snapshot, snapshotGeneration))
+                        .exceptionally(e -> {
+                            log.error("판례 인용 그래프 병합 실패", e);
+                            synchronized (graphLock) {
+                                pendingChanges = null;
+                            }
+                            return null;
+                        });
+            }
+        }
+    }
+
+    /**
+     * 저장된 판례 전체에서 인용 관계를 다시 추출하고 그래프를 새로 만듦 (도입 시 기존 데이터 채우기, 추출 규칙 변경 시)
+     *
+     * @return 처리한 판례 수
+     */
+    public long rebuild() {
+        long count = 0;
+        long afterId = 0;
+        List<CitationSource> sources;
+        do {
+            sources = precedentCitationRepository.findSourcesAfter(afterId, REBUILD_BATCH_SIZE);
+            if (sources.isEmpty()) {
+                break;
+            }
+            precedentCitationRepository.replace(extract(sources));
+            afterId = sources.get(sources.size() - 1).precedentId();
+            count += sources.size();
+        } while (sources.size() == REBUILD_BATCH_SIZE);
+
+        reload();
+        log.info("판례 인용 관계 재추출 완료: 판례 {}건", count);
+        return count;
+    }
+
+    /**
+     * 인용 테이블 전체로 그래프를 새로 만듦
+     */
+    public void reload() {
+        synchronized (graphLock) {
+            graph = CitationGraph.build(precedentCitationRepository.findAllEdges(), precedentCitationRepository.findAllArticles());
+            generation++;
+            pendingChanges = null;
+        }
+        log.info("판례 인용 그래프 로드: 판례 {}건, 인용 {}건, 조문 참조 {}건",
+                graph.nodeCount(), graph.citationCount(), graph.articleReferenceCount());
+    }
+
+    /**
+     * 기동 후 백그라운드에서 그래프 로드 (로드 전에는 빈 결과)
+     */
+    @EventListener(ApplicationReadyEvent.class)
+    public void loadOnStartup() {
+        CompletableFuture.runAsync(this::reload)
+                .exceptionally(e -> {
+                    log.error("판례 인용 그래프 로드 실패", e);
+                    return null;
+                });
+    }
+
+    /**
+     * @param id 판례 id
+     * @param limit 방향별 최대 건수
+     */
+    public PrecedentCitationsDto getCitations(Long id, int limit) {
+        CitationGraph current = graph;
+        return new PrecedentCitationsDto(
+                summaries(current.cites(id), limit),
+                summaries(current.citedBy(id), limit));
+    }
+
+    /**
+     * @param lawName 법령명 (예: 형법)
+     * @param articleNumber 조 번호
+     * @param articleBranch 가지 번호 (제5조의4 면 4, 없으면 0)
+     * @param limit 최대 건수
+     * @return 조문을 참조조문으로 든 판례 (선고일자 최신순)
+     */
+    public List<PrecedentCitationDto> getPrecedentsForArticle(String lawName, int articleNumber, int articleBranch, int limit) {
+        if (!StringUtils.hasText(lawName)) {
+            throw new IllegalArgumentException("법령명을 입력해주세요.");
+        }
+        String articleKey = CitationExtractor.articleKey(lawName, articleNumber, articleBranch);
+        return summaries(graph.precedentsForArticle(articleKey), limit);
+    }
+
+    /**
+     * 챗봇 검색 확장용 관련 판례 id (DB 조회 없음)
+     * 인용한 판례, 인용된 판례 순으로 채우고 모자라면 같은 판례를 인용한 판례(공동 인용)로 채움
+     *
+     * @param id 기준 판례 id
+     * @param limit 최대 건수
+     */
+    public List<Long> related(long id, int limit) {
+        CitationGraph current = graph;
+        Set<Long> related = new LinkedHashSet<>();
+        addAll(related, current.cites(id), id, limit);
+        addAll(related, current.citedBy(id), id, limit);
+        for (long cited : current.cites(id)) {
+            if (related.size() >= limit) {
+                break;
+            }
+            addAll(related, current.citedBy(cited), id, limit);
+        }
+        return new ArrayList<>(related);
+    }
+
+    // ==================== Private Helper Methods ====================
+
+    /**
+     * 오버레이를 CSR 로 합친 뒤 그동안 반영된 변경을 다시 적용해 바꿔 끼움 (합치는 동안 ingest 를 막지 않음)
+     */
+    private void compact(CitationGraph snapshot, long snapshotGeneration) {
+        CitationGraph compacted = snapshot.compact();
+        synchronized (graphLock) {
+            if (generation != snapshotGeneration || pendingChanges == null) {
+                return; // 그 사이 reload 로 새로 만들어짐
+            }
+            for (GraphChange change : pendingChanges) {
+                compacted = change.applyTo(compacted);
+            }
+            graph = compacted;
+            pendingChanges = null;
+        }
+        log.info("판례 인용 그래프 병합: 판례 {}건, 인용 {}건", compacted.nodeCount(), compacted.citationCount());
+    }
+
+    private List<ExtractedCitations> extract(List<CitationSource> sources) {
+        return sources.stream()
+                .map(source -> new ExtractedCitations(
+                        source.precedentId(),
+                        CitationExtractor.caseNumbers(source.caseNumber()),
+                        CitationExtractor.caseNumbers(source.referencePrecedent()),
+                        CitationExtractor.articles(source.referenceArticle())))
+                .toList();
+    }
+
+    private List<PrecedentCitationDto> summaries(long[] ids, int limit) {
+        return precedentCitationRepository.findSummariesByIds(
+                Arrays.stream(ids).boxed().toList(), Math.max(1, Math.min(limit, MAX_LIMIT)));
+    }
+
+    private void addAll(Set<Long> related, long[] ids, long self, int limit) {
+        for (long id : ids) {
+            if (related.size() >= limit) {
+                return;
+            }
+            if (id != self) {
+                related.add(id);
+            }
+        }
+    }
+
+    /**
+     * ingest 한 번의 그래프 변경 (compact 결과에 다시 적용하려고 보관)
+     */
+    private record GraphChange(Set<Long> changedIds, CitationGraph.Edges<Long> citations, CitationGraph.Edges<String> articles) {
+
+        CitationGraph applyTo(CitationGraph graph) {
+            return graph.replace(changedIds, citations, articles);
+        }
+    }
+}
@@ -0,0 +1,64 @@
+package com.ai.lawyer.domain.precedent.service;
+
+import com.ai.lawyer.domain.precedent.dto.PrecedentSearchRequestDto;
+import com.ai.lawyer.infrastructure.redis.service.SearchCountCacheService;
+import org.springframework.util.StringUtils;
+
+import java.util.Comparator;
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+/**
+ * 판례 검색 패싯 이름과 공통 처리 (검색 엔진들이 같은 이름/정렬로 패싯을 돌려주도록)
+ */
+public final class PrecedentFacets {
+
+    public static final String COURT_NAME = "courtName";           // 법원명
+    public static final String CASE_TYPE_NAME = "caseTypeName";     // 사건종류명
+    public static final String TYPE_OF_JUDGMENT = "typeOfJudgment"; // 판결유형
+    public static final String SENTENCING_YEAR = "sentencingYear";  // 선고연도
+
+    private PrecedentFacets() {
+    }
+
+    /**
+     * 필터 값 정규화 (빈 문자열은 필터 없음)
+     */
+    public static String filterValue(String value) {
+        return StringUtils.hasText(value) ? value.trim() : null;
+    }
+
+    /**
+     * 정규화된 검색 조건 문자열 (페이지 제외, 같은 조건이면 같은 문자열) - 건수/패싯 캐시 키
+     */
+    public static String filterKey(PrecedentSearchRequestDto requestDto) {
+        return String.join("|",
+                SearchCountCacheService.normalizeKeyword(requestDto.getKeyword()),
+                String.valueOf(requestDto.effectiveSentencingDateStart()),
+                String.valueOf(requestDto.effectiveSentencingDateEnd()),
+                String.valueOf(filterValue(requestDto.getCourtName())),
+                String.valueOf(filterValue(requestDto.getCaseTypeName())),
+                String.valueOf(filterValue(requestDto.getTypeOfJudgment())));
+    }
+
+    /**
+     * 패싯 표시 순서로 정렬 (선고연도는 최신 연도부터, 나머지는 건수가 많은 순)
+     *
+     * @param counts 패싯 이름 -> (값 -> 건수)
+     * @return 정렬된 새 맵
+     */
+    public static Map<String, Map<String, Long>> sorted(Map<String, Map<String, Long>> counts) {
+        Map<String, Map<String, Long>> sorted = new LinkedHashMap<>();
+        counts.forEach((facet, values) -> {
+            Comparator<Map.Entry<String, Long>> order = SENTENCING_YEAR.equals(facet)
+                    ? Map.Entry.<String, Long>comparingByKey().reversed()
+                    : Map.Entry.<String, Long>comparingByValue().reversed();
+            Map<String, Long> sortedValues = new LinkedHashMap<>();
+            values.entrySet().stream()
+                    .sorted(order)
+                    .forEach(entry -> sortedValues.put(entry.getKey(), entry.getValue()));
+            sorted.put(facet, sortedValues);
+        });
+        return sorted;
+    }
+}
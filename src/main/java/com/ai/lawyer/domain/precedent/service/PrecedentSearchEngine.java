@@ -0,0 +1,39 @@
+package com.ai.lawyer.domain.precedent.service;
+
+import com.ai.lawyer.domain.precedent.dto.PrecedentSearchPageDto;
+import com.ai.lawyer.domain.precedent.dto.PrecedentSearchRequestDto;
+
+import java.util.Collection;
+
+/**
+ * 판례 검색 엔진
+ * custom.precedent-search.engine 으로 구현을 고름 (mysql: InnoDB FULLTEXT, lucene: 로컬 디스크 Lucene 색인)
+ */
+public interface PrecedentSearchEngine {
+
+    /**
+     * 검색 결과 한 페이지 (스니펫, 전체 건수, 다음 페이지 커서 포함)
+     *
+     * @param requestDto 검색 조건 DTO
+     * @return 검색 결과 페이지
+     */
+    PrecedentSearchPageDto search(PrecedentSearchRequestDto requestDto);
+
+    /**
+     * 저장(갱신 포함)된 판례를 검색 대상에 반영 (판례 저장 커밋 후 호출)
+     * DB 를 직접 조회하는 엔진은 할 일이 없음
+     *
+     * @param precedentIds 판례 id
+     */
+    default void index(Collection<Long> precedentIds) {
+    }
+
+    /**
+     * 검색 대상 전체 재구성
+     *
+     * @return 반영된 판례 수
+     */
+    default long rebuild() {
+        return 0;
+    }
+}
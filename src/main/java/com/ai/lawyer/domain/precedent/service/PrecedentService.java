@@ -1,30 +1,34 @@
 package com.ai.lawyer.domain.precedent.service;
 
+import com.ai.lawyer.domain.precedent.dto.PrecedentNumberPageDto;
+import com.ai.lawyer.domain.precedent.dto.PrecedentSearchPageDto;
 import com.ai.lawyer.domain.precedent.dto.PrecedentSearchRequestDto;
 import com.ai.lawyer.domain.precedent.dto.PrecedentSummaryListDto;
 import com.ai.lawyer.domain.precedent.entity.Precedent;
+import com.ai.lawyer.domain.precedent.repository.PrecedentBodyRepository;
+import com.ai.lawyer.domain.precedent.repository.PrecedentBulkRepository;
 import com.ai.lawyer.domain.precedent.repository.PrecedentRepository;
+import com.ai.lawyer.global.dto.CursorPage;
+import com.ai.lawyer.infrastructure.lawapi.LawApiClient;
+import com.ai.lawyer.infrastructure.redis.service.SearchResultCacheService;
+import com.fasterxml.jackson.core.JsonProcessingException;
 import com.fasterxml.jackson.databind.JsonNode;
 import com.fasterxml.jackson.databind.ObjectMapper;
-import jakarta.persistence.EntityManager;
 import lombok.AllArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.data.domain.Page;
-import org.springframework.data.domain.PageImpl;
 import org.springframework.stereotype.Service;
-import org.springframework.transaction.annotation.Transactional;
 import org.springframework.util.StringUtils;
-import org.springframework.web.client.RestTemplate;
-import org.springframework.web.reactive.function.client.WebClient;
-import org.springframework.web.util.UriComponentsBuilder;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
 
 import java.time.LocalDate;
 import java.time.format.DateTimeFormatter;
 import java.time.format.DateTimeParseException;
 import java.util.ArrayList;
-import java.util.Collections;
 import java.util.List;
 import java.util.NoSuchElementException;
+import java.util.Set;
 import java.util.stream.Collectors;
 
 @Service
@@ -33,27 +37,38 @@ import java.util.stream.Collectors;
 public class PrecedentService {
 
     private final PrecedentRepository precedentRepository;
-    private final EntityManager entityManager;
-    private final WebClient webClient = WebClient.builder().build();
+    private final PrecedentBulkRepository precedentBulkRepository;
+    private final PrecedentBodyRepository precedentBodyRepository;
+    private final LawApiClient lawApiClient;
+    private final SearchResultCacheService searchResultCacheService;
+    private final PrecedentSearchEngine precedentSearchEngine;
     private final ObjectMapper objectMapper = new ObjectMapper();
 
     // 상수 정의
-    private static final String BASE_URL = "http://www.law.go.kr/DRF";
-    private static final String OC = "noheechul";
-    private static final int DEFAULT_PAGE_SIZE = 100;
-    private static final int API_CALL_DELAY = 100; // milliseconds
+    public static final int SEARCH_PAGE_SIZE = 100; // Open API 판례 검색 한 페이지 크기
+    public static final String SEARCH_CACHE_NAMESPACE = "precedent"; // 검색 건수/결과 캐시 구분
     private static final DateTimeFormatter DATE_FORMATTER = DateTimeFormatter.ofPattern("yyyyMMdd");
 
     /**
      * 주어진 id로 Precedent 조회
      *
      * @param id Precedent PK
+     * 본문(판시사항, 판결요지, 참조조문, 참조판례, 판례내용)은 압축 본문 테이블에서 읽어 채움
+     *
      * @return Precedent 엔티티
      * @throws NoSuchElementException id에 해당하는 Precedent가 없으면 예외 발생
      */
     public Precedent getPrecedentById(Long id) {
-        return precedentRepository.findById(id)
+        Precedent precedent = precedentRepository.findById(id)
                 .orElseThrow(() -> new NoSuchElementException("Precedent not found for id: " + id));
+        precedentBodyRepository.findById(id).ifPresent(body -> {
+            precedent.setNotice(body.getNotice());
+            precedent.setSummaryOfTheJudgment(body.getSummaryOfTheJudgment());
+            precedent.setReferenceArticle(body.getReferenceArticle());
+            precedent.setReferencePrecedent(body.getReferencePrecedent());
+            precedent.setPrecedentContent(body.getPrecedentContent());
+        });
+        return precedent;
     }
 
     /**
@@ -66,106 +81,31 @@ public class PrecedentService {
         return precedentRepository.searchPrecedentsByKeyword(requestDto);
     }
 
+    /**
+     * 검색 엔진(MySQL FULLTEXT 또는 Lucene, custom.precedent-search.engine) 기반 판례 검색
+     * cursor 가 있으면 이전 페이지 마지막 결과 다음부터 조회
+     * 법원명/사건종류명/판결유형/선고연도로 좁힐 수 있고, 검색 조건 전체 결과의 패싯별 건수를 함께 반환
+     * 같은 조건(키워드, 선고일자 범위, 페이지, 커서)의 결과 페이지는 짧은 TTL 로 Redis 에 캐시하고, 판례 저장이 커밋되면 무효화
+     *
+     * @param requestDto 검색 조건 DTO (키워드, 페이징 정보, 커서 포함)
+     * @return 검색된 판례 요약 정보 목록 (다음 페이지 커서 포함)
+     */
     public Page<PrecedentSummaryListDto> searchByKeywordV2(PrecedentSearchRequestDto requestDto) {
-        String keyword = null;
-        if (StringUtils.hasText(requestDto.getKeyword())) {
-            keyword = requestDto.getKeyword().trim() + "*";
-        }
-
-        int offset = requestDto.getPageNumber() * requestDto.getPageSize();
-
-        List<Object[]> results = precedentRepository.searchByKeywordNative(
-                keyword,
-                requestDto.getSentencingDateStart(),
-                requestDto.getSentencingDateEnd(),
-                offset,
-                requestDto.getPageSize()
-        );
-
-        Long total = precedentRepository.countByKeywordNative(
-                keyword,
-                requestDto.getSentencingDateStart(),
-                requestDto.getSentencingDateEnd()
-        );
-
-        List<PrecedentSummaryListDto> content = results.stream()
-                .map(this::mapToDto)
-                .toList();
-
-        return new PageImpl<>(content, requestDto.toPageable(), total);
-    }
-
-    private PrecedentSummaryListDto mapToDto(Object[] row) {
-        Long id = ((Number) row[0]).longValue();
-        String caseName = (String) row[1];
-        String caseNumber = (String) row[2];
-        java.sql.Date sqlDate = (java.sql.Date) row[3];
-        String contents = (String) row[4];
-
-        if (contents == null) contents = "";
-
-        return new PrecedentSummaryListDto(
-                id,
-                caseName,
-                caseNumber,
-                sqlDate != null ? sqlDate.toLocalDate() : null,
-                extractOrderPart(contents)
-        );
-    }
-
-    private String extractOrderPart(String contents) {
-        if (contents == null || contents.isBlank()) return "";
-
-        int start = contents.indexOf("【주    문】");
-        if (start == -1) return contents;
-
-        int end = contents.indexOf("【이    유】", start);
-        if (end == -1) end = contents.length();
-
-        return contents.substring(start, end).trim();
+        PrecedentSearchPageDto page = searchResultCacheService.get(SEARCH_CACHE_NAMESPACE, resultKey(requestDto),
+                PrecedentSearchPageDto.class, () -> precedentSearchEngine.search(requestDto));
+        return new CursorPage<>(page.getContent(), requestDto.toPageable(), page.getTotalElements(),
+                page.getNextCursor(), page.getFacets());
     }
 
     /**
-     * 특정 키워드로 법령 API에서 판례 일련번호 리스트 조회
+     * 판례 검색 결과 한 페이지 조회 (수집 잡이 페이지 단위로 체크포인트를 남길 때 사용)
      *
      * @param query 검색 키워드
-     * @return 판례일련번호 리스트 (결과가 없으면 빈 리스트)
-     * @throws RuntimeException API 호출 또는 JSON 파싱 실패 시 예외 발생
+     * @param page 페이지 번호 (1부터)
+     * @return 판례일련번호와 전체 건수
      */
-    public List<String> getPrecedentNumbers(String query) {
-        try {
-            List<String> precedentNumbers = new ArrayList<>();
-            int page = 1;
-            int totalCnt;
-
-            do {
-                String url = buildSearchUrl(query, page);
-                String json = webClient.get()
-                        .uri(url)
-                        .retrieve()
-                        .bodyToMono(String.class)
-                        .block();
-                JsonNode root = objectMapper.readTree(json);
-                JsonNode precSearch = root.path("PrecSearch");
-
-                totalCnt = precSearch.path("totalCnt").asInt(0);
-                if (totalCnt == 0) {
-                    log.info("검색 결과가 없습니다. 키워드: {}", query);
-                    return Collections.emptyList();
-                }
-
-                extractPrecedentNumbers(precSearch.path("prec"), precedentNumbers);
-                page++;
-
-            } while ((page - 1) * DEFAULT_PAGE_SIZE < totalCnt);
-
-            log.info("판례 일련번호 {}개 조회 완료. 키워드: {}", precedentNumbers.size(), query);
-            return precedentNumbers;
-
-        } catch (Exception e) {
-            log.error("판례 일련번호 조회 실패. 키워드: {}", query, e);
-            throw new RuntimeException("판례 일련번호 조회 중 오류가 발생했습니다.", e);
-        }
+    public PrecedentNumberPageDto getPrecedentNumberPage(String query, int page) {
+        return fetchSearchPage(query, page).block();
     }
 
     /**
@@ -175,128 +115,66 @@ public class PrecedentService {
      * @return 조회된 Precedent 객체 리스트 (실패한 항목은 제외)
      */
     public List<Precedent> getPrecedentDetails(List<String> precedentIds) {
-        List<Precedent> precedents = new ArrayList<>();
-
-        for (String precedentId : precedentIds) {
-            try {
-                String url = buildDetailUrl(precedentId);
-                String json = webClient.get()
-                        .uri(url)
-                        .retrieve()
-                        .bodyToMono(String.class)
-                        .block();
-
-                Precedent precedent = parseJsonToPrecedent(json);
-                if (precedent != null) {
-                    precedents.add(precedent);
-                }
-
-                // API 호출 간격 조절
-                Thread.sleep(API_CALL_DELAY);
-
-            } catch (InterruptedException e) {
-                Thread.currentThread().interrupt();
-                log.error("API 호출 중 인터럽트 발생: {}", precedentId, e);
-                break;
-            } catch (Exception e) {
-                log.warn("판례 상세 조회 실패: {}", precedentId, e);
-                // 개별 실패는 무시하고 계속 진행
-            }
-        }
+        List<Precedent> precedents = fetchPrecedentDetails(Flux.fromIterable(precedentIds))
+                .collectList()
+                .block();
 
         log.info("판례 상세 정보 {}개 조회 완료", precedents.size());
         return precedents;
     }
 
     /**
-     * 판례 리스트를 데이터베이스에 일괄 저장
-     *
-     * @param precedents 저장할 Precedent 객체 리스트
-     * @return 저장된 Precedent 객체 리스트
-     * @throws RuntimeException 저장 중 오류 발생 시 예외 발생
-     */
-    @Transactional
-    public List<Precedent> savePrecedents(List<Precedent> precedents) {
-        try {
-            precedentRepository.saveAll(precedents);
-            precedentRepository.flush();
-            entityManager.clear();
-
-            log.info("판례 {}개 저장 완료", precedents.size());
-            return precedents;
-
-        } catch (Exception e) {
-            log.error("판례 저장 실패", e);
-            throw new RuntimeException("판례 저장 중 오류가 발생했습니다.", e);
-        }
-    }
-
-    /**
-     * 키워드 검색부터 판례 저장까지 원스톱 처리
-     * 1. 키워드로 판례일련번호 리스트 조회
-     * 2. 일련번호로 상세 정보 조회
-     * 3. 상세 정보를 데이터베이스에 저장
+     * 아직 저장되지 않은 판례일련번호만 남김 (이미 저장된 판례는 상세 조회 자체를 생략)
      *
-     * @param query 검색 키워드
-     * @return 저장된 판례 건수
-     * @throws RuntimeException 처리 중 오류 발생 시 예외 발생
+     * @param precedentNumbers 판례일련번호 리스트
+     * @return 저장되지 않은 판례일련번호 리스트 (중복 제거, 순서 유지)
      */
-    public int searchAndSaveAll(String query) {
-        try {
-            log.info("판례 검색 및 저장 시작. 키워드: {}", query);
-
-            List<String> precedentIds = getPrecedentNumbers(query);
-            if (precedentIds.isEmpty()) {
-                return 0;
-            }
-
-            List<Precedent> precedents = getPrecedentDetails(precedentIds);
-            List<Precedent> savedPrecedents = savePrecedents(precedents);
-
-            log.info("판례 검색 및 저장 완료. 키워드: {}, 저장된 건수: {}", query, savedPrecedents.size());
-            return savedPrecedents.size();
-
-        } catch (Exception e) {
-            log.error("판례 검색 및 저장 실패. 키워드: {}", query, e);
-            throw new RuntimeException("판례 검색 및 저장 중 오류가 발생했습니다.", e);
-        }
+    public List<String> filterNewPrecedentNumbers(List<String> precedentNumbers) {
+        Set<String> stored = precedentBulkRepository.findIds(precedentNumbers).keySet();
+        return precedentNumbers.stream()
+                .distinct()
+                .filter(number -> !stored.contains(number))
+                .toList();
     }
 
     // ==================== Private Helper Methods ====================
 
     /**
-     * 판례 검색 API URL 생성
-     *
-     * @param query 검색 키워드
-     * @param page 페이지 번호
-     * @return 생성된 API URL
+     * 결과 페이지 캐시 키 (정규화된 검색 조건 + 페이지 번호/크기 + 커서)
      */
-    private String buildSearchUrl(String query, int page) {
-        return UriComponentsBuilder.fromHttpUrl(BASE_URL + "/lawSearch.do")
-                .queryParam("OC", OC)
-                .queryParam("target", "prec")
-                .queryParam("type", "JSON")
-                .queryParam("display", DEFAULT_PAGE_SIZE)
-                .queryParam("page", page)
-                .queryParam("query", query)
-                .build()
-                .toUriString();
+    private String resultKey(PrecedentSearchRequestDto requestDto) {
+        return String.join("|",
+                PrecedentFacets.filterKey(requestDto),
+                String.valueOf(requestDto.getPageNumber()),
+                String.valueOf(requestDto.getPageSize()),
+                StringUtils.hasText(requestDto.getCursor()) ? requestDto.getCursor() : "");
+    }
+
+    private Mono<PrecedentNumberPageDto> fetchSearchPage(String query, int page) {
+        return lawApiClient.searchPrecedents(query, page, SEARCH_PAGE_SIZE)
+                .map(json -> {
+                    try {
+                        JsonNode precSearch = objectMapper.readTree(json).path("PrecSearch");
+                        List<String> numbers = new ArrayList<>();
+                        extractPrecedentNumbers(precSearch.path("prec"), numbers);
+                        return new PrecedentNumberPageDto(page, SEARCH_PAGE_SIZE, precSearch.path("totalCnt").asInt(0), numbers);
+                    } catch (JsonProcessingException e) {
+                        throw new IllegalStateException("판례 검색 응답 파싱 실패. 키워드: " + query, e);
+                    }
+                });
     }
 
     /**
-     * 판례 상세 조회 API URL 생성
-     *
-     * @param precedentId 판례 일련번호
-     * @return 생성된 API URL
+     * 판례 상세 조회 (실패한 판례는 로그만 남기고 제외)
      */
-    private String buildDetailUrl(String precedentId) {
-        return UriComponentsBuilder.fromHttpUrl(BASE_URL + "/lawService.do")
-                .queryParam("OC", OC)
-                .queryParam("target", "prec")
-                .queryParam("ID", precedentId)
-                .queryParam("type", "JSON")
-                .build()
-                .toUriString();
+    private Flux<Precedent> fetchPrecedentDetails(Flux<String> precedentIds) {
+        return precedentIds.flatMap(precedentId -> lawApiClient.getPrecedentDetail(precedentId)
+                        .mapNotNull(this::parseJsonToPrecedent)
+                        .onErrorResume(e -> {
+                            log.warn("판례 상세 조회 실패: {}", precedentId, e);
+                            return Mono.empty();
+                        }),
+                lawApiClient.maxConcurrency());
     }
 
     /**
@@ -322,17 +200,18 @@ public class PrecedentService {
     }
 
     /**
-     * JSON 문자열을 Precedent 엔티티로 변환
+     * 판례 상세 JSON 을 Precedent 엔티티로 변환
      *
-     * @param json API 응답 JSON 문자열
-     * @return 변환된 Precedent 객체 (변환 실패 시 null)
-     * @throws Exception JSON 파싱 오류 시 예외 발생
+     * @param root API 응답 JSON 노드
+     * @return 변환된 Precedent 객체 (PrecService 나 판례정보일련번호가 없으면 null)
      */
-    private Precedent parseJsonToPrecedent(String json) throws Exception {
-        JsonNode root = objectMapper.readTree(json);
+    private Precedent parseJsonToPrecedent(JsonNode root) {
+        if (root == null) {
+            return null;
+        }
         JsonNode precService = root.path("PrecService");
 
-        if (precService.isMissingNode()) {
+        if (precService.isMissingNode() || !StringUtils.hasText(precService.path("판례정보일련번호").asText())) {
             return null;
         }
 
@@ -353,6 +232,10 @@ public class PrecedentService {
         precedent.setSummaryOfTheJudgment(precService.path("판결요지").asText(""));
         precedent.setReferenceArticle(precService.path("참조조문").asText(""));
         precedent.setPrecedentContent(precService.path("판례내용").asText(""));
+        precedent.setListSummary(PrecedentSummaryExtractor.extract(
+                precedent.getSummaryOfTheJudgment(), precedent.getNotice(), precedent.getPrecedentContent()));
+        precedent.setSnippetSource(PrecedentSummaryExtractor.snippetSource(
+                precedent.getSummaryOfTheJudgment(), precedent.getNotice(), precedent.getPrecedentContent()));
 
         // 날짜 파싱
         parseSentencingDate(precService.path("선고일자").asText(""), precedent);
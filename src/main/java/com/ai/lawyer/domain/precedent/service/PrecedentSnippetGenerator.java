@@ -0,0 +1,200 @@
+package com.ai.lawyer.domain.precedent.service;
+
+import com.ai.lawyer.domain.precedent.dto.PrecedentSummaryListDto;
+import com.ai.lawyer.domain.precedent.dto.PrecedentSummaryListDto.Highlight;
+import org.springframework.stereotype.Component;
+import org.springframework.util.StringUtils;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+
+/**
+ * 검색어 주변 스니펫 + 강조 위치 생성
+ * 수집 시 저장한 snippet_source(판시사항/판결요지, 최대 2000자)를 검색 쿼리에서 함께 읽어
+ * 문장 경계 단위로 검색어가 가장 많이(서로 다른 검색어 우선) 들어 있는 구간을 고름
+ * 추가 DB 조회 없이 결과 페이지 안에서만 계산하므로 검색 응답 시간에 거의 영향이 없음
+ */
+@Component
+public class PrecedentSnippetGenerator {
+
+    static final int MAX_SNIPPET_LENGTH = 200;
+    private static final int MAX_TERMS = 16;
+
+    /**
+     * 검색 키워드로 매처 생성 (검색어가 없으면 null)
+     * FULLTEXT boolean mode 연산자(+ - * " ( ) < > ~)는 제거하고 공백으로 나눔
+     *
+     * @param keyword 사용자가 입력한 검색 키워드
+     */
+    public KeywordMatcher matcherFor(String keyword) {
+        if (!StringUtils.hasText(keyword)) {
+            return null;
+        }
+        List<String> terms = Arrays.stream(keyword.replaceAll("[+\\-*\"()<>~@]", " ").trim().split("\\s+"))
+                .filter(StringUtils::hasText)
+                .distinct()
+                .limit(MAX_TERMS)
+                .toList();
+        return terms.isEmpty() ? null : new KeywordMatcher(terms);
+    }
+
+    /**
+     * 검색어가 가장 많이 들어 있는 구간 계산
+     *
+     * @param matcher matcherFor 결과
+     * @param source 스니펫 원문
+     * @return 스니펫 (검색어가 없으면 null -> 호출 측에서 기본 요약 사용)
+     */
+    public Snippet generate(KeywordMatcher matcher, String source) {
+        if (matcher == null || !StringUtils.hasText(source)) {
+            return null;
+        }
+        List<KeywordMatcher.Match> matches = matcher.findAll(source);
+        if (matches.isEmpty()) {
+            return null;
+        }
+
+        int[] window = bestWindow(source, matches);
+        int start = window[0];
+        int end = window[1];
+
+        List<Highlight> highlights = new ArrayList<>();
+        for (KeywordMatcher.Match match : matches) {
+            if (match.start() < start || match.end() > end) {
+                continue;
+            }
+            Highlight last = highlights.isEmpty() ? null : highlights.get(highlights.size() - 1);
+            if (last != null && match.start() - start <= last.getEnd()) {
+                // 겹치는 일치는 하나로 합침
+                last.setStart(Math.min(last.getStart(), match.start() - start));
+                last.setEnd(Math.max(last.getEnd(), match.end() - start));
+            } else {
+                highlights.add(new Highlight(match.start() - start, match.end() - start));
+            }
+        }
+        return new Snippet(source.substring(start, end), highlights);
+    }
+
+    /**
+     * 스니펫 원문에 검색어가 있으면 contents 를 스니펫으로 바꾸고 강조 위치를 채움 (없으면 요약 그대로)
+     *
+     * @param dto 검색 결과 한 건 (contents 는 목록용 요약)
+     * @param matcher matcherFor 결과
+     * @param source 스니펫 원문
+     * @return 같은 dto
+     */
+    public PrecedentSummaryListDto apply(PrecedentSummaryListDto dto, KeywordMatcher matcher, String source) {
+        Snippet snippet = generate(matcher, source);
+        if (snippet != null) {
+            dto.setContents(snippet.text());
+            dto.setHighlights(snippet.highlights());
+        }
+        return dto;
+    }
+
+    /**
+     * @param text 스니펫 문자열
+     * @param highlights 스니펫 안에서 검색어 위치 (시작 포함, 끝 제외)
+     */
+    public record Snippet(String text, List<Highlight> highlights) {
+    }
+
+    // ==================== Private Helper Methods ====================
+
+    /**
+     * 문장 경계로 나눈 뒤, MAX_SNIPPET_LENGTH 안에 들어가는 연속 문장 구간 중 점수가 가장 높은 구간
+     * 점수 = 서로 다른 검색어 수 우선, 같으면 전체 일치 수
+     * 한 문장이 너무 길면 첫 일치를 중심으로 자름
+     */
+    private int[] bestWindow(String source, List<KeywordMatcher.Match> matches) {
+        List<int[]> sentences = splitSentences(source);
+        int[] hits = new int[sentences.size()];
+        long[] termMasks = new long[sentences.size()];
+
+        int sentence = 0;
+        // 일치는 끝 위치 순이므로 문장도 순서대로 따라가며 배정
+        for (KeywordMatcher.Match match : matches) {
+            while (sentence < sentences.size() - 1 && match.start() >= sentences.get(sentence)[1]) {
+                sentence++;
+            }
+            int owner = sentence;
+            while (owner > 0 && match.start() < sentences.get(owner)[0]) {
+                owner--;
+            }
+            hits[owner]++;
+            termMasks[owner] |= 1L << Math.min(match.termIndex(), 63);
+        }
+
+        int bestStart = -1;
+        int bestEnd = -1;
+        long bestScore = -1;
+        for (int i = 0; i < sentences.size(); i++) {
+            if (hits[i] == 0) {
+                continue;
+            }
+            long mask = 0;
+            int count = 0;
+            for (int j = i; j < sentences.size(); j++) {
+                if (sentences.get(j)[1] - sentences.get(i)[0] > MAX_SNIPPET_LENGTH && j > i) {
+                    break;
+                }
+                mask |= termMasks[j];
+                count += hits[j];
+                long score = Long.bitCount(mask) * (matches.size() + 1L) + count;
+                if (score > bestScore) {
+                    bestScore = score;
+                    bestStart = sentences.get(i)[0];
+                    bestEnd = sentences.get(j)[1];
+                }
+            }
+        }
+
+        if (bestEnd - bestStart <= MAX_SNIPPET_LENGTH) {
+            return new int[]{bestStart, bestEnd};
+        }
+
+        // 한 문장이 최대 길이보다 길면 그 문장 안 첫 일치를 가운데 쯤 두고 자름
+        int anchor = bestStart;
+        for (KeywordMatcher.Match match : matches) {
+            if (match.start() >= bestStart) {
+                anchor = match.start();
+                break;
+            }
+        }
+        int start = Math.max(bestStart, anchor - MAX_SNIPPET_LENGTH / 3);
+        int end = Math.min(bestEnd, start + MAX_SNIPPET_LENGTH);
+        return new int[]{start, end};
+    }
+
+    /**
+     * 문장 경계 (마침표/물음표/느낌표 뒤 공백, 줄바꿈) 로 [시작, 끝) 구간 목록 생성 (앞뒤 공백 제외)
+     */
+    private List<int[]> splitSentences(String source) {
+        List<int[]> sentences = new ArrayList<>();
+        int start = 0;
+        for (int i = 0; i < source.length(); i++) {
+            char c = source.charAt(i);
+            boolean boundary = c == '\n'
+                    || ((c == '.' || c == '?' || c == '!') && (i + 1 == source.length() || Character.isWhitespace(source.charAt(i + 1))));
+            if (boundary) {
+                addSentence(source, start, i + 1, sentences);
+                start = i + 1;
+            }
+        }
+        addSentence(source, start, source.length(), sentences);
+        return sentences;
+    }
+
+    private void addSentence(String source, int start, int end, List<int[]> sentences) {
+        while (start < end && Character.isWhitespace(source.charAt(start))) {
+            start++;
+        }
+        while (end > start && Character.isWhitespace(source.charAt(end - 1))) {
+            end--;
+        }
+        if (start < end) {
+            sentences.add(new int[]{start, end});
+        }
+    }
+}
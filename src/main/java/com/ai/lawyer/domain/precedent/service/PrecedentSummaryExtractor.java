@@ -0,0 +1,96 @@
+package com.ai.lawyer.domain.precedent.service;
+
+import org.springframework.util.StringUtils;
+
+/**
+ * 검색 목록용 판례 요약 생성
+ * 판결요지 -> 판시사항 -> 판례내용 순으로 처음 비어 있지 않은 본문을 고르고,
+ * 본문에 【주    문】이 있으면 【이    유】 전까지만 잘라 최대 MAX_LENGTH 자로 줄임
+ * 수집 시 한 번 계산해 precedent.list_summary 에 저장하므로 검색은 긴 본문을 읽지 않음
+ * 검색어 스니펫용 원문(snippet_source)도 같은 시점에 만듦
+ */
+public final class PrecedentSummaryExtractor {
+
+    public static final int MAX_LENGTH = 500; // precedent.list_summary 컬럼 길이와 같아야 함
+    public static final int SNIPPET_SOURCE_LENGTH = 2000; // precedent.snippet_source 컬럼 길이와 같아야 함
+
+    private static final String ORDER_START = "【주    문】";
+    private static final String ORDER_END = "【이    유】";
+
+    private PrecedentSummaryExtractor() {
+    }
+
+    /**
+     * @param summaryOfTheJudgment 판결요지
+     * @param notice 판시사항
+     * @param precedentContent 판례내용
+     * @return 요약 (본문이 모두 비어 있으면 빈 문자열)
+     */
+    public static String extract(String summaryOfTheJudgment, String notice, String precedentContent) {
+        String contents = firstNonEmpty(summaryOfTheJudgment, notice, precedentContent);
+        return truncate(extractOrderPart(contents).trim(), MAX_LENGTH);
+    }
+
+    /**
+     * 검색어 스니펫 원문 (PrecedentSnippetGenerator 가 검색 시 사용)
+     * 판시사항 + 판결요지, 둘 다 없으면 판례내용 앞부분. 연속 공백은 하나로 줄이고 줄바꿈은 문장 경계로 남김
+     *
+     * @return 스니펫 원문 (최대 SNIPPET_SOURCE_LENGTH 자)
+     */
+    public static String snippetSource(String summaryOfTheJudgment, String notice, String precedentContent) {
+        StringBuilder source = new StringBuilder();
+        if (StringUtils.hasText(notice)) {
+            source.append(notice.trim());
+        }
+        if (StringUtils.hasText(summaryOfTheJudgment)) {
+            if (!source.isEmpty()) {
+                source.append('\n');
+            }
+            source.append(summaryOfTheJudgment.trim());
+        }
+        if (source.isEmpty() && StringUtils.hasText(precedentContent)) {
+            source.append(precedentContent, 0, Math.min(precedentContent.length(), SNIPPET_SOURCE_LENGTH * 2));
+        }
+
+        String collapsed = source.toString()
+                .replaceAll("[ \\t\\x0B\\f\\r]+", " ")
+                .replaceAll(" ?\\n[\\s]*", "\n")
+                .trim();
+        return truncate(collapsed, SNIPPET_SOURCE_LENGTH);
+    }
+
+    // ==================== Private Helper Methods ====================
+
+    private static String firstNonEmpty(String... candidates) {
+        for (String candidate : candidates) {
+            if (StringUtils.hasLength(candidate)) {
+                return candidate;
+            }
+        }
+        return "";
+    }
+
+    private static String extractOrderPart(String contents) {
+        int start = contents.indexOf(ORDER_START);
+        if (start == -1) {
+            return contents;
+        }
+
+        int end = contents.indexOf(ORDER_END, start);
+        if (end == -1) {
+            end = contents.length();
+        }
+        return contents.substring(start, end);
+    }
+
+    /**
+     * 최대 길이로 자르되 서로게이트 쌍 중간에서 자르지 않음
+     */
+    private static String truncate(String value, int maxLength) {
+        if (value.length() <= maxLength) {
+            return value;
+        }
+        int end = Character.isHighSurrogate(value.charAt(maxLength - 1)) ? maxLength - 1 : maxLength;
+        return value.substring(0, end);
+    }
+}
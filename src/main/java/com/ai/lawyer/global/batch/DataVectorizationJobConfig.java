@@ -1,19 +1,59 @@
 package com.ai.lawyer.global.batch;
 
-/*@Slf4j
+import com.ai.lawyer.domain.law.entity.*;
+import com.ai.lawyer.domain.law.repository.HangRepository;
+import com.ai.lawyer.domain.law.repository.HoRepository;
+import com.ai.lawyer.domain.law.repository.JangRepository;
+import com.ai.lawyer.domain.law.repository.JoRepository;
+import com.ai.lawyer.domain.precedent.entity.Precedent;
+import com.ai.lawyer.domain.precedent.entity.PrecedentBody;
+import com.ai.lawyer.domain.precedent.repository.PrecedentBodyRepository;
+import com.ai.lawyer.global.qdrant.VectorDocumentType;
+import com.ai.lawyer.global.qdrant.service.VectorStoreRouter;
+import jakarta.persistence.EntityManagerFactory;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.ai.document.Document;
+import org.springframework.ai.transformer.splitter.TokenTextSplitter;
+import org.springframework.ai.vectorstore.VectorStore;
+import org.springframework.ai.vectorstore.filter.FilterExpressionBuilder;
+import org.springframework.batch.core.Job;
+import org.springframework.batch.core.Step;
+import org.springframework.batch.core.StepExecution;
+import org.springframework.batch.core.configuration.annotation.StepScope;
+import org.springframework.batch.core.job.builder.JobBuilder;
+import org.springframework.batch.core.repository.JobRepository;
+import org.springframework.batch.core.step.builder.StepBuilder;
+import org.springframework.batch.item.ItemProcessor;
+import org.springframework.batch.item.ItemWriter;
+import org.springframework.batch.item.database.JpaPagingItemReader;
+import org.springframework.batch.item.database.builder.JpaPagingItemReaderBuilder;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.transaction.PlatformTransactionManager;
+
+import java.nio.charset.StandardCharsets;
+import java.util.*;
+import java.util.stream.Collectors;
+
+@Slf4j
 @Configuration
 @RequiredArgsConstructor
 public class DataVectorizationJobConfig {
 
+    public static final String DOCUMENT_COUNT_KEY = "documentCount"; // 벡터 저장소에 upsert된 청크 수
+
     private final JobRepository jobRepository;
     private final PlatformTransactionManager transactionManager;
     private final EntityManagerFactory entityManagerFactory;
-    private final VectorStore vectorStore;
+    private final VectorStoreRouter vectorStoreRouter;
 
     private final JangRepository jangRepository;
     private final JoRepository joRepository;
     private final HangRepository hangRepository;
     private final HoRepository hoRepository;
+    private final PrecedentBodyRepository precedentBodyRepository;
 
     private final TokenTextSplitter tokenSplitter = TokenTextSplitter.builder()
             .withChunkSize(800)
@@ -26,105 +66,95 @@ public class DataVectorizationJobConfig {
     private static final int CHUNK_SIZE = 10; // 배치 처리 시 한 번에 읽어올 데이터 수
 
     @Value("${batch.page.size.precedent}")
-    private int precedentPageSize; // 하루에 처리할 판례 수
+    private int precedentPageSize; // 범위 지정 없이 실행할 때 처리할 판례 수
 
     @Value("${batch.page.size.law}")
-    private int lawPageSize; // 하루에 처리할 법령 수
-
-    @Bean
-    public TaskExecutor taskExecutor() {
-        ThreadPoolTaskExecutor executor = new ThreadPoolTaskExecutor();
-        executor.setCorePoolSize(10);
-        executor.setMaxPoolSize(20);
-        executor.setQueueCapacity(100);
-        executor.setThreadNamePrefix("async-thread-");
-        executor.initialize();
-        return executor;
-    }
+    private int lawPageSize; // 범위 지정 없이 실행할 때 처리할 법령 수
 
     // -------------- 전체 데이터 벡터화 정의 --------------
     @Bean
     public Job dataVectorizationJob() {
-        return new JobBuilder("dataVectorizationJob", jobRepository)
+        return new JobBuilder(VectorizationTarget.ALL.getJobName(), jobRepository)
                 .start(precedentVectorizationStep()) // 판례 벡터화 Step 실행
                 .next(lawVectorizationStep())        // 법령 벡터화 Step 실행
                 .build();
     }
 
+    // -------------- 대상별 벡터화 정의 (수동 실행용) --------------
+    @Bean
+    public Job precedentVectorizationJob() {
+        return new JobBuilder(VectorizationTarget.PRECEDENT.getJobName(), jobRepository)
+                .start(precedentVectorizationStep())
+                .build();
+    }
+
+    @Bean
+    public Job lawVectorizationJob() {
+        return new JobBuilder(VectorizationTarget.LAW.getJobName(), jobRepository)
+                .start(lawVectorizationStep())
+                .build();
+    }
+
     // -------------- 판례 벡터화 ---------------
     @Bean
     public Step precedentVectorizationStep() {
-        log.info(">>>>>> 판례 벡터화 시작");
         return new StepBuilder("precedentVectorizationStep", jobRepository)
                 .<Precedent, List<Document>>chunk(CHUNK_SIZE, transactionManager)
-                .reader(precedentItemReader())
+                .reader(precedentItemReader(null, null, null))
                 .processor(precedentItemProcessor())
-                .writer(documentItemWriter())
-                .taskExecutor(taskExecutor())
+                .writer(documentItemWriter(null, null))
                 .build();
     }
 
     @Bean
-    public JpaPagingItemReader<Precedent> precedentItemReader() {
-        return new JpaPagingItemReaderBuilder<Precedent>()
-                .name("precedentItemReader")
-                .entityManagerFactory(entityManagerFactory)
-                .pageSize(CHUNK_SIZE)
-                .maxItemCount(precedentPageSize)
-                .queryString("SELECT p FROM Precedent p ORDER BY p.id ASC")
-                .build();
+    @StepScope
+    public JpaPagingItemReader<Precedent> precedentItemReader(
+            @Value("#{jobParameters['" + VectorizationJobParameters.FROM_ID + "']}") Long fromId,
+            @Value("#{jobParameters['" + VectorizationJobParameters.TO_ID + "']}") Long toId,
+            @Value("#{jobParameters['" + VectorizationJobParameters.IDS + "']}") String ids) {
+        return buildReader("precedentItemReader", "Precedent", precedentPageSize, fromId, toId, ids);
     }
 
     @Bean
     public ItemProcessor<Precedent, List<Document>> precedentItemProcessor() {
 
         return precedent -> {
-            String content = precedent.getPrecedentContent();
+            // 판례내용은 압축 본문 테이블에 있으므로 판례마다 id 로 읽음
+            String content = precedentBodyRepository.findById(precedent.getId())
+                    .map(PrecedentBody::getPrecedentContent)
+                    .orElse(null);
             if (content == null || content.isBlank()) return null;
 
             Document originalDoc = new Document(content, Map.of(
                     "type", "판례",
+                    "precedentId", precedent.getId(),
                     "caseNumber", precedent.getCaseNumber(),
                     "court", precedent.getCourtName(),
                     "caseName", precedent.getCaseName()
             ));
 
-            List<Document> chunkDocs = tokenSplitter.split(originalDoc);
-            List<Document> finalChunks = new ArrayList<>();
-
-            // 청크별로 메타데이터에 인덱스 추가 -> 구분 용도
-            for (int i = 0; i < chunkDocs.size(); i++) {
-                Document chunk = chunkDocs.get(i);
-                Map<String, Object> newMetadata = new HashMap<>(chunk.getMetadata());
-                newMetadata.put("chunkIndex", i);
-                finalChunks.add(new Document(chunk.getText(), newMetadata));
-            }
-            return finalChunks;
+            return withChunkIndex(tokenSplitter.split(originalDoc), "precedent:" + precedent.getId());
         };
     }
 
     // -------------- 법령 백터화 ---------------
     @Bean
     public Step lawVectorizationStep() {
-        log.info(">>>>>> 법령 벡터화 시작");
         return new StepBuilder("lawVectorizationStep", jobRepository)
                 .<Law, List<Document>>chunk(CHUNK_SIZE, transactionManager) // 법령은 한 번에 10개씩 처리
-                .reader(lawItemReader())
+                .reader(lawItemReader(null, null, null))
                 .processor(lawItemProcessor())
-                .writer(documentItemWriter())
-                .taskExecutor(taskExecutor())
+                .writer(documentItemWriter(null, null))
                 .build();
     }
 
     @Bean
-    public JpaPagingItemReader<Law> lawItemReader() {
-        return new JpaPagingItemReaderBuilder<Law>()
-                .name("lawItemReader")
-                .entityManagerFactory(entityManagerFactory)
-                .pageSize(CHUNK_SIZE)
-                .maxItemCount(lawPageSize)
-                .queryString("SELECT l FROM Law l ORDER BY l.id ASC")
-                .build();
+    @StepScope
+    public JpaPagingItemReader<Law> lawItemReader(
+            @Value("#{jobParameters['" + VectorizationJobParameters.FROM_ID + "']}") Long fromId,
+            @Value("#{jobParameters['" + VectorizationJobParameters.TO_ID + "']}") Long toId,
+            @Value("#{jobParameters['" + VectorizationJobParameters.IDS + "']}") String ids) {
+        return buildReader("lawItemReader", "Law", lawPageSize, fromId, toId, ids);
     }
 
     @Bean
@@ -172,19 +202,13 @@ public class DataVectorizationJobConfig {
                 if (!finalContent.isBlank()) {
                     Map<String, Object> metadata = new HashMap<>();
                     metadata.put("type", "법령");
+                    metadata.put("lawId", law.getId());
                     metadata.put("lawName", law.getLawName());
                     metadata.put("jangId", jang.getId());
 
                     Document originalDoc = new Document(finalContent, metadata);
 
-                    List<Document> chunkDocs = tokenSplitter.split(originalDoc);
-
-                    for (int i = 0; i < chunkDocs.size(); i++) {
-                        Document chunk = chunkDocs.get(i);
-                        Map<String, Object> newMetadata = new HashMap<>(chunk.getMetadata());
-                        newMetadata.put("chunkIndex", i);
-                        finalChunks.add(new Document(chunk.getText(), newMetadata));
-                    }
+                    finalChunks.addAll(withChunkIndex(tokenSplitter.split(originalDoc), "law:" + law.getId() + ":" + jang.getId()));
                 }
             }
 
@@ -192,18 +216,107 @@ public class DataVectorizationJobConfig {
         };
     }
 
+    // -------------- 공통 Writer ---------------
+    // 같은 원본의 기존 청크를 지운 뒤 저장하므로 같은 범위를 다시 벡터화해도 중복이 생기지 않음
     @Bean
-    public ItemWriter<List<Document>> documentItemWriter() {
+    @StepScope
+    public ItemWriter<List<Document>> documentItemWriter(
+            @Value("#{stepExecution}") StepExecution stepExecution,
+            @Value("#{jobParameters['" + VectorizationJobParameters.TARGET_VERSION + "']}") String targetVersion) {
         return chunk -> {
             List<Document> totalDocuments = chunk.getItems().stream()
                     .flatMap(List::stream)
                     .collect(Collectors.toList());
 
-            if (!totalDocuments.isEmpty()) {
-                vectorStore.add(totalDocuments);
-                log.info(">>>>>> {}개의 Document 청크를 벡터 저장소에 저장했습니다.", totalDocuments.size());
+            if (totalDocuments.isEmpty()) {
+                return;
+            }
+
+            // 문서 유형별 컬렉션으로 나눠 저장 (재색인 잡이면 버전 컬렉션, 라이브 쓰기면 라이브 + 재색인 중인 버전 컬렉션)
+            Map<VectorDocumentType, List<Document>> documentsByType = totalDocuments.stream()
+                    .collect(Collectors.groupingBy(this::documentType));
+            for (Map.Entry<VectorDocumentType, List<Document>> entry : documentsByType.entrySet()) {
+                for (VectorStore vectorStore : vectorStoreRouter.writeStoresFor(entry.getKey(), targetVersion)) {
+                    deleteExistingChunks(vectorStore, entry.getValue(), entry.getKey().getSourceIdKey());
+                    vectorStore.add(entry.getValue());
+                }
             }
+
+            long documentCount = stepExecution.getExecutionContext().getLong(DOCUMENT_COUNT_KEY, 0L) + totalDocuments.size();
+            stepExecution.getExecutionContext().putLong(DOCUMENT_COUNT_KEY, documentCount);
+            log.info(">>>>>> {}개의 Document 청크를 벡터 저장소에 저장했습니다. (누적 {}개)", totalDocuments.size(), documentCount);
         };
     }
-}*/
 
+    // ==================== Private Helper Methods ====================
+
+    /**
+     * 잡 파라미터(id 범위 / id 목록)에 맞는 JPA 페이징 리더 생성
+     * 범위가 지정되지 않으면 기존처럼 배치 설정의 최대 건수만큼 처리
+     */
+    private <T> JpaPagingItemReader<T> buildReader(String name, String entityName, int defaultMaxCount,
+                                                   Long fromId, Long toId, String ids) {
+        Map<String, Object> parameters = new HashMap<>();
+        StringBuilder query = new StringBuilder("SELECT e FROM ").append(entityName).append(" e WHERE 1 = 1");
+
+        List<Long> idList = VectorizationJobParameters.parseIds(ids);
+        if (!idList.isEmpty()) {
+            query.append(" AND e.id IN :ids");
+            parameters.put("ids", idList);
+        }
+        if (fromId != null) {
+            query.append(" AND e.id >= :fromId");
+            parameters.put("fromId", fromId);
+        }
+        if (toId != null) {
+            query.append(" AND e.id <= :toId");
+            parameters.put("toId", toId);
+        }
+        query.append(" ORDER BY e.id ASC");
+
+        JpaPagingItemReaderBuilder<T> builder = new JpaPagingItemReaderBuilder<T>()
+                .name(name)
+                .entityManagerFactory(entityManagerFactory)
+                .pageSize(CHUNK_SIZE)
+                .queryString(query.toString())
+                .parameterValues(parameters);
+
+        if (idList.isEmpty() && fromId == null && toId == null) {
+            builder.maxItemCount(defaultMaxCount);
+        }
+        return builder.build();
+    }
+
+    /**
+     * 청크별로 메타데이터에 인덱스를 추가하고 원본 기준의 고정 ID 부여 -> 재실행 시 같은 포인트를 덮어씀
+     */
+    private List<Document> withChunkIndex(List<Document> chunkDocs, String sourceKey) {
+        List<Document> finalChunks = new ArrayList<>();
+        for (int i = 0; i < chunkDocs.size(); i++) {
+            Document chunk = chunkDocs.get(i);
+            Map<String, Object> newMetadata = new HashMap<>(chunk.getMetadata());
+            newMetadata.put("chunkIndex", i);
+            String id = UUID.nameUUIDFromBytes((sourceKey + ":" + i).getBytes(StandardCharsets.UTF_8)).toString();
+            finalChunks.add(new Document(id, chunk.getText(), newMetadata));
+        }
+        return finalChunks;
+    }
+
+    private VectorDocumentType documentType(Document document) {
+        Object type = document.getMetadata().get("type");
+        return VectorDocumentType.fromTypeValue(String.valueOf(type))
+                .orElseThrow(() -> new IllegalStateException("알 수 없는 문서 유형: " + type));
+    }
+
+    private void deleteExistingChunks(VectorStore vectorStore, List<Document> documents, String idKey) {
+        Object[] sourceIds = documents.stream()
+                .map(doc -> doc.getMetadata().get(idKey))
+                .filter(Objects::nonNull)
+                .distinct()
+                .toArray();
+
+        if (sourceIds.length > 0) {
+            vectorStore.delete(new FilterExpressionBuilder().in(idKey, sourceIds).build());
+        }
+    }
+}
@@ -0,0 +1,146 @@
+package com.ai.lawyer.global.batch;
+
+import com.ai.lawyer.domain.precedent.entity.Precedent;
+import com.ai.lawyer.domain.precedent.repository.PrecedentBulkRepository;
+import com.ai.lawyer.domain.precedent.service.PrecedentService;
+import com.ai.lawyer.global.batch.service.VectorizationJobService;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.batch.core.BatchStatus;
+import org.springframework.batch.core.Job;
+import org.springframework.batch.core.JobExecution;
+import org.springframework.batch.core.JobExecutionListener;
+import org.springframework.batch.core.Step;
+import org.springframework.batch.core.StepExecution;
+import org.springframework.batch.core.configuration.annotation.StepScope;
+import org.springframework.batch.core.job.builder.JobBuilder;
+import org.springframework.batch.core.repository.JobRepository;
+import org.springframework.batch.core.step.builder.StepBuilder;
+import org.springframework.batch.item.ExecutionContext;
+import org.springframework.batch.item.ItemWriter;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.transaction.PlatformTransactionManager;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * 키워드 판례 수집 잡
+ * 검색 페이지 -> 상세 조회(제한된 동시성) -> 저장을 페이지 단위 청크로 처리하므로
+ * 메모리에는 한 페이지 분량만 올라가고, 중단되면 마지막으로 커밋된 페이지 다음부터 재시작됨
+ */
+@Slf4j
+@Configuration
+@RequiredArgsConstructor
+public class PrecedentImportJobConfig {
+
+    public static final String JOB_NAME = "precedentImportJob";
+    public static final String QUERY = "query";           // 검색 키워드
+    public static final String VECTORIZE = "vectorize";   // 완료 후 저장된 판례 벡터화 여부 (식별 파라미터 아님)
+    public static final String SAVED_COUNT_KEY = "savedCount";
+    public static final String SKIPPED_COUNT_KEY = "skippedCount"; // 이미 저장되어 상세 조회를 생략한 수
+    public static final String SAVED_IDS_KEY = "savedIds"; // 이 잡이 저장한 판례 id (완료 후 벡터화 대상)
+
+    private final JobRepository jobRepository;
+    private final PlatformTransactionManager transactionManager;
+    private final PrecedentService precedentService;
+    private final PrecedentBulkRepository precedentBulkRepository;
+    // 벡터화 잡 서비스는 모든 Job 빈을 주입받으므로 순환 참조를 피하려고 사용 시점에 조회
+    private final ObjectProvider<VectorizationJobService> vectorizationJobService;
+
+    @Bean
+    public Job precedentImportJob() {
+        return new JobBuilder(JOB_NAME, jobRepository)
+                .start(precedentImportStep())
+                .listener(precedentImportListener())
+                .build();
+    }
+
+    @Bean
+    public Step precedentImportStep() {
+        return new StepBuilder("precedentImportStep", jobRepository)
+                .<String, String>chunk(PrecedentService.SEARCH_PAGE_SIZE, transactionManager)
+                .reader(precedentNumberItemReader(null))
+                .writer(precedentImportItemWriter(null))
+                .build();
+    }
+
+    @Bean
+    @StepScope
+    public PrecedentNumberItemReader precedentNumberItemReader(
+            @Value("#{jobParameters['" + QUERY + "']}") String query) {
+        return new PrecedentNumberItemReader(precedentService, query);
+    }
+
+    /**
+     * 한 페이지 분량의 판례일련번호 중 아직 없는 판례만 상세를 동시에 조회해 upsert
+     * 저장된 id 를 스텝 컨텍스트에 남겨 완료 후 벡터화 대상으로 사용
+     */
+    @Bean
+    @StepScope
+    public ItemWriter<String> precedentImportItemWriter(
+            @Value("#{stepExecution}") StepExecution stepExecution) {
+        return chunk -> {
+            List<String> precedentNumbers = chunk.getItems().stream()
+                    .map(String.class::cast)
+                    .toList();
+            List<String> newNumbers = precedentService.filterNewPrecedentNumbers(precedentNumbers);
+
+            List<Precedent> precedents = precedentService.getPrecedentDetails(newNumbers);
+            List<Long> savedIds = precedentBulkRepository.upsert(precedents);
+
+            ExecutionContext context = stepExecution.getExecutionContext();
+            context.putLong(SAVED_COUNT_KEY, context.getLong(SAVED_COUNT_KEY, 0L) + savedIds.size());
+            context.putLong(SKIPPED_COUNT_KEY,
+                    context.getLong(SKIPPED_COUNT_KEY, 0L) + precedentNumbers.size() - newNumbers.size());
+            if (!savedIds.isEmpty()) {
+                List<Long> allSavedIds = new ArrayList<>(savedIds(context));
+                allSavedIds.addAll(savedIds);
+                context.put(SAVED_IDS_KEY, allSavedIds);
+            }
+            log.info(">>>>>> 판례 {}개 저장 (새 판례 {}개 / 페이지 {}개, 누적 저장 {}개)",
+                    savedIds.size(), newNumbers.size(), precedentNumbers.size(), context.getLong(SAVED_COUNT_KEY));
+        };
+    }
+
+    /**
+     * 완료 시 이 잡이 저장한 판례만 벡터화
+     * (id 범위로 실행하면 동시에 돈 다른 수집 잡의 판례까지 포함되므로 id 목록으로 실행하고, 목록이 길면 잡을 나눔)
+     */
+    @Bean
+    public JobExecutionListener precedentImportListener() {
+        return new JobExecutionListener() {
+            @Override
+            public void afterJob(JobExecution jobExecution) {
+                if (jobExecution.getStatus() != BatchStatus.COMPLETED
+                        || !Boolean.parseBoolean(jobExecution.getJobParameters().getString(VECTORIZE))) {
+                    return;
+                }
+
+                List<Long> ids = new ArrayList<>();
+                for (StepExecution step : jobExecution.getStepExecutions()) {
+                    ids.addAll(savedIds(step.getExecutionContext()));
+                }
+
+                for (List<Long> partition : VectorizationJobParameters.partitionIds(ids)) {
+                    try {
+                        vectorizationJobService.getObject().launchForIds(VectorizationTarget.PRECEDENT, partition);
+                    } catch (Exception e) {
+                        log.error("수집한 판례 벡터화 잡 실행 실패. 판례 수: {}", partition.size(), e);
+                    }
+                }
+            }
+        };
+    }
+
+    // ==================== Private Helper Methods ====================
+
+    @SuppressWarnings("unchecked")
+    private static List<Long> savedIds(ExecutionContext context) {
+        Object ids = context.get(SAVED_IDS_KEY);
+        return ids instanceof List<?> list ? (List<Long>) list : List.of();
+    }
+}
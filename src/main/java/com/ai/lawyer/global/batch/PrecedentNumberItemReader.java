@@ -0,0 +1,85 @@
+package com.ai.lawyer.global.batch;
+
+import com.ai.lawyer.domain.precedent.dto.PrecedentNumberPageDto;
+import com.ai.lawyer.domain.precedent.service.PrecedentService;
+import org.springframework.batch.item.ExecutionContext;
+import org.springframework.batch.item.support.AbstractItemCountingItemStreamItemReader;
+
+import java.util.List;
+
+/**
+ * Open API 판례 검색 결과를 한 페이지씩 읽어 판례일련번호를 하나씩 반환
+ * 메모리에는 현재 페이지만 두고, 재시작 시에는 커밋된 읽은 건수로 해당 페이지부터 다시 조회
+ * (청크 크기를 페이지 크기와 같게 두면 페이지마다 체크포인트가 남음)
+ */
+public class PrecedentNumberItemReader extends AbstractItemCountingItemStreamItemReader<String> {
+
+    public static final String TOTAL_COUNT_KEY = "totalCount"; // 검색 결과 전체 건수 (진행률 계산용)
+
+    private final PrecedentService precedentService;
+    private final String query;
+
+    private PrecedentNumberPageDto currentPage;
+    private int indexInPage;
+
+    public PrecedentNumberItemReader(PrecedentService precedentService, String query) {
+        this.precedentService = precedentService;
+        this.query = query;
+        setName("precedentNumberReader");
+    }
+
+    @Override
+    protected void doOpen() {
+        currentPage = null;
+        indexInPage = 0;
+    }
+
+    @Override
+    protected String doRead() {
+        if (currentPage == null) {
+            loadPage(1);
+        }
+        if (indexInPage >= currentPage.getNumbers().size()) {
+            if (!currentPage.hasNext()) {
+                return null;
+            }
+            loadPage(currentPage.getPage() + 1);
+            if (currentPage.getNumbers().isEmpty()) {
+                return null;
+            }
+        }
+        return currentPage.getNumbers().get(indexInPage++);
+    }
+
+    /**
+     * 재시작 시 앞 페이지를 다시 읽지 않고 해당 페이지로 바로 이동
+     */
+    @Override
+    protected void jumpToItem(int itemIndex) {
+        loadPage(itemIndex / PrecedentService.SEARCH_PAGE_SIZE + 1);
+        indexInPage = itemIndex % PrecedentService.SEARCH_PAGE_SIZE;
+    }
+
+    @Override
+    protected void doClose() {
+        currentPage = null;
+    }
+
+    @Override
+    public void update(ExecutionContext executionContext) {
+        super.update(executionContext);
+        if (currentPage != null) {
+            executionContext.putLong(TOTAL_COUNT_KEY, currentPage.getTotalCount());
+        }
+    }
+
+    // ==================== Private Helper Methods ====================
+
+    private void loadPage(int page) {
+        currentPage = precedentService.getPrecedentNumberPage(query, page);
+        indexInPage = 0;
+        if (currentPage == null) {
+            currentPage = new PrecedentNumberPageDto(page, PrecedentService.SEARCH_PAGE_SIZE, 0, List.of());
+        }
+    }
+}
@@ -0,0 +1,68 @@
+package com.ai.lawyer.global.batch;
+
+import org.springframework.util.StringUtils;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.stream.Collectors;
+
+/**
+ * 벡터화 잡 파라미터 키 정의
+ */
+public final class VectorizationJobParameters {
+
+    public static final String FROM_ID = "fromId";           // 시작 id (포함)
+    public static final String TO_ID = "toId";               // 종료 id (포함)
+    public static final String IDS = "ids";                  // 콤마로 구분된 id 목록
+    public static final String REQUEST_DATE = "requestDate"; // 실행마다 새 JobInstance를 만들기 위한 값
+    public static final String EXPECTED_COUNT = "expectedCount"; // 진행률 계산용 (식별 파라미터 아님)
+    public static final String TARGET_VERSION = "targetVersion"; // 재색인 시 저장할 버전 컬렉션 (<컬렉션>_<버전>)
+
+    // BATCH_JOB_EXECUTION_PARAMS.PARAMETER_VALUE 컬럼 길이(2500) 안에 들어가도록 제한
+    public static final int MAX_IDS_LENGTH = 2000;
+
+    private VectorizationJobParameters() {
+    }
+
+    public static String joinIds(List<Long> ids) {
+        return ids.stream()
+                .map(String::valueOf)
+                .collect(Collectors.joining(","));
+    }
+
+    /**
+     * joinIds 결과가 MAX_IDS_LENGTH 안에 들어가도록 id 목록을 나눔 (목록이 길어도 범위로 대체하지 않고 잡을 나눠 실행할 때 사용)
+     */
+    public static List<List<Long>> partitionIds(List<Long> ids) {
+        List<List<Long>> partitions = new ArrayList<>();
+        List<Long> current = new ArrayList<>();
+        int length = 0;
+        for (Long id : ids) {
+            int idLength = String.valueOf(id).length() + (current.isEmpty() ? 0 : 1);
+            if (!current.isEmpty() && length + idLength > MAX_IDS_LENGTH) {
+                partitions.add(current);
+                current = new ArrayList<>();
+                idLength = String.valueOf(id).length();
+                length = 0;
+            }
+            current.add(id);
+            length += idLength;
+        }
+        if (!current.isEmpty()) {
+            partitions.add(current);
+        }
+        return partitions;
+    }
+
+    public static List<Long> parseIds(String ids) {
+        if (!StringUtils.hasText(ids)) {
+            return List.of();
+        }
+        return Arrays.stream(ids.split(","))
+                .map(String::trim)
+                .filter(StringUtils::hasText)
+                .map(Long::valueOf)
+                .toList();
+    }
+}
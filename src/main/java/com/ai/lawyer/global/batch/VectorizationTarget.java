@@ -0,0 +1,24 @@
+package com.ai.lawyer.global.batch;
+
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+
+import java.util.Arrays;
+import java.util.Optional;
+
+@Getter
+@RequiredArgsConstructor
+public enum VectorizationTarget {
+    PRECEDENT("precedentVectorizationJob", "판례"),
+    LAW("lawVectorizationJob", "법령"),
+    ALL("dataVectorizationJob", "전체");
+
+    private final String jobName;
+    private final String description;
+
+    public static Optional<VectorizationTarget> fromJobName(String jobName) {
+        return Arrays.stream(values())
+                .filter(target -> target.jobName.equals(jobName))
+                .findFirst();
+    }
+}
@@ -0,0 +1,79 @@
+package com.ai.lawyer.global.batch.controller;
+
+import com.ai.lawyer.global.batch.dto.VectorizationProgressDto;
+import com.ai.lawyer.global.batch.dto.VectorizationRequestDto;
+import com.ai.lawyer.global.batch.service.VectorizationJobService;
+import io.swagger.v3.oas.annotations.Operation;
+import io.swagger.v3.oas.annotations.tags.Tag;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.*;
+
+import java.util.List;
+import java.util.NoSuchElementException;
+
+@Slf4j
+@RestController
+@RequiredArgsConstructor
+@Tag(name = "벡터화 관리", description = "판례/법령 벡터화 잡 관리 API (관리자 전용)")
+@RequestMapping("/api/admin/vectorization")
+public class VectorizationController {
+
+    private final VectorizationJobService vectorizationJobService;
+
+    @PostMapping
+    @Operation(summary = "벡터화 잡 실행", description = "대상(PRECEDENT, LAW, ALL)과 id 범위 또는 id 목록을 지정해 벡터화를 실행합니다")
+    public ResponseEntity<?> launch(@RequestBody VectorizationRequestDto request) {
+        try {
+            VectorizationProgressDto progress = vectorizationJobService.launch(request);
+            return ResponseEntity.accepted().body(progress);
+        } catch (IllegalArgumentException | IllegalStateException e) {
+            log.error("벡터화 잡 실행 에러 : " + e.getMessage());
+            return ResponseEntity.badRequest().body("벡터화 잡 실행 에러 : " + e.getMessage());
+        }
+    }
+
+    @GetMapping
+    @Operation(summary = "최근 벡터화 잡 목록", description = "최근 실행된 벡터화 잡의 진행 상황을 조회합니다")
+    public ResponseEntity<List<VectorizationProgressDto>> recentExecutions(
+            @RequestParam(defaultValue = "10") int count) {
+        return ResponseEntity.ok(vectorizationJobService.getRecentExecutions(count));
+    }
+
+    @GetMapping("/{executionId}")
+    @Operation(summary = "벡터화 잡 진행 상황 조회", description = "읽은 건수, 임베딩/저장 건수, 처리 속도, 예상 남은 시간을 조회합니다")
+    public ResponseEntity<?> progress(@PathVariable Long executionId) {
+        try {
+            return ResponseEntity.ok(vectorizationJobService.getProgress(executionId));
+        } catch (NoSuchElementException e) {
+            return ResponseEntity.notFound().build();
+        }
+    }
+
+    @PostMapping("/{executionId}/stop")
+    @Operation(summary = "벡터화 잡 중지", description = "실행 중인 벡터화 잡을 현재 청크 처리 후 중지합니다")
+    public ResponseEntity<?> stop(@PathVariable Long executionId) {
+        try {
+            return ResponseEntity.ok(vectorizationJobService.stop(executionId));
+        } catch (NoSuchElementException e) {
+            return ResponseEntity.notFound().build();
+        } catch (Exception e) {
+            log.error("벡터화 잡 중지 에러 : " + e.getMessage());
+            return ResponseEntity.badRequest().body("벡터화 잡 중지 에러 : " + e.getMessage());
+        }
+    }
+
+    @PostMapping("/{executionId}/restart")
+    @Operation(summary = "벡터화 잡 재시작", description = "중지되었거나 실패한 벡터화 잡을 마지막 커밋 지점부터 재시작합니다")
+    public ResponseEntity<?> restart(@PathVariable Long executionId) {
+        try {
+            return ResponseEntity.accepted().body(vectorizationJobService.restart(executionId));
+        } catch (NoSuchElementException e) {
+            return ResponseEntity.notFound().build();
+        } catch (IllegalArgumentException | IllegalStateException e) {
+            log.error("벡터화 잡 재시작 에러 : " + e.getMessage());
+            return ResponseEntity.badRequest().body("벡터화 잡 재시작 에러 : " + e.getMessage());
+        }
+    }
+}
@@ -0,0 +1,32 @@
+package com.ai.lawyer.global.batch.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDateTime;
+
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class PrecedentImportProgressDto {
+
+    private Long executionId;
+    private String query;
+    private String status;
+    private String exitCode;
+
+    private LocalDateTime startTime;
+    private LocalDateTime endTime;
+
+    private Long totalCount;   // 검색 결과 전체 건수 (첫 페이지 커밋 후 채워짐)
+    private long readCount;    // 처리한 판례일련번호 수 (커밋된 페이지 기준)
+    private long savedCount;   // 상세 조회 후 저장된 판례 수
+    private long skippedCount; // 이미 저장되어 있어 상세 조회를 생략한 판례 수
+    private long commitCount;  // 커밋된 페이지 수
+
+    private Double itemsPerSecond;
+    private Long etaSeconds;
+}
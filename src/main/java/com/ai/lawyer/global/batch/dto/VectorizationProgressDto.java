@@ -0,0 +1,53 @@
+package com.ai.lawyer.global.batch.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class VectorizationProgressDto {
+
+    private Long executionId;
+    private String jobName;
+    private String target;
+    private String status;
+    private String exitCode;
+    private String parameters;
+
+    private LocalDateTime startTime;
+    private LocalDateTime endTime;
+
+    private Long expectedCount;   // 처리 예정 건수 (판례/법령 수)
+    private long readCount;       // 읽은 건수
+    private long writeCount;      // 임베딩 완료 건수
+    private long documentCount;   // 벡터 저장소에 upsert된 청크 수
+
+    private Double itemsPerSecond;
+    private Long etaSeconds;
+
+    private List<StepProgress> steps;
+
+    @Data
+    @Builder
+    @NoArgsConstructor
+    @AllArgsConstructor
+    public static class StepProgress {
+        private String stepName;
+        private String status;
+        private long readCount;
+        private long writeCount;
+        private long filterCount;
+        private long skipCount;
+        private long commitCount;
+        private long documentCount;
+        private LocalDateTime startTime;
+        private LocalDateTime endTime;
+    }
+}
@@ -0,0 +1,32 @@
+package com.ai.lawyer.global.batch.dto;
+
+import com.ai.lawyer.global.batch.VectorizationTarget;
+import io.swagger.v3.oas.annotations.media.Schema;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.util.List;
+
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class VectorizationRequestDto {
+
+    @Schema(description = "벡터화 대상 (PRECEDENT, LAW, ALL)", example = "PRECEDENT")
+    private VectorizationTarget target;
+
+    @Schema(description = "시작 id (포함, ALL 대상은 0(제한 없이 전체)만 가능)", example = "1")
+    private Long fromId;
+
+    @Schema(description = "종료 id (포함, ALL 대상에는 지정 불가)", example = "500")
+    private Long toId;
+
+    @Schema(description = "벡터화할 id 목록 (범위 대신 사용, ALL 대상에는 지정 불가, 콤마로 이은 길이 2000자 이하)")
+    private List<Long> ids;
+
+    @Schema(description = "재색인 버전 (지정 시 라이브 컬렉션 대신 <컬렉션>_<버전> 에 저장)", example = "v20250101120000")
+    private String targetVersion;
+}
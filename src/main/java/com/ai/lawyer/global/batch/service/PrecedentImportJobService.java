@@ -0,0 +1,204 @@
+package com.ai.lawyer.global.batch.service;
+
+import com.ai.lawyer.global.batch.PrecedentImportJobConfig;
+import com.ai.lawyer.global.batch.PrecedentNumberItemReader;
+import com.ai.lawyer.global.batch.VectorizationJobParameters;
+import com.ai.lawyer.global.batch.dto.PrecedentImportProgressDto;
+import jakarta.annotation.PostConstruct;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.batch.core.*;
+import org.springframework.batch.core.explore.JobExplorer;
+import org.springframework.batch.core.launch.support.TaskExecutorJobLauncher;
+import org.springframework.batch.core.repository.JobRepository;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.core.task.SimpleAsyncTaskExecutor;
+import org.springframework.stereotype.Service;
+import org.springframework.util.StringUtils;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.Comparator;
+import java.util.NoSuchElementException;
+import java.util.Objects;
+
+/**
+ * 판례 수집 잡 실행/조회
+ * 서버가 잡 도중 종료되면 메타 DB 에는 STARTED 로 남으므로, 기동 시 오래 갱신되지 않은 실행을 실패 처리하고
+ * 마지막 커밋 페이지부터 다시 실행
+ */
+@Slf4j
+@Service
+public class PrecedentImportJobService {
+
+    private final JobRepository jobRepository;
+    private final JobExplorer jobExplorer;
+    private final Job precedentImportJob;
+
+    @Value("${custom.precedent-import.stale-timeout:10m}")
+    private Duration staleTimeout; // 이 시간 동안 커밋이 없으면 중단된 실행으로 판단 (다른 인스턴스에서 실행 중인 잡 보호)
+
+    private TaskExecutorJobLauncher asyncJobLauncher;
+
+    public PrecedentImportJobService(JobRepository jobRepository,
+                                     JobExplorer jobExplorer,
+                                     @Qualifier("precedentImportJob") Job precedentImportJob) {
+        this.jobRepository = jobRepository;
+        this.jobExplorer = jobExplorer;
+        this.precedentImportJob = precedentImportJob;
+    }
+
+    @PostConstruct
+    void initJobLauncher() throws Exception {
+        SimpleAsyncTaskExecutor taskExecutor = new SimpleAsyncTaskExecutor("precedent-import-");
+        taskExecutor.setConcurrencyLimit(2);
+
+        asyncJobLauncher = new TaskExecutorJobLauncher();
+        asyncJobLauncher.setJobRepository(jobRepository);
+        asyncJobLauncher.setTaskExecutor(taskExecutor);
+        asyncJobLauncher.afterPropertiesSet();
+    }
+
+    /**
+     * 판례 수집 잡 실행 (비동기)
+     *
+     * @param query 검색 키워드
+     * @param vectorize 완료 후 저장된 판례 벡터화 여부
+     * @return 시작된 잡의 진행 정보
+     */
+    public PrecedentImportProgressDto launch(String query, boolean vectorize) {
+        if (!StringUtils.hasText(query)) {
+            throw new IllegalArgumentException("검색 키워드가 비어 있습니다.");
+        }
+
+        JobParameters parameters = new JobParametersBuilder()
+                .addString(PrecedentImportJobConfig.QUERY, query.trim())
+                .addString(VectorizationJobParameters.REQUEST_DATE, LocalDateTime.now().toString())
+                .addString(PrecedentImportJobConfig.VECTORIZE, String.valueOf(vectorize), false)
+                .toJobParameters();
+
+        JobExecution execution = run(parameters);
+        log.info("판례 수집 잡 실행. executionId: {}, 키워드: {}", execution.getId(), query);
+        return toProgress(execution);
+    }
+
+    /**
+     * 판례 수집 잡 진행 상황 조회
+     *
+     * @throws NoSuchElementException 해당 실행이 없거나 판례 수집 잡이 아닐 때 예외 발생
+     */
+    public PrecedentImportProgressDto getProgress(Long executionId) {
+        JobExecution execution = jobExplorer.getJobExecution(executionId);
+        if (execution == null || !PrecedentImportJobConfig.JOB_NAME.equals(execution.getJobInstance().getJobName())) {
+            throw new NoSuchElementException("판례 수집 잡 실행 정보가 없습니다. executionId = " + executionId);
+        }
+        return toProgress(execution);
+    }
+
+    /**
+     * 기동 시 중단된 판례 수집 잡 재시작
+     */
+    @EventListener(ApplicationReadyEvent.class)
+    public void restartInterruptedJobs() {
+        for (JobExecution execution : jobExplorer.findRunningJobExecutions(PrecedentImportJobConfig.JOB_NAME)) {
+            if (!isStale(execution)) {
+                continue;
+            }
+            try {
+                markFailed(execution);
+                JobExecution restarted = run(execution.getJobParameters());
+                log.info("중단된 판례 수집 잡 재시작. 이전 executionId: {}, 새 executionId: {}",
+                        execution.getId(), restarted.getId());
+            } catch (Exception e) {
+                log.error("중단된 판례 수집 잡 재시작 실패. executionId: {}", execution.getId(), e);
+            }
+        }
+    }
+
+    // ==================== Private Helper Methods ====================
+
+    private JobExecution run(JobParameters parameters) {
+        try {
+            return asyncJobLauncher.run(precedentImportJob, parameters);
+        } catch (Exception e) {
+            throw new IllegalStateException("판례 수집 잡 실행 실패: " + e.getMessage(), e);
+        }
+    }
+
+    /**
+     * 마지막 갱신(청크 커밋) 이후 staleTimeout 이 지났는지
+     */
+    private boolean isStale(JobExecution execution) {
+        LocalDateTime lastUpdated = execution.getStepExecutions().stream()
+                .map(StepExecution::getLastUpdated)
+                .filter(Objects::nonNull)
+                .max(Comparator.naturalOrder())
+                .orElse(execution.getLastUpdated() != null ? execution.getLastUpdated() : execution.getCreateTime());
+        return lastUpdated == null || lastUpdated.plus(staleTimeout).isBefore(LocalDateTime.now());
+    }
+
+    /**
+     * 메타 DB 에 STARTED 로 남은 실행을 FAILED 로 바꿔 재시작 가능하게 함
+     */
+    private void markFailed(JobExecution execution) {
+        LocalDateTime now = LocalDateTime.now();
+        for (StepExecution step : execution.getStepExecutions()) {
+            if (step.getStatus().isRunning()) {
+                step.setStatus(BatchStatus.FAILED);
+                step.setExitStatus(ExitStatus.FAILED.addExitDescription("서버 종료로 중단"));
+                step.setEndTime(now);
+                jobRepository.update(step);
+            }
+        }
+        execution.setStatus(BatchStatus.FAILED);
+        execution.setExitStatus(ExitStatus.FAILED.addExitDescription("서버 종료로 중단"));
+        execution.setEndTime(now);
+        jobRepository.update(execution);
+    }
+
+    private PrecedentImportProgressDto toProgress(JobExecution execution) {
+        long readCount = 0;
+        long savedCount = 0;
+        long skippedCount = 0;
+        long commitCount = 0;
+        Long totalCount = null;
+        for (StepExecution step : execution.getStepExecutions()) {
+            readCount += step.getReadCount();
+            commitCount += step.getCommitCount();
+            savedCount += step.getExecutionContext().getLong(PrecedentImportJobConfig.SAVED_COUNT_KEY, 0L);
+            skippedCount += step.getExecutionContext().getLong(PrecedentImportJobConfig.SKIPPED_COUNT_KEY, 0L);
+            if (step.getExecutionContext().containsKey(PrecedentNumberItemReader.TOTAL_COUNT_KEY)) {
+                totalCount = step.getExecutionContext().getLong(PrecedentNumberItemReader.TOTAL_COUNT_KEY);
+            }
+        }
+
+        Double itemsPerSecond = null;
+        Long etaSeconds = null;
+        if (execution.getStartTime() != null && readCount > 0) {
+            LocalDateTime end = execution.getEndTime() != null ? execution.getEndTime() : LocalDateTime.now();
+            long elapsedMillis = Math.max(Duration.between(execution.getStartTime(), end).toMillis(), 1);
+            itemsPerSecond = readCount * 1000.0 / elapsedMillis;
+            if (execution.isRunning() && totalCount != null && totalCount > readCount) {
+                etaSeconds = (long) Math.ceil((totalCount - readCount) / itemsPerSecond);
+            }
+        }
+
+        return PrecedentImportProgressDto.builder()
+                .executionId(execution.getId())
+                .query(execution.getJobParameters().getString(PrecedentImportJobConfig.QUERY))
+                .status(execution.getStatus().name())
+                .exitCode(execution.getExitStatus().getExitCode())
+                .startTime(execution.getStartTime())
+                .endTime(execution.getEndTime())
+                .totalCount(totalCount)
+                .readCount(readCount)
+                .savedCount(savedCount)
+                .skippedCount(skippedCount)
+                .commitCount(commitCount)
+                .itemsPerSecond(itemsPerSecond)
+                .etaSeconds(etaSeconds)
+                .build();
+    }
+}
@@ -0,0 +1,276 @@
+package com.ai.lawyer.global.batch.service;
+
+import com.ai.lawyer.domain.law.repository.LawRepository;
+import com.ai.lawyer.domain.precedent.repository.PrecedentRepository;
+import com.ai.lawyer.global.batch.DataVectorizationJobConfig;
+import com.ai.lawyer.global.batch.VectorizationJobParameters;
+import com.ai.lawyer.global.batch.VectorizationTarget;
+import com.ai.lawyer.global.batch.dto.VectorizationProgressDto;
+import com.ai.lawyer.global.batch.dto.VectorizationProgressDto.StepProgress;
+import com.ai.lawyer.global.batch.dto.VectorizationRequestDto;
+import jakarta.annotation.PostConstruct;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.batch.core.*;
+import org.springframework.batch.core.explore.JobExplorer;
+import org.springframework.batch.core.launch.JobOperator;
+import org.springframework.batch.core.launch.support.TaskExecutorJobLauncher;
+import org.springframework.batch.core.repository.JobRepository;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.core.task.SimpleAsyncTaskExecutor;
+import org.springframework.stereotype.Service;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.*;
+import java.util.function.BiFunction;
+
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class VectorizationJobService {
+
+    private final JobRepository jobRepository;
+    private final JobExplorer jobExplorer;
+    private final JobOperator jobOperator;
+    private final List<Job> jobs;
+
+    private final PrecedentRepository precedentRepository;
+    private final LawRepository lawRepository;
+
+    @Value("${batch.page.size.precedent}")
+    private int precedentPageSize;
+
+    @Value("${batch.page.size.law}")
+    private int lawPageSize;
+
+    // HTTP 요청 스레드를 막지 않도록 별도 스레드에서 잡을 실행하는 런처
+    private TaskExecutorJobLauncher asyncJobLauncher;
+
+    @PostConstruct
+    void initJobLauncher() throws Exception {
+        SimpleAsyncTaskExecutor taskExecutor = new SimpleAsyncTaskExecutor("vectorization-");
+        taskExecutor.setConcurrencyLimit(2);
+
+        asyncJobLauncher = new TaskExecutorJobLauncher();
+        asyncJobLauncher.setJobRepository(jobRepository);
+        asyncJobLauncher.setTaskExecutor(taskExecutor);
+        asyncJobLauncher.afterPropertiesSet();
+    }
+
+    /**
+     * 벡터화 잡 실행 (비동기)
+     *
+     * @param request 대상, id 범위 또는 id 목록 (범위/목록은 PRECEDENT, LAW 대상만)
+     * @return 시작된 잡의 진행 정보
+     */
+    public VectorizationProgressDto launch(VectorizationRequestDto request) {
+        VectorizationTarget target = request.getTarget() != null ? request.getTarget() : VectorizationTarget.ALL;
+        List<Long> ids = request.getIds() != null ? request.getIds() : List.of();
+        Long fromId = request.getFromId();
+        Long toId = request.getToId();
+
+        boolean wholeRange = ids.isEmpty() && toId == null && (fromId == null || fromId <= 0);
+        if (target == VectorizationTarget.ALL && !wholeRange) {
+            // 판례 id 와 법령 id 는 서로 다른 테이블의 id 라 같은 범위를 적용하면 엉뚱한 행이 대상이 됨
+            // (fromId = 0 은 최대 건수 제한 없이 전체를 뜻하므로 허용)
+            throw new IllegalArgumentException("전체(ALL) 벡터화에는 id 범위나 목록을 지정할 수 없습니다. 판례/법령 대상별로 실행해주세요.");
+        }
+        if (fromId != null && toId != null && fromId > toId) {
+            throw new IllegalArgumentException("시작 id가 종료 id보다 클 수 없습니다.");
+        }
+
+        String joinedIds = VectorizationJobParameters.joinIds(ids);
+        if (joinedIds.length() > VectorizationJobParameters.MAX_IDS_LENGTH) {
+            // 범위로 바꾸면 사이의 다른 행까지 다시 임베딩하므로 거절 (긴 목록은 launchForIds 로 나눠 실행)
+            throw new IllegalArgumentException("id 목록이 너무 깁니다. 최대 길이: "
+                    + VectorizationJobParameters.MAX_IDS_LENGTH + "자, 요청: " + joinedIds.length() + "자");
+        }
+
+        JobParametersBuilder builder = new JobParametersBuilder()
+                .addString(VectorizationJobParameters.REQUEST_DATE, LocalDateTime.now().toString())
+                .addLong(VectorizationJobParameters.EXPECTED_COUNT, expectedCount(target, fromId, toId, ids), false);
+        if (fromId != null) {
+            builder.addLong(VectorizationJobParameters.FROM_ID, fromId);
+        }
+        if (toId != null) {
+            builder.addLong(VectorizationJobParameters.TO_ID, toId);
+        }
+        if (!joinedIds.isEmpty()) {
+            builder.addString(VectorizationJobParameters.IDS, joinedIds);
+        }
+        if (request.getTargetVersion() != null) {
+            builder.addString(VectorizationJobParameters.TARGET_VERSION, request.getTargetVersion());
+        }
+
+        JobExecution execution = run(findJob(target), builder.toJobParameters());
+        log.info("{} 벡터화 잡 실행. executionId: {}, 범위: {} ~ {}, id 수: {}",
+                target.getDescription(), execution.getId(), fromId, toId, ids.size());
+        return toProgress(execution);
+    }
+
+    /**
+     * 방금 저장된 데이터의 id 목록으로 벡터화 잡 실행
+     * 목록이 잡 파라미터 길이를 넘으면 나눠서 잡을 여러 개 실행 (목록에 없는 행은 임베딩하지 않음)
+     *
+     * @return 시작된 잡들의 진행 정보
+     */
+    public List<VectorizationProgressDto> launchForIds(VectorizationTarget target, List<Long> ids) {
+        return VectorizationJobParameters.partitionIds(ids).stream()
+                .map(partition -> launch(VectorizationRequestDto.builder()
+                        .target(target)
+                        .ids(partition)
+                        .build()))
+                .toList();
+    }
+
+    /**
+     * 잡 진행 상황 조회 (메타 DB 기준)
+     */
+    public VectorizationProgressDto getProgress(Long executionId) {
+        JobExecution execution = jobExplorer.getJobExecution(executionId);
+        if (execution == null || VectorizationTarget.fromJobName(execution.getJobInstance().getJobName()).isEmpty()) {
+            throw new NoSuchElementException("벡터화 잡 실행 정보가 없습니다. executionId = " + executionId);
+        }
+        return toProgress(execution);
+    }
+
+    /**
+     * 최근 벡터화 잡 실행 목록 조회
+     */
+    public List<VectorizationProgressDto> getRecentExecutions(int count) {
+        List<VectorizationProgressDto> executions = new ArrayList<>();
+        for (VectorizationTarget target : VectorizationTarget.values()) {
+            for (JobInstance instance : jobExplorer.findJobInstancesByJobName(target.getJobName(), 0, count)) {
+                jobExplorer.getJobExecutions(instance).forEach(execution -> executions.add(toProgress(execution)));
+            }
+        }
+        executions.sort(Comparator.comparing(VectorizationProgressDto::getExecutionId).reversed());
+        return executions.stream().limit(count).toList();
+    }
+
+    /**
+     * 실행 중인 잡 중지 요청 (현재 청크 커밋 후 중지됨)
+     */
+    public VectorizationProgressDto stop(Long executionId) throws Exception {
+        getProgress(executionId);
+        jobOperator.stop(executionId);
+        log.info("벡터화 잡 중지 요청. executionId: {}", executionId);
+        return getProgress(executionId);
+    }
+
+    /**
+     * 중지되었거나 실패한 잡을 마지막 커밋 지점부터 재시작
+     */
+    public VectorizationProgressDto restart(Long executionId) {
+        JobExecution previous = jobExplorer.getJobExecution(executionId);
+        if (previous == null) {
+            throw new NoSuchElementException("벡터화 잡 실행 정보가 없습니다. executionId = " + executionId);
+        }
+        if (previous.getStatus() != BatchStatus.STOPPED && previous.getStatus() != BatchStatus.FAILED) {
+            throw new IllegalStateException("중지 또는 실패한 잡만 재시작할 수 있습니다. 현재 상태: " + previous.getStatus());
+        }
+
+        VectorizationTarget target = VectorizationTarget.fromJobName(previous.getJobInstance().getJobName())
+                .orElseThrow(() -> new IllegalArgumentException("벡터화 잡이 아닙니다. executionId = " + executionId));
+
+        JobExecution execution = run(findJob(target), previous.getJobParameters());
+        log.info("벡터화 잡 재시작. 이전 executionId: {}, 새 executionId: {}", executionId, execution.getId());
+        return toProgress(execution);
+    }
+
+    // ==================== Private Helper Methods ====================
+
+    private Job findJob(VectorizationTarget target) {
+        return jobs.stream()
+                .filter(job -> job.getName().equals(target.getJobName()))
+                .findFirst()
+                .orElseThrow(() -> new IllegalStateException("잡이 등록되어 있지 않습니다: " + target.getJobName()));
+    }
+
+    private JobExecution run(Job job, JobParameters jobParameters) {
+        try {
+            return asyncJobLauncher.run(job, jobParameters);
+        } catch (Exception e) {
+            throw new IllegalStateException("벡터화 잡 실행 실패: " + e.getMessage(), e);
+        }
+    }
+
+    private long expectedCount(VectorizationTarget target, Long fromId, Long toId, List<Long> ids) {
+        long count = 0;
+        if (target != VectorizationTarget.LAW) {
+            count += expectedCount(ids, fromId, toId, precedentPageSize,
+                    precedentRepository::countByIdBetween, precedentRepository.count());
+        }
+        if (target != VectorizationTarget.PRECEDENT) {
+            count += expectedCount(ids, fromId, toId, lawPageSize,
+                    lawRepository::countByIdBetween, lawRepository.count());
+        }
+        return count;
+    }
+
+    private long expectedCount(List<Long> ids, Long fromId, Long toId, int defaultMaxCount,
+                               BiFunction<Long, Long, Long> countInRange, long totalCount) {
+        if (!ids.isEmpty()) {
+            return ids.size();
+        }
+        if (fromId == null && toId == null) {
+            return Math.min(totalCount, defaultMaxCount);
+        }
+        return countInRange.apply(fromId != null ? fromId : 0L, toId != null ? toId : Long.MAX_VALUE);
+    }
+
+    private VectorizationProgressDto toProgress(JobExecution execution) {
+        List<StepProgress> steps = execution.getStepExecutions().stream()
+                .sorted(Comparator.comparing(StepExecution::getId))
+                .map(step -> StepProgress.builder()
+                        .stepName(step.getStepName())
+                        .status(step.getStatus().name())
+                        .readCount(step.getReadCount())
+                        .writeCount(step.getWriteCount())
+                        .filterCount(step.getFilterCount())
+                        .skipCount(step.getSkipCount())
+                        .commitCount(step.getCommitCount())
+                        .documentCount(step.getExecutionContext().getLong(DataVectorizationJobConfig.DOCUMENT_COUNT_KEY, 0L))
+                        .startTime(step.getStartTime())
+                        .endTime(step.getEndTime())
+                        .build())
+                .toList();
+
+        long readCount = steps.stream().mapToLong(StepProgress::getReadCount).sum();
+        long writeCount = steps.stream().mapToLong(StepProgress::getWriteCount).sum();
+        long documentCount = steps.stream().mapToLong(StepProgress::getDocumentCount).sum();
+        Long expectedCount = execution.getJobParameters().getLong(VectorizationJobParameters.EXPECTED_COUNT);
+
+        Double itemsPerSecond = null;
+        Long etaSeconds = null;
+        if (execution.getStartTime() != null && readCount > 0) {
+            LocalDateTime end = execution.getEndTime() != null ? execution.getEndTime() : LocalDateTime.now();
+            long elapsedMillis = Math.max(Duration.between(execution.getStartTime(), end).toMillis(), 1);
+            itemsPerSecond = readCount * 1000.0 / elapsedMillis;
+            if (execution.isRunning() && expectedCount != null && expectedCount > readCount) {
+                etaSeconds = (long) Math.ceil((expectedCount - readCount) / itemsPerSecond);
+            }
+        }
+
+        return VectorizationProgressDto.builder()
+                .executionId(execution.getId())
+                .jobName(execution.getJobInstance().getJobName())
+                .target(VectorizationTarget.fromJobName(execution.getJobInstance().getJobName())
+                        .map(Enum::name)
+                        .orElse(null))
+                .status(execution.getStatus().name())
+                .exitCode(execution.getExitStatus().getExitCode())
+                .parameters(execution.getJobParameters().toString())
+                .startTime(execution.getStartTime())
+                .endTime(execution.getEndTime())
+                .expectedCount(expectedCount)
+                .readCount(readCount)
+                .writeCount(writeCount)
+                .documentCount(documentCount)
+                .itemsPerSecond(itemsPerSecond)
+                .etaSeconds(etaSeconds)
+                .steps(steps)
+                .build();
+    }
+}
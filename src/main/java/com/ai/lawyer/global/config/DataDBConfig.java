@@ -1,6 +1,7 @@
 package com.ai.lawyer.global.config;
 
 import com.ai.lawyer.domain.member.repositories.MemberRepositoryFactoryBean;
+import com.zaxxer.hikari.HikariDataSource;
 import org.springframework.beans.factory.annotation.Value;
 import org.springframework.boot.jdbc.DataSourceBuilder;
 import org.springframework.context.annotation.Bean;
@@ -36,12 +37,18 @@ public class DataDBConfig {
     @Bean
     @Primary
     public DataSource dataDBSource() {
-        return DataSourceBuilder.create()
+        DataSource dataSource = DataSourceBuilder.create()
                 .url(url)
                 .username(username)
                 .password(password)
                 .driverClassName(driver)
                 .build();
+
+        if (dataSource instanceof HikariDataSource hikariDataSource && url.startsWith("jdbc:mysql")) {
+            // JDBC 배치 insert 를 multi-row insert 한 번으로 전송 (법령 일괄 저장 등)
+            hikariDataSource.addDataSourceProperty("rewriteBatchedStatements", "true");
+        }
+        return dataSource;
     }
 
     @Bean
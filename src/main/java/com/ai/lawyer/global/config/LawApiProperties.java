@@ -0,0 +1,25 @@
+package com.ai.lawyer.global.config;
+
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+
+@Component
+@ConfigurationProperties(prefix = "custom.law-api")
+@Getter
+@Setter
+public class LawApiProperties {
+
+    private String baseUrl = "http://www.law.go.kr/DRF"; // 국가법령정보 Open API
+    private String oc = "noheechul";                     // Open API 사용자 ID
+
+    private double requestsPerSecond = 10; // 초당 최대 요청 수 (API 서버 보호)
+    private int maxConcurrency = 8;        // 동시에 진행할 최대 요청 수
+    private Duration timeout = Duration.ofSeconds(10);
+    private int maxInMemorySizeMb = 16;    // 응답 본문 최대 크기 (큰 법령 상세 JSON 대비)
+    private int maxRetries = 3;            // 5xx/429/타임아웃/연결 실패 시 재시도 횟수
+    private Duration retryBackoff = Duration.ofMillis(500); // 첫 재시도 대기 시간 (이후 지수적으로 증가)
+}
@@ -0,0 +1,18 @@
+package com.ai.lawyer.global.config;
+
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+
+@Component
+@ConfigurationProperties(prefix = "custom.law-document")
+@Getter
+@Setter
+public class LawDocumentProperties {
+
+    private long localCacheSize = 500;                       // 인스턴스 로컬 캐시에 둘 법령 문서 수
+    private Duration localCacheTtl = Duration.ofMinutes(10); // Redis 무효화 알림이 빠졌을 때 이전 문서를 보여줄 수 있는 최대 시간
+}
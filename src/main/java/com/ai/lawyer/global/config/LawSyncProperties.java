@@ -0,0 +1,23 @@
+package com.ai.lawyer.global.config;
+
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+
+@Component
+@ConfigurationProperties(prefix = "custom.law-sync")
+@Getter
+@Setter
+public class LawSyncProperties {
+
+    private boolean enabled = false;                    // 스케줄 실행 여부 (수동 실행 API 는 항상 사용 가능)
+    private String cron = "0 30 3 * * *";               // 매일 03:30 (전날 변경분 반영)
+    private int initialLookbackDays = 7;                // 동기화 기록이 없을 때 조회를 시작할 과거 일수
+    private int maxDaysPerRun = 31;                     // 한 번 실행에서 조회할 최대 일수 (밀린 기간은 다음 실행에 이어서)
+    private int pageSize = 100;                         // 변경 이력 목록 한 페이지 크기
+    private Duration lockTimeout = Duration.ofHours(2); // 실행 잠금 유지 시간
+    private boolean vectorize = true;                   // 바뀐 법령의 벡터 청크 재생성 여부
+}
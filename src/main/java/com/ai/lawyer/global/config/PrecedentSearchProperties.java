@@ -0,0 +1,25 @@
+package com.ai.lawyer.global.config;
+
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.stereotype.Component;
+
+@Component
+@ConfigurationProperties(prefix = "custom.precedent-search")
+@Getter
+@Setter
+public class PrecedentSearchProperties {
+
+    private String engine = "mysql";                      // mysql(InnoDB FULLTEXT) 또는 lucene(로컬 색인)
+    private String indexPath = "./data/precedent-index";  // Lucene 색인 디렉터리
+    private boolean rebuildOnStartup = true;              // 시작 시 색인이 비어 있으면 전체 재구성
+    private int rebuildBatchSize = 500;                   // 재구성 시 한 번에 읽을 판례 수
+
+    // 필드별 가중치 (사건번호는 공백을 뺀 완전 일치)
+    private float caseNumberBoost = 5.0f;
+    private float caseNameBoost = 3.0f;
+    private float noticeBoost = 2.0f;                     // 판시사항
+    private float summaryBoost = 1.5f;                    // 판결요지
+    private float contentBoost = 1.0f;                    // 판례내용
+}
@@ -0,0 +1,67 @@
+package com.ai.lawyer.global.config;
+
+import com.ai.lawyer.global.qdrant.VectorDocumentType;
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.stereotype.Component;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+@Component
+@ConfigurationProperties(prefix = "custom.qdrant")
+@Getter
+@Setter
+public class QdrantProperties {
+
+    // 검색 필터에 쓰이는 문자열 payload (keyword 인덱스)
+    private List<String> keywordIndexes = new ArrayList<>(List.of("type", "caseNumber", "lawName", "court"));
+
+    // 재벡터화 시 기존 청크 삭제에 쓰이는 정수 payload (integer 인덱스)
+    private List<String> integerIndexes = new ArrayList<>(List.of("precedentId", "lawId"));
+
+    // true 이면 판례/법령을 유형별 컬렉션(<collection-name>_precedent, _law)에 나눠 저장·검색
+    private boolean separateCollections = false;
+
+    private Hnsw hnsw = new Hnsw();
+    private Quantization quantization = new Quantization();
+    private Reindex reindex = new Reindex();
+
+    // 유형별 HNSW 설정 (key: precedent, law). 지정하지 않은 유형은 공통 hnsw 설정 사용
+    private Map<String, Hnsw> typeHnsw = new HashMap<>();
+
+    public Hnsw hnswFor(VectorDocumentType type) {
+        return typeHnsw.getOrDefault(type.getSuffix(), hnsw);
+    }
+
+    @Getter
+    @Setter
+    public static class Hnsw {
+        private int m = 16;              // 노드당 간선 수
+        private int efConstruct = 100;   // 인덱스 생성 시 탐색 폭
+        private long fullScanThreshold = 10000; // 이 크기(KB) 미만 세그먼트는 전체 탐색
+    }
+
+    @Getter
+    @Setter
+    public static class Quantization {
+        private boolean enabled = false;     // int8 스칼라 양자화 사용 여부
+        private float quantile = 0.99f;      // 양자화 범위 계산 시 제외할 이상치 비율
+        private boolean alwaysRam = true;    // 양자화 벡터는 항상 메모리에 유지
+        private boolean originalsOnDisk = true; // 원본 벡터는 디스크에 두고 rescoring 때만 읽음
+        private boolean rescore = true;      // 검색 시 양자화 후보를 원본 벡터로 다시 점수 계산
+        private double oversampling = 2.0;   // 양자화 벡터로 topK * oversampling 개 후보를 뽑은 뒤 rescoring
+    }
+
+    @Getter
+    @Setter
+    public static class Reindex {
+        private double minCountRatio = 0.98;   // 새 컬렉션 포인트 수 / 라이브 컬렉션 포인트 수 최소 비율
+        private double minSampleRecall = 0.9;  // 샘플 청크로 검색했을 때 같은 원본이 top-k 에 나와야 하는 비율
+        private int sampleSize = 20;           // 검증에 사용할 샘플 청크 수
+        private int sampleTopK = 5;
+    }
+}
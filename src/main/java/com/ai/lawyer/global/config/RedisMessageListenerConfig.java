@@ -0,0 +1,21 @@
+package com.ai.lawyer.global.config;
+
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.data.redis.connection.RedisConnectionFactory;
+import org.springframework.data.redis.listener.RedisMessageListenerContainer;
+
+/**
+ * Redis pub/sub 구독 컨테이너 (인스턴스 간 로컬 캐시 무효화, 로컬 Lucene 색인 갱신 전파용)
+ * 내장/외부 Redis 설정 모두의 RedisConnectionFactory 를 사용
+ */
+@Configuration
+public class RedisMessageListenerConfig {
+
+    @Bean
+    public RedisMessageListenerContainer redisMessageListenerContainer(RedisConnectionFactory redisConnectionFactory) {
+        RedisMessageListenerContainer container = new RedisMessageListenerContainer();
+        container.setConnectionFactory(redisConnectionFactory);
+        return container;
+    }
+}
@@ -0,0 +1,31 @@
+package com.ai.lawyer.global.dto;
+
+import lombok.Getter;
+import org.springframework.data.domain.PageImpl;
+import org.springframework.data.domain.Pageable;
+
+import java.util.List;
+import java.util.Map;
+
+/**
+ * 다음 페이지 커서를 함께 담는 Page
+ * nextCursor 가 null 이면 마지막 페이지
+ * facets 는 검색 조건 전체 결과의 패싯별 건수 (패싯 이름 -> (값 -> 건수)), 없으면 null
+ */
+@Getter
+public class CursorPage<T> extends PageImpl<T> {
+
+    private final String nextCursor;
+    private final Map<String, Map<String, Long>> facets;
+
+    public CursorPage(List<T> content, Pageable pageable, long total, String nextCursor) {
+        this(content, pageable, total, nextCursor, null);
+    }
+
+    public CursorPage(List<T> content, Pageable pageable, long total, String nextCursor,
+                      Map<String, Map<String, Long>> facets) {
+        super(content, pageable, total);
+        this.nextCursor = nextCursor;
+        this.facets = facets;
+    }
+}
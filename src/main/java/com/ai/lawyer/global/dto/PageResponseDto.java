@@ -1,10 +1,12 @@
 package com.ai.lawyer.global.dto;
 
+import com.fasterxml.jackson.annotation.JsonInclude;
 import lombok.Builder;
 import lombok.Data;
 import org.springframework.data.domain.Page;
 
 import java.util.List;
+import java.util.Map;
 
 @Data
 @Builder
@@ -15,6 +17,12 @@ public class PageResponseDto {
     private int pageNumber;
     private int pageSize;
 
+    @JsonInclude(JsonInclude.Include.NON_NULL)
+    private String nextCursor; // 키셋 페이지네이션 다음 페이지 커서 (마지막 페이지면 생략)
+
+    @JsonInclude(JsonInclude.Include.NON_EMPTY)
+    private Map<String, Map<String, Long>> facets; // 패싯별 건수 (검색 엔진이 계산한 경우만)
+
     public static <T> PageResponseDto from(Page<T> page) {
         return PageResponseDto.builder()
                 .content(page.getContent())
@@ -22,6 +30,8 @@ public class PageResponseDto {
                 .totalPages(page.getTotalPages())
                 .pageNumber(page.getNumber())
                 .pageSize(page.getSize())
+                .nextCursor(page instanceof CursorPage<T> cursorPage ? cursorPage.getNextCursor() : null)
+                .facets(page instanceof CursorPage<T> cursorPage ? cursorPage.getFacets() : null)
                 .build();
     }
 }
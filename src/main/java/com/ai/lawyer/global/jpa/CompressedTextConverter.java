@@ -0,0 +1,23 @@
+package com.ai.lawyer.global.jpa;
+
+import com.ai.lawyer.global.util.TextCompressor;
+import jakarta.persistence.AttributeConverter;
+import jakarta.persistence.Converter;
+
+/**
+ * 문자열 필드를 압축 바이트(LONGBLOB)로 저장 (TextCompressor 형식, MySQL UNCOMPRESS() 로도 읽힘)
+ * 사용: @Convert(converter = CompressedTextConverter.class) @Column(columnDefinition = "LONGBLOB")
+ */
+@Converter
+public class CompressedTextConverter implements AttributeConverter<String, byte[]> {
+
+    @Override
+    public byte[] convertToDatabaseColumn(String attribute) {
+        return TextCompressor.compress(attribute);
+    }
+
+    @Override
+    public String convertToEntityAttribute(byte[] dbData) {
+        return TextCompressor.decompress(dbData);
+    }
+}
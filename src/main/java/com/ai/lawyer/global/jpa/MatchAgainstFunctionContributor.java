@@ -0,0 +1,23 @@
+package com.ai.lawyer.global.jpa;
+
+import org.hibernate.boot.model.FunctionContributions;
+import org.hibernate.boot.model.FunctionContributor;
+import org.hibernate.type.StandardBasicTypes;
+
+/**
+ * MySQL FULLTEXT 검색 함수를 JPQL/Querydsl 에서 쓸 수 있도록 등록
+ * 사용: function('match_against', 컬럼, 검색어) > 0
+ * (META-INF/services/org.hibernate.boot.model.FunctionContributor 로 등록됨)
+ */
+public class MatchAgainstFunctionContributor implements FunctionContributor {
+
+    public static final String MATCH_AGAINST = "match_against";
+
+    @Override
+    public void contributeFunctions(FunctionContributions functionContributions) {
+        functionContributions.getFunctionRegistry().registerPattern(
+                MATCH_AGAINST,
+                "match(?1) against (?2 in boolean mode)",
+                functionContributions.getTypeConfiguration().getBasicTypeRegistry().resolve(StandardBasicTypes.DOUBLE));
+    }
+}
@@ -0,0 +1,28 @@
+package com.ai.lawyer.global.qdrant;
+
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+
+import java.util.Arrays;
+import java.util.Optional;
+
+/**
+ * 벡터 저장소에 저장되는 문서 유형
+ * typeValue: payload 의 type 값, suffix: 유형별 컬렉션 이름 접미사, sourceIdKey: 원본 id payload 키
+ */
+@Getter
+@RequiredArgsConstructor
+public enum VectorDocumentType {
+    PRECEDENT("판례", "precedent", "precedentId"),
+    LAW("법령", "law", "lawId");
+
+    private final String typeValue;
+    private final String suffix;
+    private final String sourceIdKey;
+
+    public static Optional<VectorDocumentType> fromTypeValue(String typeValue) {
+        return Arrays.stream(values())
+                .filter(type -> type.typeValue.equals(typeValue))
+                .findFirst();
+    }
+}
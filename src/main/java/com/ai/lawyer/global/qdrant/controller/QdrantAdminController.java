@@ -0,0 +1,90 @@
+package com.ai.lawyer.global.qdrant.controller;
+
+import com.ai.lawyer.global.batch.VectorizationTarget;
+import com.ai.lawyer.global.qdrant.service.QdrantMigrationService;
+import com.ai.lawyer.global.qdrant.service.QdrantReindexService;
+import io.swagger.v3.oas.annotations.Operation;
+import io.swagger.v3.oas.annotations.tags.Tag;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.*;
+
+import java.util.NoSuchElementException;
+
+@Slf4j
+@RestController
+@RequiredArgsConstructor
+@Tag(name = "벡터 저장소 관리", description = "Qdrant 컬렉션 관리 API (관리자 전용)")
+@RequestMapping("/api/admin/qdrant")
+public class QdrantAdminController {
+
+    private final QdrantMigrationService qdrantMigrationService;
+    private final QdrantReindexService qdrantReindexService;
+
+    @PostMapping("/migrate")
+    @Operation(summary = "유형별 컬렉션 마이그레이션",
+            description = "공용 컬렉션의 판례/법령 포인트를 유형별 컬렉션으로 재임베딩 없이 복사합니다. "
+                    + "복사 후 custom.qdrant.separate-collections=true 로 전환하면 유형별 컬렉션을 사용합니다")
+    public ResponseEntity<?> migrate() {
+        try {
+            return ResponseEntity.ok(qdrantMigrationService.migrateToTypeCollections());
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            return ResponseEntity.internalServerError().body("컬렉션 마이그레이션 중단");
+        } catch (Exception e) {
+            log.error("컬렉션 마이그레이션 에러 : " + e.getMessage());
+            return ResponseEntity.badRequest().body("컬렉션 마이그레이션 에러 : " + e.getMessage());
+        }
+    }
+
+    @PostMapping("/reindex")
+    @Operation(summary = "재색인 시작",
+            description = "새 버전 컬렉션을 만들고 벡터화 잡으로 채웁니다. 라이브 컬렉션은 전환 전까지 그대로 검색에 사용됩니다")
+    public ResponseEntity<?> startReindex(@RequestParam(defaultValue = "ALL") VectorizationTarget target) {
+        try {
+            return ResponseEntity.accepted().body(qdrantReindexService.startReindex(target));
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            return ResponseEntity.internalServerError().body("재색인 시작 중단");
+        } catch (Exception e) {
+            log.error("재색인 시작 에러 : " + e.getMessage());
+            return ResponseEntity.badRequest().body("재색인 시작 에러 : " + e.getMessage());
+        }
+    }
+
+    @GetMapping("/reindex/{version}/verify")
+    @Operation(summary = "재색인 검증", description = "버전 컬렉션의 포인트 수와 샘플 검색 recall 을 라이브 컬렉션과 비교합니다")
+    public ResponseEntity<?> verifyReindex(@PathVariable String version) {
+        try {
+            return ResponseEntity.ok(qdrantReindexService.verify(version));
+        } catch (NoSuchElementException e) {
+            return ResponseEntity.notFound().build();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            return ResponseEntity.internalServerError().body("재색인 검증 중단");
+        } catch (Exception e) {
+            log.error("재색인 검증 에러 : " + e.getMessage());
+            return ResponseEntity.badRequest().body("재색인 검증 에러 : " + e.getMessage());
+        }
+    }
+
+    @PostMapping("/reindex/{version}/switch")
+    @Operation(summary = "alias 전환",
+            description = "검증을 통과하면 라이브 alias 를 버전 컬렉션으로 원자적으로 전환합니다 (이전 컬렉션은 롤백용으로 남김). "
+                    + "force=true 면 검증 실패여도 전환합니다")
+    public ResponseEntity<?> switchAlias(@PathVariable String version,
+                                         @RequestParam(defaultValue = "false") boolean force) {
+        try {
+            return ResponseEntity.ok(qdrantReindexService.switchTo(version, force));
+        } catch (NoSuchElementException e) {
+            return ResponseEntity.notFound().build();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            return ResponseEntity.internalServerError().body("alias 전환 중단");
+        } catch (Exception e) {
+            log.error("alias 전환 에러 : " + e.getMessage());
+            return ResponseEntity.badRequest().body("alias 전환 에러 : " + e.getMessage());
+        }
+    }
+}
@@ -0,0 +1,32 @@
+package com.ai.lawyer.global.qdrant.dto;
+
+import io.swagger.v3.oas.annotations.media.Schema;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class QdrantMigrationResultDto {
+
+    @Schema(description = "문서 유형", example = "PRECEDENT")
+    private String type;
+
+    @Schema(description = "원본 컬렉션", example = "legal_cases")
+    private String sourceCollection;
+
+    @Schema(description = "대상 컬렉션", example = "legal_cases_precedent")
+    private String targetCollection;
+
+    @Schema(description = "원본 컬렉션의 해당 유형 포인트 수")
+    private long sourceCount;
+
+    @Schema(description = "복사한 포인트 수")
+    private long copiedCount;
+
+    @Schema(description = "복사 후 대상 컬렉션의 포인트 수")
+    private long targetCount;
+}
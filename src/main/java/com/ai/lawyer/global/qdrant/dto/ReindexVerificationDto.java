@@ -0,0 +1,38 @@
+package com.ai.lawyer.global.qdrant.dto;
+
+import io.swagger.v3.oas.annotations.media.Schema;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class ReindexVerificationDto {
+
+    @Schema(description = "검색에 사용하는 이름 (alias)", example = "legal_cases")
+    private String alias;
+
+    @Schema(description = "현재 라이브 컬렉션", example = "legal_cases_v20250101120000")
+    private String liveCollection;
+
+    @Schema(description = "새로 만든 컬렉션", example = "legal_cases_v20250201120000")
+    private String candidateCollection;
+
+    private long liveCount;
+    private long candidateCount;
+
+    @Schema(description = "새 컬렉션 포인트 수 / 라이브 컬렉션 포인트 수")
+    private double countRatio;
+
+    @Schema(description = "검증에 사용한 샘플 청크 수")
+    private int sampleSize;
+
+    @Schema(description = "샘플 청크로 검색했을 때 같은 원본이 top-k 에 포함된 비율")
+    private double sampleRecall;
+
+    private boolean passed;
+    private boolean switched;
+}
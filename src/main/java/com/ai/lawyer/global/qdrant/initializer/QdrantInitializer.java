@@ -1,48 +1,40 @@
 package com.ai.lawyer.global.qdrant.initializer;
 
-import io.qdrant.client.QdrantClient;
+import com.ai.lawyer.global.config.QdrantProperties;
+import com.ai.lawyer.global.qdrant.VectorDocumentType;
+import com.ai.lawyer.global.qdrant.service.QdrantCollectionManager;
+import com.ai.lawyer.global.qdrant.service.VectorStoreRouter;
 import jakarta.annotation.PostConstruct;
 import lombok.RequiredArgsConstructor;
-import lombok.extern.slf4j.Slf4j;
-import org.springframework.beans.factory.annotation.Value;
 import org.springframework.context.annotation.Profile;
 import org.springframework.stereotype.Component;
 
 import java.util.concurrent.ExecutionException;
 
-@Slf4j
 @Component
 @RequiredArgsConstructor
 @Profile("!test")  // test 프로파일에서는 비활성화
 public class QdrantInitializer {
 
-    private final QdrantClient qdrantClient;
-
-    @Value("${spring.ai.vectorstore.qdrant.collection-name}")
-    private String collectionName;
-
-    @Value("${spring.ai.vectorstore.qdrant.vector-size}")
-    private Long vectorSize;
+    private final QdrantCollectionManager collectionManager;
+    private final VectorStoreRouter vectorStoreRouter;
+    private final QdrantProperties qdrantProperties;
 
     @PostConstruct
     private void existQdrantCollection() throws InterruptedException, ExecutionException {
-        var collections = qdrantClient.listCollectionsAsync().get();
-        boolean collectionExists = collections.stream()
-                .anyMatch(collection -> collection.equals(collectionName));
+        // 검색/저장은 alias 로 하므로 재색인 전환 때 컬렉션을 지우지 않고 alias 만 바꿈
+        if (!vectorStoreRouter.isSeparated()) {
+            ensureLiveAlias(vectorStoreRouter.baseCollectionName(), qdrantProperties.getHnsw());
+            return;
+        }
 
-        if (!collectionExists) {
-            log.info("'{}' 컬렉션이 존재하지 않아 새로 생성 중", collectionName);
-            qdrantClient.createCollectionAsync(
-                    collectionName,
-                    io.qdrant.client.grpc.Collections.VectorParams.newBuilder()
-                            .setSize(vectorSize.intValue())
-                            .setDistance(io.qdrant.client.grpc.Collections.Distance.Cosine)
-                            .build()
-            ).get();
-            log.info("'{}' 컬렉션 생성 완료", collectionName);
-        } else {
-            log.info("'{}' 컬렉션이 이미 존재합니다.", collectionName);
+        // 유형별 컬렉션은 각자의 HNSW 설정으로 생성 (기존 공용 컬렉션은 마이그레이션 원본으로 그대로 둠)
+        for (VectorDocumentType type : VectorDocumentType.values()) {
+            ensureLiveAlias(vectorStoreRouter.collectionName(type), qdrantProperties.hnswFor(type));
         }
     }
 
+    private void ensureLiveAlias(String name, QdrantProperties.Hnsw hnsw) throws InterruptedException, ExecutionException {
+        vectorStoreRouter.registerLiveAlias(name, collectionManager.ensureLiveAlias(name, hnsw));
+    }
 }
@@ -0,0 +1,318 @@
+package com.ai.lawyer.global.qdrant.service;
+
+import com.ai.lawyer.global.config.QdrantProperties;
+import io.qdrant.client.QdrantClient;
+import io.qdrant.client.grpc.Collections;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.time.LocalDateTime;
+import java.time.format.DateTimeFormatter;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.ExecutionException;
+import java.util.regex.Pattern;
+
+/**
+ * Qdrant 컬렉션 생성 및 설정(HNSW, 양자화, payload 인덱스) 관리
+ * 검색/저장은 항상 alias 로 하고, alias 는 기동 시 ensureLiveAlias 로 만들어 두므로 재색인 전환은 alias 교체 한 번으로 끝남
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class QdrantCollectionManager {
+
+    public static final DateTimeFormatter VERSION_FORMAT = DateTimeFormatter.ofPattern("yyyyMMddHHmmss");
+    private static final String LEGACY_ALIAS_SUFFIX = "_live"; // alias 도입 전 실제 컬렉션을 가리키는 alias
+
+    private final QdrantClient qdrantClient;
+    private final QdrantProperties qdrantProperties;
+
+    @Value("${spring.ai.vectorstore.qdrant.vector-size}")
+    private Long vectorSize;
+
+    /**
+     * 컬렉션이 없으면 생성하고, 있으면 설정값에 맞게 변경한 뒤 payload 인덱스를 보장
+     */
+    public void ensureCollection(String name, QdrantProperties.Hnsw hnsw) throws InterruptedException, ExecutionException {
+        // alias 로 전환된 이름이면 현재 가리키는 실제 컬렉션을 대상으로 함
+        Optional<String> aliasTarget = resolveAlias(name);
+        if (aliasTarget.isPresent()) {
+            log.info("'{}' 는 '{}' 컬렉션을 가리키는 alias 입니다.", name, aliasTarget.get());
+            name = aliasTarget.get();
+        }
+
+        if (!collectionExists(name)) {
+            log.info("'{}' 컬렉션이 존재하지 않아 새로 생성 중", name);
+            qdrantClient.createCollectionAsync(buildCreateCollection(name, hnsw)).get();
+            log.info("'{}' 컬렉션 생성 완료", name);
+        } else {
+            log.info("'{}' 컬렉션이 이미 존재합니다. 설정을 확인합니다.", name);
+            reconcileCollection(name, hnsw);
+        }
+
+        ensurePayloadIndexes(name);
+    }
+
+    /**
+     * 검색/저장에 쓸 alias 를 보장하고 그 이름을 반환
+     * - name 이 이미 alias 면 그대로 사용
+     * - name 이 alias 도입 전의 실제 컬렉션이면 지우지 않고 <name>_live alias 가 그 컬렉션을 가리키게 함
+     * - 둘 다 없으면 <name>_v<yyyyMMddHHmmss> 컬렉션을 만들고 name alias 가 가리키게 함
+     * 어느 경우든 이후 재색인은 alias 교체만 하므로 검색/저장이 끊기지 않음
+     *
+     * @param name 설정의 컬렉션 이름
+     * @return 라이브 alias 이름
+     */
+    public String ensureLiveAlias(String name, QdrantProperties.Hnsw hnsw) throws InterruptedException, ExecutionException {
+        if (resolveAlias(name).isPresent()) {
+            ensureCollection(name, hnsw);
+            return name;
+        }
+
+        if (collectionExists(name)) {
+            String liveAlias = name + LEGACY_ALIAS_SUFFIX;
+            if (resolveAlias(liveAlias).isEmpty()) {
+                createAliasIfAbsent(liveAlias, name);
+            }
+            ensureCollection(liveAlias, hnsw);
+            return liveAlias;
+        }
+
+        String collection = name + "_v" + LocalDateTime.now().format(VERSION_FORMAT);
+        ensureCollection(collection, hnsw);
+        if (!createAliasIfAbsent(name, collection)) {
+            // 다른 인스턴스가 먼저 만든 경우: 빈 컬렉션이 재색인 대상(pendingVersion)으로 잡히지 않도록 삭제
+            qdrantClient.deleteCollectionAsync(collection).get();
+        }
+        return name;
+    }
+
+    /**
+     * 실제 컬렉션 또는 alias 로 존재하는지 확인
+     */
+    public boolean exists(String name) throws InterruptedException, ExecutionException {
+        return collectionExists(name) || resolveAlias(name).isPresent();
+    }
+
+    public boolean collectionExists(String name) throws InterruptedException, ExecutionException {
+        return qdrantClient.listCollectionsAsync().get().stream()
+                .anyMatch(collection -> collection.equals(name));
+    }
+
+    public Optional<String> resolveAlias(String alias) throws InterruptedException, ExecutionException {
+        return qdrantClient.listAliasesAsync().get().stream()
+                .filter(description -> description.getAliasName().equals(alias))
+                .map(Collections.AliasDescription::getCollectionName)
+                .findFirst();
+    }
+
+    /**
+     * alias 면 실제 컬렉션 이름, 아니면 그대로 반환
+     */
+    public String resolve(String name) throws InterruptedException, ExecutionException {
+        return resolveAlias(name).orElse(name);
+    }
+
+    /**
+     * 재색인 중인(아직 전환되지 않은) 가장 최근 버전 컬렉션
+     * <이름>_v<yyyyMMddHHmmss> 중 현재 라이브 컬렉션보다 나중에 만들어진 것 (버전 문자열은 시간순 정렬됨)
+     * 라이브 쓰기를 이 컬렉션에도 저장해 재색인 도중 바뀐 데이터가 전환 시 빠지지 않게 함
+     * 검증에 실패해 버려진 버전 컬렉션도 삭제 전까지는 대상이 되므로 쓰지 않을 버전은 삭제해야 함
+     *
+     * @param name 설정의 컬렉션 이름 (버전 컬렉션 이름의 앞부분)
+     * @param liveAlias 라이브 alias
+     */
+    public Optional<String> pendingVersion(String name, String liveAlias) throws InterruptedException, ExecutionException {
+        Pattern versioned = Pattern.compile(Pattern.quote(name) + "_v\\d{14}");
+        String live = resolve(liveAlias);
+        return qdrantClient.listCollectionsAsync().get().stream()
+                .filter(collection -> versioned.matcher(collection).matches())
+                .filter(collection -> !versioned.matcher(live).matches() || collection.compareTo(live) > 0)
+                .max(Comparator.naturalOrder());
+    }
+
+    /**
+     * alias 가 새 컬렉션을 가리키도록 원자적으로 전환 (삭제/생성을 한 요청으로 처리, 이전 컬렉션은 그대로 둠)
+     *
+     * @return 이전에 가리키던 컬렉션
+     * @throws IllegalStateException alias 가 없을 때 (기동 시 ensureLiveAlias 로 만들어짐)
+     */
+    public String switchAlias(String alias, String collection) throws InterruptedException, ExecutionException {
+        if (!collectionExists(collection)) {
+            throw new IllegalArgumentException("컬렉션이 존재하지 않습니다: " + collection);
+        }
+        String previous = resolveAlias(alias)
+                .orElseThrow(() -> new IllegalStateException("alias 가 없습니다: " + alias + " (애플리케이션 기동 시 생성됨)"));
+
+        qdrantClient.updateAliasesAsync(List.of(
+                Collections.AliasOperations.newBuilder()
+                        .setDeleteAlias(Collections.DeleteAlias.newBuilder().setAliasName(alias).build())
+                        .build(),
+                Collections.AliasOperations.newBuilder()
+                        .setCreateAlias(Collections.CreateAlias.newBuilder()
+                                .setAliasName(alias)
+                                .setCollectionName(collection)
+                                .build())
+                        .build()
+        )).get();
+        log.info("alias '{}' 전환: {} -> {}", alias, previous, collection);
+        return previous;
+    }
+
+    // ==================== Private Helper Methods ====================
+
+    /**
+     * @return 이 호출이 alias 를 만들었으면 true, 다른 인스턴스가 먼저 만들었으면 false
+     */
+    private boolean createAliasIfAbsent(String alias, String collection) throws InterruptedException, ExecutionException {
+        try {
+            qdrantClient.createAliasAsync(alias, collection).get();
+            log.info("alias '{}' 생성: -> {}", alias, collection);
+            return true;
+        } catch (ExecutionException e) {
+            if (resolveAlias(alias).isPresent()) {
+                log.info("alias '{}' 는 이미 생성되어 있습니다.", alias);
+                return false;
+            }
+            throw e;
+        }
+    }
+
+    /**
+     * 설정값(HNSW, 양자화)을 반영한 컬렉션 생성 요청
+     */
+    private Collections.CreateCollection buildCreateCollection(String name, QdrantProperties.Hnsw hnsw) {
+        QdrantProperties.Quantization quantization = qdrantProperties.getQuantization();
+
+        Collections.CreateCollection.Builder builder = Collections.CreateCollection.newBuilder()
+                .setCollectionName(name)
+                .setVectorsConfig(Collections.VectorsConfig.newBuilder()
+                        .setParams(Collections.VectorParams.newBuilder()
+                                .setSize(vectorSize)
+                                .setDistance(Collections.Distance.Cosine)
+                                .setOnDisk(quantization.isEnabled() && quantization.isOriginalsOnDisk())
+                                .build())
+                        .build())
+                .setHnswConfig(buildHnswConfig(hnsw));
+
+        if (quantization.isEnabled()) {
+            builder.setQuantizationConfig(Collections.QuantizationConfig.newBuilder()
+                    .setScalar(buildScalarQuantization())
+                    .build());
+        }
+        return builder.build();
+    }
+
+    /**
+     * 이미 존재하는 컬렉션의 HNSW / 양자화 설정을 설정값에 맞게 변경
+     * 벡터 차원은 변경할 수 없으므로 불일치 시 로그만 남김 (재색인 필요)
+     */
+    private void reconcileCollection(String name, QdrantProperties.Hnsw hnsw) throws InterruptedException, ExecutionException {
+        Collections.CollectionConfig config = qdrantClient.getCollectionInfoAsync(name).get().getConfig();
+        QdrantProperties.Quantization quantization = qdrantProperties.getQuantization();
+
+        Collections.VectorsConfig vectorsConfig = config.getParams().getVectorsConfig();
+        if (vectorsConfig.hasParams() && vectorsConfig.getParams().getSize() != vectorSize) {
+            log.error("'{}' 컬렉션의 벡터 차원({})이 설정값({})과 다릅니다. 재색인이 필요합니다.",
+                    name, vectorsConfig.getParams().getSize(), vectorSize);
+        }
+
+        Collections.UpdateCollection.Builder update = Collections.UpdateCollection.newBuilder()
+                .setCollectionName(name);
+        boolean changed = false;
+
+        Collections.HnswConfigDiff currentHnsw = config.getHnswConfig();
+        Collections.HnswConfigDiff targetHnsw = buildHnswConfig(hnsw);
+        if (currentHnsw.getM() != targetHnsw.getM()
+                || currentHnsw.getEfConstruct() != targetHnsw.getEfConstruct()
+                || currentHnsw.getFullScanThreshold() != targetHnsw.getFullScanThreshold()) {
+            log.info("'{}' HNSW 설정 변경: m {} -> {}, ef_construct {} -> {}", name,
+                    currentHnsw.getM(), targetHnsw.getM(), currentHnsw.getEfConstruct(), targetHnsw.getEfConstruct());
+            update.setHnswConfig(targetHnsw);
+            changed = true;
+        }
+
+        boolean quantized = config.hasQuantizationConfig() && config.getQuantizationConfig().hasScalar();
+        if (quantization.isEnabled() && !isSameScalarQuantization(config)) {
+            log.info("'{}' int8 스칼라 양자화 적용", name);
+            update.setQuantizationConfig(Collections.QuantizationConfigDiff.newBuilder()
+                    .setScalar(buildScalarQuantization())
+                    .build());
+            update.setVectorsConfig(Collections.VectorsConfigDiff.newBuilder()
+                    .setParams(Collections.VectorParamsDiff.newBuilder()
+                            .setOnDisk(quantization.isOriginalsOnDisk())
+                            .build())
+                    .build());
+            changed = true;
+        } else if (!quantization.isEnabled() && quantized) {
+            log.info("'{}' 양자화 해제", name);
+            update.setQuantizationConfig(Collections.QuantizationConfigDiff.newBuilder()
+                    .setDisabled(Collections.Disabled.getDefaultInstance())
+                    .build());
+            changed = true;
+        }
+
+        if (changed) {
+            qdrantClient.updateCollectionAsync(update.build()).get();
+            log.info("'{}' 컬렉션 설정 반영 완료 (인덱스 재구성은 Qdrant에서 백그라운드로 진행)", name);
+        }
+    }
+
+    /**
+     * 검색 필터에 쓰이는 payload 필드에 인덱스가 없으면 생성
+     */
+    private void ensurePayloadIndexes(String name) throws InterruptedException, ExecutionException {
+        Map<String, Collections.PayloadSchemaInfo> existing =
+                qdrantClient.getCollectionInfoAsync(name).get().getPayloadSchemaMap();
+
+        createMissingIndexes(name, existing, qdrantProperties.getKeywordIndexes(), Collections.PayloadSchemaType.Keyword);
+        createMissingIndexes(name, existing, qdrantProperties.getIntegerIndexes(), Collections.PayloadSchemaType.Integer);
+    }
+
+    private void createMissingIndexes(String name, Map<String, Collections.PayloadSchemaInfo> existing,
+                                      List<String> fields, Collections.PayloadSchemaType schemaType)
+            throws InterruptedException, ExecutionException {
+        for (String field : fields) {
+            Collections.PayloadSchemaInfo info = existing.get(field);
+            if (info == null) {
+                qdrantClient.createPayloadIndexAsync(name, field, schemaType, null, true, null, null).get();
+                log.info("'{}' payload 인덱스 생성: {} ({})", name, field, schemaType);
+            } else if (info.getDataType() != schemaType) {
+                log.warn("'{}' payload 인덱스 타입 불일치: {} (현재 {}, 설정 {})", name, field, info.getDataType(), schemaType);
+            }
+        }
+    }
+
+    private Collections.HnswConfigDiff buildHnswConfig(QdrantProperties.Hnsw hnsw) {
+        return Collections.HnswConfigDiff.newBuilder()
+                .setM(hnsw.getM())
+                .setEfConstruct(hnsw.getEfConstruct())
+                .setFullScanThreshold(hnsw.getFullScanThreshold())
+                .build();
+    }
+
+    private Collections.ScalarQuantization buildScalarQuantization() {
+        QdrantProperties.Quantization quantization = qdrantProperties.getQuantization();
+        return Collections.ScalarQuantization.newBuilder()
+                .setType(Collections.QuantizationType.Int8)
+                .setQuantile(quantization.getQuantile())
+                .setAlwaysRam(quantization.isAlwaysRam())
+                .build();
+    }
+
+    private boolean isSameScalarQuantization(Collections.CollectionConfig config) {
+        if (!config.hasQuantizationConfig() || !config.getQuantizationConfig().hasScalar()) {
+            return false;
+        }
+        Collections.ScalarQuantization current = config.getQuantizationConfig().getScalar();
+        Collections.ScalarQuantization target = buildScalarQuantization();
+        return current.getType() == target.getType()
+                && Float.compare(current.getQuantile(), target.getQuantile()) == 0
+                && current.getAlwaysRam() == target.getAlwaysRam();
+    }
+}
@@ -0,0 +1,108 @@
+package com.ai.lawyer.global.qdrant.service;
+
+import com.ai.lawyer.global.config.QdrantProperties;
+import com.ai.lawyer.global.qdrant.VectorDocumentType;
+import com.ai.lawyer.global.qdrant.dto.QdrantMigrationResultDto;
+import io.qdrant.client.QdrantClient;
+import io.qdrant.client.WithPayloadSelectorFactory;
+import io.qdrant.client.WithVectorsSelectorFactory;
+import io.qdrant.client.grpc.Common;
+import io.qdrant.client.grpc.Points;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Service;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ExecutionException;
+
+import static io.qdrant.client.ConditionFactory.matchKeyword;
+
+/**
+ * 공용 컬렉션(legal_cases)의 포인트를 유형별 컬렉션으로 복사
+ * 벡터와 payload 를 그대로 옮기므로 재임베딩이 필요 없음
+ */
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class QdrantMigrationService {
+
+    private static final int SCROLL_BATCH_SIZE = 256;
+
+    private final QdrantClient qdrantClient;
+    private final QdrantCollectionManager collectionManager;
+    private final VectorStoreRouter vectorStoreRouter;
+    private final QdrantProperties qdrantProperties;
+
+    /**
+     * 모든 유형을 유형별 컬렉션으로 복사 (같은 id 로 upsert 하므로 여러 번 실행해도 안전)
+     */
+    public List<QdrantMigrationResultDto> migrateToTypeCollections() throws InterruptedException, ExecutionException {
+        String source = vectorStoreRouter.liveName(vectorStoreRouter.baseCollectionName());
+        if (!collectionManager.exists(source)) {
+            throw new IllegalStateException("원본 컬렉션이 존재하지 않습니다: " + source);
+        }
+
+        List<QdrantMigrationResultDto> results = new ArrayList<>();
+        for (VectorDocumentType type : VectorDocumentType.values()) {
+            results.add(migrate(source, type));
+        }
+        return results;
+    }
+
+    // ==================== Private Helper Methods ====================
+
+    private QdrantMigrationResultDto migrate(String source, VectorDocumentType type) throws InterruptedException, ExecutionException {
+        String target = vectorStoreRouter.typeCollectionName(type);
+        collectionManager.ensureCollection(target, qdrantProperties.hnswFor(type));
+
+        Common.Filter typeFilter = Common.Filter.newBuilder()
+                .addMust(matchKeyword("type", type.getTypeValue()))
+                .build();
+        long sourceCount = qdrantClient.countAsync(source, typeFilter, true).get();
+
+        long copied = 0;
+        Common.PointId offset = null;
+        do {
+            Points.ScrollPoints.Builder request = Points.ScrollPoints.newBuilder()
+                    .setCollectionName(source)
+                    .setFilter(typeFilter)
+                    .setLimit(SCROLL_BATCH_SIZE)
+                    .setWithPayload(WithPayloadSelectorFactory.enable(true))
+                    .setWithVectors(WithVectorsSelectorFactory.enable(true));
+            if (offset != null) {
+                request.setOffset(offset);
+            }
+
+            Points.ScrollResponse response = qdrantClient.scrollAsync(request.build()).get();
+            List<Points.PointStruct> points = response.getResultList().stream()
+                    .map(point -> Points.PointStruct.newBuilder()
+                            .setId(point.getId())
+                            .setVectors(point.getVectors())
+                            .putAllPayload(point.getPayloadMap())
+                            .build())
+                    .toList();
+
+            if (!points.isEmpty()) {
+                qdrantClient.upsertAsync(target, points).get();
+                copied += points.size();
+                log.info("{} 포인트 복사 중: {} -> {} ({}/{})", type.getTypeValue(), source, target, copied, sourceCount);
+            }
+
+            offset = response.hasNextPageOffset() ? response.getNextPageOffset() : null;
+        } while (offset != null);
+
+        long targetCount = qdrantClient.countAsync(target, Common.Filter.getDefaultInstance(), true).get();
+        log.info("{} 마이그레이션 완료: {} -> {}, 원본 {}건, 복사 {}건, 대상 {}건",
+                type.getTypeValue(), source, target, sourceCount, copied, targetCount);
+
+        return QdrantMigrationResultDto.builder()
+                .type(type.name())
+                .sourceCollection(source)
+                .targetCollection(target)
+                .sourceCount(sourceCount)
+                .copiedCount(copied)
+                .targetCount(targetCount)
+                .build();
+    }
+}
@@ -0,0 +1,207 @@
+package com.ai.lawyer.global.qdrant.service;
+
+import com.ai.lawyer.global.batch.VectorizationTarget;
+import com.ai.lawyer.global.batch.dto.VectorizationProgressDto;
+import com.ai.lawyer.global.batch.dto.VectorizationRequestDto;
+import com.ai.lawyer.global.batch.service.VectorizationJobService;
+import com.ai.lawyer.global.config.QdrantProperties;
+import com.ai.lawyer.global.qdrant.VectorDocumentType;
+import com.ai.lawyer.global.qdrant.dto.ReindexVerificationDto;
+import io.qdrant.client.QdrantClient;
+import io.qdrant.client.WithPayloadSelectorFactory;
+import io.qdrant.client.WithVectorsSelectorFactory;
+import io.qdrant.client.grpc.Common;
+import io.qdrant.client.grpc.JsonWithInt;
+import io.qdrant.client.grpc.Points;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.ai.document.Document;
+import org.springframework.ai.vectorstore.SearchRequest;
+import org.springframework.ai.vectorstore.VectorStore;
+import org.springframework.stereotype.Service;
+
+import java.time.LocalDateTime;
+import java.util.*;
+import java.util.concurrent.ExecutionException;
+
+/**
+ * 무중단 재색인 (blue/green)
+ * 1. 새 버전 컬렉션(<alias>_<버전>)을 만들고 벡터화 잡이 그 컬렉션에 저장
+ * 2. 포인트 수와 샘플 검색 결과로 검증
+ * 3. 라이브 alias 를 새 컬렉션으로 원자적으로 전환 (이전 컬렉션은 롤백용으로 남겨둠, 삭제하지 않음)
+ * 1~3 사이의 라이브 쓰기(판례 수집 잡, 법령 수집, 법령 동기화)는 VectorStoreRouter.writeStoresFor 로 새 컬렉션에도 저장됨
+ * 라이브 alias 는 기동 시 만들어지므로(QdrantCollectionManager.ensureLiveAlias) 최초 전환도 alias 교체만 함
+ */
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class QdrantReindexService {
+
+    private static final String CONTENT_PAYLOAD_KEY = "doc_content"; // Spring AI QdrantVectorStore 본문 payload 키
+    private static final int SAMPLE_QUERY_MAX_LENGTH = 500;
+
+    private final QdrantClient qdrantClient;
+    private final QdrantCollectionManager collectionManager;
+    private final VectorStoreRouter vectorStoreRouter;
+    private final VectorizationJobService vectorizationJobService;
+    private final QdrantProperties qdrantProperties;
+
+    /**
+     * 새 버전 컬렉션을 만들고 전체 데이터를 그 컬렉션으로 벡터화 (라이브 컬렉션은 그대로 검색에 사용)
+     */
+    public Map<String, Object> startReindex(VectorizationTarget target) throws InterruptedException, ExecutionException {
+        if (!vectorStoreRouter.isSeparated() && target != VectorizationTarget.ALL) {
+            throw new IllegalArgumentException("공용 컬렉션을 사용 중일 때는 전체(ALL) 재색인만 가능합니다.");
+        }
+
+        String version = "v" + LocalDateTime.now().format(QdrantCollectionManager.VERSION_FORMAT);
+        for (VectorDocumentType type : typesOf(target)) {
+            collectionManager.ensureCollection(vectorStoreRouter.versionedCollectionName(type, version), hnswFor(type));
+        }
+
+        // fromId 를 지정해 배치 기본 최대 건수 제한 없이 전체를 처리
+        VectorizationProgressDto progress = vectorizationJobService.launch(VectorizationRequestDto.builder()
+                .target(target)
+                .fromId(0L)
+                .targetVersion(version)
+                .build());
+        log.info("재색인 시작. 버전: {}, 대상: {}, executionId: {}", version, target, progress.getExecutionId());
+
+        return Map.of("version", version, "job", progress);
+    }
+
+    /**
+     * 버전 컬렉션 검증 (전환하지 않음)
+     */
+    public List<ReindexVerificationDto> verify(String version) throws InterruptedException, ExecutionException {
+        List<ReindexVerificationDto> results = new ArrayList<>();
+        for (Map.Entry<String, String> entry : candidates(version).entrySet()) {
+            results.add(verify(entry.getKey(), entry.getValue()));
+        }
+        return results;
+    }
+
+    /**
+     * 검증을 통과한(또는 force) 버전 컬렉션으로 alias 전환
+     */
+    public List<ReindexVerificationDto> switchTo(String version, boolean force)
+            throws InterruptedException, ExecutionException {
+        List<ReindexVerificationDto> results = verify(version);
+
+        boolean allPassed = results.stream().allMatch(ReindexVerificationDto::isPassed);
+        if (!allPassed && !force) {
+            log.warn("재색인 검증 실패로 전환하지 않습니다. 버전: {}", version);
+            return results;
+        }
+
+        for (ReindexVerificationDto result : results) {
+            collectionManager.switchAlias(result.getAlias(), result.getCandidateCollection());
+            result.setSwitched(true);
+        }
+        return results;
+    }
+
+    // ==================== Private Helper Methods ====================
+
+    private List<VectorDocumentType> typesOf(VectorizationTarget target) {
+        return switch (target) {
+            case PRECEDENT -> List.of(VectorDocumentType.PRECEDENT);
+            case LAW -> List.of(VectorDocumentType.LAW);
+            case ALL -> List.of(VectorDocumentType.values());
+        };
+    }
+
+    private QdrantProperties.Hnsw hnswFor(VectorDocumentType type) {
+        return vectorStoreRouter.isSeparated() ? qdrantProperties.hnswFor(type) : qdrantProperties.getHnsw();
+    }
+
+    /**
+     * 라이브 alias -> 해당 버전 컬렉션 (존재하는 것만)
+     */
+    private Map<String, String> candidates(String version) throws InterruptedException, ExecutionException {
+        Map<String, String> candidates = new LinkedHashMap<>();
+        for (VectorDocumentType type : VectorDocumentType.values()) {
+            String candidate = vectorStoreRouter.versionedCollectionName(type, version);
+            if (collectionManager.collectionExists(candidate)) {
+                candidates.putIfAbsent(vectorStoreRouter.liveName(vectorStoreRouter.collectionName(type)), candidate);
+            }
+        }
+        if (candidates.isEmpty()) {
+            throw new NoSuchElementException("재색인 버전 컬렉션이 없습니다. version = " + version);
+        }
+        return candidates;
+    }
+
+    private ReindexVerificationDto verify(String alias, String candidate) throws InterruptedException, ExecutionException {
+        QdrantProperties.Reindex reindex = qdrantProperties.getReindex();
+
+        String live = collectionManager.exists(alias) ? collectionManager.resolve(alias) : null;
+        long liveCount = live != null ? count(live) : 0;
+        long candidateCount = count(candidate);
+        double countRatio = liveCount == 0 ? 1.0 : (double) candidateCount / liveCount;
+
+        // 라이브 컬렉션의 청크 본문으로 새 컬렉션을 검색해 같은 원본이 나오는지 확인
+        int sampleSize = 0;
+        int hits = 0;
+        if (live != null) {
+            VectorStore candidateStore = vectorStoreRouter.storeForCollection(candidate);
+            for (Points.RetrievedPoint point : samplePoints(live, reindex.getSampleSize())) {
+                Map<String, JsonWithInt.Value> payload = point.getPayloadMap();
+                String text = payload.containsKey(CONTENT_PAYLOAD_KEY) ? payload.get(CONTENT_PAYLOAD_KEY).getStringValue() : "";
+                Optional<VectorDocumentType> type = payload.containsKey("type")
+                        ? VectorDocumentType.fromTypeValue(payload.get("type").getStringValue())
+                        : Optional.empty();
+                if (text.isBlank() || type.isEmpty() || !payload.containsKey(type.get().getSourceIdKey())) {
+                    continue;
+                }
+
+                String sourceIdKey = type.get().getSourceIdKey();
+                long sourceId = payload.get(sourceIdKey).getIntegerValue();
+                List<Document> results = candidateStore.similaritySearch(SearchRequest.builder()
+                        .query(text.length() > SAMPLE_QUERY_MAX_LENGTH ? text.substring(0, SAMPLE_QUERY_MAX_LENGTH) : text)
+                        .topK(reindex.getSampleTopK())
+                        .build());
+
+                sampleSize++;
+                if (results.stream().anyMatch(doc -> doc.getMetadata().get(sourceIdKey) instanceof Number id
+                        && id.longValue() == sourceId)) {
+                    hits++;
+                }
+            }
+        }
+        double sampleRecall = sampleSize == 0 ? 1.0 : (double) hits / sampleSize;
+
+        boolean passed = candidateCount > 0
+                && countRatio >= reindex.getMinCountRatio()
+                && sampleRecall >= reindex.getMinSampleRecall();
+        log.info("재색인 검증. {} -> {}: 포인트 {}/{} ({}), 샘플 recall {} ({}건), 통과: {}",
+                alias, candidate, candidateCount, liveCount, countRatio, sampleRecall, sampleSize, passed);
+
+        return ReindexVerificationDto.builder()
+                .alias(alias)
+                .liveCollection(live)
+                .candidateCollection(candidate)
+                .liveCount(liveCount)
+                .candidateCount(candidateCount)
+                .countRatio(countRatio)
+                .sampleSize(sampleSize)
+                .sampleRecall(sampleRecall)
+                .passed(passed)
+                .build();
+    }
+
+    private long count(String collection) throws InterruptedException, ExecutionException {
+        return qdrantClient.countAsync(collection, Common.Filter.getDefaultInstance(), true).get();
+    }
+
+    private List<Points.RetrievedPoint> samplePoints(String collection, int limit) throws InterruptedException, ExecutionException {
+        return qdrantClient.scrollAsync(Points.ScrollPoints.newBuilder()
+                        .setCollectionName(collection)
+                        .setLimit(limit)
+                        .setWithPayload(WithPayloadSelectorFactory.enable(true))
+                        .setWithVectors(WithVectorsSelectorFactory.enable(false))
+                        .build())
+                .get()
+                .getResultList();
+    }
+}
@@ -1,5 +1,6 @@
 package com.ai.lawyer.global.qdrant.service;
 
+import com.ai.lawyer.global.qdrant.VectorDocumentType;
 import lombok.RequiredArgsConstructor;
 import org.springframework.ai.document.Document;
 import org.springframework.ai.vectorstore.SearchRequest;
@@ -11,20 +12,30 @@ import java.util.ArrayList;
 import java.util.Collections;
 import java.util.Comparator;
 import java.util.List;
+import java.util.Optional;
 import java.util.stream.Collectors;
 
 @Service
 @RequiredArgsConstructor
 public class QdrantService {
 
-    private final VectorStore vectorStore;
+    private final VectorStoreRouter vectorStoreRouter;
 
     public List<Document> searchDocument(String query, String key, String value) {
 
-        SearchRequest findCaseNumberRequest = SearchRequest.builder()
-                .query(query).topK(1)
-                .filterExpression(new Filter.Expression(Filter.ExpressionType.EQ, new Filter.Key(key), new Filter.Value(value)))
-                .build();
+        // type 조건은 유형별 컬렉션으로 라우팅 -> 분리된 컬렉션에서는 type 필터 없이 검색
+        Optional<VectorDocumentType> documentType = "type".equals(key)
+                ? VectorDocumentType.fromTypeValue(value)
+                : Optional.empty();
+        VectorStore vectorStore = documentType
+                .map(vectorStoreRouter::storeFor)
+                .orElseGet(vectorStoreRouter::defaultStore);
+
+        SearchRequest.Builder findCaseNumberBuilder = SearchRequest.builder().query(query).topK(1);
+        if (documentType.isEmpty() || !vectorStoreRouter.isSeparated()) {
+            findCaseNumberBuilder.filterExpression(new Filter.Expression(Filter.ExpressionType.EQ, new Filter.Key(key), new Filter.Value(value)));
+        }
+        SearchRequest findCaseNumberRequest = findCaseNumberBuilder.build();
         List<Document> mostSimilarDocuments = vectorStore.similaritySearch(findCaseNumberRequest);
 
 
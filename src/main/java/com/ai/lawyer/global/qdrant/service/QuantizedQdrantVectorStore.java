@@ -0,0 +1,171 @@
+package com.ai.lawyer.global.qdrant.service;
+
+import com.ai.lawyer.global.config.QdrantProperties;
+import io.qdrant.client.ConditionFactory;
+import io.qdrant.client.QdrantClient;
+import io.qdrant.client.WithPayloadSelectorFactory;
+import io.qdrant.client.grpc.JsonWithInt;
+import io.qdrant.client.grpc.Points;
+import org.springframework.ai.document.Document;
+import org.springframework.ai.embedding.EmbeddingModel;
+import org.springframework.ai.vectorstore.SearchRequest;
+import org.springframework.ai.vectorstore.VectorStore;
+import org.springframework.ai.vectorstore.filter.Filter;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.ExecutionException;
+
+/**
+ * 양자화 컬렉션용 VectorStore
+ * 저장/삭제는 Spring AI QdrantVectorStore 에 맡기고, 검색만 QdrantClient 로 직접 요청해 QuantizationSearchParams 를 지정
+ * (QdrantVectorStore 는 검색 파라미터를 받지 않음)
+ * - oversampling 배수만큼 양자화 벡터로 후보를 더 뽑고, rescore 이면 원본 벡터로 다시 점수를 매겨 topK 를 고름
+ * - 필터는 이 프로젝트에서 쓰는 EQ / IN / AND 만 지원
+ */
+public class QuantizedQdrantVectorStore implements VectorStore {
+
+    private static final String CONTENT_PAYLOAD_KEY = "doc_content"; // Spring AI QdrantVectorStore 본문 payload 키
+    private static final String DISTANCE_METADATA_KEY = "distance";
+
+    private final VectorStore delegate;
+    private final QdrantClient qdrantClient;
+    private final EmbeddingModel embeddingModel;
+    private final String collectionName;
+    private final QdrantProperties.Quantization quantization;
+
+    public QuantizedQdrantVectorStore(VectorStore delegate, QdrantClient qdrantClient, EmbeddingModel embeddingModel,
+                                      String collectionName, QdrantProperties.Quantization quantization) {
+        this.delegate = delegate;
+        this.qdrantClient = qdrantClient;
+        this.embeddingModel = embeddingModel;
+        this.collectionName = collectionName;
+        this.quantization = quantization;
+    }
+
+    @Override
+    public void add(List<Document> documents) {
+        delegate.add(documents);
+    }
+
+    @Override
+    public void delete(List<String> idList) {
+        delegate.delete(idList);
+    }
+
+    @Override
+    public void delete(Filter.Expression filterExpression) {
+        delegate.delete(filterExpression);
+    }
+
+    @Override
+    public List<Document> similaritySearch(SearchRequest request) {
+        List<Float> vector = new ArrayList<>();
+        for (float value : embeddingModel.embed(request.getQuery())) {
+            vector.add(value);
+        }
+
+        Points.SearchPoints.Builder search = Points.SearchPoints.newBuilder()
+                .setCollectionName(collectionName)
+                .addAllVector(vector)
+                .setLimit(request.getTopK())
+                .setScoreThreshold((float) request.getSimilarityThreshold())
+                .setWithPayload(WithPayloadSelectorFactory.enable(true))
+                .setParams(Points.SearchParams.newBuilder()
+                        .setQuantization(Points.QuantizationSearchParams.newBuilder()
+                                .setRescore(quantization.isRescore())
+                                .setOversampling(quantization.getOversampling())
+                                .build())
+                        .build());
+        if (request.hasFilterExpression()) {
+            search.setFilter(Points.Filter.newBuilder().addMust(toCondition(request.getFilterExpression())).build());
+        }
+
+        try {
+            return qdrantClient.searchAsync(search.build()).get().stream()
+                    .map(this::toDocument)
+                    .toList();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new IllegalStateException("Qdrant 검색 중단. 컬렉션: " + collectionName, e);
+        } catch (ExecutionException e) {
+            throw new IllegalStateException("Qdrant 검색 실패. 컬렉션: " + collectionName, e);
+        }
+    }
+
+    @Override
+    public <T> Optional<T> getNativeClient() {
+        return delegate.getNativeClient();
+    }
+
+    // ==================== Private Helper Methods ====================
+
+    private Points.Condition toCondition(Filter.Expression expression) {
+        return switch (expression.type()) {
+            case AND -> ConditionFactory.filter(Points.Filter.newBuilder()
+                    .addMust(toCondition((Filter.Expression) expression.left()))
+                    .addMust(toCondition((Filter.Expression) expression.right()))
+                    .build());
+            case EQ -> {
+                String key = ((Filter.Key) expression.left()).key();
+                Object value = ((Filter.Value) expression.right()).value();
+                if (value instanceof Number number) {
+                    yield ConditionFactory.match(key, number.longValue());
+                }
+                if (value instanceof Boolean bool) {
+                    yield ConditionFactory.match(key, bool);
+                }
+                yield ConditionFactory.matchKeyword(key, String.valueOf(value));
+            }
+            case IN -> {
+                String key = ((Filter.Key) expression.left()).key();
+                List<?> values = (List<?>) ((Filter.Value) expression.right()).value();
+                if (!values.isEmpty() && values.get(0) instanceof Number) {
+                    yield ConditionFactory.matchValues(key, values.stream().map(v -> ((Number) v).longValue()).toList());
+                }
+                yield ConditionFactory.matchKeywords(key, values.stream().map(String::valueOf).toList());
+            }
+            default -> throw new IllegalArgumentException("지원하지 않는 필터 조건: " + expression.type());
+        };
+    }
+
+    private Document toDocument(Points.ScoredPoint point) {
+        // Document 는 null 메타데이터 값을 허용하지 않으므로 null payload 는 제외
+        Map<String, Object> metadata = new HashMap<>();
+        point.getPayloadMap().forEach((key, value) -> {
+            Object converted = toObject(value);
+            if (converted != null) {
+                metadata.put(key, converted);
+            }
+        });
+        metadata.put(DISTANCE_METADATA_KEY, 1 - point.getScore());
+        String content = (String) metadata.remove(CONTENT_PAYLOAD_KEY);
+
+        String id = point.getId().hasUuid() ? point.getId().getUuid() : String.valueOf(point.getId().getNum());
+        return Document.builder()
+                .id(id)
+                .text(content)
+                .metadata(metadata)
+                .score((double) point.getScore())
+                .build();
+    }
+
+    private Object toObject(JsonWithInt.Value value) {
+        return switch (value.getKindCase()) {
+            case STRING_VALUE -> value.getStringValue();
+            case INTEGER_VALUE -> value.getIntegerValue();
+            case DOUBLE_VALUE -> value.getDoubleValue();
+            case BOOL_VALUE -> value.getBoolValue();
+            case LIST_VALUE -> value.getListValue().getValuesList().stream().map(this::toObject).toList();
+            case STRUCT_VALUE -> {
+                Map<String, Object> struct = new HashMap<>();
+                value.getStructValue().getFieldsMap().forEach((key, field) -> struct.put(key, toObject(field)));
+                yield struct;
+            }
+            default -> null;
+        };
+    }
+}
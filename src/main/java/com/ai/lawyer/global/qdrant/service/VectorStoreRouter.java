@@ -0,0 +1,139 @@
+package com.ai.lawyer.global.qdrant.service;
+
+import com.ai.lawyer.global.config.QdrantProperties;
+import com.ai.lawyer.global.qdrant.VectorDocumentType;
+import io.qdrant.client.QdrantClient;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.ai.embedding.EmbeddingModel;
+import org.springframework.ai.vectorstore.VectorStore;
+import org.springframework.ai.vectorstore.qdrant.QdrantVectorStore;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutionException;
+
+/**
+ * 문서 유형별로 사용할 컬렉션 / VectorStore 를 결정
+ * custom.qdrant.separate-collections 가 false 이면 모든 유형이 기본 컬렉션(legal_cases)을 공유
+ * 검색/저장은 기동 시 QdrantInitializer 가 등록한 라이브 alias 로 하고, 재색인 중에는 <이름>_<버전> 컬렉션에 저장
+ * 재색인 도중의 라이브 쓰기는 라이브 컬렉션과 재색인 중인 버전 컬렉션 양쪽에 저장 (writeStoresFor)
+ * 양자화를 켜면 검색에 rescore / oversampling 을 지정하는 QuantizedQdrantVectorStore 로 감쌈
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class VectorStoreRouter {
+
+    private final QdrantClient qdrantClient;
+    private final EmbeddingModel embeddingModel;
+    private final QdrantProperties qdrantProperties;
+    private final QdrantCollectionManager collectionManager;
+
+    @Value("${spring.ai.vectorstore.qdrant.collection-name}")
+    private String baseCollectionName;
+
+    private final Map<String, String> liveAliases = new ConcurrentHashMap<>(); // 컬렉션 이름 -> 라이브 alias
+    private final Map<String, VectorStore> collectionStores = new ConcurrentHashMap<>();
+
+    public boolean isSeparated() {
+        return qdrantProperties.isSeparateCollections();
+    }
+
+    public String baseCollectionName() {
+        return baseCollectionName;
+    }
+
+    /**
+     * 유형별 컬렉션 이름 (분리 여부와 무관한 고정 이름, 마이그레이션 대상)
+     */
+    public String typeCollectionName(VectorDocumentType type) {
+        return baseCollectionName + "_" + type.getSuffix();
+    }
+
+    /**
+     * 현재 설정에서 해당 유형 문서가 저장되는 컬렉션 이름
+     */
+    public String collectionName(VectorDocumentType type) {
+        return isSeparated() ? typeCollectionName(type) : baseCollectionName;
+    }
+
+    /**
+     * 기동 시 보장한 라이브 alias 등록 (QdrantCollectionManager.ensureLiveAlias 결과)
+     */
+    public void registerLiveAlias(String collectionName, String liveAlias) {
+        liveAliases.put(collectionName, liveAlias);
+        log.info("Qdrant 라이브 alias: {} -> {}", collectionName, liveAlias);
+    }
+
+    /**
+     * 검색/저장에 쓰는 이름 (등록 전이면 컬렉션 이름 그대로)
+     */
+    public String liveName(String collectionName) {
+        return liveAliases.getOrDefault(collectionName, collectionName);
+    }
+
+    public VectorStore storeFor(VectorDocumentType type) {
+        return storeForCollection(liveName(collectionName(type)));
+    }
+
+    public VectorStore defaultStore() {
+        return storeForCollection(liveName(baseCollectionName));
+    }
+
+    /**
+     * 재색인 버전 컬렉션 이름 (예: legal_cases_v20250101120000)
+     */
+    public String versionedCollectionName(VectorDocumentType type, String version) {
+        return collectionName(type) + "_" + version;
+    }
+
+    /**
+     * version 이 없으면 라이브 컬렉션, 있으면 해당 버전 컬렉션의 VectorStore
+     */
+    public VectorStore storeFor(VectorDocumentType type, String version) {
+        if (version == null || version.isBlank()) {
+            return storeFor(type);
+        }
+        return storeForCollection(versionedCollectionName(type, version));
+    }
+
+    /**
+     * 저장할 VectorStore 목록
+     * version 이 있으면 해당 버전 컬렉션만, 없으면 라이브 컬렉션 + 재색인 중인 버전 컬렉션(있으면)
+     * 재색인 잡이 이미 지나간 데이터가 라이브 쓰기로 바뀌어도 새 컬렉션에 반영되므로 alias 전환 시 유실되지 않음
+     * (재색인 중에는 라이브 쓰기의 임베딩 호출이 컬렉션 수만큼 늘어남)
+     */
+    public List<VectorStore> writeStoresFor(VectorDocumentType type, String version)
+            throws InterruptedException, ExecutionException {
+        if (version != null && !version.isBlank()) {
+            return List.of(storeFor(type, version));
+        }
+        List<VectorStore> stores = new ArrayList<>();
+        stores.add(storeFor(type));
+        collectionManager.pendingVersion(collectionName(type), liveName(collectionName(type)))
+                .ifPresent(collection -> stores.add(storeForCollection(collection)));
+        return stores;
+    }
+
+    public VectorStore storeForCollection(String collectionName) {
+        return collectionStores.computeIfAbsent(collectionName, this::buildStore);
+    }
+
+    private VectorStore buildStore(String collectionName) {
+        // 컬렉션 생성/설정은 QdrantCollectionManager 가 담당
+        VectorStore store = QdrantVectorStore.builder(qdrantClient, embeddingModel)
+                .collectionName(collectionName)
+                .initializeSchema(false)
+                .build();
+        QdrantProperties.Quantization quantization = qdrantProperties.getQuantization();
+        if (!quantization.isEnabled()) {
+            return store;
+        }
+        return new QuantizedQdrantVectorStore(store, qdrantClient, embeddingModel, collectionName, quantization);
+    }
+}
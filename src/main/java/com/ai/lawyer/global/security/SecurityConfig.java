@@ -64,6 +64,11 @@ public class SecurityConfig {
             "/sentry-test"           // Sentry 테스트용
     };
 
+    // 관리자 권한이 필요한 엔드포인트
+    private static final String[] ADMIN_ENDPOINTS = {
+            "/api/admin/**"           // 벡터화 등 데이터 관리 API
+    };
+
     // CORS 허용 메서드
     private static final String[] ALLOWED_METHODS = {
             "GET", "POST", "PUT", "DELETE", "PATCH", "OPTIONS"
@@ -96,6 +101,7 @@ public class SecurityConfig {
 
                 // 접근 권한 설정
                 .authorizeHttpRequests(authorize -> authorize
+                        .requestMatchers(ADMIN_ENDPOINTS).hasRole("ADMIN")
                         .requestMatchers(PUBLIC_ENDPOINTS).permitAll()
                         .anyRequest().authenticated())
 
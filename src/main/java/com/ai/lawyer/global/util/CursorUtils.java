@@ -0,0 +1,49 @@
+package com.ai.lawyer.global.util;
+
+import java.nio.charset.StandardCharsets;
+import java.util.Arrays;
+import java.util.Base64;
+import java.util.stream.Collectors;
+
+/**
+ * 키셋(seek) 페이지네이션 커서 인코딩
+ * 마지막 행의 정렬 키 값들을 "|" 로 이어 Base64(URL-safe) 로 감싼 불투명 문자열
+ */
+public final class CursorUtils {
+
+    private static final String DELIMITER = "|";
+
+    private CursorUtils() {
+    }
+
+    /**
+     * 정렬 키 값들로 커서 생성
+     */
+    public static String encode(Object... keys) {
+        String joined = Arrays.stream(keys)
+                .map(String::valueOf)
+                .collect(Collectors.joining(DELIMITER));
+        return Base64.getUrlEncoder().withoutPadding().encodeToString(joined.getBytes(StandardCharsets.UTF_8));
+    }
+
+    /**
+     * 커서를 정렬 키 값들로 분해
+     *
+     * @param cursor 클라이언트가 보낸 커서
+     * @param keyCount 기대하는 키 개수
+     * @return 정렬 키 문자열 배열
+     * @throws IllegalArgumentException 형식이 맞지 않는 커서
+     */
+    public static String[] decode(String cursor, int keyCount) {
+        try {
+            String joined = new String(Base64.getUrlDecoder().decode(cursor), StandardCharsets.UTF_8);
+            String[] keys = joined.split("\\|", -1);
+            if (keys.length != keyCount) {
+                throw new IllegalArgumentException("잘못된 커서입니다: " + cursor);
+            }
+            return keys;
+        } catch (IllegalArgumentException e) {
+            throw new IllegalArgumentException("잘못된 커서입니다: " + cursor, e);
+        }
+    }
+}
@@ -0,0 +1,112 @@
+package com.ai.lawyer.global.util;
+
+import java.io.ByteArrayOutputStream;
+import java.nio.charset.StandardCharsets;
+import java.util.zip.DataFormatException;
+import java.util.zip.Deflater;
+import java.util.zip.Inflater;
+
+/**
+ * 긴 본문 압축 (MySQL COMPRESS()/UNCOMPRESS() 와 같은 형식)
+ * 형식: 원본 UTF-8 바이트 길이 4바이트(little-endian) + zlib 스트림, 빈 문자열은 빈 배열
+ * DB 에서도 UNCOMPRESS(컬럼) 로 바로 읽을 수 있고, 기존 데이터는 SQL 의 COMPRESS() 로 옮길 수 있음
+ */
+public final class TextCompressor {
+
+    private static final int HEADER_LENGTH = 4;
+
+    // 헤더 길이 상한 (손상된 헤더로 큰 배열을 할당하지 않도록)
+    // MAX_LENGTH: LONGBLOB 본문이 넘지 않는 크기 (max_allowed_packet 기본값 64MB)
+    // MAX_RATIO: zlib 최대 압축률 (약 1032:1)
+    private static final int MAX_LENGTH = 64 * 1024 * 1024;
+    private static final long MAX_RATIO = 1032;
+
+    private TextCompressor() {
+    }
+
+    /**
+     * @param text 원문 (null 이면 null)
+     * @return 압축된 바이트
+     */
+    public static byte[] compress(String text) {
+        if (text == null) {
+            return null;
+        }
+        byte[] source = text.getBytes(StandardCharsets.UTF_8);
+        if (source.length == 0) {
+            return new byte[0];
+        }
+
+        Deflater deflater = new Deflater(Deflater.DEFAULT_COMPRESSION);
+        try {
+            deflater.setInput(source);
+            deflater.finish();
+            ByteArrayOutputStream out = new ByteArrayOutputStream(source.length / 3 + 64);
+            out.write(source.length & 0xff);
+            out.write((source.length >>> 8) & 0xff);
+            out.write((source.length >>> 16) & 0xff);
+            out.write((source.length >>> 24) & 0xff);
+            byte[] buffer = new byte[8192];
+            while (!deflater.finished()) {
+                out.write(buffer, 0, deflater.deflate(buffer));
+            }
+            return out.toByteArray();
+        } finally {
+            deflater.end();
+        }
+    }
+
+    /**
+     * @param compressed compress 결과 또는 MySQL COMPRESS() 결과 (null 이면 null)
+     * @return 원문
+     * @throws IllegalStateException 헤더 길이가 범위를 벗어나거나 해제 결과 길이와 다를 때 (손상/잘린 데이터)
+     */
+    public static String decompress(byte[] compressed) {
+        if (compressed == null) {
+            return null;
+        }
+        if (compressed.length == 0) {
+            return "";
+        }
+        if (compressed.length <= HEADER_LENGTH) {
+            throw new IllegalStateException("압축 데이터가 올바르지 않습니다. 길이: " + compressed.length);
+        }
+
+        int length = (compressed[0] & 0xff)
+                | (compressed[1] & 0xff) << 8
+                | (compressed[2] & 0xff) << 16
+                | (compressed[3] & 0xff) << 24;
+        long maxLength = Math.min(MAX_LENGTH, (compressed.length - HEADER_LENGTH) * MAX_RATIO);
+        if (length <= 0 || length > maxLength) {
+            throw new IllegalStateException("압축 데이터 헤더가 올바르지 않습니다. 헤더 길이: " + length
+                    + ", 허용 범위: 1~" + maxLength);
+        }
+        byte[] result = new byte[length];
+
+        Inflater inflater = new Inflater();
+        try {
+            // COMPRESS() 는 결과가 공백으로 끝나면 '.' 을 덧붙이지만 zlib 스트림 끝에서 멈추므로 무시됨
+            inflater.setInput(compressed, HEADER_LENGTH, compressed.length - HEADER_LENGTH);
+            int offset = 0;
+            while (offset < length && !inflater.finished()) {
+                int read = inflater.inflate(result, offset, length - offset);
+                if (read == 0 && (inflater.needsInput() || inflater.needsDictionary())) {
+                    break;
+                }
+                offset += read;
+            }
+            if (offset != length) {
+                throw new IllegalStateException("압축 데이터가 잘렸습니다. 기대 길이: " + length + ", 실제: " + offset);
+            }
+            // 헤더보다 긴 스트림 (헤더 손상)
+            if (!inflater.finished() && inflater.inflate(new byte[1]) > 0) {
+                throw new IllegalStateException("압축 데이터가 헤더 길이보다 깁니다. 헤더 길이: " + length);
+            }
+            return new String(result, StandardCharsets.UTF_8);
+        } catch (DataFormatException e) {
+            throw new IllegalStateException("압축 데이터가 올바르지 않습니다: " + e.getMessage(), e);
+        } finally {
+            inflater.end();
+        }
+    }
+}
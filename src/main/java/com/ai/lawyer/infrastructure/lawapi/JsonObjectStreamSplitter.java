@@ -0,0 +1,133 @@
+package com.ai.lawyer.infrastructure.lawapi;
+
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.core.JsonStreamContext;
+import com.fasterxml.jackson.core.JsonToken;
+import com.fasterxml.jackson.core.async.ByteArrayFeeder;
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.util.TokenBuffer;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.util.*;
+
+/**
+ * 응답 본문을 조각(byte[]) 단위로 받아, 지정한 경로의 JSON 객체만 하나씩 JsonNode 로 잘라내는 스트리밍 파서
+ * 전체 응답을 String / JsonNode 트리로 만들지 않으므로 큰 법령(민법 등)도 조문 하나 크기의 메모리만 사용
+ *
+ * 경로는 객체 필드명 목록이며 배열은 건너뜀
+ * 예) ["법령", "조문", "조문단위"] 는 조문단위 배열의 각 요소(또는 단일 객체)와 일치
+ */
+public class JsonObjectStreamSplitter implements AutoCloseable {
+
+    private final ObjectMapper objectMapper;
+    private final Set<List<String>> targetPaths;
+    private final JsonParser parser;
+    private final ByteArrayFeeder feeder;
+
+    // 현재 잘라내는 중인 객체
+    private TokenBuffer capture;
+    private List<String> capturePath;
+    private int captureDepth;
+
+    public JsonObjectStreamSplitter(ObjectMapper objectMapper, Set<List<String>> targetPaths) {
+        this.objectMapper = objectMapper;
+        this.targetPaths = targetPaths;
+        try {
+            this.parser = objectMapper.getFactory().createNonBlockingByteArrayParser();
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+        this.feeder = (ByteArrayFeeder) parser.getNonBlockingInputFeeder();
+    }
+
+    /**
+     * 다음 조각을 넣고, 이번 조각으로 완성된 객체 반환
+     * 파서가 미완성 토큰은 내부에 복사해 두므로 호출 후 bytes 를 재사용해도 됨
+     */
+    public List<Match> feed(byte[] bytes) {
+        try {
+            feeder.feedInput(bytes, 0, bytes.length);
+            return drain();
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    /**
+     * 입력 종료 (남은 토큰 처리)
+     */
+    public List<Match> endOfInput() {
+        try {
+            feeder.endOfInput();
+            List<Match> matches = drain();
+            if (capture != null) {
+                throw new IOException("JSON 객체가 끝나기 전에 응답이 종료되었습니다: " + capturePath);
+            }
+            return matches;
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    @Override
+    public void close() {
+        try {
+            parser.close();
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    // ==================== Private Helper Methods ====================
+
+    private List<Match> drain() throws IOException {
+        List<Match> matches = new ArrayList<>();
+        JsonToken token;
+        while ((token = parser.nextToken()) != null && token != JsonToken.NOT_AVAILABLE) {
+            if (capture != null) {
+                capture.copyCurrentEvent(parser);
+                if (token.isStructStart()) {
+                    captureDepth++;
+                } else if (token.isStructEnd() && --captureDepth == 0) {
+                    matches.add(new Match(capturePath, objectMapper.readTree(capture.asParser())));
+                    capture = null;
+                }
+                continue;
+            }
+
+            if (token == JsonToken.START_OBJECT) {
+                List<String> path = objectPath(parser.getParsingContext());
+                if (targetPaths.contains(path)) {
+                    capture = new TokenBuffer(parser);
+                    capture.copyCurrentEvent(parser);
+                    capturePath = path;
+                    captureDepth = 1;
+                }
+            }
+        }
+        return matches;
+    }
+
+    /**
+     * 방금 시작된 객체까지의 필드명 경로
+     */
+    private static List<String> objectPath(JsonStreamContext objectContext) {
+        LinkedList<String> path = new LinkedList<>();
+        JsonStreamContext context = objectContext.getParent();
+        while (context != null && !context.inRoot()) {
+            if (context.inObject()) {
+                path.addFirst(context.getCurrentName());
+            }
+            context = context.getParent();
+        }
+        return path;
+    }
+
+    /**
+     * 잘라낸 객체와 그 경로
+     */
+    public record Match(List<String> path, JsonNode node) {
+    }
+}
@@ -0,0 +1,171 @@
+package com.ai.lawyer.infrastructure.lawapi;
+
+import com.ai.lawyer.global.config.LawApiProperties;
+import com.fasterxml.jackson.databind.JsonNode;
+import com.google.common.util.concurrent.RateLimiter;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.core.io.buffer.DataBuffer;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.HttpStatusCode;
+import org.springframework.stereotype.Component;
+import org.springframework.web.reactive.function.client.ExchangeStrategies;
+import org.springframework.web.reactive.function.client.WebClient;
+import org.springframework.web.reactive.function.client.WebClientRequestException;
+import org.springframework.web.reactive.function.client.WebClientResponseException;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+import reactor.core.scheduler.Schedulers;
+import reactor.util.retry.Retry;
+
+import java.time.LocalDate;
+import java.time.format.DateTimeFormatter;
+import java.util.Map;
+import java.util.concurrent.TimeoutException;
+
+/**
+ * 국가법령정보 Open API 클라이언트
+ * 모든 요청이 하나의 RateLimiter 를 공유하므로 여러 곳에서 동시에 호출해도 초당 요청 수가 제한됨
+ * 일시적 오류(5xx, 429, 타임아웃, 연결 실패)는 백오프 후 재시도
+ */
+@Slf4j
+@Component
+public class LawApiClient {
+
+    private final LawApiProperties properties;
+    private final WebClient webClient;
+    private final RateLimiter rateLimiter;
+
+    public LawApiClient(LawApiProperties properties) {
+        this.properties = properties;
+        this.webClient = WebClient.builder()
+                .baseUrl(properties.getBaseUrl())
+                .exchangeStrategies(ExchangeStrategies.builder()
+                        .codecs(codecs -> codecs.defaultCodecs().maxInMemorySize(properties.getMaxInMemorySizeMb() * 1024 * 1024))
+                        .build())
+                .build();
+        this.rateLimiter = RateLimiter.create(properties.getRequestsPerSecond());
+    }
+
+    /**
+     * 동시에 진행할 최대 요청 수 (flatMap concurrency 로 사용)
+     */
+    public int maxConcurrency() {
+        return properties.getMaxConcurrency();
+    }
+
+    /**
+     * 법령 목록 검색
+     */
+    public Mono<String> searchLaws(String query, int page, int display) {
+        return get("/lawSearch.do", Map.of(
+                "target", "law",
+                "query", query,
+                "page", page,
+                "display", display
+        ));
+    }
+
+    /**
+     * 판례 목록 검색
+     */
+    public Mono<String> searchPrecedents(String query, int page, int display) {
+        return get("/lawSearch.do", Map.of(
+                "target", "prec",
+                "query", query,
+                "page", page,
+                "display", display
+        ));
+    }
+
+    /**
+     * 법령 변경이력 목록 조회 (해당 일자에 제정/개정/폐지 등으로 바뀐 법령)
+     *
+     * @param date 변경일자
+     */
+    public Mono<String> searchLawChanges(LocalDate date, int page, int display) {
+        return get("/lawSearch.do", Map.of(
+                "target", "lsHstInf",
+                "regDt", date.format(DateTimeFormatter.BASIC_ISO_DATE),
+                "page", page,
+                "display", display
+        ));
+    }
+
+    /**
+     * 법령 상세 조회 (응답 본문을 받는 대로 조각 단위로 전달)
+     * 큰 법령도 응답 전체를 메모리에 모으지 않도록 JsonObjectStreamSplitter 와 함께 사용
+     * 전달받은 DataBuffer 는 호출 측에서 release 해야 함
+     */
+    public Flux<DataBuffer> getLawDetailStream(String lawId) {
+        return acquirePermit()
+                .thenMany(Flux.defer(() -> request("/lawService.do", Map.of("target", "law", "ID", lawId))
+                        .bodyToFlux(DataBuffer.class)
+                        .timeout(properties.getTimeout())));
+    }
+
+    /**
+     * 판례 상세 조회
+     * 판례는 단일 객체 응답이므로 String 을 거치지 않고 바로 JsonNode 로 디코딩
+     */
+    public Mono<JsonNode> getPrecedentDetail(String precedentId) {
+        return withRetry(acquirePermit()
+                .then(Mono.defer(() -> request("/lawService.do", Map.of("target", "prec", "ID", precedentId))
+                        .bodyToMono(JsonNode.class)
+                        .timeout(properties.getTimeout()))), precedentId);
+    }
+
+    /**
+     * 공통 GET 요청 (OC, type=JSON 자동 추가)
+     * 토큰을 얻을 때까지의 대기는 boundedElastic 스레드에서 하고, 타임아웃은 실제 HTTP 요청에만 적용
+     */
+    public Mono<String> get(String path, Map<String, ?> params) {
+        return withRetry(acquirePermit()
+                .then(Mono.defer(() -> request(path, params)
+                        .bodyToMono(String.class)
+                        .timeout(properties.getTimeout()))), path);
+    }
+
+    // ==================== Private Helper Methods ====================
+
+    /**
+     * RateLimiter 토큰 획득 (블로킹 대기이므로 boundedElastic 에서 실행)
+     */
+    private Mono<Void> acquirePermit() {
+        return Mono.fromCallable(rateLimiter::acquire)
+                .subscribeOn(Schedulers.boundedElastic())
+                .then();
+    }
+
+    /**
+     * 일시적 오류 재시도 (지수 백오프 + jitter)
+     * 재구독 시 RateLimiter 토큰도 다시 얻으므로 재시도 요청도 초당 요청 수 제한에 포함됨
+     * 법령 상세 스트림은 이미 전달한 조각을 되돌릴 수 없어 재시도하지 않음
+     */
+    private <T> Mono<T> withRetry(Mono<T> request, String target) {
+        return request.retryWhen(Retry.backoff(properties.getMaxRetries(), properties.getRetryBackoff())
+                .filter(this::isRetryable)
+                .doBeforeRetry(signal -> log.warn("Open API 요청 재시도 {}회. 대상: {}, 원인: {}",
+                        signal.totalRetries() + 1, target, signal.failure().toString()))
+                .onRetryExhaustedThrow((spec, signal) -> signal.failure()));
+    }
+
+    private boolean isRetryable(Throwable e) {
+        if (e instanceof WebClientResponseException responseException) {
+            HttpStatusCode status = responseException.getStatusCode();
+            return status.is5xxServerError() || status.value() == HttpStatus.TOO_MANY_REQUESTS.value();
+        }
+        return e instanceof TimeoutException || e instanceof WebClientRequestException;
+    }
+
+    private WebClient.ResponseSpec request(String path, Map<String, ?> params) {
+        return webClient.get()
+                .uri(uriBuilder -> {
+                    uriBuilder.path(path)
+                            .queryParam("OC", properties.getOc())
+                            .queryParam("type", "JSON");
+                    params.forEach((name, value) -> uriBuilder.queryParam(name, value));
+                    return uriBuilder.build();
+                })
+                .retrieve();
+    }
+}
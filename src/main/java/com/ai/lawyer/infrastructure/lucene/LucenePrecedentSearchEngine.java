@@ -0,0 +1,511 @@
+package com.ai.lawyer.infrastructure.lucene;
+
+import com.ai.lawyer.domain.precedent.dto.PrecedentIndexSourceDto;
+import com.ai.lawyer.domain.precedent.dto.PrecedentSearchPageDto;
+import com.ai.lawyer.domain.precedent.dto.PrecedentSearchRequestDto;
+import com.ai.lawyer.domain.precedent.dto.PrecedentSummaryListDto;
+import com.ai.lawyer.domain.precedent.repository.PrecedentIndexSourceRepository;
+import com.ai.lawyer.domain.precedent.service.KeywordMatcher;
+import com.ai.lawyer.domain.precedent.service.PrecedentFacets;
+import com.ai.lawyer.domain.precedent.service.PrecedentSearchEngine;
+import com.ai.lawyer.domain.precedent.service.PrecedentSnippetGenerator;
+import com.ai.lawyer.global.config.PrecedentSearchProperties;
+import com.ai.lawyer.global.util.CursorUtils;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.apache.lucene.analysis.Analyzer;
+import org.apache.lucene.analysis.ko.KoreanAnalyzer;
+import org.apache.lucene.document.Document;
+import org.apache.lucene.document.Field;
+import org.apache.lucene.document.LongPoint;
+import org.apache.lucene.document.NumericDocValuesField;
+import org.apache.lucene.document.SortedDocValuesField;
+import org.apache.lucene.document.StoredField;
+import org.apache.lucene.document.StringField;
+import org.apache.lucene.document.TextField;
+import org.apache.lucene.facet.FacetsCollector;
+import org.apache.lucene.facet.FacetsCollectorManager;
+import org.apache.lucene.index.DocValues;
+import org.apache.lucene.index.IndexWriter;
+import org.apache.lucene.index.IndexWriterConfig;
+import org.apache.lucene.index.IndexableField;
+import org.apache.lucene.index.SortedDocValues;
+import org.apache.lucene.index.StoredFields;
+import org.apache.lucene.index.Term;
+import org.apache.lucene.search.BooleanClause;
+import org.apache.lucene.search.BooleanQuery;
+import org.apache.lucene.search.BoostQuery;
+import org.apache.lucene.search.DocIdSetIterator;
+import org.apache.lucene.search.FieldDoc;
+import org.apache.lucene.search.IndexSearcher;
+import org.apache.lucene.search.MatchAllDocsQuery;
+import org.apache.lucene.search.Query;
+import org.apache.lucene.search.ScoreDoc;
+import org.apache.lucene.search.SearcherManager;
+import org.apache.lucene.search.Sort;
+import org.apache.lucene.search.SortField;
+import org.apache.lucene.search.TermQuery;
+import org.apache.lucene.search.TopFieldDocs;
+import org.apache.lucene.store.MMapDirectory;
+import org.apache.lucene.util.BytesRef;
+import org.apache.lucene.util.QueryBuilder;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.data.redis.connection.Message;
+import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.data.redis.listener.ChannelTopic;
+import org.springframework.data.redis.listener.RedisMessageListenerContainer;
+import org.springframework.stereotype.Component;
+import org.springframework.util.StringUtils;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Path;
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.CompletableFuture;
+import java.util.stream.Collectors;
+
+/**
+ * 로컬 디스크(MMapDirectory) Lucene 색인 기반 판례 검색
+ * - 사건명/판시사항/판결요지/판례내용은 Nori 형태소 분석기로 색인하고 필드별 가중치로 점수 계산
+ * - 사건번호는 공백을 뺀 완전 일치로 가장 높은 가중치
+ * - 판례 저장이 커밋되면 저장된 판례만 다시 색인 (PrecedentsSavedEventListener)
+ * - 색인은 인스턴스마다 로컬 디스크에 있으므로 저장한 인스턴스가 Redis 채널로 판례 id 를 알려 다른 인스턴스도 같은 판례를 색인
+ *   (Redis 장애로 알림이 빠진 인스턴스는 다음 전체 재구성 전까지 해당 판례가 검색되지 않을 수 있음)
+ * - 전체 재구성 중에는 색인 반영(commit/refresh)을 멈춰 검색은 재구성 직전 색인을 계속 보고, 재구성 커밋 때 한 번에 바뀜
+ * - 목록 표시에 필요한 값(사건명, 사건번호, 선고일자, 요약, 스니펫 원문)은 색인에 저장해 검색 시 DB 를 조회하지 않음
+ * - 패싯(법원명, 사건종류명, 판결유형, 선고연도) 건수는 검색과 같은 매칭 결과를 한 번 훑으며 doc values 로 함께 계산
+ */
+@Slf4j
+@Component
+@ConditionalOnProperty(name = "custom.precedent-search.engine", havingValue = "lucene")
+public class LucenePrecedentSearchEngine implements PrecedentSearchEngine {
+
+    static final String FIELD_ID = "id";
+    static final String FIELD_ID_SORT = "idSort";
+    static final String FIELD_CASE_NAME = "caseName";
+    static final String FIELD_CASE_NUMBER = "caseNumber";
+    static final String FIELD_CASE_NUMBER_KEY = "caseNumberKey";
+    static final String FIELD_NOTICE = "notice";
+    static final String FIELD_SUMMARY = "summary";
+    static final String FIELD_CONTENT = "content";
+    static final String FIELD_SENTENCING_DATE = "sentencingDate";
+    static final String FIELD_LIST_SUMMARY = "listSummary";
+    static final String FIELD_SNIPPET_SOURCE = "snippetSource";
+
+    // 패싯 필드 (필터용 StringField + 건수 계산용 SortedDocValuesField 를 같은 이름으로 색인)
+    private static final List<String> FACET_FIELDS = List.of(PrecedentFacets.COURT_NAME,
+            PrecedentFacets.CASE_TYPE_NAME, PrecedentFacets.TYPE_OF_JUDGMENT, PrecedentFacets.SENTENCING_YEAR);
+
+    // 선고일자 없는 판례의 정렬 키 (MySQL 엔진과 동일)
+    private static final long MIN_SORT_DAY = LocalDate.of(1000, 1, 1).toEpochDay();
+
+    // 색인 알림 채널 (메시지: "보낸 인스턴스 id|판례 id,판례 id,...")
+    private static final String INDEX_CHANNEL = "precedent:search-index:update";
+
+    private final PrecedentSearchProperties properties;
+    private final PrecedentIndexSourceRepository precedentIndexSourceRepository;
+    private final PrecedentSnippetGenerator precedentSnippetGenerator;
+    private final RedisTemplate<String, Object> redisTemplate;
+    private final String instanceId = UUID.randomUUID().toString();
+    private final Analyzer analyzer;
+    private final IndexWriter indexWriter;
+    private final SearcherManager searcherManager;
+    private final Sort sort;
+
+    // 재구성 진행 여부와 색인 반영 중지 여부 (publishLock 으로 보호)
+    // 재구성이 실패하면 반쯤 지워진 색인이 반영되지 않도록 다음 재구성이 성공할 때까지 반영 중지를 유지
+    private final Object publishLock = new Object();
+    private boolean rebuilding;
+    private boolean publishSuspended;
+
+    public LucenePrecedentSearchEngine(PrecedentSearchProperties properties,
+                                       PrecedentIndexSourceRepository precedentIndexSourceRepository,
+                                       PrecedentSnippetGenerator precedentSnippetGenerator,
+                                       RedisTemplate<String, Object> redisTemplate,
+                                       RedisMessageListenerContainer listenerContainer) throws IOException {
+        this.properties = properties;
+        this.precedentIndexSourceRepository = precedentIndexSourceRepository;
+        this.precedentSnippetGenerator = precedentSnippetGenerator;
+        this.redisTemplate = redisTemplate;
+        this.analyzer = new KoreanAnalyzer();
+
+        IndexWriterConfig config = new IndexWriterConfig(analyzer)
+                .setOpenMode(IndexWriterConfig.OpenMode.CREATE_OR_APPEND);
+        this.indexWriter = new IndexWriter(new MMapDirectory(Path.of(properties.getIndexPath())), config);
+        this.searcherManager = new SearcherManager(indexWriter, null);
+
+        SortField dateSort = new SortField(FIELD_SENTENCING_DATE, SortField.Type.LONG, true);
+        dateSort.setMissingValue(MIN_SORT_DAY);
+        this.sort = new Sort(SortField.FIELD_SCORE, dateSort, new SortField(FIELD_ID_SORT, SortField.Type.LONG, true));
+
+        log.info("판례 Lucene 색인 열기 완료. 경로: {}, 문서 수: {}", properties.getIndexPath(), indexWriter.getDocStats().numDocs);
+
+        listenerContainer.addMessageListener(this::onIndexUpdate, new ChannelTopic(INDEX_CHANNEL));
+    }
+
+    @Override
+    public PrecedentSearchPageDto search(PrecedentSearchRequestDto requestDto) {
+        Query query = buildQuery(requestDto);
+        int pageSize = requestDto.getPageSize();
+
+        IndexSearcher searcher = acquire();
+        try {
+            TopFieldDocs topDocs;
+            int from = 0;
+            if (StringUtils.hasText(requestDto.getCursor())) {
+                String[] cursor = CursorUtils.decode(requestDto.getCursor(), 3);
+                float score = Float.parseFloat(cursor[0]);
+                FieldDoc after = new FieldDoc(Integer.MAX_VALUE, score, new Object[]{
+                        score, LocalDate.parse(cursor[1]).toEpochDay(), Long.parseLong(cursor[2])});
+                topDocs = searcher.searchAfter(after, query, pageSize, sort, true);
+            } else {
+                from = requestDto.getPageNumber() * pageSize;
+                topDocs = searcher.search(query, from + pageSize, sort, true);
+            }
+
+            // 전체 건수와 패싯은 같은 매칭 결과 한 번으로 계산
+            FacetsCollector facetsCollector = searcher.search(query, new FacetsCollectorManager());
+            long total = 0;
+            for (FacetsCollector.MatchingDocs matchingDocs : facetsCollector.getMatchingDocs()) {
+                total += matchingDocs.totalHits;
+            }
+
+            KeywordMatcher matcher = precedentSnippetGenerator.matcherFor(requestDto.getKeyword());
+            StoredFields storedFields = searcher.storedFields();
+            List<PrecedentSummaryListDto> content = new ArrayList<>();
+            FieldDoc last = null;
+            for (int i = from; i < topDocs.scoreDocs.length; i++) {
+                ScoreDoc hit = topDocs.scoreDocs[i];
+                Document document = storedFields.document(hit.doc);
+                content.add(precedentSnippetGenerator.apply(toDto(document), matcher, document.get(FIELD_SNIPPET_SOURCE)));
+                last = (FieldDoc) hit;
+            }
+
+            String nextCursor = null;
+            if (content.size() == pageSize && last != null) {
+                nextCursor = CursorUtils.encode(
+                        last.fields[0],
+                        LocalDate.ofEpochDay((Long) last.fields[1]),
+                        last.fields[2]);
+            }
+
+            Map<String, Map<String, Long>> facets = PrecedentFacets.sorted(countFacets(facetsCollector));
+            return new PrecedentSearchPageDto(content, total, nextCursor, facets);
+        } catch (IOException e) {
+            throw new UncheckedIOException("판례 색인 검색 실패", e);
+        } finally {
+            release(searcher);
+        }
+    }
+
+    @Override
+    public void index(Collection<Long> precedentIds) {
+        if (precedentIds.isEmpty()) {
+            return;
+        }
+        try {
+            String ids = precedentIds.stream().map(String::valueOf).collect(Collectors.joining(","));
+            redisTemplate.convertAndSend(INDEX_CHANNEL, instanceId + "|" + ids);
+        } catch (Exception e) {
+            log.warn("판례 색인 알림 실패. 판례 수: {}", precedentIds.size(), e);
+        }
+        indexLocal(precedentIds);
+    }
+
+    @Override
+    public long rebuild() {
+        synchronized (publishLock) {
+            if (rebuilding) {
+                throw new IllegalStateException("판례 색인 재구성이 이미 진행 중입니다.");
+            }
+            rebuilding = true;
+            publishSuspended = true;
+        }
+
+        long count = 0;
+        try {
+            indexWriter.deleteAll();
+            long afterId = 0;
+            List<PrecedentIndexSourceDto> batch;
+            do {
+                batch = precedentIndexSourceRepository.findAfter(afterId, properties.getRebuildBatchSize());
+                for (PrecedentIndexSourceDto precedent : batch) {
+                    // 재구성 중 index() 로 먼저 들어온 판례와 중복되지 않도록 id 기준 교체
+                    indexWriter.updateDocument(new Term(FIELD_ID, String.valueOf(precedent.getId())), toDocument(precedent));
+                    afterId = precedent.getId();
+                }
+                count += batch.size();
+            } while (batch.size() == properties.getRebuildBatchSize());
+
+            synchronized (publishLock) {
+                commit();
+                publishSuspended = false;
+            }
+            log.info("판례 색인 재구성 완료. 문서 수: {}", count);
+            return count;
+        } catch (IOException e) {
+            log.error("판례 색인 재구성 실패. 다음 재구성이 성공할 때까지 재구성 직전 색인으로 검색합니다.");
+            throw new UncheckedIOException("판례 색인 재구성 실패", e);
+        } finally {
+            synchronized (publishLock) {
+                rebuilding = false;
+            }
+        }
+    }
+
+    /**
+     * 색인이 비어 있으면 백그라운드에서 전체 재구성 (재구성이 끝나기 전까지 검색 결과는 비어 있음)
+     */
+    @EventListener(ApplicationReadyEvent.class)
+    public void rebuildIfEmpty() {
+        if (!properties.isRebuildOnStartup() || indexWriter.getDocStats().numDocs > 0) {
+            return;
+        }
+        CompletableFuture.runAsync(this::rebuild)
+                .exceptionally(e -> {
+                    log.error("판례 색인 재구성 실패", e);
+                    return null;
+                });
+    }
+
+    @PreDestroy
+    public void close() throws IOException {
+        searcherManager.close();
+        indexWriter.close();
+    }
+
+    // ==================== Private Helper Methods ====================
+
+    /**
+     * 이 인스턴스의 색인에 판례 반영 (재구성 중이면 재구성 커밋 때 함께 반영)
+     */
+    private void indexLocal(Collection<Long> precedentIds) {
+        try {
+            for (PrecedentIndexSourceDto precedent : precedentIndexSourceRepository.findByIds(precedentIds)) {
+                indexWriter.updateDocument(new Term(FIELD_ID, String.valueOf(precedent.getId())), toDocument(precedent));
+            }
+            synchronized (publishLock) {
+                if (publishSuspended) {
+                    // 재구성 중: 변경은 writer 에 남겨두고 재구성 커밋 때 함께 반영
+                    log.debug("판례 색인 재구성 중이라 {}개 반영 보류", precedentIds.size());
+                    return;
+                }
+                commit();
+            }
+            log.debug("판례 {}개 색인 완료", precedentIds.size());
+        } catch (IOException e) {
+            throw new UncheckedIOException("판례 색인 실패", e);
+        }
+    }
+
+    /**
+     * 다른 인스턴스가 보낸 색인 알림 (자신이 보낸 알림은 index() 에서 직접 색인하므로 무시)
+     */
+    private void onIndexUpdate(Message message, byte[] pattern) {
+        String body = new String(message.getBody(), StandardCharsets.UTF_8);
+        int separator = body.indexOf('|');
+        if (separator < 0 || body.substring(0, separator).equals(instanceId)) {
+            return;
+        }
+        try {
+            List<Long> precedentIds = new ArrayList<>();
+            for (String id : body.substring(separator + 1).split(",")) {
+                precedentIds.add(Long.valueOf(id));
+            }
+            indexLocal(precedentIds);
+        } catch (NumberFormatException e) {
+            log.warn("잘못된 판례 색인 알림: {}", body);
+        } catch (Exception e) {
+            log.error("판례 색인 알림 처리 실패: {}", e.getMessage());
+        }
+    }
+
+    /**
+     * 키워드는 필드별 형태소 쿼리(가중치) + 사건번호 완전 일치 중 하나 이상
+     * 패싯 값/선고일자 범위는 점수에 영향 없는 필터
+     */
+    private Query buildQuery(PrecedentSearchRequestDto requestDto) {
+        BooleanQuery.Builder builder = new BooleanQuery.Builder();
+
+        if (StringUtils.hasText(requestDto.getKeyword())) {
+            String keyword = requestDto.getKeyword().trim();
+            QueryBuilder queryBuilder = new QueryBuilder(analyzer);
+            BooleanQuery.Builder keywordQuery = new BooleanQuery.Builder();
+            addFieldQuery(keywordQuery, queryBuilder, FIELD_CASE_NAME, keyword, properties.getCaseNameBoost());
+            addFieldQuery(keywordQuery, queryBuilder, FIELD_NOTICE, keyword, properties.getNoticeBoost());
+            addFieldQuery(keywordQuery, queryBuilder, FIELD_SUMMARY, keyword, properties.getSummaryBoost());
+            addFieldQuery(keywordQuery, queryBuilder, FIELD_CONTENT, keyword, properties.getContentBoost());
+            keywordQuery.add(new BoostQuery(new TermQuery(new Term(FIELD_CASE_NUMBER_KEY, normalizeCaseNumber(keyword))),
+                    properties.getCaseNumberBoost()), BooleanClause.Occur.SHOULD);
+            builder.add(keywordQuery.build(), BooleanClause.Occur.MUST);
+        } else {
+            builder.add(new MatchAllDocsQuery(), BooleanClause.Occur.MUST);
+        }
+
+        addFilter(builder, PrecedentFacets.COURT_NAME, requestDto.getCourtName());
+        addFilter(builder, PrecedentFacets.CASE_TYPE_NAME, requestDto.getCaseTypeName());
+        addFilter(builder, PrecedentFacets.TYPE_OF_JUDGMENT, requestDto.getTypeOfJudgment());
+
+        // 선고연도 필터는 선고일자 범위에 합쳐서 적용
+        LocalDate start = requestDto.effectiveSentencingDateStart();
+        LocalDate end = requestDto.effectiveSentencingDateEnd();
+        if (start != null || end != null) {
+            builder.add(LongPoint.newRangeQuery(FIELD_SENTENCING_DATE,
+                    start != null ? start.toEpochDay() : Long.MIN_VALUE,
+                    end != null ? end.toEpochDay() : Long.MAX_VALUE), BooleanClause.Occur.FILTER);
+        }
+        return builder.build();
+    }
+
+    private void addFieldQuery(BooleanQuery.Builder builder, QueryBuilder queryBuilder, String field, String keyword, float boost) {
+        Query query = queryBuilder.createBooleanQuery(field, keyword, BooleanClause.Occur.SHOULD);
+        if (query != null) {
+            builder.add(new BoostQuery(query, boost), BooleanClause.Occur.SHOULD);
+        }
+    }
+
+    private void addFilter(BooleanQuery.Builder builder, String field, String value) {
+        String filterValue = PrecedentFacets.filterValue(value);
+        if (filterValue != null) {
+            builder.add(new TermQuery(new Term(field, filterValue)), BooleanClause.Occur.FILTER);
+        }
+    }
+
+    /**
+     * 매칭된 문서를 한 번 훑으며 모든 패싯 필드의 값별 건수 계산
+     * 세그먼트마다 필드별 ord 배열에 세고, 세그먼트가 끝나면 ord 를 값으로 바꿔 합침
+     */
+    private Map<String, Map<String, Long>> countFacets(FacetsCollector facetsCollector) throws IOException {
+        Map<String, Map<String, Long>> counts = new LinkedHashMap<>();
+        FACET_FIELDS.forEach(field -> counts.put(field, new HashMap<>()));
+
+        for (FacetsCollector.MatchingDocs matchingDocs : facetsCollector.getMatchingDocs()) {
+            DocIdSetIterator docs = matchingDocs.bits.iterator();
+            if (docs == null) {
+                continue;
+            }
+            SortedDocValues[] values = new SortedDocValues[FACET_FIELDS.size()];
+            int[][] ordCounts = new int[FACET_FIELDS.size()][];
+            for (int f = 0; f < values.length; f++) {
+                values[f] = DocValues.getSorted(matchingDocs.context.reader(), FACET_FIELDS.get(f));
+                ordCounts[f] = new int[values[f].getValueCount()];
+            }
+
+            for (int doc = docs.nextDoc(); doc != DocIdSetIterator.NO_MORE_DOCS; doc = docs.nextDoc()) {
+                for (int f = 0; f < values.length; f++) {
+                    if (values[f].advanceExact(doc)) {
+                        ordCounts[f][values[f].ordValue()]++;
+                    }
+                }
+            }
+
+            for (int f = 0; f < values.length; f++) {
+                Map<String, Long> fieldCounts = counts.get(FACET_FIELDS.get(f));
+                for (int ord = 0; ord < ordCounts[f].length; ord++) {
+                    if (ordCounts[f][ord] > 0) {
+                        fieldCounts.merge(values[f].lookupOrd(ord).utf8ToString(), (long) ordCounts[f][ord], Long::sum);
+                    }
+                }
+            }
+        }
+        return counts;
+    }
+
+    private Document toDocument(PrecedentIndexSourceDto precedent) {
+        Document document = new Document();
+        document.add(new StringField(FIELD_ID, String.valueOf(precedent.getId()), Field.Store.YES));
+        document.add(new NumericDocValuesField(FIELD_ID_SORT, precedent.getId()));
+
+        addText(document, FIELD_CASE_NAME, precedent.getCaseName(), Field.Store.YES);
+        addText(document, FIELD_NOTICE, precedent.getNotice(), Field.Store.NO);
+        addText(document, FIELD_SUMMARY, precedent.getSummaryOfTheJudgment(), Field.Store.NO);
+        addText(document, FIELD_CONTENT, precedent.getPrecedentContent(), Field.Store.NO);
+
+        if (StringUtils.hasText(precedent.getCaseNumber())) {
+            document.add(new StoredField(FIELD_CASE_NUMBER, precedent.getCaseNumber()));
+            document.add(new StringField(FIELD_CASE_NUMBER_KEY, normalizeCaseNumber(precedent.getCaseNumber()), Field.Store.NO));
+        }
+
+        if (precedent.getSentencingDate() != null) {
+            long day = precedent.getSentencingDate().toEpochDay();
+            document.add(new LongPoint(FIELD_SENTENCING_DATE, day));
+            document.add(new NumericDocValuesField(FIELD_SENTENCING_DATE, day));
+            document.add(new StoredField(FIELD_SENTENCING_DATE, day));
+            addFacet(document, PrecedentFacets.SENTENCING_YEAR, String.valueOf(precedent.getSentencingDate().getYear()));
+        }
+        addFacet(document, PrecedentFacets.COURT_NAME, precedent.getCourtName());
+        addFacet(document, PrecedentFacets.CASE_TYPE_NAME, precedent.getCaseTypeName());
+        addFacet(document, PrecedentFacets.TYPE_OF_JUDGMENT, precedent.getTypeOfJudgment());
+
+        if (precedent.getListSummary() != null) {
+            document.add(new StoredField(FIELD_LIST_SUMMARY, precedent.getListSummary()));
+        }
+        if (precedent.getSnippetSource() != null) {
+            document.add(new StoredField(FIELD_SNIPPET_SOURCE, precedent.getSnippetSource()));
+        }
+        return document;
+    }
+
+    private void addText(Document document, String field, String value, Field.Store store) {
+        if (StringUtils.hasText(value)) {
+            document.add(new TextField(field, value, store));
+        }
+    }
+
+    private void addFacet(Document document, String field, String value) {
+        if (StringUtils.hasText(value)) {
+            document.add(new StringField(field, value.trim(), Field.Store.NO));
+            document.add(new SortedDocValuesField(field, new BytesRef(value.trim())));
+        }
+    }
+
+    private PrecedentSummaryListDto toDto(Document document) {
+        IndexableField sentencingDate = document.getField(FIELD_SENTENCING_DATE);
+        String listSummary = document.get(FIELD_LIST_SUMMARY);
+        return new PrecedentSummaryListDto(
+                Long.parseLong(document.get(FIELD_ID)),
+                document.get(FIELD_CASE_NAME),
+                document.get(FIELD_CASE_NUMBER),
+                sentencingDate != null ? LocalDate.ofEpochDay(sentencingDate.numericValue().longValue()) : null,
+                listSummary != null ? listSummary : ""
+        );
+    }
+
+    /**
+     * 사건번호 비교용 정규화 (공백 제거) - "2019도 1234" 와 "2019도1234" 를 같게 취급
+     */
+    private String normalizeCaseNumber(String caseNumber) {
+        return caseNumber.replaceAll("\\s+", "");
+    }
+
+    private void commit() throws IOException {
+        indexWriter.commit();
+        searcherManager.maybeRefresh();
+    }
+
+    private IndexSearcher acquire() {
+        try {
+            return searcherManager.acquire();
+        } catch (IOException e) {
+            throw new UncheckedIOException("판례 색인 열기 실패", e);
+        }
+    }
+
+    private void release(IndexSearcher searcher) {
+        try {
+            searcherManager.release(searcher);
+        } catch (IOException e) {
+            log.warn("판례 색인 검색기 반환 실패: {}", e.getMessage());
+        }
+    }
+}
@@ -0,0 +1,86 @@
+package com.ai.lawyer.infrastructure.redis.service;
+
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.stereotype.Service;
+
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.time.Duration;
+import java.util.HexFormat;
+import java.util.function.Supplier;
+
+/**
+ * 검색 결과 전체 건수 캐시
+ * 같은 조건의 검색은 다음 페이지를 넘길 때마다 COUNT(*) 를 다시 하지 않도록 짧은 TTL 로 Redis 에 보관
+ * Redis 장애 시에는 매번 직접 조회
+ */
+@Slf4j
+@Service
+public class SearchCountCacheService {
+
+    private static final String SEARCH_COUNT_KEY_PREFIX = "search:count:";
+
+    private final RedisTemplate<String, Object> redisTemplate;
+    private final Duration ttl;
+
+    public SearchCountCacheService(RedisTemplate<String, Object> redisTemplate,
+                                   @Value("${custom.search.count-cache-ttl:60s}") Duration ttl) {
+        this.redisTemplate = redisTemplate;
+        this.ttl = ttl;
+    }
+
+    /**
+     * 캐시된 건수 조회, 없으면 counter 로 조회 후 저장
+     *
+     * @param namespace 검색 종류 (law, precedent 등)
+     * @param filters 정규화된 검색 조건 (같은 조건이면 같은 문자열)
+     * @param counter 실제 COUNT 조회
+     * @return 전체 건수
+     */
+    public long getCount(String namespace, String filters, Supplier<Long> counter) {
+        String key = SEARCH_COUNT_KEY_PREFIX + namespace + ":" + sha256(filters);
+
+        try {
+            Object cached = redisTemplate.opsForValue().get(key);
+            if (cached != null) {
+                return Long.parseLong(cached.toString());
+            }
+        } catch (Exception e) {
+            log.warn("검색 건수 캐시 조회 실패: {}", e.getMessage());
+        }
+
+        Long count = counter.get();
+        long total = count != null ? count : 0;
+
+        try {
+            redisTemplate.opsForValue().set(key, Long.toString(total), ttl);
+        } catch (Exception e) {
+            log.warn("검색 건수 캐시 저장 실패: {}", e.getMessage());
+        }
+        return total;
+    }
+
+    /**
+     * 검색어 정규화 (앞뒤 공백 제거, 소문자, 연속 공백 하나로)
+     */
+    public static String normalizeKeyword(String keyword) {
+        if (keyword == null) {
+            return "";
+        }
+        return keyword.trim().toLowerCase().replaceAll("\\s+", " ");
+    }
+
+    // ==================== Private Helper Methods ====================
+
+    private String sha256(String value) {
+        try {
+            MessageDigest digest = MessageDigest.getInstance("SHA-256");
+            return HexFormat.of().formatHex(digest.digest(value.getBytes(StandardCharsets.UTF_8)));
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException(e);
+        }
+    }
+}
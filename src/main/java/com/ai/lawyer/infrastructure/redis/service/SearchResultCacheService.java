@@ -0,0 +1,158 @@
+package com.ai.lawyer.infrastructure.redis.service;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.stereotype.Service;
+
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.time.Duration;
+import java.util.HexFormat;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.Supplier;
+
+/**
+ * 검색 결과 페이지 캐시
+ * 자주 검색되는 조건은 FULLTEXT 페이지 조회/COUNT 없이 Redis 에서 바로 응답 (짧은 TTL)
+ * - 키에 검색 종류별 버전을 넣어 두고, 데이터가 바뀌면 버전만 올려 이전 결과를 한 번에 무효화 (이전 키는 TTL 로 만료)
+ * - 같은 키의 캐시 미스가 동시에 들어오면 인스턴스 안에서는 한 요청만 DB 를 조회하고 나머지는 그 결과를 기다림
+ * Redis 장애 시에는 매번 직접 조회
+ */
+@Slf4j
+@Service
+public class SearchResultCacheService {
+
+    private static final String SEARCH_RESULT_KEY_PREFIX = "search:result:";
+    private static final String SEARCH_VERSION_KEY_PREFIX = "search:version:";
+
+    private final RedisTemplate<String, Object> redisTemplate;
+    private final ObjectMapper objectMapper;
+    private final Duration ttl;
+    private final ConcurrentHashMap<String, CompletableFuture<Object>> inFlight = new ConcurrentHashMap<>();
+
+    public SearchResultCacheService(RedisTemplate<String, Object> redisTemplate,
+                                    ObjectMapper objectMapper,
+                                    @Value("${custom.search.result-cache-ttl:30s}") Duration ttl) {
+        this.redisTemplate = redisTemplate;
+        this.objectMapper = objectMapper;
+        this.ttl = ttl;
+    }
+
+    /**
+     * 캐시된 결과 조회, 없으면 loader 로 조회 후 저장
+     *
+     * @param namespace 검색 종류 (law, precedent 등)
+     * @param filters 정규화된 검색 조건 + 페이지 (같은 조건이면 같은 문자열)
+     * @param type 결과 타입 (JSON 역직렬화 대상)
+     * @param loader 실제 검색
+     * @return 검색 결과
+     */
+    public <T> T get(String namespace, String filters, Class<T> type, Supplier<T> loader) {
+        String key = SEARCH_RESULT_KEY_PREFIX + namespace + ":" + version(namespace) + ":" + sha256(filters);
+
+        T cached = read(key, type);
+        if (cached != null) {
+            return cached;
+        }
+
+        CompletableFuture<Object> flight = new CompletableFuture<>();
+        CompletableFuture<Object> existing = inFlight.putIfAbsent(key, flight);
+        if (existing != null) {
+            return type.cast(await(existing));
+        }
+
+        try {
+            // 처음 조회와 등록 사이에 앞선 요청이 결과를 저장하고 빠졌을 수 있으므로 다시 확인
+            T result = read(key, type);
+            if (result != null) {
+                flight.complete(result);
+                return result;
+            }
+            result = loader.get();
+            write(key, result);
+            flight.complete(result);
+            return result;
+        } catch (RuntimeException e) {
+            flight.completeExceptionally(e);
+            throw e;
+        } finally {
+            inFlight.remove(key, flight);
+        }
+    }
+
+    /**
+     * 검색 종류의 캐시 전체 무효화 (버전 증가)
+     *
+     * @param namespace 검색 종류
+     */
+    public void invalidate(String namespace) {
+        try {
+            redisTemplate.opsForValue().increment(SEARCH_VERSION_KEY_PREFIX + namespace);
+        } catch (Exception e) {
+            log.warn("검색 결과 캐시 무효화 실패: {}", e.getMessage());
+        }
+    }
+
+    // ==================== Private Helper Methods ====================
+
+    private String version(String namespace) {
+        try {
+            Object version = redisTemplate.opsForValue().get(SEARCH_VERSION_KEY_PREFIX + namespace);
+            return version != null ? version.toString() : "0";
+        } catch (Exception e) {
+            log.warn("검색 결과 캐시 버전 조회 실패: {}", e.getMessage());
+            return "0";
+        }
+    }
+
+    private <T> T read(String key, Class<T> type) {
+        try {
+            Object cached = redisTemplate.opsForValue().get(key);
+            if (cached != null) {
+                return objectMapper.readValue(cached.toString(), type);
+            }
+        } catch (Exception e) {
+            log.warn("검색 결과 캐시 조회 실패: {}", e.getMessage());
+        }
+        return null;
+    }
+
+    private void write(String key, Object result) {
+        try {
+            redisTemplate.opsForValue().set(key, objectMapper.writeValueAsString(result), ttl);
+        } catch (JsonProcessingException e) {
+            log.warn("검색 결과 직렬화 실패: {}", e.getMessage());
+        } catch (Exception e) {
+            log.warn("검색 결과 캐시 저장 실패: {}", e.getMessage());
+        }
+    }
+
+    /**
+     * 먼저 조회 중인 요청의 결과 대기 (실패했으면 같은 예외를 던짐)
+     */
+    private Object await(CompletableFuture<Object> flight) {
+        try {
+            return flight.join();
+        } catch (CompletionException e) {
+            if (e.getCause() instanceof RuntimeException cause) {
+                throw cause;
+            }
+            throw e;
+        }
+    }
+
+    private String sha256(String value) {
+        try {
+            MessageDigest digest = MessageDigest.getInstance("SHA-256");
+            return HexFormat.of().formatHex(digest.digest(value.getBytes(StandardCharsets.UTF_8)));
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException(e);
+        }
+    }
+}
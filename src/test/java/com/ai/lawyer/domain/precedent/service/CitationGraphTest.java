@@ -0,0 +1,94 @@
+package com.ai.lawyer.domain.precedent.service;
+
+import com.ai.lawyer.domain.precedent.service.CitationExtractor.ArticleRef;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.Set;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@DisplayName("판례 인용 추출/그래프 테스트")
+class CitationGraphTest {
+
+    @Test
+    @DisplayName("참조판례에서 사건번호만 추출 (날짜, 공보 면수 제외)")
+    void caseNumbers_fromReferencePrecedent() {
+        String referencePrecedent = "대법원 2009. 12. 10. 선고 2009도 11448 판결(공2010상, 190), "
+                + "헌법재판소 2005. 6. 30. 선고 2003헌마841 결정 / 대법원 1996. 3. 8. 선고 95다28779 판결";
+
+        assertThat(CitationExtractor.caseNumbers(referencePrecedent))
+                .containsExactly("2009도11448", "2003헌마841", "95다28779");
+    }
+
+    @Test
+    @DisplayName("참조조문에서 법령명을 이어 쓰며 조문 추출 (괄호 안 개정 연혁 무시)")
+    void articles_carryLawName() {
+        String referenceArticle = "[1] 형법 제329조, 제330조 / [2] 구 특정범죄 가중처벌 등에 관한 법률"
+                + "(2010. 3. 31. 법률 제10210호로 개정되기 전의 것) 제5조의4 제1항, 같은 법 제2조";
+
+        assertThat(CitationExtractor.articles(referenceArticle)).containsExactly(
+                new ArticleRef("형법", 329, 0),
+                new ArticleRef("형법", 330, 0),
+                new ArticleRef("특정범죄 가중처벌 등에 관한 법률", 5, 4),
+                new ArticleRef("특정범죄 가중처벌 등에 관한 법률", 2, 0));
+    }
+
+    @Test
+    @DisplayName("정방향/역방향/조문 조회와 증분 교체")
+    void graph_queriesAndReplace() {
+        CitationGraph.Edges<Long> citations = CitationGraph.Edges.empty();
+        citations.add(1L, 2L);
+        citations.add(1L, 3L);
+        citations.add(4L, 2L);
+        CitationGraph.Edges<String> articles = CitationGraph.Edges.empty();
+        articles.add(1L, CitationExtractor.articleKey("형법", 329, 0));
+        articles.add(4L, CitationExtractor.articleKey("형법", 329, 0));
+
+        CitationGraph graph = CitationGraph.build(citations, articles);
+
+        assertThat(graph.cites(1L)).containsExactly(2L, 3L);
+        assertThat(graph.citedBy(2L)).containsExactly(1L, 4L);
+        assertThat(graph.precedentsForArticle("형법|329|0")).containsExactly(1L, 4L);
+        assertThat(graph.cites(99L)).isEmpty();
+
+        // 1번 판례가 다시 수집되어 3번만 인용하고 조문 참조가 없어짐
+        CitationGraph.Edges<Long> changed = CitationGraph.Edges.empty();
+        changed.add(1L, 3L);
+        CitationGraph replaced = graph.replace(Set.of(1L), changed, CitationGraph.Edges.empty());
+
+        assertThat(replaced.cites(1L)).containsExactly(3L);
+        assertThat(replaced.citedBy(2L)).containsExactly(4L);
+        assertThat(replaced.precedentsForArticle("형법|329|0")).containsExactly(4L);
+        assertThat(graph.cites(1L)).containsExactly(2L, 3L);
+    }
+
+    @Test
+    @DisplayName("새 판례 증분 반영 후 병합해도 같은 결과")
+    void graph_replaceNewNodeAndCompact() {
+        CitationGraph.Edges<Long> citations = CitationGraph.Edges.empty();
+        citations.add(1L, 2L);
+        CitationGraph graph = CitationGraph.build(citations, CitationGraph.Edges.empty());
+
+        // 5번 판례가 새로 수집되어 1번을 인용하고, 이미 있던 6번 판례의 참조판례가 5번 사건번호와 이어짐
+        CitationGraph.Edges<Long> changed = CitationGraph.Edges.empty();
+        changed.add(5L, 1L);
+        changed.add(6L, 5L);
+        CitationGraph.Edges<String> articles = CitationGraph.Edges.empty();
+        articles.add(5L, CitationExtractor.articleKey("민법", 750, 0));
+        CitationGraph replaced = graph.replace(Set.of(5L), changed, articles);
+
+        assertThat(replaced.citedBy(1L)).containsExactly(5L);
+        assertThat(replaced.cites(6L)).containsExactly(5L);
+        assertThat(replaced.citationCount()).isEqualTo(3);
+        assertThat(replaced.overlaySize()).isPositive();
+
+        CitationGraph compacted = replaced.compact();
+
+        assertThat(compacted.overlaySize()).isZero();
+        assertThat(compacted.nodeCount()).isEqualTo(4);
+        assertThat(compacted.citationCount()).isEqualTo(3);
+        assertThat(compacted.citedBy(5L)).containsExactly(6L);
+        assertThat(compacted.precedentsForArticle("민법|750|0")).containsExactly(5L);
+    }
+}
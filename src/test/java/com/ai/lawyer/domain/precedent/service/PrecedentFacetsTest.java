@@ -0,0 +1,53 @@
+package com.ai.lawyer.domain.precedent.service;
+
+import com.ai.lawyer.domain.precedent.dto.PrecedentSearchRequestDto;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.time.LocalDate;
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@DisplayName("PrecedentFacets 테스트")
+class PrecedentFacetsTest {
+
+    @Test
+    @DisplayName("선고연도 필터는 선고일자 범위와 겹치는 기간으로 바뀜")
+    void sentencingYear_narrowsDateRange() {
+        PrecedentSearchRequestDto requestDto = new PrecedentSearchRequestDto();
+        requestDto.setSentencingYear(2020);
+        requestDto.setSentencingDateStart(LocalDate.of(2020, 3, 1));
+
+        assertThat(requestDto.effectiveSentencingDateStart()).isEqualTo(LocalDate.of(2020, 3, 1));
+        assertThat(requestDto.effectiveSentencingDateEnd()).isEqualTo(LocalDate.of(2020, 12, 31));
+    }
+
+    @Test
+    @DisplayName("빈 필터 값은 필터 없음과 같은 캐시 키")
+    void filterKey_ignoresBlankFilters() {
+        PrecedentSearchRequestDto blank = new PrecedentSearchRequestDto();
+        blank.setKeyword(" 절도 ");
+        blank.setCourtName(" ");
+        PrecedentSearchRequestDto none = new PrecedentSearchRequestDto();
+        none.setKeyword("절도");
+
+        assertThat(PrecedentFacets.filterKey(blank)).isEqualTo(PrecedentFacets.filterKey(none));
+    }
+
+    @Test
+    @DisplayName("선고연도는 최신순, 나머지 패싯은 건수 많은 순으로 정렬")
+    void sorted_ordersFacetValues() {
+        Map<String, Map<String, Long>> counts = new LinkedHashMap<>();
+        counts.put(PrecedentFacets.COURT_NAME, Map.of("서울고등법원", 3L, "대법원", 10L, "부산지방법원", 1L));
+        counts.put(PrecedentFacets.SENTENCING_YEAR, Map.of("2019", 5L, "2021", 2L, "2020", 7L));
+
+        Map<String, Map<String, Long>> sorted = PrecedentFacets.sorted(counts);
+
+        assertThat(sorted.get(PrecedentFacets.COURT_NAME).keySet())
+                .containsExactly("대법원", "서울고등법원", "부산지방법원");
+        assertThat(sorted.get(PrecedentFacets.SENTENCING_YEAR).keySet())
+                .containsExactly("2021", "2020", "2019");
+    }
+}
@@ -0,0 +1,81 @@
+package com.ai.lawyer.domain.precedent.service;
+
+import com.ai.lawyer.domain.precedent.dto.PrecedentSummaryListDto.Highlight;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.groups.Tuple.tuple;
+
+@DisplayName("PrecedentSnippetGenerator 테스트")
+class PrecedentSnippetGeneratorTest {
+
+    private final PrecedentSnippetGenerator generator = new PrecedentSnippetGenerator();
+
+    @Test
+    @DisplayName("겹치는 검색어도 모두 찾음 (대소문자 무시)")
+    void findAll_overlappingTerms() {
+        KeywordMatcher matcher = new KeywordMatcher(List.of("손해", "손해배상", "abc"));
+
+        List<KeywordMatcher.Match> matches = matcher.findAll("손해배상 ABC");
+
+        assertThat(matches).containsExactlyInAnyOrder(
+                new KeywordMatcher.Match(0, 2, 0),
+                new KeywordMatcher.Match(0, 4, 1),
+                new KeywordMatcher.Match(5, 8, 2));
+    }
+
+    @Test
+    @DisplayName("서로 다른 검색어가 가장 많은 문장을 스니펫으로 선택")
+    void generate_picksWindowWithMostDistinctTerms() {
+        String target = "계약 위반으로 인한 손해 배상을 청구하였다.";
+        String source = "계약 해제에 관한 사건이다. 계약 내용을 다시 확인하였다. "
+                + "관계 없는 문장이다. ".repeat(20)
+                + target;
+        KeywordMatcher matcher = generator.matcherFor("+계약 손해*");
+
+        PrecedentSnippetGenerator.Snippet snippet = generator.generate(matcher, source);
+
+        assertThat(snippet).isNotNull();
+        assertThat(snippet.text()).isEqualTo(target);
+        assertThat(snippet.highlights()).extracting(Highlight::getStart, Highlight::getEnd)
+                .containsExactly(
+                        tuple(0, 2),
+                        tuple(11, 13));
+    }
+
+    @Test
+    @DisplayName("겹치는 강조 위치는 하나로 합침")
+    void generate_mergesOverlappingHighlights() {
+        KeywordMatcher matcher = generator.matcherFor("손해 손해배상");
+
+        PrecedentSnippetGenerator.Snippet snippet = generator.generate(matcher, "손해배상을 청구하였다.");
+
+        assertThat(snippet).isNotNull();
+        assertThat(snippet.highlights()).hasSize(1);
+        assertThat(snippet.highlights().get(0).getStart()).isZero();
+        assertThat(snippet.highlights().get(0).getEnd()).isEqualTo(4);
+    }
+
+    @Test
+    @DisplayName("긴 문장은 최대 길이 안으로 자름")
+    void generate_cutsLongSentence() {
+        String source = "가".repeat(500) + " 계약 " + "나".repeat(500);
+
+        PrecedentSnippetGenerator.Snippet snippet = generator.generate(generator.matcherFor("계약"), source);
+
+        assertThat(snippet).isNotNull();
+        assertThat(snippet.text()).hasSizeLessThanOrEqualTo(PrecedentSnippetGenerator.MAX_SNIPPET_LENGTH);
+        Highlight highlight = snippet.highlights().get(0);
+        assertThat(snippet.text().substring(highlight.getStart(), highlight.getEnd())).isEqualTo("계약");
+    }
+
+    @Test
+    @DisplayName("검색어가 없거나 일치하지 않으면 null")
+    void generate_returnsNullWithoutMatch() {
+        assertThat(generator.matcherFor("  +* ")).isNull();
+        assertThat(generator.generate(generator.matcherFor("상속"), "계약 위반으로 인한 손해")).isNull();
+    }
+}
@@ -0,0 +1,262 @@
+package com.ai.lawyer.global.qdrant.service;
+
+import com.ai.lawyer.global.qdrant.VectorDocumentType;
+import com.fasterxml.jackson.core.type.TypeReference;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.ai.document.Document;
+import org.springframework.ai.embedding.Embedding;
+import org.springframework.ai.embedding.EmbeddingModel;
+import org.springframework.ai.embedding.EmbeddingRequest;
+import org.springframework.ai.embedding.EmbeddingResponse;
+import org.springframework.ai.vectorstore.SearchRequest;
+import org.springframework.ai.vectorstore.SimpleVectorStore;
+import org.springframework.ai.vectorstore.filter.Filter;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.util.*;
+
+import static org.assertj.core.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.BDDMockito.*;
+
+/**
+ * 검색 품질/지연 회귀 확인용 오프라인 벤치마크
+ * 고정 코퍼스(benchmark/retrieval-corpus.json)와 라벨링된 질문(benchmark/retrieval-questions.json)을
+ * 결정적인 해시 임베딩 + SimpleVectorStore 로 재생하므로 Qdrant / Ollama 없이 CI 에서 실행 가능
+ * 청킹, topK, 필터 등 검색 로직을 바꿨을 때 recall@k / MRR 이 기준 아래로 떨어지면 실패
+ * 지연 시간 측정은 실행 환경에 따라 값이 달라지므로 @Tag("benchmark") 로 분리해 ./gradlew benchmark 에서만 실행
+ */
+@ExtendWith(MockitoExtension.class)
+@DisplayName("QdrantService 검색 벤치마크")
+class QdrantServiceRetrievalBenchmarkTest {
+
+    private static final Logger log = LoggerFactory.getLogger(QdrantServiceRetrievalBenchmarkTest.class);
+
+    private static final int CANDIDATE_TOP_K = 20;
+    private static final int WARMUP_ROUNDS = 3;
+    private static final int MEASURE_ROUNDS = 20;
+
+    // 현재 코퍼스 기준값(모두 1.0)보다 여유를 둔 회귀 기준
+    private static final double MIN_RECALL_AT_1 = 0.8;
+    private static final double MIN_RECALL_AT_3 = 0.9;
+    private static final double MIN_MRR = 0.85;
+
+    // searchDocument p99 허용치 (ms), -Dbenchmark.p99-budget-ms 로 변경
+    private static final double P99_BUDGET_MS = Double.parseDouble(System.getProperty("benchmark.p99-budget-ms", "50"));
+
+    @Mock
+    private VectorStoreRouter vectorStoreRouter;
+
+    private SimpleVectorStore vectorStore;
+    private QdrantService qdrantService;
+    private List<Question> questions;
+
+    record CorpusEntry(String type, String caseNumber, String court, String caseName, String lawName, List<String> chunks) {
+    }
+
+    record Question(String question, String type, String expected) {
+    }
+
+    @BeforeEach
+    void setUp() throws IOException {
+        ObjectMapper objectMapper = new ObjectMapper();
+        List<CorpusEntry> corpus = readJson(objectMapper, "/benchmark/retrieval-corpus.json", new TypeReference<>() {
+        });
+        questions = readJson(objectMapper, "/benchmark/retrieval-questions.json", new TypeReference<>() {
+        });
+
+        vectorStore = SimpleVectorStore.builder(new HashingEmbeddingModel()).build();
+        List<Document> documents = new ArrayList<>();
+        for (CorpusEntry entry : corpus) {
+            for (int i = 0; i < entry.chunks().size(); i++) {
+                Map<String, Object> metadata = new HashMap<>();
+                metadata.put("type", entry.type());
+                metadata.put("chunkIndex", i);
+                putIfNotNull(metadata, "caseNumber", entry.caseNumber());
+                putIfNotNull(metadata, "court", entry.court());
+                putIfNotNull(metadata, "caseName", entry.caseName());
+                putIfNotNull(metadata, "lawName", entry.lawName());
+                documents.add(new Document(entry.chunks().get(i), metadata));
+            }
+        }
+        vectorStore.add(documents);
+
+        given(vectorStoreRouter.storeFor(any(VectorDocumentType.class))).willReturn(vectorStore);
+        given(vectorStoreRouter.isSeparated()).willReturn(false);
+        qdrantService = new QdrantService(vectorStoreRouter);
+    }
+
+    @Test
+    @DisplayName("라벨링된 질문의 recall@k, MRR 이 기준 이상이어야 한다")
+    void retrievalQuality() {
+        int hitAt1 = 0;
+        int hitAt3 = 0;
+        int searchDocumentHit = 0;
+        double reciprocalRankSum = 0;
+
+        for (Question question : questions) {
+            int rank = rankOfExpected(question);
+            if (rank == 1) hitAt1++;
+            if (rank >= 1 && rank <= 3) hitAt3++;
+            if (rank >= 1) reciprocalRankSum += 1.0 / rank;
+
+            // 챗봇이 실제로 사용하는 경로 (최상위 원본 1건을 청크 병합해서 반환)
+            List<Document> result = qdrantService.searchDocument(question.question(), "type", question.type());
+            if (!result.isEmpty() && question.expected().equals(labelOf(result.get(0), question.type()))) {
+                searchDocumentHit++;
+            } else {
+                log.info("오답: '{}' 기대 {}, 결과 {}", question.question(), question.expected(),
+                        result.isEmpty() ? "없음" : labelOf(result.get(0), question.type()));
+            }
+        }
+
+        int total = questions.size();
+        double recallAt1 = (double) hitAt1 / total;
+        double recallAt3 = (double) hitAt3 / total;
+        double mrr = reciprocalRankSum / total;
+        double searchDocumentAccuracy = (double) searchDocumentHit / total;
+        log.info("질문 {}건: recall@1={}, recall@3={}, MRR={}, searchDocument 정확도={}",
+                total, recallAt1, recallAt3, mrr, searchDocumentAccuracy);
+
+        assertThat(recallAt1).isGreaterThanOrEqualTo(MIN_RECALL_AT_1);
+        assertThat(recallAt3).isGreaterThanOrEqualTo(MIN_RECALL_AT_3);
+        assertThat(mrr).isGreaterThanOrEqualTo(MIN_MRR);
+        assertThat(searchDocumentAccuracy).isGreaterThanOrEqualTo(MIN_RECALL_AT_1);
+    }
+
+    @Test
+    @Tag("benchmark")
+    @DisplayName("searchDocument p99 지연 시간이 허용치 이하여야 한다")
+    void searchDocumentLatency() {
+        for (int round = 0; round < WARMUP_ROUNDS; round++) {
+            questions.forEach(question -> qdrantService.searchDocument(question.question(), "type", question.type()));
+        }
+
+        List<Long> elapsedNanos = new ArrayList<>();
+        for (int round = 0; round < MEASURE_ROUNDS; round++) {
+            for (Question question : questions) {
+                long start = System.nanoTime();
+                qdrantService.searchDocument(question.question(), "type", question.type());
+                elapsedNanos.add(System.nanoTime() - start);
+            }
+        }
+        Collections.sort(elapsedNanos);
+
+        // 인메모리 저장소 기준이므로 허용치는 검색 로직(청크 병합, 필터 구성)의 회귀를 잡는 용도
+        double p50 = percentile(elapsedNanos, 0.50) / 1_000_000.0;
+        double p99 = percentile(elapsedNanos, 0.99) / 1_000_000.0;
+        log.info("searchDocument {}회: p50={}ms, p99={}ms (허용치 {}ms)", elapsedNanos.size(), p50, p99, P99_BUDGET_MS);
+
+        assertThat(p99).as("searchDocument p99 (ms)").isLessThanOrEqualTo(P99_BUDGET_MS);
+    }
+
+    // ==================== Private Helper Methods ====================
+
+    /**
+     * 청크 검색 결과를 원본 단위로 묶었을 때 기대 원본의 순위 (없으면 -1)
+     */
+    private int rankOfExpected(Question question) {
+        List<Document> candidates = vectorStore.similaritySearch(SearchRequest.builder()
+                .query(question.question())
+                .topK(CANDIDATE_TOP_K)
+                .filterExpression(new Filter.Expression(Filter.ExpressionType.EQ,
+                        new Filter.Key("type"), new Filter.Value(question.type())))
+                .build());
+
+        List<String> rankedLabels = candidates.stream()
+                .map(doc -> labelOf(doc, question.type()))
+                .distinct()
+                .toList();
+        int index = rankedLabels.indexOf(question.expected());
+        return index < 0 ? -1 : index + 1;
+    }
+
+    private String labelOf(Document document, String type) {
+        String key = "판례".equals(type) ? "caseNumber" : "lawName";
+        return String.valueOf(document.getMetadata().get(key));
+    }
+
+    private long percentile(List<Long> sorted, double percentile) {
+        int index = (int) Math.ceil(percentile * sorted.size()) - 1;
+        return sorted.get(Math.max(0, Math.min(index, sorted.size() - 1)));
+    }
+
+    private void putIfNotNull(Map<String, Object> metadata, String key, Object value) {
+        if (value != null) {
+            metadata.put(key, value);
+        }
+    }
+
+    private <T> T readJson(ObjectMapper objectMapper, String path, TypeReference<T> type) throws IOException {
+        try (InputStream inputStream = getClass().getResourceAsStream(path)) {
+            assertThat(inputStream).as(path).isNotNull();
+            return objectMapper.readValue(inputStream, type);
+        }
+    }
+
+    /**
+     * 토큰별 문자 bigram 을 고정 차원에 해싱하는 결정적 임베딩 (네트워크/모델 불필요)
+     */
+    static class HashingEmbeddingModel implements EmbeddingModel {
+
+        private static final int DIMENSIONS = 512;
+
+        @Override
+        public EmbeddingResponse call(EmbeddingRequest request) {
+            List<Embedding> embeddings = new ArrayList<>();
+            List<String> texts = request.getInstructions();
+            for (int i = 0; i < texts.size(); i++) {
+                embeddings.add(new Embedding(embedText(texts.get(i)), i));
+            }
+            return new EmbeddingResponse(embeddings);
+        }
+
+        @Override
+        public float[] embed(Document document) {
+            return embedText(document.getText());
+        }
+
+        @Override
+        public int dimensions() {
+            return DIMENSIONS;
+        }
+
+        private float[] embedText(String text) {
+            float[] vector = new float[DIMENSIONS];
+            for (String token : text.toLowerCase().split("[^0-9A-Za-z가-힣]+")) {
+                if (token.isEmpty()) {
+                    continue;
+                }
+                if (token.length() == 1) {
+                    vector[Math.floorMod(token.hashCode(), DIMENSIONS)] += 1f;
+                    continue;
+                }
+                for (int i = 0; i < token.length() - 1; i++) {
+                    vector[Math.floorMod(token.substring(i, i + 2).hashCode(), DIMENSIONS)] += 1f;
+                }
+            }
+
+            double norm = 0;
+            for (float value : vector) {
+                norm += value * value;
+            }
+            if (norm > 0) {
+                float length = (float) Math.sqrt(norm);
+                for (int i = 0; i < vector.length; i++) {
+                    vector[i] /= length;
+                }
+            }
+            return vector;
+        }
+    }
+}
@@ -0,0 +1,109 @@
+package com.ai.lawyer.global.util;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.nio.charset.StandardCharsets;
+import java.util.Arrays;
+import java.util.zip.Deflater;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+@DisplayName("TextCompressor 테스트")
+class TextCompressorTest {
+
+    @Test
+    @DisplayName("압축 후 해제하면 원문과 같고 반복이 많은 본문은 크기가 줄어듦")
+    void compress_roundTrip() {
+        String content = "【주    문】 상고를 기각한다. 상고비용은 피고인이 부담한다. ".repeat(200);
+
+        byte[] compressed = TextCompressor.compress(content);
+
+        assertThat(compressed.length).isLessThan(content.getBytes(StandardCharsets.UTF_8).length / 4);
+        assertThat(TextCompressor.decompress(compressed)).isEqualTo(content);
+    }
+
+    @Test
+    @DisplayName("null 과 빈 문자열은 그대로 유지")
+    void compress_nullAndEmpty() {
+        assertThat(TextCompressor.compress(null)).isNull();
+        assertThat(TextCompressor.decompress(null)).isNull();
+        assertThat(TextCompressor.compress("")).isEmpty();
+        assertThat(TextCompressor.decompress(new byte[0])).isEmpty();
+    }
+
+    @Test
+    @DisplayName("MySQL COMPRESS() 형식(길이 헤더 + zlib, 끝 공백이면 '.' 추가)도 해제")
+    void decompress_mysqlCompressFormat() {
+        String text = "판시사항 ";
+        byte[] source = text.getBytes(StandardCharsets.UTF_8);
+        Deflater deflater = new Deflater();
+        deflater.setInput(source);
+        deflater.finish();
+        byte[] buffer = new byte[256];
+        int length = deflater.deflate(buffer);
+        deflater.end();
+
+        byte[] mysql = new byte[4 + length + 1];
+        mysql[0] = (byte) source.length;
+        System.arraycopy(buffer, 0, mysql, 4, length);
+        mysql[mysql.length - 1] = '.';
+
+        assertThat(TextCompressor.decompress(mysql)).isEqualTo(text);
+    }
+
+    @Test
+    @DisplayName("잘린 데이터는 예외")
+    void decompress_truncated() {
+        byte[] compressed = TextCompressor.compress("판례내용 ".repeat(100));
+        byte[] truncated = Arrays.copyOf(compressed, compressed.length / 2);
+
+        assertThatThrownBy(() -> TextCompressor.decompress(truncated))
+                .isInstanceOf(IllegalStateException.class);
+    }
+
+    @Test
+    @DisplayName("헤더만 남은 데이터는 예외")
+    void decompress_headerOnly() {
+        byte[] compressed = TextCompressor.compress("판례내용");
+        byte[] headerOnly = Arrays.copyOf(compressed, 4);
+
+        assertThatThrownBy(() -> TextCompressor.decompress(headerOnly))
+                .isInstanceOf(IllegalStateException.class);
+    }
+
+    @Test
+    @DisplayName("헤더 길이가 음수이거나 압축률 상한을 넘으면 배열을 할당하지 않고 예외")
+    void decompress_corruptHeader() {
+        byte[] compressed = TextCompressor.compress("판례내용 ".repeat(100));
+
+        byte[] negative = compressed.clone();
+        negative[3] = (byte) 0xff;
+        byte[] huge = compressed.clone();
+        huge[3] = 0x7f;
+
+        assertThatThrownBy(() -> TextCompressor.decompress(negative))
+                .isInstanceOf(IllegalStateException.class)
+                .hasMessageContaining("헤더");
+        assertThatThrownBy(() -> TextCompressor.decompress(huge))
+                .isInstanceOf(IllegalStateException.class)
+                .hasMessageContaining("헤더");
+    }
+
+    @Test
+    @DisplayName("헤더 길이가 실제 해제 결과와 다르면 예외")
+    void decompress_lengthMismatch() {
+        byte[] compressed = TextCompressor.compress("판례내용 ".repeat(100));
+
+        byte[] longer = compressed.clone();
+        longer[0] = (byte) (longer[0] + 1);
+        byte[] shorter = compressed.clone();
+        shorter[0] = (byte) (shorter[0] - 1);
+
+        assertThatThrownBy(() -> TextCompressor.decompress(longer))
+                .isInstanceOf(IllegalStateException.class);
+        assertThatThrownBy(() -> TextCompressor.decompress(shorter))
+                .isInstanceOf(IllegalStateException.class);
+    }
+}
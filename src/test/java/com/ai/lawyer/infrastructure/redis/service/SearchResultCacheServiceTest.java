@@ -0,0 +1,125 @@
+package com.ai.lawyer.infrastructure.redis.service;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.data.redis.core.ValueOperations;
+
+import java.time.Duration;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.ArgumentMatchers.startsWith;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+
+@ExtendWith(MockitoExtension.class)
+@DisplayName("SearchResultCacheService 테스트")
+class SearchResultCacheServiceTest {
+
+    @Mock
+    private RedisTemplate<String, Object> redisTemplate;
+
+    @Mock
+    private ValueOperations<String, Object> valueOperations;
+
+    private SearchResultCacheService searchResultCacheService;
+
+    @BeforeEach
+    void setUp() {
+        given(redisTemplate.opsForValue()).willReturn(valueOperations);
+        searchResultCacheService = new SearchResultCacheService(redisTemplate, new ObjectMapper(), Duration.ofSeconds(30));
+    }
+
+    @Test
+    @DisplayName("캐시에 있으면 DB 조회 없이 반환")
+    void get_hit() {
+        given(valueOperations.get("search:version:precedent")).willReturn("3");
+        given(valueOperations.get(startsWith("search:result:precedent:3:"))).willReturn("\"cached\"");
+
+        String result = searchResultCacheService.get("precedent", "절도||", String.class, () -> {
+            throw new IllegalStateException("호출되면 안 됨");
+        });
+
+        assertThat(result).isEqualTo("cached");
+        verify(valueOperations, never()).set(anyString(), any(), any(Duration.class));
+    }
+
+    @Test
+    @DisplayName("같은 키의 동시 캐시 미스는 한 번만 조회")
+    void get_singleFlight() throws Exception {
+        given(valueOperations.get(anyString())).willReturn(null);
+        AtomicInteger loads = new AtomicInteger();
+        CountDownLatch loading = new CountDownLatch(1);
+        CountDownLatch release = new CountDownLatch(1);
+
+        CompletableFuture<String> first = CompletableFuture.supplyAsync(() ->
+                searchResultCacheService.get("precedent", "절도||", String.class, () -> {
+                    loads.incrementAndGet();
+                    loading.countDown();
+                    awaitQuietly(release);
+                    return "result";
+                }));
+        assertThat(loading.await(5, TimeUnit.SECONDS)).isTrue();
+
+        Thread follower = new Thread(() -> searchResultCacheService.get("precedent", "절도||", String.class, () -> {
+            loads.incrementAndGet();
+            return "other";
+        }));
+        follower.start();
+        // 뒤 요청이 앞 요청의 결과를 기다리기 시작할 때까지 대기
+        long deadline = System.nanoTime() + TimeUnit.SECONDS.toNanos(5);
+        while (follower.getState() != Thread.State.WAITING && System.nanoTime() < deadline) {
+            Thread.onSpinWait();
+        }
+
+        release.countDown();
+        follower.join(5000);
+
+        assertThat(first.get(5, TimeUnit.SECONDS)).isEqualTo("result");
+        assertThat(loads).hasValue(1);
+        verify(valueOperations).set(startsWith("search:result:precedent:0:"), eq("\"result\""), eq(Duration.ofSeconds(30)));
+    }
+
+    @Test
+    @DisplayName("미스 후 앞선 요청이 결과를 저장했으면 다시 조회하지 않음")
+    void get_rereadAfterMiss() {
+        given(valueOperations.get("search:version:precedent")).willReturn(null);
+        given(valueOperations.get(startsWith("search:result:precedent:0:"))).willReturn(null, "\"cached\"");
+
+        String result = searchResultCacheService.get("precedent", "절도||", String.class, () -> {
+            throw new IllegalStateException("호출되면 안 됨");
+        });
+
+        assertThat(result).isEqualTo("cached");
+        verify(valueOperations, never()).set(anyString(), any(), any(Duration.class));
+    }
+
+    @Test
+    @DisplayName("무효화하면 버전을 올림")
+    void invalidate_incrementsVersion() {
+        searchResultCacheService.invalidate("precedent");
+
+        verify(valueOperations).increment("search:version:precedent");
+    }
+
+    private static void awaitQuietly(CountDownLatch latch) {
+        try {
+            latch.await(5, TimeUnit.SECONDS);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+}